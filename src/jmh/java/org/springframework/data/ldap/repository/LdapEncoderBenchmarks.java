@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link LdapEncoder} implementations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LdapEncoderBenchmarks {
+
+	LdapEncoder likeEncoder = new LdapEncoder.LikeEncoder();
+	LdapEncoder nameEncoder = new LdapEncoder.NameEncoder();
+
+	String plainValue = "John Doe";
+	String wildcardValue = "*John*Doe(Jr.)*";
+	String longWildcardValue = "*" + "abcdefghij*".repeat(20) + "klmnopqrst";
+	String nameValue = "# Doe, John+Jr. <Sales>";
+
+	@Benchmark
+	public String likeEncodePlain() {
+		return likeEncoder.encode(plainValue);
+	}
+
+	@Benchmark
+	public String likeEncodeWildcards() {
+		return likeEncoder.encode(wildcardValue);
+	}
+
+	@Benchmark
+	public String likeEncodeManyWildcards() {
+		return likeEncoder.encode(longWildcardValue);
+	}
+
+	@Benchmark
+	public String nameEncode() {
+		return nameEncoder.encode(nameValue);
+	}
+
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.naming.Name;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.ldap.repository.support.LdapRepositoryFactory;
+import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.core.support.LdapContextSource;
+import org.springframework.ldap.odm.annotations.Attribute;
+import org.springframework.ldap.odm.annotations.Entry;
+import org.springframework.ldap.odm.annotations.Id;
+import org.springframework.ldap.odm.annotations.Transient;
+import org.springframework.ldap.support.LdapUtils;
+
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.core.types.dsl.StringPath;
+import com.unboundid.ldap.listener.InMemoryDirectoryServer;
+import com.unboundid.ldap.listener.InMemoryDirectoryServerConfig;
+import com.unboundid.ldap.listener.InMemoryListenerConfig;
+import com.unboundid.ldap.sdk.LDAPException;
+import com.unboundid.ldif.LDIFException;
+
+/**
+ * End-to-end benchmarks for LDAP repositories running against an embedded UnboundID directory populated with a fixed,
+ * generated workload.
+ * <p>
+ * Each person entry {@code uid=user<i>,ou=people} carries {@code cn=User <i>} and {@code sn=Last<i % (entries / 10)>}
+ * so that lookups by last name return ten entries regardless of the directory size. Write benchmarks operate on a
+ * separate {@code ou=batch} subtree that is reset around each invocation to keep the workload stable.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class RepositoryBenchmarks {
+
+	static final String BASE_DN = "dc=springframework,dc=org";
+	static final int BATCH_SIZE = 100;
+
+	@Param({ "10000", "100000", "1000000" }) int entries;
+
+	InMemoryDirectoryServer server;
+	PersonRepository repository;
+
+	StringPath lastName;
+
+	@Setup(Level.Trial)
+	public void setUp() throws LDAPException, LDIFException {
+
+		InMemoryDirectoryServerConfig config = new InMemoryDirectoryServerConfig(BASE_DN);
+		config.setEqualityIndexAttributes("objectClass", "uid", "cn", "sn");
+		config.setListenerConfigs(InMemoryListenerConfig.createLDAPConfig("LDAP", 0));
+
+		server = new InMemoryDirectoryServer(config);
+		server.add("dn: " + BASE_DN, "objectClass: top", "objectClass: domain", "dc: springframework");
+		server.add("dn: ou=people," + BASE_DN, "objectClass: top", "objectClass: organizationalUnit", "ou: people");
+		server.add("dn: ou=batch," + BASE_DN, "objectClass: top", "objectClass: organizationalUnit", "ou: batch");
+
+		int lastNames = Math.max(1, entries / 10);
+		for (int i = 0; i < entries; i++) {
+			server.add(person("people", "user" + i, "User " + i, "Last" + (i % lastNames)));
+		}
+
+		server.startListening();
+
+		LdapContextSource contextSource = new LdapContextSource();
+		contextSource.setUrl("ldap://localhost:" + server.getListenPort());
+		contextSource.setBase(BASE_DN);
+		contextSource.setPooled(true);
+		contextSource.afterPropertiesSet();
+
+		repository = new LdapRepositoryFactory(new LdapTemplate(contextSource)).getRepository(PersonRepository.class);
+		lastName = new PathBuilder<>(BenchmarkPerson.class, "person").getString("lastName");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		server.shutDown(true);
+	}
+
+	@Benchmark
+	public Optional<BenchmarkPerson> findById() {
+		return repository.findById(LdapUtils.newLdapName("uid=user" + randomIndex() + ",ou=people"));
+	}
+
+	@Benchmark
+	public List<BenchmarkPerson> derivedQuery() {
+		return repository.findByLastName(randomLastName());
+	}
+
+	@Benchmark
+	public List<BenchmarkPerson> annotatedQuery() {
+		return repository.findByAnnotatedQuery("User " + randomIndex());
+	}
+
+	@Benchmark
+	public Iterable<BenchmarkPerson> querydsl() {
+
+		Predicate predicate = lastName.eq(randomLastName());
+		return repository.findAll(predicate);
+	}
+
+	@Benchmark
+	public long count() {
+		return repository.count();
+	}
+
+	@Benchmark
+	public List<BenchmarkPerson> saveAll(SaveBatch batch) {
+		return repository.saveAll(batch.people);
+	}
+
+	@Benchmark
+	public void deleteAll(DeleteBatch batch) {
+		repository.deleteAll(batch.people);
+	}
+
+	private int randomIndex() {
+		return ThreadLocalRandom.current().nextInt(entries);
+	}
+
+	private String randomLastName() {
+		return "Last" + ThreadLocalRandom.current().nextInt(Math.max(1, entries / 10));
+	}
+
+	private static String[] person(String ou, String uid, String fullName, String lastName) {
+		return new String[] { "dn: uid=" + uid + ",ou=" + ou + "," + BASE_DN, "objectClass: top", "objectClass: person",
+				"objectClass: organizationalPerson", "objectClass: inetOrgPerson", "uid: " + uid, "cn: " + fullName,
+				"sn: " + lastName };
+	}
+
+	/**
+	 * Batch of new entries to be created through {@code saveAll}. Created entries are removed from the directory after
+	 * each invocation.
+	 */
+	@State(Scope.Thread)
+	public static class SaveBatch {
+
+		static final AtomicLong sequence = new AtomicLong();
+
+		List<BenchmarkPerson> people;
+
+		@Setup(Level.Invocation)
+		public void setUp() {
+
+			long batch = sequence.incrementAndGet();
+			people = new ArrayList<>(BATCH_SIZE);
+
+			for (int i = 0; i < BATCH_SIZE; i++) {
+				String uid = "save" + batch + "-" + i;
+				people.add(new BenchmarkPerson(LdapUtils.newLdapName("uid=" + uid + ",ou=batch"), uid, "Save " + uid,
+						"Batch" + batch));
+			}
+		}
+
+		@TearDown(Level.Invocation)
+		public void tearDown(RepositoryBenchmarks benchmarks) throws LDAPException {
+
+			for (BenchmarkPerson person : people) {
+				benchmarks.server.delete(person.dn + "," + BASE_DN);
+			}
+		}
+
+	}
+
+	/**
+	 * Batch of existing entries to be removed through {@code deleteAll}. Entries are added to the directory before each
+	 * invocation.
+	 */
+	@State(Scope.Thread)
+	public static class DeleteBatch {
+
+		static final AtomicLong sequence = new AtomicLong();
+
+		List<BenchmarkPerson> people;
+
+		@Setup(Level.Invocation)
+		public void setUp(RepositoryBenchmarks benchmarks) throws LDAPException, LDIFException {
+
+			long batch = sequence.incrementAndGet();
+			people = new ArrayList<>(BATCH_SIZE);
+
+			for (int i = 0; i < BATCH_SIZE; i++) {
+
+				String uid = "delete" + batch + "-" + i;
+				benchmarks.server.add(person("batch", uid, "Delete " + uid, "Batch" + batch));
+
+				BenchmarkPerson person = new BenchmarkPerson(LdapUtils.newLdapName("uid=" + uid + ",ou=batch"), uid,
+						"Delete " + uid, "Batch" + batch);
+				person.newEntry = false;
+				people.add(person);
+			}
+		}
+
+	}
+
+	interface PersonRepository extends LdapRepository<BenchmarkPerson>, QuerydslPredicateExecutor<BenchmarkPerson> {
+
+		List<BenchmarkPerson> findByLastName(String lastName);
+
+		@Query("(&(objectClass=inetOrgPerson)(cn=:fullName))")
+		List<BenchmarkPerson> findByAnnotatedQuery(String fullName);
+
+	}
+
+	@Entry(objectClasses = { "inetOrgPerson", "organizationalPerson", "person", "top" })
+	public static class BenchmarkPerson implements Persistable<Name> {
+
+		@Id Name dn;
+
+		@Attribute(name = "uid") String uid;
+
+		@Attribute(name = "cn") String fullName;
+
+		@Attribute(name = "sn") String lastName;
+
+		@Transient boolean newEntry;
+
+		public BenchmarkPerson() {}
+
+		BenchmarkPerson(Name dn, String uid, String fullName, String lastName) {
+			this.dn = dn;
+			this.uid = uid;
+			this.fullName = fullName;
+			this.lastName = lastName;
+			this.newEntry = true;
+		}
+
+		@Override
+		public Name getId() {
+			return dn;
+		}
+
+		@Override
+		public boolean isNew() {
+			return newEntry;
+		}
+
+	}
+
+}
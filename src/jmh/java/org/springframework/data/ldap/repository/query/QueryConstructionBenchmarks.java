@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.query;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.naming.ldap.LdapName;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.ldap.core.mapping.LdapMappingContext;
+import org.springframework.data.ldap.repository.LdapEncode;
+import org.springframework.data.ldap.repository.LdapEncoder;
+import org.springframework.data.ldap.repository.LdapRepository;
+import org.springframework.data.ldap.repository.Query;
+import org.springframework.data.ldap.repository.query.LdapQueryExecution.ResultProcessingConverter;
+import org.springframework.data.mapping.model.EntityInstantiators;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.ValueExpressionDelegate;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.ldap.odm.core.ObjectDirectoryMapper;
+import org.springframework.ldap.odm.core.impl.DefaultObjectDirectoryMapper;
+import org.springframework.ldap.query.LdapQuery;
+
+/**
+ * Benchmarks for the query construction hot paths of LDAP repository query methods: binding of string-based queries,
+ * query derivation and result post-processing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryConstructionBenchmarks {
+
+	ObjectDirectoryMapper odm = new DefaultObjectDirectoryMapper();
+	LdapMappingContext mappingContext = new LdapMappingContext();
+	EntityInstantiators instantiators = new EntityInstantiators();
+
+	StringBasedQuery stringBasedQuery;
+	LdapParameterAccessor stringBasedAccessor;
+
+	StringBasedQuery likeEncodedQuery;
+	LdapParameterAccessor likeEncodedAccessor;
+
+	PartTree simpleTree;
+	LdapParameterAccessor simpleAccessor;
+
+	PartTree compositeTree;
+	LdapParameterAccessor compositeAccessor;
+
+	ResultProcessingConverter dtoConverter;
+	ResultProcessingConverter interfaceConverter;
+	SchemaEntry entry;
+
+	@Setup
+	public void setUp() throws Exception {
+
+		LdapQueryMethod annotated = queryMethod("findByAnnotatedQuery", String.class, String.class);
+		stringBasedQuery = new StringBasedQuery(annotated.getRequiredQueryAnnotation().value(), annotated.getParameters(),
+				ValueExpressionDelegate.create());
+		stringBasedAccessor = new LdapParametersParameterAccessor(annotated, new Object[] { "John (Jr.)", "Doe" });
+
+		LdapQueryMethod like = queryMethod("findByLikeQuery", String.class);
+		likeEncodedQuery = new StringBasedQuery(like.getRequiredQueryAnnotation().value(), like.getParameters(),
+				ValueExpressionDelegate.create());
+		likeEncodedAccessor = new LdapParametersParameterAccessor(like, new Object[] { "*Jo*hn (Jr.)*" });
+
+		LdapQueryMethod simple = queryMethod("findByFullName", String.class);
+		simpleTree = new PartTree(simple.getName(), SchemaEntry.class);
+		simpleAccessor = new LdapParametersParameterAccessor(simple, new Object[] { "John Doe" });
+
+		LdapQueryMethod composite = queryMethod("findByFullNameStartingWithAndLastNameNotOrLastNameContaining",
+				String.class, String.class, String.class);
+		compositeTree = new PartTree(composite.getName(), SchemaEntry.class);
+		compositeAccessor = new LdapParametersParameterAccessor(composite, new Object[] { "Jo", "Doe", "oe" });
+
+		dtoConverter = new ResultProcessingConverter(queryMethod("findDtoByFullName", String.class).getResultProcessor(),
+				mappingContext, instantiators);
+		interfaceConverter = new ResultProcessingConverter(
+				queryMethod("findProjectionByFullName", String.class).getResultProcessor(), mappingContext, instantiators);
+
+		entry = new SchemaEntry(new LdapName("cn=John Doe,ou=people"), "John Doe", "Doe");
+	}
+
+	@Benchmark
+	public String bindStringBasedQuery() {
+		return stringBasedQuery.bindQuery(stringBasedAccessor, it -> null);
+	}
+
+	@Benchmark
+	public String bindLikeEncodedQuery() {
+		return likeEncodedQuery.bindQuery(likeEncodedAccessor, it -> null);
+	}
+
+	@Benchmark
+	public LdapQuery createSimpleDerivedQuery() {
+		return new LdapQueryCreator(simpleTree, SchemaEntry.class, odm, simpleAccessor, Collections.emptyList())
+				.createQuery();
+	}
+
+	@Benchmark
+	public LdapQuery createCompositeDerivedQuery() {
+		return new LdapQueryCreator(compositeTree, SchemaEntry.class, odm, compositeAccessor, Collections.emptyList())
+				.createQuery();
+	}
+
+	@Benchmark
+	public Object convertToDto() {
+		return dtoConverter.convert(entry);
+	}
+
+	@Benchmark
+	public Object convertToInterfaceProjection() {
+		return interfaceConverter.convert(entry);
+	}
+
+	private static LdapQueryMethod queryMethod(String methodName, Class<?>... parameterTypes)
+			throws NoSuchMethodException {
+		return new LdapQueryMethod(BenchmarkRepository.class.getMethod(methodName, parameterTypes),
+				new DefaultRepositoryMetadata(BenchmarkRepository.class), new SpelAwareProxyProjectionFactory());
+	}
+
+	interface BenchmarkRepository extends LdapRepository<SchemaEntry> {
+
+		@Query("(&(objectclass=person)(cn=:fullName)(sn=?1))")
+		List<SchemaEntry> findByAnnotatedQuery(String fullName, String lastName);
+
+		@Query("(cn=?0)")
+		List<SchemaEntry> findByLikeQuery(@LdapEncode(LdapEncoder.LikeEncoder.class) String fullName);
+
+		List<SchemaEntry> findByFullName(String fullName);
+
+		List<SchemaEntry> findByFullNameStartingWithAndLastNameNotOrLastNameContaining(String fullName, String lastName,
+				String lastNamePart);
+
+		List<FullNameDto> findDtoByFullName(String fullName);
+
+		List<FullNameProjection> findProjectionByFullName(String fullName);
+
+	}
+
+	record FullNameDto(String fullName) {
+	}
+
+	interface FullNameProjection {
+
+		String getFullName();
+
+	}
+
+}
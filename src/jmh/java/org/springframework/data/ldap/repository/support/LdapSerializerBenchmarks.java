@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.ldap.filter.Filter;
+import org.springframework.ldap.odm.core.impl.DefaultObjectDirectoryMapper;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
+
+/**
+ * Benchmarks for {@link LdapSerializer} translating Querydsl predicates into LDAP filters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LdapSerializerBenchmarks {
+
+	LdapSerializer serializer = new LdapSerializer(new DefaultObjectDirectoryMapper(), UnitTestPerson.class);
+
+	QPerson person = QPerson.person;
+
+	Predicate simple = person.fullName.eq("John Doe");
+
+	Predicate composite = person.fullName.startsWith("Jo").and(person.lastName.eq("Doe").or(person.lastName.eq("Die")))
+			.and(person.fullName.isNotNull().not());
+
+	Predicate wide;
+
+	{
+		BooleanBuilder builder = new BooleanBuilder();
+		for (int i = 0; i < 20; i++) {
+			builder.and(person.lastName.eq("Doe" + i));
+		}
+		wide = builder.getValue();
+	}
+
+	@Benchmark
+	public Filter serializeSimple() {
+		return serializer.handle(simple);
+	}
+
+	@Benchmark
+	public Filter serializeComposite() {
+		return serializer.handle(composite);
+	}
+
+	@Benchmark
+	public Filter serializeWideConjunction() {
+		return serializer.handle(wide);
+	}
+
+	@Benchmark
+	public String serializeAndEncodeWideConjunction() {
+		return serializer.handle(wide).encode();
+	}
+
+}
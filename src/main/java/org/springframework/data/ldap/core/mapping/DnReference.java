@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.data.annotation.Reference;
+
+/**
+ * Annotation declaring an association to other {@link org.springframework.ldap.odm.annotations.Entry entries}
+ * referenced by distinguished names, such as {@code manager} or {@code member}. The distinguished names are read from
+ * the property named by {@link #value()}, which must be mapped to the DN-valued attribute and may hold a
+ * {@link javax.naming.Name}, a {@link String} or a collection thereof.
+ * <p>
+ * Annotated properties must be {@link org.springframework.ldap.odm.annotations.Transient transient} and hold the
+ * referenced entity type or a collection of it. Repositories resolve eager references for all entities returned by a
+ * repository method at once, looking up each distinct distinguished name once. Properties declared as
+ * {@link java.util.function.Supplier} (for example {@code Supplier<Person>} or {@code Supplier<List<Person>>}) are
+ * resolved lazily on first access. Referenced entities whose entry does not exist are omitted.
+ * <p>
+ * References of resolved entities are not resolved.
+ *
+ * @since 4.2
+ */
+@Reference
+@Target({ ElementType.FIELD, ElementType.ANNOTATION_TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface DnReference {
+
+	/**
+	 * Name of the property holding the distinguished names of referenced entries.
+	 *
+	 * @return the property name.
+	 */
+	String value();
+
+}
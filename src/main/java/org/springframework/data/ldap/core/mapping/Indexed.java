@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marker annotation declaring that the directory server maintains an index for the LDAP attribute mapped by the
+ * annotated property.
+ * <p>
+ * Spring Data LDAP does not create indexes. Index information is used to order conjunctions so that conditions on
+ * indexed attributes come first and to guard against substring searches with a leading wildcard on attributes that
+ * are not indexed. Entities without any {@code @Indexed} property are not subject to these checks.
+ *
+ * @since 4.2
+ * @see org.springframework.data.ldap.repository.query.UnindexedSearchPolicy
+ */
+@Target({ ElementType.FIELD, ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Indexed {
+
+}
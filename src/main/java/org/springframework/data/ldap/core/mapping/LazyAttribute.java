@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation declaring a lazily loaded LDAP attribute such as {@code jpegPhoto} or {@code userCertificate}. Annotated
+ * properties must be {@link org.springframework.ldap.odm.annotations.Transient transient} and declared as
+ * {@link java.util.function.Supplier}, for example {@code Supplier<byte[]>} or {@code Supplier<List<Name>>}.
+ * <p>
+ * Repository searches for entities declaring lazy attributes request only the attributes mapped by the entity, so
+ * lazy attributes are not transferred with search results. Repositories assign a {@link java.util.function.Supplier}
+ * to lazy properties of returned entities that reads the attribute on first access using a base-object lookup and
+ * retains its value afterwards. Suppliers return {@literal null} if the entry does not contain the attribute.
+ * <p>
+ * Supported value types are {@link String}, {@link javax.naming.Name}, {@code byte[]}, {@link Object} and collections
+ * thereof. Collections are retrieved using range retrieval if the directory server returns the attribute in ranges.
+ *
+ * @since 4.2
+ * @see RangeRetrieval
+ */
+@Target({ ElementType.FIELD, ElementType.ANNOTATION_TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface LazyAttribute {
+
+	/**
+	 * Name of the LDAP attribute to load.
+	 *
+	 * @return the LDAP attribute name.
+	 */
+	String value();
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.core.mapping;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.LdapDataEntry;
+
+/**
+ * Mapper between {@link org.springframework.ldap.odm.annotations.Entry entries} and {@link LdapDataEntry attributes}
+ * that does not use reflection. Implementations are typically generated at build time by
+ * {@code org.springframework.data.ldap.repository.support.LdapAnnotationProcessor} into the package of the entity
+ * class, named after the entity class with a {@link #MAPPER_SUFFIX suffix}, and map entities the same way as the
+ * {@link org.springframework.ldap.odm.core.impl.DefaultObjectDirectoryMapper reflective object-directory mapping}.
+ *
+ * @param <T> the entity type.
+ * @since 4.2
+ * @see LdapEntityMapperSupport
+ */
+public interface LdapEntityMapper<T> {
+
+	/**
+	 * Suffix of generated mapper class names. Nested entity classes are mapped by a class named after their enclosing
+	 * classes, such as {@code Outer_Inner__LdapMapper}.
+	 */
+	String MAPPER_SUFFIX = "__LdapMapper";
+
+	/**
+	 * Create an entity from the given {@link LdapDataEntry}.
+	 *
+	 * @param entry the entry to read from.
+	 * @return the entity or {@literal null} if the object classes of {@code entry} do not match the entity.
+	 */
+	@Nullable
+	T read(LdapDataEntry entry);
+
+	/**
+	 * Write the given entity to the attributes of {@link LdapDataEntry}.
+	 *
+	 * @param entity the entity to write.
+	 * @param entry the entry to write to.
+	 */
+	void write(T entity, LdapDataEntry entry);
+
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.core.mapping;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.LdapDataEntry;
+import org.springframework.ldap.odm.core.impl.InvalidEntryException;
+import org.springframework.ldap.support.LdapUtils;
+import org.springframework.util.Assert;
+
+/**
+ * Base class for {@link LdapEntityMapper} implementations providing attribute conversion consistent with the
+ * {@link org.springframework.ldap.odm.core.impl.DefaultObjectDirectoryMapper reflective object-directory mapping}.
+ * Attribute values are converted from and to their {@link String} representation unless the attribute is binary.
+ *
+ * @param <T> the entity type.
+ * @since 4.2
+ */
+public abstract class LdapEntityMapperSupport<T> implements LdapEntityMapper<T> {
+
+	private static final String OBJECT_CLASS_ATTRIBUTE = "objectclass";
+
+	private final Class<T> entityType;
+	private final String[] objectClasses;
+
+	/**
+	 * Create a new {@link LdapEntityMapperSupport}.
+	 *
+	 * @param entityType must not be {@literal null}.
+	 * @param objectClasses object classes of the entity, must not be {@literal null}.
+	 */
+	protected LdapEntityMapperSupport(Class<T> entityType, String... objectClasses) {
+
+		Assert.notNull(entityType, "Entity type must not be null");
+		Assert.notNull(objectClasses, "Object classes must not be null");
+
+		this.entityType = entityType;
+		this.objectClasses = objectClasses;
+	}
+
+	/**
+	 * @return the entity type.
+	 */
+	public Class<T> getEntityType() {
+		return entityType;
+	}
+
+	/**
+	 * Check whether {@link LdapDataEntry} declares all object classes of the entity.
+	 *
+	 * @param entry the entry to inspect.
+	 * @return {@literal true} if {@code entry} declares all object classes of the entity.
+	 * @throws InvalidEntryException if {@code entry} does not declare object classes.
+	 */
+	protected boolean hasObjectClasses(LdapDataEntry entry) {
+
+		String[] values = entry.getStringAttributes(OBJECT_CLASS_ATTRIBUTE);
+
+		if (values == null) {
+			throw new InvalidEntryException(
+					String.format("No object classes were returned for class %s", entityType.getName()));
+		}
+
+		for (String objectClass : objectClasses) {
+
+			boolean present = false;
+
+			for (String value : values) {
+				if (objectClass.equalsIgnoreCase(value)) {
+					present = true;
+					break;
+				}
+			}
+
+			if (!present) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Write the object classes of the entity if {@link LdapDataEntry} does not declare object classes yet.
+	 *
+	 * @param entry the entry to write to.
+	 */
+	protected void writeObjectClasses(LdapDataEntry entry) {
+
+		String[] values = entry.getStringAttributes(OBJECT_CLASS_ATTRIBUTE);
+
+		if (values == null || values.length == 0) {
+			entry.setAttributeValues(OBJECT_CLASS_ATTRIBUTE, objectClasses);
+		}
+	}
+
+	/**
+	 * Read a single-valued attribute and pass the converted value to {@code setter} if the attribute is present.
+	 *
+	 * @param entry the entry to read from.
+	 * @param attribute the attribute name.
+	 * @param converter converter from the attribute value.
+	 * @param setter consumer of the converted value.
+	 */
+	protected static <V> void readValue(LdapDataEntry entry, String attribute, Function<String, V> converter,
+			Consumer<V> setter) {
+
+		Object value = entry.getObjectAttribute(attribute);
+
+		if (value != null) {
+			setter.accept(converter.apply(value.toString()));
+		}
+	}
+
+	/**
+	 * Read a single-valued binary attribute and pass its value to {@code setter} if the attribute is present.
+	 *
+	 * @param entry the entry to read from.
+	 * @param attribute the attribute name.
+	 * @param setter consumer of the attribute value.
+	 */
+	protected static void readBinaryValue(LdapDataEntry entry, String attribute, Consumer<byte[]> setter) {
+
+		Object value = entry.getObjectAttribute(attribute);
+
+		if (value != null) {
+			setter.accept((byte[]) value);
+		}
+	}
+
+	/**
+	 * Read all values of a multi-valued attribute into {@code collection}.
+	 *
+	 * @param entry the entry to read from.
+	 * @param attribute the attribute name.
+	 * @param collection the collection to add converted values to.
+	 * @param converter converter from the attribute values.
+	 * @return {@code collection}.
+	 */
+	protected static <V, C extends Collection<V>> C readValues(LdapDataEntry entry, String attribute, C collection,
+			Function<String, V> converter) {
+
+		Object[] values = entry.getObjectAttributes(attribute);
+
+		if (values != null) {
+			for (Object value : values) {
+				if (value != null) {
+					collection.add(converter.apply(value.toString()));
+				}
+			}
+		}
+
+		return collection;
+	}
+
+	/**
+	 * Read the value of the relative distinguished name at {@code index} of the distinguished name of
+	 * {@link LdapDataEntry}.
+	 *
+	 * @param entry the entry to read from.
+	 * @param index index of the relative distinguished name.
+	 * @return the value.
+	 * @see org.springframework.ldap.odm.annotations.DnAttribute#index()
+	 */
+	protected static String readDnValue(LdapDataEntry entry, int index) {
+		return LdapUtils.getStringValue(entry.getDn(), index);
+	}
+
+	/**
+	 * Read the value of the relative distinguished name with the given {@code key} of the distinguished name of
+	 * {@link LdapDataEntry}.
+	 *
+	 * @param entry the entry to read from.
+	 * @param key attribute type of the relative distinguished name.
+	 * @return the value.
+	 * @see org.springframework.ldap.odm.annotations.DnAttribute#value()
+	 */
+	protected static String readDnValue(LdapDataEntry entry, String key) {
+		return LdapUtils.getStringValue(entry.getDn(), key);
+	}
+
+	/**
+	 * Write a single-valued attribute. Binary values are written as-is, other values using their {@link String}
+	 * representation. {@literal null} values remove the attribute.
+	 *
+	 * @param entry the entry to write to.
+	 * @param attribute the attribute name.
+	 * @param value the value to write, can be {@literal null}.
+	 */
+	protected static void writeValue(LdapDataEntry entry, String attribute, @Nullable Object value) {
+		entry.setAttributeValue(attribute, value == null || value instanceof byte[] ? value : value.toString());
+	}
+
+	/**
+	 * Write all non-{@literal null} values to a multi-valued attribute using their {@link String} representation. A
+	 * {@literal null} collection leaves the attribute unchanged.
+	 *
+	 * @param entry the entry to write to.
+	 * @param attribute the attribute name.
+	 * @param values the values to write, can be {@literal null}.
+	 */
+	protected static void writeValues(LdapDataEntry entry, String attribute, @Nullable Collection<?> values) {
+
+		if (values == null) {
+			return;
+		}
+
+		Object[] attributeValues = values.stream().filter(Objects::nonNull).map(Object::toString).toArray();
+		entry.setAttributeValues(attribute, attributeValues);
+	}
+
+}
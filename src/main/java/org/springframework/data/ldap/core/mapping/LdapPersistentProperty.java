@@ -46,9 +46,13 @@ public class LdapPersistentProperty extends AnnotationBasedPersistentProperty<Ld
 		super(property, owner, simpleTypeHolder);
 	}
 
+	/**
+	 * Creates an {@link Association} for properties annotated with {@link DnReference} that reference other entries by
+	 * their distinguished name.
+	 */
 	@Override
 	protected Association<LdapPersistentProperty> createAssociation() {
-		throw new UnsupportedOperationException("LDAP does not support associations");
+		return new Association<>(this, null);
 	}
 
 	@Override
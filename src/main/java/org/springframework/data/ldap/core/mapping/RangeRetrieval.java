@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation declaring that the values of a multi-valued LDAP attribute are retrieved using range retrieval
+ * ({@code member;range=0-1499}). Directory servers such as Active Directory return large multi-valued attributes in
+ * ranges and omit the plain attribute from search results.
+ * <p>
+ * Repositories complete annotated properties when returning entities:
+ * <ul>
+ * <li>{@link java.util.Collection} properties (such as {@code List<Name>} or {@code Set<String>}) mapped through
+ * {@link org.springframework.ldap.odm.annotations.Attribute} are populated with all values if the mapped attribute was
+ * empty, fetching one range after another using base-object lookups.</li>
+ * <li>{@link Iterable} properties (typically declared
+ * {@link org.springframework.ldap.odm.annotations.Transient transient}) are assigned a lazy {@link Iterable} that
+ * fetches ranges on demand while iterating and holds only the values of the current range in memory.</li>
+ * </ul>
+ * Supported element types are {@link String}, {@link javax.naming.Name}, {@code byte[]} and {@link Object}.
+ *
+ * @since 4.2
+ */
+@Target({ ElementType.FIELD, ElementType.ANNOTATION_TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RangeRetrieval {
+
+	/**
+	 * Name of the LDAP attribute to retrieve. Defaults to the attribute mapped by the annotated property. Required for
+	 * {@link org.springframework.ldap.odm.annotations.Transient transient} properties.
+	 *
+	 * @return the LDAP attribute name.
+	 */
+	String value() default "";
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.observability;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.data.ldap.repository.support.ConcurrencyLimiter;
+import org.springframework.data.ldap.repository.support.ConcurrencyLimiterListener;
+import org.springframework.util.Assert;
+
+/**
+ * {@link MeterBinder} exposing the statistics of {@link ConcurrencyLimiter concurrency limiters} created for
+ * repositories. The binder registers the gauges {@code ldap.repository.concurrency.limit} (current limit) and
+ * {@code ldap.repository.concurrency.in-flight} (running operations) and the counters
+ * {@code ldap.repository.concurrency.accepted} and {@code ldap.repository.concurrency.rejected} for each limiter,
+ * tagged with the limiter name. Limiters created after binding the registry are registered as they are created.
+ *
+ * @since 4.2
+ */
+public class ConcurrencyLimiterMeterBinder implements MeterBinder, ConcurrencyLimiterListener {
+
+	private final Iterable<Tag> tags;
+	private final List<ConcurrencyLimiter> limiters = new CopyOnWriteArrayList<>();
+	private final List<MeterRegistry> registries = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Creates a new {@link ConcurrencyLimiterMeterBinder}.
+	 */
+	public ConcurrencyLimiterMeterBinder() {
+		this(Tags.empty());
+	}
+
+	/**
+	 * Creates a new {@link ConcurrencyLimiterMeterBinder}.
+	 *
+	 * @param tags tags to apply to all meters, must not be {@literal null}.
+	 */
+	public ConcurrencyLimiterMeterBinder(Iterable<Tag> tags) {
+
+		Assert.notNull(tags, "Tags must not be null");
+
+		this.tags = tags;
+	}
+
+	@Override
+	public synchronized void limiterCreated(ConcurrencyLimiter limiter) {
+
+		limiters.add(limiter);
+		registries.forEach(registry -> bindTo(registry, limiter));
+	}
+
+	@Override
+	public synchronized void bindTo(MeterRegistry registry) {
+
+		registries.add(registry);
+		limiters.forEach(limiter -> bindTo(registry, limiter));
+	}
+
+	private void bindTo(MeterRegistry registry, ConcurrencyLimiter limiter) {
+
+		Tags tags = Tags.of(this.tags).and("limiter", limiter.getName());
+
+		Gauge.builder("ldap.repository.concurrency.limit", limiter, ConcurrencyLimiter::getLimit)
+				.description("Current number of concurrent repository operations allowed").tags(tags).register(registry);
+
+		Gauge.builder("ldap.repository.concurrency.in-flight", limiter, ConcurrencyLimiter::getInFlight)
+				.description("Number of running repository operations").tags(tags).register(registry);
+
+		FunctionCounter.builder("ldap.repository.concurrency.accepted", limiter, ConcurrencyLimiter::getAcceptedCount)
+				.description("Number of repository operations that acquired capacity").tags(tags).register(registry);
+
+		FunctionCounter.builder("ldap.repository.concurrency.rejected", limiter, ConcurrencyLimiter::getRejectedCount)
+				.description("Number of repository operations rejected due to the concurrency limit").tags(tags)
+				.register(registry);
+	}
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.observability;
+
+import io.micrometer.common.KeyValues;
+
+import java.util.Locale;
+
+import org.springframework.data.ldap.observability.LdapObservation.HighCardinalityKeyNames;
+import org.springframework.data.ldap.observability.LdapObservation.LowCardinalityKeyNames;
+import org.springframework.data.ldap.repository.query.LdapRepositoryOperation;
+
+/**
+ * Default {@link LdapRepositoryObservationConvention} implementation.
+ *
+ * @since 4.2
+ */
+public class DefaultLdapRepositoryObservationConvention implements LdapRepositoryObservationConvention {
+
+	/**
+	 * Singleton instance of {@link DefaultLdapRepositoryObservationConvention}.
+	 */
+	public static final LdapRepositoryObservationConvention INSTANCE = new DefaultLdapRepositoryObservationConvention();
+
+	@Override
+	public String getName() {
+		return "spring.data.ldap.repository";
+	}
+
+	@Override
+	public String getContextualName(LdapRepositoryObservationContext context) {
+
+		LdapRepositoryOperation operation = context.getOperation();
+		return operation.repositoryInterface().getSimpleName() + "." + operation.methodName();
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(LdapRepositoryObservationContext context) {
+
+		LdapRepositoryOperation operation = context.getOperation();
+
+		return KeyValues.of(LowCardinalityKeyNames.REPOSITORY.withValue(operation.repositoryInterface().getSimpleName()),
+				LowCardinalityKeyNames.METHOD.withValue(operation.methodName()),
+				LowCardinalityKeyNames.EXECUTION_TYPE.withValue(operation.executionType().name().toLowerCase(Locale.ROOT)));
+	}
+
+	@Override
+	public KeyValues getHighCardinalityKeyValues(LdapRepositoryObservationContext context) {
+
+		KeyValues keyValues = KeyValues.empty();
+
+		if (context.getFilterLength() != null) {
+			keyValues = keyValues.and(HighCardinalityKeyNames.FILTER_LENGTH.withValue("" + context.getFilterLength()));
+		}
+
+		if (context.getResultSize() != null) {
+			keyValues = keyValues.and(HighCardinalityKeyNames.RESULT_SIZE.withValue("" + context.getResultSize()));
+		}
+
+		return keyValues;
+	}
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.observability;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+import io.micrometer.observation.docs.ObservationDocumentation;
+
+/**
+ * LDAP-specific {@link ObservationDocumentation}.
+ *
+ * @since 4.2
+ */
+public enum LdapObservation implements ObservationDocumentation {
+
+	/**
+	 * Timer created around a LDAP repository operation.
+	 */
+	REPOSITORY_OPERATION {
+
+		@Override
+		public Class<? extends ObservationConvention<? extends Observation.Context>> getDefaultConvention() {
+			return DefaultLdapRepositoryObservationConvention.class;
+		}
+
+		@Override
+		public KeyName[] getLowCardinalityKeyNames() {
+			return LowCardinalityKeyNames.values();
+		}
+
+		@Override
+		public KeyName[] getHighCardinalityKeyNames() {
+			return HighCardinalityKeyNames.values();
+		}
+
+	};
+
+	/**
+	 * Enums related to low cardinality key names for LDAP repository operations.
+	 */
+	enum LowCardinalityKeyNames implements KeyName {
+
+		/**
+		 * Simple name of the repository interface.
+		 */
+		REPOSITORY {
+			@Override
+			public String asString() {
+				return "spring.data.repository.name";
+			}
+		},
+
+		/**
+		 * Name of the invoked repository method.
+		 */
+		METHOD {
+			@Override
+			public String asString() {
+				return "spring.data.repository.method";
+			}
+		},
+
+		/**
+		 * Execution type of the operation (one, collection, stream, count, ...).
+		 */
+		EXECUTION_TYPE {
+			@Override
+			public String asString() {
+				return "spring.data.ldap.execution.type";
+			}
+		}
+
+	}
+
+	/**
+	 * Enums related to high cardinality key names for LDAP repository operations.
+	 */
+	enum HighCardinalityKeyNames implements KeyName {
+
+		/**
+		 * Number of results returned by the operation.
+		 */
+		RESULT_SIZE {
+			@Override
+			public String asString() {
+				return "spring.data.ldap.result.size";
+			}
+
+			@Override
+			public boolean isRequired() {
+				return false;
+			}
+		},
+
+		/**
+		 * Length of the encoded, bound LDAP filter.
+		 */
+		FILTER_LENGTH {
+			@Override
+			public String asString() {
+				return "spring.data.ldap.filter.length";
+			}
+
+			@Override
+			public boolean isRequired() {
+				return false;
+			}
+		}
+
+	}
+
+}
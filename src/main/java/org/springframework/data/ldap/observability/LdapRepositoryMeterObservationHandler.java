@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.observability;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link ObservationHandler} recording result size and filter length distributions of
+ * {@link LdapObservation#REPOSITORY_OPERATION LDAP repository observations} as {@link DistributionSummary distribution
+ * summaries}. Latencies are recorded by the default Micrometer timer handler; this handler complements the timer with
+ * the size distributions that cannot be expressed as low cardinality tags.
+ * <p>
+ * Summaries are named {@code <observation name>.result.size} and {@code <observation name>.filter.length} and carry the
+ * low cardinality key values of the observation as tags.
+ *
+ * @since 4.2
+ */
+public class LdapRepositoryMeterObservationHandler implements ObservationHandler<LdapRepositoryObservationContext> {
+
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * Creates a new {@link LdapRepositoryMeterObservationHandler}.
+	 *
+	 * @param meterRegistry must not be {@literal null}.
+	 */
+	public LdapRepositoryMeterObservationHandler(MeterRegistry meterRegistry) {
+
+		Assert.notNull(meterRegistry, "MeterRegistry must not be null");
+
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public void onStop(LdapRepositoryObservationContext context) {
+
+		Tags tags = Tags.empty();
+		for (KeyValue keyValue : context.getLowCardinalityKeyValues()) {
+			tags = tags.and(keyValue.getKey(), keyValue.getValue());
+		}
+
+		String name = context.getName() != null ? context.getName()
+				: DefaultLdapRepositoryObservationConvention.INSTANCE.getName();
+
+		if (context.getResultSize() != null) {
+			DistributionSummary.builder(name + ".result.size").description("Number of entries returned by the operation")
+					.baseUnit("entries").tags(tags).register(meterRegistry).record(context.getResultSize());
+		}
+
+		Integer filterLength = context.getFilterLength();
+
+		if (filterLength != null) {
+			DistributionSummary.builder(name + ".filter.length").description("Length of the encoded LDAP filter")
+					.baseUnit("characters").tags(tags).register(meterRegistry).record(filterLength);
+		}
+	}
+
+	@Override
+	public boolean supportsContext(Observation.Context context) {
+		return context instanceof LdapRepositoryObservationContext;
+	}
+
+}
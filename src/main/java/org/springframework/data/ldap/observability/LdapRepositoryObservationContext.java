@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.observability;
+
+import io.micrometer.observation.Observation;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.ldap.repository.query.LdapRepositoryOperation;
+import org.springframework.ldap.query.LdapQuery;
+
+/**
+ * {@link Observation.Context} for LDAP repository operations.
+ *
+ * @since 4.2
+ */
+public class LdapRepositoryObservationContext extends Observation.Context {
+
+	private final LdapRepositoryOperation operation;
+
+	private boolean filterLengthResolved;
+
+	private @Nullable Integer filterLength;
+
+	private @Nullable Integer resultSize;
+
+	/**
+	 * Creates a new {@link LdapRepositoryObservationContext}.
+	 *
+	 * @param operation must not be {@literal null}.
+	 */
+	public LdapRepositoryObservationContext(LdapRepositoryOperation operation) {
+
+		this.operation = operation;
+	}
+
+	/**
+	 * @return the observed {@link LdapRepositoryOperation}.
+	 */
+	public LdapRepositoryOperation getOperation() {
+		return operation;
+	}
+
+	/**
+	 * Return the length of the encoded filter. The filter is encoded on first access only, so observations that do not
+	 * report the filter length do not encode it.
+	 *
+	 * @return length of the encoded filter or {@literal null} if the operation did not run a query.
+	 */
+	public @Nullable Integer getFilterLength() {
+
+		if (!filterLengthResolved) {
+
+			LdapQuery query = operation.query();
+
+			if (query != null && query.filter() != null) {
+				this.filterLength = query.filter().encode().length();
+			}
+
+			this.filterLengthResolved = true;
+		}
+
+		return filterLength;
+	}
+
+	/**
+	 * @return number of returned results or {@literal null} if the result size is not known (e.g. for streams, counts and
+	 *         write operations).
+	 */
+	public @Nullable Integer getResultSize() {
+		return resultSize;
+	}
+
+	/**
+	 * Capture the result of the operation to determine the result size.
+	 *
+	 * @param result the operation result, can be {@literal null}.
+	 */
+	void setResult(@Nullable Object result) {
+		this.resultSize = operation.getResultSize(result);
+	}
+
+}
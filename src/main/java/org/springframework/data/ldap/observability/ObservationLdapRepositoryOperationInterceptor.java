@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.observability;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.ldap.repository.query.LdapRepositoryOperation;
+import org.springframework.data.ldap.repository.query.LdapRepositoryOperationInterceptor;
+import org.springframework.util.Assert;
+
+/**
+ * {@link LdapRepositoryOperationInterceptor} wrapping each LDAP repository operation in a Micrometer
+ * {@link Observation}. Register this interceptor as bean to observe all LDAP repositories or add it to a
+ * {@link org.springframework.data.ldap.repository.support.LdapRepositoryFactory} through a
+ * {@link org.springframework.data.repository.core.support.RepositoryFactoryCustomizer}.
+ * <p>
+ * Observations end when the repository method returns. For
+ * {@link LdapRepositoryOperation.ExecutionType#STREAM stream} operations, this covers the directory search as LDAP
+ * results are fetched before the {@link java.util.stream.Stream} is returned, but not the time spent consuming the
+ * stream. The result size is not recorded for streams.
+ *
+ * @since 4.2
+ * @see LdapObservation#REPOSITORY_OPERATION
+ */
+public class ObservationLdapRepositoryOperationInterceptor implements LdapRepositoryOperationInterceptor {
+
+	private final ObservationRegistry observationRegistry;
+
+	private @Nullable LdapRepositoryObservationConvention observationConvention;
+
+	/**
+	 * Creates a new {@link ObservationLdapRepositoryOperationInterceptor}.
+	 *
+	 * @param observationRegistry must not be {@literal null}.
+	 */
+	public ObservationLdapRepositoryOperationInterceptor(ObservationRegistry observationRegistry) {
+
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * Configure a custom {@link LdapRepositoryObservationConvention} overriding the default convention.
+	 *
+	 * @param observationConvention the custom convention, can be {@literal null} to use the default convention.
+	 */
+	public void setObservationConvention(@Nullable LdapRepositoryObservationConvention observationConvention) {
+		this.observationConvention = observationConvention;
+	}
+
+	@Override
+	public @Nullable Object intercept(LdapRepositoryOperation operation, Invocation invocation) {
+
+		LdapRepositoryObservationContext context = new LdapRepositoryObservationContext(operation);
+
+		Observation observation = LdapObservation.REPOSITORY_OPERATION.observation(observationConvention,
+				DefaultLdapRepositoryObservationConvention.INSTANCE, () -> context, observationRegistry);
+
+		observation.start();
+		Observation.Scope scope = observation.openScope();
+
+		try {
+
+			Object result = invocation.proceed();
+			context.setResult(result);
+
+			return result;
+		} catch (RuntimeException | Error e) {
+			observation.error(e);
+			throw e;
+		} finally {
+			scope.close();
+			observation.stop();
+		}
+	}
+
+}
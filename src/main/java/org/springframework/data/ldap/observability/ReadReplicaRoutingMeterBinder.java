@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.observability;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+
+import org.springframework.data.ldap.repository.support.ReadReplicaRouting;
+import org.springframework.util.Assert;
+
+/**
+ * {@link MeterBinder} exposing the hedging statistics of a {@link ReadReplicaRouting}. The binder registers the
+ * counters {@code ldap.replica.reads} (repository reads eligible for hedging), {@code ldap.replica.hedges} (reads sent
+ * to a second replica) and {@code ldap.replica.hedge.wins} (hedged reads answered by the second replica first), and
+ * the gauge {@code ldap.replica.hedge.delay}. The hedge rate is the rate of {@code ldap.replica.hedges} divided by the
+ * rate of {@code ldap.replica.reads}.
+ *
+ * @since 4.2
+ */
+public class ReadReplicaRoutingMeterBinder implements MeterBinder {
+
+	private final ReadReplicaRouting routing;
+	private final Iterable<Tag> tags;
+
+	/**
+	 * Creates a new {@link ReadReplicaRoutingMeterBinder}.
+	 *
+	 * @param routing must not be {@literal null}.
+	 */
+	public ReadReplicaRoutingMeterBinder(ReadReplicaRouting routing) {
+		this(routing, Tags.empty());
+	}
+
+	/**
+	 * Creates a new {@link ReadReplicaRoutingMeterBinder}.
+	 *
+	 * @param routing must not be {@literal null}.
+	 * @param tags tags to apply to all meters, must not be {@literal null}.
+	 */
+	public ReadReplicaRoutingMeterBinder(ReadReplicaRouting routing, Iterable<Tag> tags) {
+
+		Assert.notNull(routing, "ReadReplicaRouting must not be null");
+		Assert.notNull(tags, "Tags must not be null");
+
+		this.routing = routing;
+		this.tags = tags;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+
+		FunctionCounter.builder("ldap.replica.reads", routing, ReadReplicaRouting::getHedgeableReads)
+				.description("Number of repository reads eligible for hedging").tags(tags).register(registry);
+
+		FunctionCounter.builder("ldap.replica.hedges", routing, ReadReplicaRouting::getHedgedReads)
+				.description("Number of repository reads sent to a second replica").tags(tags).register(registry);
+
+		FunctionCounter.builder("ldap.replica.hedge.wins", routing, ReadReplicaRouting::getHedgeWins)
+				.description("Number of hedged reads answered by the second replica first").tags(tags).register(registry);
+
+		Gauge.builder("ldap.replica.hedge.delay", routing, ReadReplicaRoutingMeterBinder::getHedgingDelay)
+				.description("Delay after which repository reads are hedged").baseUnit("seconds").tags(tags)
+				.register(registry);
+	}
+
+	private static double getHedgingDelay(ReadReplicaRouting routing) {
+
+		Duration delay = routing.getHedgingDelay();
+
+		return delay != null ? delay.toNanos() / 1_000_000_000d : Double.NaN;
+	}
+
+}
@@ -0,0 +1,5 @@
+/**
+ * Infrastructure to provide Micrometer Observations for LDAP repository operations.
+ */
+@org.jspecify.annotations.NullMarked
+package org.springframework.data.ldap.observability;
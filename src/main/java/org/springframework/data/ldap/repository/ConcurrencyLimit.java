@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to limit the number of concurrent operations of a repository or a repository method. Annotating a
+ * repository interface applies a single limit (bulkhead) shared by all of its methods, annotating a method applies a
+ * separate limit to invocations of that method. Method-level annotations take precedence over the repository-level
+ * annotation.
+ * <p>
+ * Operations exceeding the limit wait for up to {@link #queueTimeout()} milliseconds for a concurrently running
+ * operation to complete and are rejected with a
+ * {@link org.springframework.dao.TransientDataAccessResourceException} otherwise.
+ *
+ * @since 4.2
+ * @see org.springframework.data.ldap.repository.support.ConcurrencyLimits
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ConcurrencyLimit {
+
+	/**
+	 * The maximum number of concurrent operations. Used as the initial limit for adaptive {@link #algorithm()
+	 * algorithms}.
+	 *
+	 * @return the maximum number of concurrent operations.
+	 */
+	int value();
+
+	/**
+	 * The algorithm adjusting the limit. Defaults to {@link Algorithm#FIXED}.
+	 *
+	 * @return the limit algorithm.
+	 */
+	Algorithm algorithm() default Algorithm.FIXED;
+
+	/**
+	 * The lower bound of adaptive limits.
+	 *
+	 * @return the minimum limit.
+	 */
+	int minLimit() default 1;
+
+	/**
+	 * The upper bound of adaptive limits. Defaults to {@link #value()} if zero.
+	 *
+	 * @return the maximum limit.
+	 */
+	int maxLimit() default 0;
+
+	/**
+	 * Time in milliseconds to wait for capacity before rejecting an operation. Zero (default) rejects operations
+	 * immediately.
+	 *
+	 * @return the queue timeout in milliseconds.
+	 */
+	long queueTimeout() default 0;
+
+	/**
+	 * Algorithms to adjust concurrency limits.
+	 */
+	enum Algorithm {
+
+		/**
+		 * Static limit.
+		 */
+		FIXED,
+
+		/**
+		 * Additive-increase/multiplicative-decrease: The limit grows by one for successful operations while more than
+		 * half of the limit is in use and shrinks by 10% for operations failing with a timeout or a communication error.
+		 */
+		AIMD,
+
+		/**
+		 * Latency gradient: The limit follows the ratio of the long-term average latency to the short-term average latency
+		 * and shrinks when latencies grow due to queueing in the directory server.
+		 */
+		GRADIENT
+	}
+
+}
@@ -27,10 +27,10 @@ import org.springframework.core.annotation.AliasFor;
  * Annotation which indicates that a method parameter should be encoded using a specific {@link LdapEncoder} for a
  * repository query method invocation.
  * <p>
- * If no {@link LdapEncoder} is configured, bound method parameters are encoded using
- * {@link org.springframework.ldap.support.LdapEncoder#filterEncode(String)}. The default encoder considers chars such
- * as {@code *} (asterisk) to be encoded which might interfere with the intent of running a Like query. Since Spring
- * Data LDAP doesn't parse queries it is up to you to decide which encoder to use.
+ * If no {@link LdapEncoder} is configured, bound method parameters are encoded using {@link LdapEncoder.FilterEncoder}
+ * following the rules of {@link org.springframework.ldap.support.LdapEncoder#filterEncode(String)}. The default
+ * encoder considers chars such as {@code *} (asterisk) to be encoded which might interfere with the intent of running a
+ * Like query. Since Spring Data LDAP doesn't parse queries it is up to you to decide which encoder to use.
  * <p>
  * {@link LdapEncoder} implementations must declare a no-args constructor so they can be instantiated during repository
  * initialization.
@@ -42,6 +42,7 @@ import org.springframework.core.annotation.AliasFor;
  * @author Marcin Grzejszczak
  * @author Mark Paluch
  * @since 3.5
+ * @see LdapEncoder.FilterEncoder
  * @see LdapEncoder.LikeEncoder
  * @see LdapEncoder.NameEncoder
  */
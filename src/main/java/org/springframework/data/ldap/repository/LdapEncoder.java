@@ -41,14 +41,82 @@ public interface LdapEncoder {
 	@Nullable String encode(String value);
 
 	/**
-	 * {@link LdapEncoder} using {@link org.springframework.ldap.support.LdapEncoder#nameEncode(String)}. Encodes a value
-	 * for use with a DN. Escapes for LDAP, not JNDI!
+	 * Encode a value for use in a filter and append the encoded representation to {@code target}.
+	 * <p>
+	 * The default implementation delegates to {@link #encode(String)}. Implementations should override this method to
+	 * append escaped characters directly to {@code target} without creating intermediate strings.
+	 *
+	 * @param value the value to encode.
+	 * @param target the builder to append the encoded value to.
+	 * @since 4.2
+	 */
+	default void encode(CharSequence value, StringBuilder target) {
+		target.append(encode(value.toString()));
+	}
+
+	/**
+	 * {@link LdapEncoder} escaping a value for use in a filter. Escapes the same characters as
+	 * {@link org.springframework.ldap.support.LdapEncoder#filterEncode(String)}.
+	 *
+	 * @since 4.2
+	 */
+	class FilterEncoder implements LdapEncoder {
+
+		@Override
+		public String encode(String value) {
+
+			StringBuilder builder = new StringBuilder(value.length() + 16);
+			encode(value, builder);
+			return builder.toString();
+		}
+
+		@Override
+		public void encode(CharSequence value, StringBuilder target) {
+			filterEncode(value, target, false);
+		}
+
+	}
+
+	/**
+	 * {@link LdapEncoder} using {@link org.springframework.ldap.support.LdapEncoder#nameEncode(String)} rules. Encodes
+	 * a value for use with a DN. Escapes for LDAP, not JNDI!
 	 */
 	class NameEncoder implements LdapEncoder {
 
+		private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
 		@Override
-		public @Nullable String encode(String value) {
-			return org.springframework.ldap.support.LdapEncoder.nameEncode(value);
+		public String encode(String value) {
+
+			StringBuilder builder = new StringBuilder(value.length() + 16);
+			encode(value, builder);
+			return builder.toString();
+		}
+
+		@Override
+		public void encode(CharSequence value, StringBuilder target) {
+
+			int length = value.length();
+			int start = 0;
+
+			for (int i = 0; i < length; i++) {
+
+				char c = value.charAt(i);
+
+				if (c == ' ' && (i == 0 || i == length - 1)) {
+					target.append(value, start, i).append("\\ ");
+					start = i + 1;
+				} else if (c < 32) {
+					target.append(value, start, i).append('\\').append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+					start = i + 1;
+				} else if (c == '#' || c == ',' || c == ';' || c == '=' || c == '+' || c == '<' || c == '>' || c == '"'
+						|| c == '\\') {
+					target.append(value, start, i).append('\\').append(c);
+					start = i + 1;
+				}
+			}
+
+			target.append(value, start, length);
 		}
 
 	}
@@ -65,23 +133,41 @@ public interface LdapEncoder {
 				return value;
 			}
 
-			String[] substrings = value.split("\\*", -2);
+			StringBuilder builder = new StringBuilder(value.length() + 16);
+			encode(value, builder);
+			return builder.toString();
+		}
+
+		@Override
+		public void encode(CharSequence value, StringBuilder target) {
+			filterEncode(value, target, true);
+		}
 
-			if (substrings.length == 1) {
-				return org.springframework.ldap.support.LdapEncoder.filterEncode(substrings[0]);
-			}
+	}
 
-			StringBuilder buff = new StringBuilder();
-			for (int i = 0; i < substrings.length; i++) {
-				buff.append(org.springframework.ldap.support.LdapEncoder.filterEncode(substrings[i]));
-				if (i < substrings.length - 1) {
-					buff.append("*");
-				}
-			}
+	private static void filterEncode(CharSequence value, StringBuilder target, boolean retainAsterisk) {
+
+		int length = value.length();
+		int start = 0;
+
+		for (int i = 0; i < length; i++) {
 
-			return buff.toString();
+			String escaped = switch (value.charAt(i)) {
+				case '*' -> retainAsterisk ? null : "\\2a";
+				case '(' -> "\\28";
+				case ')' -> "\\29";
+				case '\\' -> "\\5c";
+				case '\0' -> "\\00";
+				default -> null;
+			};
+
+			if (escaped != null) {
+				target.append(value, start, i).append(escaped);
+				start = i + 1;
+			}
 		}
 
+		target.append(value, start, length);
 	}
 
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository;
+
+import java.util.Set;
+
+import javax.naming.Name;
+
+/**
+ * Repository fragment to expand nested group memberships. Repository interfaces extending
+ * {@code NestedGroupExpansion} alongside {@link LdapRepository} are backed by an implementation configured through
+ * {@link org.springframework.data.ldap.repository.support.LdapRepositoryFactory#setGroupExpansion}.
+ * <p>
+ * Memberships are expanded level by level: groups of all members of one nesting level are searched concurrently
+ * before continuing with the next level. Cyclic memberships are expanded once and the direct groups of each member are
+ * memoized in a bounded cache until they expire or are {@link #evictCachedGroups(Name) evicted}.
+ *
+ * @since 4.2
+ * @see org.springframework.data.ldap.repository.support.GroupExpansion
+ */
+public interface NestedGroupExpansion {
+
+	/**
+	 * Find the distinguished names of all groups that the given member is transitively a member of.
+	 *
+	 * @param member absolute distinguished name of a user or group, must not be {@literal null}.
+	 * @return absolute distinguished names of all direct and nested groups in the order of their nesting level.
+	 */
+	Set<Name> findTransitiveGroups(Name member);
+
+	/**
+	 * Evict the memoized direct groups of the given member, for example after adding the member to or removing it from a
+	 * group.
+	 *
+	 * @param member absolute distinguished name of a user or group, must not be {@literal null}.
+	 */
+	void evictCachedGroups(Name member);
+
+}
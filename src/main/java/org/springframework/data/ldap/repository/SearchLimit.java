@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to declare server-side search limits for query methods. Annotating a repository interface applies the
+ * limits to all of its query methods, {@code findAll} and {@code findOne} methods accepting a
+ * {@link org.springframework.ldap.query.LdapQuery} and Querydsl methods. Method-level annotations take precedence over
+ * the repository-level annotation.
+ * <p>
+ * Limits declared by the query itself, such as {@link Query#timeLimit()}, {@link Query#countLimit()}, a
+ * {@link org.springframework.data.domain.Limit} parameter or a {@code Top}/{@code First} keyword, take precedence over
+ * this annotation. Time limits are additionally capped by the remaining time of the current
+ * {@link org.springframework.data.ldap.repository.query.SearchDeadline}.
+ *
+ * @since 4.2
+ * @see org.springframework.data.ldap.repository.query.SearchLimits
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SearchLimit {
+
+	/**
+	 * Time limit in milliseconds, to be used as input to
+	 * {@link org.springframework.ldap.query.LdapQueryBuilder#timeLimit(int)}. Zero (default) does not limit the search
+	 * time.
+	 *
+	 * @return the time limit.
+	 */
+	int timeLimit() default 0;
+
+	/**
+	 * Count limit, to be used as input to {@link org.springframework.ldap.query.LdapQueryBuilder#countLimit(int)}. Zero
+	 * (default) does not limit the number of results. Count limits do not apply to {@code count} methods.
+	 *
+	 * @return the count limit.
+	 */
+	int countLimit() default 0;
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.aot;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.ldap.core.mapping.LdapMappingContext;
+import org.springframework.data.ldap.repository.query.LdapQueryMethod;
+import org.springframework.data.ldap.repository.query.PrecompiledLdapRepositoryQuery;
+import org.springframework.data.ldap.repository.query.PrecompiledLdapRepositoryQuery.QueryFunction;
+import org.springframework.data.mapping.model.EntityInstantiators;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport.FragmentCreationContext;
+import org.springframework.ldap.core.LdapOperations;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Support class for LDAP repository fragments generated ahead of time. Generated query methods run their
+ * {@link QueryFunction precompiled query} through a {@link PrecompiledLdapRepositoryQuery} that is configured by
+ * {@link org.springframework.data.ldap.repository.support.LdapRepositoryFactory} the same way as query methods that
+ * are resolved at runtime. The {@link LdapQueryMethod query methods} implemented by the fragment are resolved when
+ * creating the fragment, so that the first invocation of a query method only binds its query function.
+ *
+ * @since 4.2
+ */
+public class LdapAotRepositoryFragmentSupport {
+
+	private final LdapOperations operations;
+	private final LdapMappingContext mappingContext;
+	private final RepositoryMetadata repositoryMetadata;
+	private final FragmentCreationContext context;
+	private final EntityInstantiators instantiators = new EntityInstantiators();
+	private final Map<QueryKey, LdapQueryMethod> queryMethods;
+	private final Map<QueryKey, PrecompiledLdapRepositoryQuery> queries = new ConcurrentHashMap<>();
+	private Consumer<? super PrecompiledLdapRepositoryQuery> queryCustomizer = query -> {};
+
+	protected LdapAotRepositoryFragmentSupport(LdapOperations operations, LdapMappingContext mappingContext,
+			FragmentCreationContext context) {
+
+		Assert.notNull(operations, "LdapOperations must not be null");
+		Assert.notNull(mappingContext, "LdapMappingContext must not be null");
+		Assert.notNull(context, "FragmentCreationContext must not be null");
+
+		this.operations = operations;
+		this.mappingContext = mappingContext;
+		this.repositoryMetadata = context.getRepositoryMetadata();
+		this.context = context;
+		this.queryMethods = resolveQueryMethods();
+	}
+
+	/**
+	 * Configure a callback to customize {@link PrecompiledLdapRepositoryQuery queries} before their first execution.
+	 * Typically called by {@link org.springframework.data.ldap.repository.support.LdapRepositoryFactory} to apply
+	 * repository-wide settings.
+	 *
+	 * @param queryCustomizer must not be {@literal null}.
+	 */
+	public void setQueryCustomizer(Consumer<? super PrecompiledLdapRepositoryQuery> queryCustomizer) {
+
+		Assert.notNull(queryCustomizer, "Query customizer must not be null");
+
+		this.queryCustomizer = queryCustomizer;
+		this.queries.clear();
+	}
+
+	/**
+	 * Execute the query method {@code methodName} declared by the repository interface using the given
+	 * {@link QueryFunction}.
+	 *
+	 * @param methodName name of the query method.
+	 * @param parameterTypes parameter types of the query method.
+	 * @param arguments invocation arguments.
+	 * @param queryFunction the precompiled query.
+	 * @return the query result.
+	 */
+	@SuppressWarnings("unchecked")
+	protected <T> @Nullable T execute(String methodName, Class<?>[] parameterTypes, Object[] arguments,
+			QueryFunction queryFunction) {
+
+		PrecompiledLdapRepositoryQuery query = queries.computeIfAbsent(new QueryKey(methodName, parameterTypes),
+				key -> createQuery(key, queryFunction));
+
+		return (T) query.execute(arguments);
+	}
+
+	/**
+	 * Resolve the {@link LdapQueryMethod query methods} of the repository interface that are implemented by this
+	 * fragment.
+	 */
+	private Map<QueryKey, LdapQueryMethod> resolveQueryMethods() {
+
+		Map<QueryKey, LdapQueryMethod> queryMethods = new HashMap<>();
+
+		for (Method method : repositoryMetadata.getRepositoryInterface().getMethods()) {
+
+			if (method.isDefault() || Modifier.isStatic(method.getModifiers())) {
+				continue;
+			}
+
+			Method implementation = ClassUtils.getMethodIfAvailable(getClass(), method.getName(),
+					method.getParameterTypes());
+
+			if (implementation != null && !implementation.getDeclaringClass().isInterface()
+					&& implementation.getDeclaringClass() != Object.class) {
+				queryMethods.put(new QueryKey(method.getName(), method.getParameterTypes()),
+						new LdapQueryMethod(method, repositoryMetadata, context.getProjectionFactory()));
+			}
+		}
+
+		return queryMethods;
+	}
+
+	private PrecompiledLdapRepositoryQuery createQuery(QueryKey key, QueryFunction queryFunction) {
+
+		LdapQueryMethod queryMethod = queryMethods.get(key);
+
+		Assert.state(queryMethod != null, () -> "Query method %s(%s) not found in %s".formatted(key.methodName(),
+				Arrays.toString(key.parameterTypes()), repositoryMetadata.getRepositoryInterface().getName()));
+
+		PrecompiledLdapRepositoryQuery query = new PrecompiledLdapRepositoryQuery(queryMethod,
+				repositoryMetadata.getDomainType(), operations, mappingContext, instantiators, queryFunction);
+		queryCustomizer.accept(query);
+
+		return query;
+	}
+
+	private record QueryKey(String methodName, Class<?>[] parameterTypes) {
+
+		@Override
+		public boolean equals(@Nullable Object o) {
+			return o instanceof QueryKey that && methodName.equals(that.methodName)
+					&& Arrays.equals(parameterTypes, that.parameterTypes);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * methodName.hashCode() + Arrays.hashCode(parameterTypes);
+		}
+
+		@Override
+		public String toString() {
+			return methodName + Arrays.toString(parameterTypes);
+		}
+	}
+
+}
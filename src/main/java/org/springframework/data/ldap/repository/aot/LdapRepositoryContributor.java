@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.aot;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.ldap.core.mapping.LdapMappingContext;
+import org.springframework.data.ldap.repository.Query;
+import org.springframework.data.ldap.repository.aot.QueryBlocks.QueryBlock;
+import org.springframework.data.ldap.repository.query.IndexedAttributes;
+import org.springframework.data.ldap.repository.query.LdapQueryMethod;
+import org.springframework.data.ldap.repository.query.UnindexedSearchPolicy;
+import org.springframework.data.repository.aot.generate.AotQueryMethodGenerationContext;
+import org.springframework.data.repository.aot.generate.AotRepositoryClassBuilder;
+import org.springframework.data.repository.aot.generate.AotRepositoryConstructorBuilder;
+import org.springframework.data.repository.aot.generate.MethodContributor;
+import org.springframework.data.repository.aot.generate.RepositoryContributor;
+import org.springframework.data.repository.config.AotRepositoryContext;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport.FragmentCreationContext;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.util.QueryExecutionConverters;
+import org.springframework.javapoet.CodeBlock;
+import org.springframework.javapoet.TypeName;
+import org.springframework.ldap.core.LdapOperations;
+import org.springframework.ldap.odm.core.ObjectDirectoryMapper;
+import org.springframework.ldap.odm.core.impl.DefaultObjectDirectoryMapper;
+
+/**
+ * {@link RepositoryContributor} generating LDAP repository fragments that implement derived and
+ * {@link org.springframework.data.ldap.repository.Query @Query} methods with precompiled queries. Attribute names,
+ * search base, term order and case handling are resolved at build time so that query methods do not parse their
+ * method name or filter on startup.
+ * <p>
+ * Query methods using value expressions, dynamic projections, paging or return types other than single entities,
+ * {@link Optional}, {@link List} and {@link Stream} are not generated and continue to be resolved at runtime.
+ * Attribute names are resolved through the default {@link DefaultObjectDirectoryMapper object-directory mapping}.
+ *
+ * @since 4.2
+ */
+public class LdapRepositoryContributor extends RepositoryContributor {
+
+	private static final String DEFAULT_LDAP_TEMPLATE_REF = "ldapTemplate";
+	private static final String MAPPING_CONTEXT_BEAN_NAME = "ldapMappingContext";
+
+	private final String ldapTemplateRef;
+	private final ObjectDirectoryMapper mapper = new DefaultObjectDirectoryMapper();
+	private final IndexedAttributes indexedAttributes;
+
+	public LdapRepositoryContributor(AotRepositoryContext repositoryContext) {
+
+		super(repositoryContext);
+
+		this.ldapTemplateRef = repositoryContext.getConfigurationSource().getAttribute("ldapTemplateRef")
+				.orElse(DEFAULT_LDAP_TEMPLATE_REF);
+		this.indexedAttributes = IndexedAttributes.of(getRepositoryInformation().getDomainType(),
+				new LdapMappingContext(), mapper, UnindexedSearchPolicy.IGNORE);
+	}
+
+	@Override
+	protected void customizeClass(AotRepositoryClassBuilder classBuilder) {
+		classBuilder.customize(builder -> builder.superclass(TypeName.get(LdapAotRepositoryFragmentSupport.class)));
+	}
+
+	@Override
+	protected void customizeConstructor(AotRepositoryConstructorBuilder constructorBuilder) {
+
+		constructorBuilder.addParameter("operations", LdapOperations.class, customizer -> customizer.bindToField(false)
+				.origin(new RuntimeBeanReference(ldapTemplateRef, LdapOperations.class)));
+		constructorBuilder.addParameter("mappingContext", LdapMappingContext.class, customizer -> customizer
+				.bindToField(false).origin(new RuntimeBeanReference(MAPPING_CONTEXT_BEAN_NAME, LdapMappingContext.class)));
+		constructorBuilder.addParameter("context", FragmentCreationContext.class,
+				customizer -> customizer.bindToField(false));
+	}
+
+	@Override
+	protected @Nullable MethodContributor<? extends QueryMethod> contributeQueryMethod(Method method) {
+
+		LdapQueryMethod queryMethod = new LdapQueryMethod(method, getRepositoryInformation(), getProjectionFactory());
+
+		if (!isSupported(queryMethod, method)) {
+			return null;
+		}
+
+		Query annotation = AnnotationUtils.getAnnotation(method, Query.class);
+		QueryBlock query = annotation != null ? QueryBlocks.annotated(queryMethod, annotation)
+				: QueryBlocks.derived(queryMethod, getRepositoryInformation().getDomainType(), mapper, indexedAttributes);
+
+		if (query == null) {
+			return null;
+		}
+
+		return MethodContributor.forQueryMethod(queryMethod).withMetadata(query)
+				.contribute(context -> execute(context, method, query));
+	}
+
+	private static boolean isSupported(LdapQueryMethod queryMethod, Method method) {
+
+		if (queryMethod.getParameters().hasDynamicProjection() || queryMethod.getParameters().hasPageableParameter()
+				|| queryMethod.getParameters().hasSortParameter() || queryMethod.isPageQuery() || queryMethod.isSliceQuery()
+				|| queryMethod.isScrollQuery()) {
+			return false;
+		}
+
+		Class<?> returnType = method.getReturnType();
+
+		if (queryMethod.isCollectionQuery()) {
+			return returnType.isAssignableFrom(List.class);
+		}
+
+		if (queryMethod.isStreamQuery() || returnType == Optional.class) {
+			return true;
+		}
+
+		return !returnType.isPrimitive() && !returnType.isArray() && !QueryExecutionConverters.supports(returnType);
+	}
+
+	private static CodeBlock execute(AotQueryMethodGenerationContext context, Method method, QueryBlock query) {
+
+		String parameters = context.localVariable("parameters");
+		String filters = context.localVariable("filters");
+
+		CodeBlock parameterTypes = Stream.of(method.getParameterTypes()).map(type -> CodeBlock.of("$T.class", type))
+				.collect(CodeBlock.joining(", "));
+		CodeBlock arguments = context.getAllParameterNames().stream().map(name -> CodeBlock.of("$L", name))
+				.collect(CodeBlock.joining(", "));
+		CodeBlock execute = CodeBlock.of("execute($S, new $T<?>[] { $L }, new $T[] { $L }, ($L, $L) -> $L)",
+				method.getName(), Class.class, parameterTypes, Object.class, arguments, parameters, filters,
+				query.build(parameters, filters));
+
+		if (context.getMethodReturn().isOptional()) {
+			return CodeBlock.builder().addStatement("return $T.ofNullable(this.<$T>$L)", Optional.class,
+					context.getMethodReturn().getActualTypeName(), execute).build();
+		}
+
+		return CodeBlock.builder().addStatement("return $L", execute).build();
+	}
+
+}
@@ -0,0 +1,430 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.aot;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.core.PropertyPath;
+import org.springframework.data.ldap.repository.Query;
+import org.springframework.data.ldap.repository.query.IndexedAttributes;
+import org.springframework.data.ldap.repository.query.LdapQueryMethod;
+import org.springframework.data.repository.aot.generate.QueryMetadata;
+import org.springframework.data.repository.query.Parameter;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.javapoet.CodeBlock;
+import org.springframework.ldap.odm.annotations.Entry;
+import org.springframework.ldap.odm.core.ObjectDirectoryMapper;
+import org.springframework.ldap.query.LdapQueryBuilder;
+import org.springframework.ldap.query.SearchScope;
+import org.springframework.util.StringUtils;
+
+/**
+ * Build-time representation of LDAP queries rendering the {@link LdapQueryBuilder} code of
+ * {@link org.springframework.data.ldap.repository.query.PrecompiledLdapRepositoryQuery.QueryFunction precompiled query
+ * functions}.
+ *
+ * @since 4.2
+ */
+final class QueryBlocks {
+
+	private static final Pattern PARAMETER_BINDING = Pattern.compile("\\?(\\d+)|:(\\w+)");
+
+	private QueryBlocks() {}
+
+	/**
+	 * Create a {@link QueryBlock} for the derived query {@code queryMethod}.
+	 *
+	 * @return the {@link QueryBlock} or {@literal null} if the query cannot be derived at build time.
+	 */
+	static @Nullable QueryBlock derived(LdapQueryMethod queryMethod, Class<?> domainType,
+			ObjectDirectoryMapper mapper, IndexedAttributes indexedAttributes) {
+
+		PartTree partTree = new PartTree(queryMethod.getName(), domainType);
+
+		if (partTree.isCountProjection() || partTree.isExistsProjection() || partTree.isDelete()) {
+			return null;
+		}
+
+		List<List<Term>> disjunction = new ArrayList<>();
+		int index = 0;
+
+		for (PartTree.OrPart orPart : partTree) {
+
+			List<Term> leading = new ArrayList<>();
+			List<Term> trailing = new ArrayList<>();
+
+			for (Part part : orPart) {
+
+				PropertyPath property = part.getProperty();
+				Term term = property.hasNext() ? null
+						: Term.of(part, index, attributeFor(mapper, domainType, property.getSegment()));
+
+				if (term == null) {
+					return null;
+				}
+
+				(term.leading() && indexedAttributes.isIndexed(term.attribute()) ? leading : trailing).add(term);
+				index += part.getNumberOfArguments();
+			}
+
+			leading.addAll(trailing);
+			disjunction.add(leading);
+		}
+
+		Entry entry = AnnotatedElementUtils.findMergedAnnotation(domainType, Entry.class);
+		List<String> attributes = new ArrayList<>();
+		ReturnedType returnedType = queryMethod.getResultProcessor().getReturnedType();
+
+		if (returnedType.needsCustomConstruction()) {
+			for (String property : returnedType.getInputProperties()) {
+
+				String attribute = attributeFor(mapper, domainType, property);
+
+				if (attribute == null) {
+					return null;
+				}
+
+				attributes.add(attribute);
+			}
+		}
+
+		return new DerivedQuery(entry != null ? entry.base() : null, attributes,
+				partTree.isLimiting() ? partTree.getResultLimit().max() : -1,
+				queryMethod.getParameters().hasLimitParameter(), disjunction);
+	}
+
+	/**
+	 * Create a {@link QueryBlock} for the {@link Query @Query} method {@code queryMethod}.
+	 *
+	 * @return the {@link QueryBlock} or {@literal null} if the query uses value expressions or unresolvable parameter
+	 *         names.
+	 */
+	static @Nullable QueryBlock annotated(LdapQueryMethod queryMethod, Query query) {
+
+		if (!StringUtils.hasText(query.value())) {
+			return null;
+		}
+
+		List<Object> filter = parse(query.value(), queryMethod);
+		List<Object> base = parse(query.base(), queryMethod);
+
+		if (filter == null || base == null) {
+			return null;
+		}
+
+		return new AnnotatedQuery(query, filter, base, queryMethod.getParameters().hasLimitParameter());
+	}
+
+	/**
+	 * Split {@code query} into string fragments and bindable parameter indexes. Named parameters resolve to the index
+	 * of the method parameter, same as {@code StringBasedQuery} does at runtime.
+	 */
+	private static @Nullable List<Object> parse(String query, LdapQueryMethod queryMethod) {
+
+		if (query.contains("#{") || query.contains("${")) {
+			return null;
+		}
+
+		List<Object> parts = new ArrayList<>();
+		Matcher matcher = PARAMETER_BINDING.matcher(query);
+		int position = 0;
+
+		while (matcher.find()) {
+
+			if (matcher.start() > position) {
+				parts.add(query.substring(position, matcher.start()));
+			}
+
+			Integer index = matcher.group(1) != null ? Integer.valueOf(matcher.group(1))
+					: getParameterIndex(queryMethod, matcher.group(2));
+
+			if (index == null) {
+				return null;
+			}
+
+			parts.add(index);
+			position = matcher.end();
+		}
+
+		if (position < query.length()) {
+			parts.add(query.substring(position));
+		}
+
+		return parts;
+	}
+
+	private static @Nullable Integer getParameterIndex(LdapQueryMethod queryMethod, String name) {
+
+		for (Parameter parameter : queryMethod.getParameters()) {
+			if (parameter.getName().filter(name::equals).isPresent()) {
+				return parameter.getIndex();
+			}
+		}
+
+		return null;
+	}
+
+	private static @Nullable String attributeFor(ObjectDirectoryMapper mapper, Class<?> domainType, String property) {
+
+		try {
+			return mapper.attributeFor(domainType, property);
+		} catch (RuntimeException e) {
+			return null;
+		}
+	}
+
+	private static CodeBlock concat(List<Object> parts, String filters) {
+
+		if (parts.isEmpty()) {
+			return CodeBlock.of("$S", "");
+		}
+
+		CodeBlock.Builder builder = CodeBlock.builder();
+
+		for (int i = 0; i < parts.size(); i++) {
+
+			if (i > 0) {
+				builder.add(" + ");
+			}
+
+			Object part = parts.get(i);
+
+			if (part instanceof Integer index) {
+				builder.add("$L.encode($L)", filters, index);
+			} else {
+				builder.add("$S", part);
+			}
+		}
+
+		return builder.build();
+	}
+
+	private static String toString(List<Object> parts) {
+
+		StringBuilder builder = new StringBuilder();
+		parts.forEach(part -> builder.append(part instanceof Integer index ? "?" + index : part));
+		return builder.toString();
+	}
+
+	private static CodeBlock limit(String parameters) {
+		return CodeBlock.of("$1L.getLimit().isLimited() ? $1L.getLimit().max() : 0", parameters);
+	}
+
+	/**
+	 * A query to be rendered as {@link LdapQueryBuilder} expression.
+	 */
+	interface QueryBlock extends QueryMetadata {
+
+		/**
+		 * Render the query expression.
+		 *
+		 * @param parameters name of the {@link org.springframework.data.ldap.repository.query.LdapParameterAccessor}
+		 *          variable.
+		 * @param filters name of the {@link org.springframework.data.ldap.repository.query.QueryFilters} variable.
+		 * @return the query expression.
+		 */
+		CodeBlock build(String parameters, String filters);
+
+	}
+
+	/**
+	 * Derived query consisting of a disjunction of conjunctions of {@link Term terms}.
+	 */
+	record DerivedQuery(@Nullable String base, List<String> attributes, int countLimit, boolean hasLimitParameter,
+			List<List<Term>> disjunction) implements QueryBlock {
+
+		@Override
+		public CodeBlock build(String parameters, String filters) {
+
+			CodeBlock.Builder builder = CodeBlock.builder().add("$T.query()", LdapQueryBuilder.class);
+			boolean unconstrained = disjunction.stream().allMatch(List::isEmpty);
+
+			if (base != null && !unconstrained) {
+				builder.add(".base($S)", base);
+			}
+
+			if (!attributes.isEmpty() && !unconstrained) {
+				builder.add(".attributes($L)",
+						attributes.stream().map(it -> CodeBlock.of("$S", it)).collect(CodeBlock.joining(", ")));
+			}
+
+			if (hasLimitParameter) {
+				builder.add(".countLimit($L)", limit(parameters));
+			} else if (countLimit != -1) {
+				builder.add(".countLimit($L)", countLimit);
+			}
+
+			if (unconstrained) {
+				return builder.build();
+			}
+
+			List<CodeBlock> conjunctions = disjunction.stream()
+					.map(terms -> CodeBlock.of("$L.and($L)", filters,
+							terms.stream().map(term -> term.build(filters)).collect(CodeBlock.joining(", "))))
+					.toList();
+
+			return builder.add(".filter($L)", conjunctions.size() == 1 ? conjunctions.get(0)
+					: CodeBlock.of("$L.or($L)", filters, CodeBlock.join(conjunctions, ", "))).build();
+		}
+
+		@Override
+		public Map<String, Object> serialize() {
+
+			List<String> conjunctions = disjunction.stream().filter(terms -> !terms.isEmpty()).map(terms -> {
+				String filter = String.join("", terms.stream().map(Term::template).toList());
+				return terms.size() == 1 ? filter : "(&" + filter + ")";
+			}).toList();
+
+			Map<String, Object> metadata = new LinkedHashMap<>();
+
+			if (!conjunctions.isEmpty()) {
+				metadata.put("filter", conjunctions.size() == 1 ? conjunctions.get(0)
+						: "(|" + String.join("", conjunctions) + ")");
+			}
+
+			if (base != null && !conjunctions.isEmpty()) {
+				metadata.put("base", base);
+			}
+
+			return metadata;
+		}
+
+	}
+
+	/**
+	 * String-based query declared through {@link Query @Query}.
+	 */
+	record AnnotatedQuery(Query query, List<Object> filter, List<Object> base,
+			boolean hasLimitParameter) implements QueryBlock {
+
+		@Override
+		public CodeBlock build(String parameters, String filters) {
+
+			return CodeBlock.builder() //
+					.add("$T.query().base($L)", LdapQueryBuilder.class, concat(base, filters)) //
+					.add(".searchScope($T.$L)", SearchScope.class, query.searchScope().name()) //
+					.add(".countLimit($L)", hasLimitParameter ? limit(parameters) : query.countLimit()) //
+					.add(".timeLimit($L)", query.timeLimit()) //
+					.add(".filter($L.checkFilter($L), $L.getBindableParameterValues())", filters, concat(filter, filters),
+							parameters) //
+					.build();
+		}
+
+		@Override
+		public Map<String, Object> serialize() {
+
+			Map<String, Object> metadata = new LinkedHashMap<>();
+			metadata.put("filter", QueryBlocks.toString(filter));
+			metadata.put("base", QueryBlocks.toString(base));
+			return metadata;
+		}
+
+	}
+
+	/**
+	 * A filter term created by a {@link org.springframework.data.ldap.repository.query.QueryFilters} method.
+	 *
+	 * @param method name of the {@code QueryFilters} method.
+	 * @param attribute the attribute name.
+	 * @param index bindable parameter index, {@code -1} if the term does not consume a parameter.
+	 * @param ignoreCase whether to ignore case, {@literal null} if the term does not support ignoring case.
+	 * @param leading whether the term is an equality term that leads conjunctions if the attribute is indexed.
+	 * @param template filter template for {@link QueryMetadata}.
+	 */
+	record Term(String method, String attribute, int index, @Nullable Boolean ignoreCase, boolean leading,
+			String template) {
+
+		static @Nullable Term of(Part part, int index, @Nullable String attribute) {
+
+			if (attribute == null) {
+				return null;
+			}
+
+			boolean isString = CharSequence.class.isAssignableFrom(part.getProperty().getType());
+
+			Boolean ignoreCase = switch (part.shouldIgnoreCase()) {
+				case ALWAYS -> isString ? true : null;
+				case WHEN_POSSIBLE -> isString;
+				default -> false;
+			};
+
+			if (ignoreCase == null) {
+				return null;
+			}
+
+			String equality = ignoreCase ? attribute + ":caseIgnoreMatch:=?" + index : attribute + "=?" + index;
+
+			return switch (part.getType()) {
+				case TRUE -> new Term("isTrue", attribute, -1, null, true, "(" + attribute + "=TRUE)");
+				case FALSE -> new Term("isFalse", attribute, -1, null, true, "(" + attribute + "=FALSE)");
+				case IS_NOT_NULL -> new Term("isNotNull", attribute, -1, null, false, "(" + attribute + "=*)");
+				case IS_NULL -> new Term("isNull", attribute, -1, null, false, "(!(" + attribute + "=*))");
+				case BETWEEN -> new Term("between", attribute, index, null, false,
+						"(&(" + attribute + ">=?" + index + ")(" + attribute + "<=?" + (index + 1) + "))");
+				case SIMPLE_PROPERTY -> new Term("equalTo", attribute, index, ignoreCase, true, "(" + equality + ")");
+				case NEGATING_SIMPLE_PROPERTY ->
+					new Term("notEqualTo", attribute, index, ignoreCase, false, "(!(" + equality + "))");
+				case IN -> new Term("in", attribute, index, ignoreCase, true, "(|(" + equality + "))");
+				case NOT_IN -> new Term("notIn", attribute, index, ignoreCase, false, "(!(|(" + equality + ")))");
+				case STARTING_WITH ->
+					new Term("startingWith", attribute, index, null, false, "(" + attribute + "=?" + index + "*)");
+				case ENDING_WITH ->
+					new Term("endingWith", attribute, index, null, false, "(" + attribute + "=*?" + index + ")");
+				case CONTAINING ->
+					new Term("containing", attribute, index, null, false, "(" + attribute + "=*?" + index + "*)");
+				case LIKE -> new Term("like", attribute, index, null, false, "(" + attribute + "=?" + index + ")");
+				case NOT_LIKE ->
+					new Term("notLike", attribute, index, null, false, "(!(" + attribute + "=?" + index + "))");
+				case GREATER_THAN_EQUAL ->
+					new Term("greaterThanOrEqualTo", attribute, index, null, false, "(" + attribute + ">=?" + index + ")");
+				case LESS_THAN_EQUAL ->
+					new Term("lessThanOrEqualTo", attribute, index, null, false, "(" + attribute + "<=?" + index + ")");
+				case GREATER_THAN, AFTER -> new Term("greaterThan", attribute, index, null, false,
+						"(&(" + attribute + ">=?" + index + ")(!(" + attribute + "=?" + index + ")))");
+				case LESS_THAN, BEFORE -> new Term("lessThan", attribute, index, null, false,
+						"(&(" + attribute + "<=?" + index + ")(!(" + attribute + "=?" + index + ")))");
+				default -> null;
+			};
+		}
+
+		CodeBlock build(String filters) {
+
+			CodeBlock.Builder builder = CodeBlock.builder().add("$L.$L($S", filters, method, attribute);
+
+			if (index != -1) {
+				builder.add(", $L", index);
+			}
+
+			if (ignoreCase != null) {
+				builder.add(", $L", ignoreCase);
+			}
+
+			return builder.add(")").build();
+		}
+
+	}
+
+}
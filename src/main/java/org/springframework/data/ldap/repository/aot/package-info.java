@@ -0,0 +1,5 @@
+/**
+ * Ahead-of-time processing support for LDAP repositories generating query method implementations at build time.
+ */
+@org.jspecify.annotations.NullMarked
+package org.springframework.data.ldap.repository.aot;
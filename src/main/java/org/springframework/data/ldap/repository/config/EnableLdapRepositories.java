@@ -25,6 +25,8 @@ import java.lang.annotation.Target;
 import org.springframework.beans.factory.support.BeanNameGenerator;
 import org.springframework.context.annotation.ComponentScan.Filter;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.ldap.repository.ConcurrencyLimit;
+import org.springframework.data.ldap.repository.SearchLimit;
 import org.springframework.data.ldap.repository.support.LdapRepositoryFactoryBean;
 import org.springframework.data.repository.config.DefaultRepositoryBaseClass;
 import org.springframework.data.repository.query.QueryLookupStrategy.Key;
@@ -136,4 +138,34 @@ public @interface EnableLdapRepositories {
 	 * repositories infrastructure.
 	 */
 	boolean considerNestedRepositories() default false;
+
+	/**
+	 * Configures the default concurrency limit applied to each repository detected. Repositories and repository methods
+	 * annotated with {@link ConcurrencyLimit} use the annotated limit instead. Declares at most one limit, no limit
+	 * (default) limits only annotated repositories and methods.
+	 *
+	 * @return the default concurrency limit.
+	 * @since 4.2
+	 */
+	ConcurrencyLimit[] concurrencyLimit() default {};
+
+	/**
+	 * Configures the default search limits applied to searches of the repositories detected. Repositories and query
+	 * methods annotated with {@link SearchLimit} use the annotated limits instead. Declares at most one limit, no limit
+	 * (default) limits only searches of annotated repositories and methods.
+	 *
+	 * @return the default search limits.
+	 * @since 4.2
+	 */
+	SearchLimit[] searchLimit() default {};
+
+	/**
+	 * Configures whether to initialize the mapping metadata and object-directory mapping metadata of all
+	 * {@link org.springframework.ldap.odm.annotations.Entry entities} in the base packages and the query plans of all
+	 * repository query methods during startup instead of on first use.
+	 *
+	 * @return whether to warm up metadata and query plans during startup. Defaults to {@literal false}.
+	 * @since 4.2
+	 */
+	boolean warmUp() default false;
 }
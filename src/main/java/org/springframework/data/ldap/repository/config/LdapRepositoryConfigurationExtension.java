@@ -18,22 +18,38 @@ package org.springframework.data.ldap.repository.config;
 import java.lang.annotation.Annotation;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Set;
 
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.aot.BeanRegistrationAotProcessor;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.ldap.core.mapping.LdapMappingContext;
+import org.springframework.data.ldap.repository.ConcurrencyLimit;
 import org.springframework.data.ldap.repository.LdapRepository;
+import org.springframework.data.ldap.repository.SearchLimit;
+import org.springframework.data.ldap.repository.aot.LdapRepositoryContributor;
+import org.springframework.data.ldap.repository.query.SearchLimits;
+import org.springframework.data.ldap.repository.support.ConcurrencyLimits;
+import org.springframework.data.ldap.repository.support.EntityMetadataWarmUp;
 import org.springframework.data.ldap.repository.support.LdapRepositoryFactoryBean;
+import org.springframework.data.repository.aot.generate.RepositoryContributor;
 import org.springframework.data.repository.config.AnnotationRepositoryConfigurationSource;
+import org.springframework.data.repository.config.AotRepositoryContext;
 import org.springframework.data.repository.config.RepositoryConfigurationExtension;
 import org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport;
 import org.springframework.data.repository.config.RepositoryConfigurationSource;
+import org.springframework.data.repository.config.RepositoryRegistrationAotProcessor;
 import org.springframework.data.repository.config.XmlRepositoryConfigurationSource;
 import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.util.AnnotatedTypeScanner;
 import org.springframework.ldap.odm.annotations.Entry;
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.w3c.dom.Element;
 
@@ -62,6 +78,11 @@ public class LdapRepositoryConfigurationExtension extends RepositoryConfiguratio
 		return LdapRepositoryFactoryBean.class.getName();
 	}
 
+	@Override
+	public Class<? extends BeanRegistrationAotProcessor> getRepositoryAotProcessor() {
+		return LdapRepositoryRegistrationAotProcessor.class;
+	}
+
 	@Override
 	protected Collection<Class<? extends Annotation>> getIdentifyingAnnotations() {
 		return Collections.singleton(Entry.class);
@@ -93,6 +114,28 @@ public class LdapRepositoryConfigurationExtension extends RepositoryConfiguratio
 
 		builder.addPropertyReference("ldapOperations", attributes.getString("ldapTemplateRef"));
 		builder.addPropertyReference("mappingContext", MAPPING_CONTEXT_BEAN_NAME);
+
+		AnnotationAttributes[] concurrencyLimit = attributes.getAnnotationArray("concurrencyLimit");
+
+		Assert.isTrue(concurrencyLimit.length <= 1, "At most one default concurrency limit must be configured");
+
+		if (concurrencyLimit.length == 1) {
+			builder.addPropertyValue("concurrencyLimits", ConcurrencyLimits
+					.from(AnnotationUtils.synthesizeAnnotation(concurrencyLimit[0], ConcurrencyLimit.class, null)));
+		}
+
+		AnnotationAttributes[] searchLimit = attributes.getAnnotationArray("searchLimit");
+
+		Assert.isTrue(searchLimit.length <= 1, "At most one default search limit must be configured");
+
+		if (searchLimit.length == 1) {
+			builder.addPropertyValue("searchLimits",
+					SearchLimits.from(AnnotationUtils.synthesizeAnnotation(searchLimit[0], SearchLimit.class, null)));
+		}
+
+		if (attributes.getBoolean("warmUp")) {
+			builder.addPropertyValue("warmUp", true);
+		}
 	}
 
 	@Override
@@ -106,6 +149,31 @@ public class LdapRepositoryConfigurationExtension extends RepositoryConfiguratio
 
 			registry.registerBeanDefinition(MAPPING_CONTEXT_BEAN_NAME, definition);
 		}
+
+		if (configurationSource instanceof AnnotationRepositoryConfigurationSource
+				&& configurationSource.getAttribute("warmUp", Boolean.class).orElse(false)) {
+			registerEntityMetadataWarmUp(registry, configurationSource);
+		}
+	}
+
+	/**
+	 * Register {@link EntityMetadataWarmUp} for all entity types carrying an {@link #getIdentifyingAnnotations()
+	 * identifying annotation} in the base packages of the configuration.
+	 */
+	private void registerEntityMetadataWarmUp(BeanDefinitionRegistry registry,
+			RepositoryConfigurationSource configurationSource) {
+
+		AnnotatedTypeScanner scanner = new AnnotatedTypeScanner(false, getIdentifyingAnnotations());
+		Set<Class<?>> entityTypes = scanner.findTypes(configurationSource.getBasePackages());
+
+		AbstractBeanDefinition definition = BeanDefinitionBuilder.rootBeanDefinition(EntityMetadataWarmUp.class) //
+				.addConstructorArgReference(configurationSource.getAttribute("ldapTemplateRef").orElse("ldapTemplate")) //
+				.addConstructorArgReference(MAPPING_CONTEXT_BEAN_NAME) //
+				.addConstructorArgValue(entityTypes) //
+				.setRole(AbstractBeanDefinition.ROLE_INFRASTRUCTURE) //
+				.getBeanDefinition();
+
+		registerWithSourceAndGeneratedBeanName(definition, registry, configurationSource.getSource());
 	}
 
 	@Override
@@ -113,4 +181,24 @@ public class LdapRepositoryConfigurationExtension extends RepositoryConfiguratio
 		return !metadata.isReactiveRepository();
 	}
 
+	/**
+	 * {@link RepositoryRegistrationAotProcessor} contributing generated repository fragments through
+	 * {@link LdapRepositoryContributor} if generated repositories are enabled for LDAP.
+	 *
+	 * @since 4.2
+	 */
+	public static class LdapRepositoryRegistrationAotProcessor extends RepositoryRegistrationAotProcessor {
+
+		@Override
+		protected @Nullable RepositoryContributor contributeAotRepository(AotRepositoryContext repositoryContext) {
+
+			if (!repositoryContext.isGeneratedRepositoriesEnabled("ldap")) {
+				return null;
+			}
+
+			return new LdapRepositoryContributor(repositoryContext);
+		}
+
+	}
+
 }
@@ -17,9 +17,15 @@ package org.springframework.data.ldap.repository.query;
 
 import static org.springframework.data.ldap.repository.query.LdapQueryExecution.*;
 
+import java.util.List;
+import java.util.concurrent.Executor;
+
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.data.convert.DtoInstantiatingConverter;
 import org.springframework.data.ldap.repository.Query;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
@@ -28,7 +34,9 @@ import org.springframework.data.mapping.model.EntityInstantiators;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.ldap.core.LdapOperations;
+import org.springframework.ldap.odm.core.ObjectDirectoryMapper;
 import org.springframework.ldap.query.LdapQuery;
 import org.springframework.util.Assert;
 
@@ -45,6 +53,16 @@ public abstract class AbstractLdapRepositoryQuery implements RepositoryQuery {
 	private final LdapOperations ldapOperations;
 	private final MappingContext<? extends PersistentEntity<?, ?>, ? extends PersistentProperty<?>> mappingContext;
 	private final EntityInstantiators instantiators;
+	private @Nullable ObjectDirectoryMapper objectDirectoryMapper;
+	private LdapRepositoryOperationInterceptor operationInterceptor = LdapRepositoryOperationInterceptor.none();
+	private Executor executor = new SyncTaskExecutor();
+	private UnindexedSearchPolicy unindexedSearchPolicy = UnindexedSearchPolicy.WARN;
+	private @Nullable IndexedAttributes indexedAttributes;
+	private @Nullable SearchAttributes searchAttributes;
+	private ResultSizeLimit resultSizeLimit = ResultSizeLimit.unlimited();
+	private ResultMapping resultMapping = ResultMapping.sequential();
+	private SubtreeSplitting subtreeSplitting = SubtreeSplitting.none();
+	private SearchLimits searchLimits;
 
 	/**
 	 * Creates a new {@link AbstractLdapRepositoryQuery} instance given {@link LdapQuery}, {@link Class} and
@@ -69,6 +87,7 @@ public abstract class AbstractLdapRepositoryQuery implements RepositoryQuery {
 		this.ldapOperations = ldapOperations;
 		this.mappingContext = mappingContext;
 		this.instantiators = instantiators;
+		this.searchLimits = SearchLimits.from(queryMethod.getSearchLimitAnnotation());
 	}
 
 	@Override
@@ -76,27 +95,262 @@ public abstract class AbstractLdapRepositoryQuery implements RepositoryQuery {
 	public final @Nullable Object execute(Object[] parameters) {
 
 		LdapParametersParameterAccessor parameterAccessor = new LdapParametersParameterAccessor(queryMethod, parameters);
-		LdapQuery query = createQuery(parameterAccessor);
+		SearchAttributes searchAttributes = getSearchAttributes();
+		LdapQuery query = searchLimits.apply(searchAttributes.apply(createQuery(parameterAccessor)));
+
+		LdapRepositoryOperation operation = new LdapRepositoryOperation(queryMethod.getRepositoryInterface(), entityType,
+				queryMethod.getName(), getExecutionType(), query);
+
+		return operationInterceptor.intercept(operation, () -> execute(query, parameterAccessor, searchAttributes));
+	}
+
+	/**
+	 * Split and execute the given {@code query}. Runs within the {@link LdapRepositoryOperationInterceptor} so that
+	 * searches required to split the query are subject to interceptors and the remaining deadline is determined once
+	 * the operation proceeds.
+	 */
+	private @Nullable Object execute(LdapQuery query, LdapParametersParameterAccessor parameterAccessor,
+			SearchAttributes searchAttributes) {
+
+		SearchLimits searchLimits = this.searchLimits.withinDeadline();
+		LdapQuery limited = searchLimits.apply(query);
+		List<LdapQuery> queries = splitQuery(limited, parameterAccessor).stream().map(searchAttributes::apply)
+				.map(searchLimits::apply).toList();
+
+		if (subtreeSplitting.isEnabled() && (queryMethod.isCollectionQuery() || queryMethod.isStreamQuery())) {
+			queries = queries.stream().flatMap(it -> subtreeSplitting.split(ldapOperations, it).stream()).toList();
+		}
 
 		ResultProcessor processor = queryMethod.getResultProcessor().withDynamicProjection(parameterAccessor);
 		Class<?> typeToRead = processor.getReturnedType().getDomainType();
+		ObjectDirectoryMapper odm = getObjectDirectoryMapper();
 
 		ResultProcessingConverter converter = new ResultProcessingConverter(processor, mappingContext, instantiators);
 		ResultProcessingExecution execution = new ResultProcessingExecution(
-				getLdapQueryExecutionToWrap(typeToRead, converter), converter);
+				getLdapQueryExecutionToWrap(odm, typeToRead, converter, queries), converter);
 
-		return execution.execute(query);
+		return execution.execute(limited);
 	}
 
-	private LdapQueryExecution getLdapQueryExecutionToWrap(Class<?> typeToRead,
-			Converter<Object, Object> resultProcessing) {
+	private LdapRepositoryOperation.ExecutionType getExecutionType() {
 
 		if (queryMethod.isCollectionQuery()) {
-			return new CollectionExecution(ldapOperations, typeToRead);
+			return LdapRepositoryOperation.ExecutionType.COLLECTION;
 		} else if (queryMethod.isStreamQuery()) {
-			return new StreamExecution(ldapOperations, typeToRead, resultProcessing);
+			return LdapRepositoryOperation.ExecutionType.STREAM;
+		}
+
+		return LdapRepositoryOperation.ExecutionType.ONE;
+	}
+
+	private LdapQueryExecution getLdapQueryExecutionToWrap(ObjectDirectoryMapper odm, Class<?> typeToRead,
+			Converter<Object, Object> resultProcessing, List<LdapQuery> queries) {
+
+		if (queries.size() > 1) {
+
+			MergingExecution execution = queryMethod.isCollectionQuery()
+					? new MergingExecution(ldapOperations, odm, typeToRead, queries, executor, resultSizeLimit, resultMapping)
+					: new MergingExecution(ldapOperations, odm, typeToRead, queries, executor);
+
+			if (queryMethod.isCollectionQuery()) {
+				return execution;
+			} else if (queryMethod.isStreamQuery()) {
+				return query -> execution.execute(query).stream().map(resultProcessing::convert);
+			} else {
+				return query -> DataAccessUtils.singleResult(execution.execute(query));
+			}
+		}
+
+		if (queryMethod.isCollectionQuery()) {
+			return new CollectionExecution(ldapOperations, odm, typeToRead, resultSizeLimit, resultMapping);
+		} else if (queryMethod.isStreamQuery()) {
+			return new StreamExecution(ldapOperations, odm, typeToRead, resultProcessing);
 		} else {
-			return new FindOneExecution(ldapOperations, typeToRead);
+			return new FindOneExecution(ldapOperations, odm, typeToRead);
+		}
+	}
+
+	/**
+	 * Configure the {@link ObjectDirectoryMapper} to map search results of this query method. Defaults to the
+	 * {@link LdapOperations#getObjectDirectoryMapper() ObjectDirectoryMapper} of {@link LdapOperations}.
+	 *
+	 * @param objectDirectoryMapper must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setObjectDirectoryMapper(ObjectDirectoryMapper objectDirectoryMapper) {
+
+		Assert.notNull(objectDirectoryMapper, "ObjectDirectoryMapper must not be null");
+
+		this.objectDirectoryMapper = objectDirectoryMapper;
+	}
+
+	/**
+	 * Configure the {@link LdapRepositoryOperationInterceptor} to apply to query executions.
+	 *
+	 * @param operationInterceptor must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setOperationInterceptor(LdapRepositoryOperationInterceptor operationInterceptor) {
+
+		Assert.notNull(operationInterceptor, "LdapRepositoryOperationInterceptor must not be null");
+
+		this.operationInterceptor = operationInterceptor;
+	}
+
+	/**
+	 * Configure the {@link Executor} to run queries that were split into multiple queries. Defaults to
+	 * {@link SyncTaskExecutor} running queries sequentially in the calling thread.
+	 *
+	 * @param executor must not be {@literal null}.
+	 * @since 4.2
+	 * @see #splitQuery(LdapQuery, LdapParameterAccessor)
+	 */
+	public void setExecutor(Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null");
+
+		this.executor = executor;
+	}
+
+	/**
+	 * Configure the {@link UnindexedSearchPolicy} to apply to substring searches with a leading wildcard on attributes
+	 * that are not {@link org.springframework.data.ldap.core.mapping.Indexed indexed}. Defaults to
+	 * {@link UnindexedSearchPolicy#WARN}.
+	 *
+	 * @param unindexedSearchPolicy must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setUnindexedSearchPolicy(UnindexedSearchPolicy unindexedSearchPolicy) {
+
+		Assert.notNull(unindexedSearchPolicy, "UnindexedSearchPolicy must not be null");
+
+		this.unindexedSearchPolicy = unindexedSearchPolicy;
+		this.indexedAttributes = null;
+	}
+
+	/**
+	 * Configure the {@link ResultSizeLimit} to apply to query methods returning a collection. Defaults to
+	 * {@link ResultSizeLimit#unlimited()}.
+	 *
+	 * @param resultSizeLimit must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setResultSizeLimit(ResultSizeLimit resultSizeLimit) {
+
+		Assert.notNull(resultSizeLimit, "ResultSizeLimit must not be null");
+
+		this.resultSizeLimit = resultSizeLimit;
+	}
+
+	/**
+	 * Configure the {@link ResultMapping} to map results of query methods returning a collection. Defaults to
+	 * {@link ResultMapping#sequential()}.
+	 *
+	 * @param resultMapping must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setResultMapping(ResultMapping resultMapping) {
+
+		Assert.notNull(resultMapping, "ResultMapping must not be null");
+
+		this.resultMapping = resultMapping;
+	}
+
+	/**
+	 * Configure the {@link SubtreeSplitting} to apply to query methods returning a collection or a stream. Split searches
+	 * are run using the configured {@link #setExecutor(Executor) Executor}. Defaults to {@link SubtreeSplitting#none()}.
+	 *
+	 * @param subtreeSplitting must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setSubtreeSplitting(SubtreeSplitting subtreeSplitting) {
+
+		Assert.notNull(subtreeSplitting, "SubtreeSplitting must not be null");
+
+		this.subtreeSplitting = subtreeSplitting;
+	}
+
+	/**
+	 * Configure the default {@link SearchLimits} to apply to searches of this query method. Limits declared through a
+	 * {@link org.springframework.data.ldap.repository.SearchLimit} annotation on the query method or the repository
+	 * interface take precedence over the default limits. Defaults to {@link SearchLimits#none()}.
+	 *
+	 * @param searchLimits must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setSearchLimits(SearchLimits searchLimits) {
+
+		Assert.notNull(searchLimits, "SearchLimits must not be null");
+
+		this.searchLimits = SearchLimits.from(queryMethod.getSearchLimitAnnotation()).orElse(searchLimits);
+	}
+
+	private ObjectDirectoryMapper getObjectDirectoryMapper() {
+
+		ObjectDirectoryMapper objectDirectoryMapper = this.objectDirectoryMapper;
+
+		return objectDirectoryMapper != null ? objectDirectoryMapper : ldapOperations.getObjectDirectoryMapper();
+	}
+
+	/**
+	 * Return the {@link IndexedAttributes} of the entity type using the configured {@link UnindexedSearchPolicy}.
+	 *
+	 * @return the {@link IndexedAttributes} of the entity type.
+	 * @since 4.2
+	 */
+	protected IndexedAttributes getIndexedAttributes() {
+
+		IndexedAttributes indexedAttributes = this.indexedAttributes;
+
+		if (indexedAttributes == null) {
+
+			indexedAttributes = IndexedAttributes.of(entityType, mappingContext, ldapOperations.getObjectDirectoryMapper(),
+					unindexedSearchPolicy);
+			this.indexedAttributes = indexedAttributes;
+		}
+
+		return indexedAttributes;
+	}
+
+	/**
+	 * Return the {@link SearchAttributes} of the entity type excluding
+	 * {@link org.springframework.data.ldap.core.mapping.LazyAttribute lazy attributes} from searches.
+	 *
+	 * @return the {@link SearchAttributes} of the entity type.
+	 * @since 4.2
+	 */
+	protected SearchAttributes getSearchAttributes() {
+
+		SearchAttributes searchAttributes = this.searchAttributes;
+
+		if (searchAttributes == null) {
+
+			searchAttributes = SearchAttributes.of(entityType, ldapOperations.getObjectDirectoryMapper());
+			this.searchAttributes = searchAttributes;
+		}
+
+		return searchAttributes;
+	}
+
+	/**
+	 * Initialize the mapping metadata, object-directory mapping metadata and attribute mappings used by this query
+	 * ahead of its first execution. Also initializes the instantiator of the returned DTO type if the query method
+	 * returns a DTO projection.
+	 *
+	 * @since 4.2
+	 */
+	public void warmUp() {
+
+		mappingContext.getPersistentEntity(entityType);
+		ldapOperations.getObjectDirectoryMapper().manageClass(entityType);
+		getIndexedAttributes();
+		getSearchAttributes();
+
+		ReturnedType returnedType = queryMethod.getResultProcessor().getReturnedType();
+		Class<?> type = returnedType.getReturnedType();
+
+		if (returnedType.isProjecting() && !type.isInterface() && mappingContext.getPersistentEntity(type) != null) {
+			new DtoInstantiatingConverter(type, mappingContext, instantiators);
 		}
 	}
 
@@ -108,6 +362,20 @@ public abstract class AbstractLdapRepositoryQuery implements RepositoryQuery {
 	 */
 	protected abstract LdapQuery createQuery(LdapParameterAccessor parameters);
 
+	/**
+	 * Split the given {@link LdapQuery} into multiple queries whose merged results are equivalent to the results of
+	 * {@code query}. Split queries are run using the configured {@link #setExecutor(Executor) Executor} and their
+	 * results are de-duplicated by their distinguished name. The default implementation does not split queries.
+	 *
+	 * @param query the query created for {@code parameters}.
+	 * @param parameters must not be {@literal null}.
+	 * @return the queries to run, or a singleton list containing {@code query} if the query is not split.
+	 * @since 4.2
+	 */
+	protected List<LdapQuery> splitQuery(LdapQuery query, LdapParameterAccessor parameters) {
+		return List.of(query);
+	}
+
 	/**
 	 * @return
 	 */
@@ -94,6 +94,8 @@ public class AnnotatedLdapRepositoryQuery extends AbstractLdapRepositoryQuery {
 		String query = bind(parameters, valueContextProvider, this.query);
 		String base = bind(parameters, valueContextProvider, this.base);
 
+		getIndexedAttributes().checkFilter(query);
+
 		int countLimit = queryAnnotation.countLimit();
 
 		if (getQueryMethod().getParameters().hasLimitParameter()) {
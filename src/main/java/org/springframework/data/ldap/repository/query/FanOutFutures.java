@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.query;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Utility to join {@link CompletableFuture futures} of operations that were fanned out to run concurrently, e.g.
+ * chunks of a split query or lookups against multiple directories.
+ * <p>
+ * For internal use within Spring Data LDAP only; not meant to be used directly by application code.
+ *
+ * @since 4.2
+ */
+public final class FanOutFutures {
+
+	private FanOutFutures() {}
+
+	/**
+	 * Wait for {@code future} to complete and return its result. If {@code future} completed exceptionally, all
+	 * {@code futures} are cancelled and the cause is rethrown if it is a {@link RuntimeException} or an {@link Error}.
+	 * Checked causes remain wrapped in the {@link CompletionException}.
+	 *
+	 * @param future the future to join.
+	 * @param futures all futures of the fan-out to cancel on failure.
+	 * @return the result of {@code future}.
+	 */
+	public static <S> S join(CompletableFuture<S> future, List<? extends CompletableFuture<?>> futures) {
+
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+
+			futures.forEach(it -> it.cancel(false));
+
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+
+			if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+
+			throw e;
+		}
+	}
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.query;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.ldap.core.mapping.Indexed;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.ldap.odm.core.ObjectDirectoryMapper;
+import org.springframework.util.Assert;
+
+/**
+ * Value object capturing the {@link Indexed indexed} LDAP attributes of an entity along with the
+ * {@link UnindexedSearchPolicy} to apply to substring searches with a leading wildcard on attributes that are not
+ * indexed.
+ * <p>
+ * Attribute names are compared case-insensitively. Entities without {@link Indexed @Indexed} properties are not
+ * subject to any checks.
+ *
+ * @since 4.2
+ */
+public final class IndexedAttributes {
+
+	private static final Log LOG = LogFactory.getLog(IndexedAttributes.class);
+
+	private static final IndexedAttributes NONE = new IndexedAttributes(Object.class, Set.of(),
+			UnindexedSearchPolicy.IGNORE);
+
+	private static final Pattern LEADING_WILDCARD = Pattern.compile("\\(([^()=~<>:!&|]+)=\\*[^)]");
+
+	private final Class<?> entityType;
+	private final Set<String> attributes;
+	private final UnindexedSearchPolicy policy;
+
+	private IndexedAttributes(Class<?> entityType, Set<String> attributes, UnindexedSearchPolicy policy) {
+
+		this.entityType = entityType;
+		this.attributes = attributes;
+		this.policy = policy;
+	}
+
+	/**
+	 * Return {@link IndexedAttributes} without any indexed attribute and without checks.
+	 *
+	 * @return {@link IndexedAttributes} without any indexed attribute.
+	 */
+	public static IndexedAttributes none() {
+		return NONE;
+	}
+
+	/**
+	 * Create {@link IndexedAttributes} for the given entity type by inspecting its {@link Indexed @Indexed} properties.
+	 *
+	 * @param entityType must not be {@literal null}.
+	 * @param mappingContext must not be {@literal null}.
+	 * @param odm the {@link ObjectDirectoryMapper} to resolve attribute names of indexed properties.
+	 * @param policy must not be {@literal null}.
+	 * @return {@link IndexedAttributes} for {@code entityType}.
+	 */
+	public static IndexedAttributes of(Class<?> entityType,
+			MappingContext<? extends PersistentEntity<?, ?>, ? extends PersistentProperty<?>> mappingContext,
+			ObjectDirectoryMapper odm, UnindexedSearchPolicy policy) {
+
+		Assert.notNull(entityType, "Entity type must not be null");
+		Assert.notNull(mappingContext, "MappingContext must not be null");
+		Assert.notNull(policy, "UnindexedSearchPolicy must not be null");
+
+		PersistentEntity<?, ? extends PersistentProperty<?>> entity = mappingContext.getPersistentEntity(entityType);
+
+		if (entity == null) {
+			return NONE;
+		}
+
+		Set<String> attributes = new TreeSet<>();
+
+		for (PersistentProperty<?> property : entity) {
+			if (property.isAnnotationPresent(Indexed.class)) {
+
+				Assert.notNull(odm, "ObjectDirectoryMapper must not be null");
+				attributes.add(normalize(odm.attributeFor(entityType, property.getName())));
+			}
+		}
+
+		return attributes.isEmpty() ? NONE : new IndexedAttributes(entityType, Set.copyOf(attributes), policy);
+	}
+
+	/**
+	 * @return {@literal true} if the entity declares at least one indexed attribute.
+	 */
+	public boolean hasIndexedAttributes() {
+		return !attributes.isEmpty();
+	}
+
+	/**
+	 * @param attribute the LDAP attribute name.
+	 * @return {@literal true} if {@code attribute} is indexed.
+	 */
+	public boolean isIndexed(String attribute) {
+		return !attributes.isEmpty() && attributes.contains(normalize(attribute));
+	}
+
+	/**
+	 * Apply the {@link UnindexedSearchPolicy} to a substring search with a leading wildcard on {@code attribute}.
+	 *
+	 * @param attribute the LDAP attribute name.
+	 * @param pattern the search pattern including wildcards.
+	 * @throws InvalidDataAccessApiUsageException if the attribute is not indexed and the policy is
+	 *           {@link UnindexedSearchPolicy#FAIL}.
+	 */
+	public void checkLeadingWildcard(String attribute, String pattern) {
+
+		if (policy == UnindexedSearchPolicy.IGNORE || attributes.isEmpty() || isIndexed(attribute)) {
+			return;
+		}
+
+		String message = String.format(
+				"Substring search '(%s=%s)' with a leading wildcard on unindexed attribute of %s;"
+						+ " Annotate the property with @Indexed if the directory server maintains an index for it",
+				attribute, pattern, entityType.getName());
+
+		if (policy == UnindexedSearchPolicy.FAIL) {
+			throw new InvalidDataAccessApiUsageException(message);
+		}
+
+		if (LOG.isWarnEnabled()) {
+			LOG.warn(message);
+		}
+	}
+
+	/**
+	 * Apply the {@link UnindexedSearchPolicy} to all substring assertions with a leading wildcard contained in the given
+	 * filter string.
+	 *
+	 * @param filter the LDAP filter.
+	 * @see #checkLeadingWildcard(String, String)
+	 */
+	public void checkFilter(String filter) {
+
+		if (policy == UnindexedSearchPolicy.IGNORE || attributes.isEmpty() || filter.indexOf("=*") == -1) {
+			return;
+		}
+
+		Matcher matcher = LEADING_WILDCARD.matcher(filter);
+
+		while (matcher.find()) {
+
+			String attribute = matcher.group(1).trim();
+			int end = filter.indexOf(')', matcher.start());
+			checkLeadingWildcard(attribute, filter.substring(matcher.end(1) + 1, end));
+		}
+	}
+
+	private static String normalize(String attribute) {
+		return attribute.toLowerCase(Locale.ROOT);
+	}
+
+}
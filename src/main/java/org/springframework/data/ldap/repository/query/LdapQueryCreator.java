@@ -15,8 +15,21 @@
  */
 package org.springframework.data.ldap.repository.query;
 
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.jspecify.annotations.Nullable;
 
@@ -26,10 +39,18 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.ldap.filter.AbstractFilter;
+import org.springframework.ldap.filter.AndFilter;
+import org.springframework.ldap.filter.EqualsFilter;
+import org.springframework.ldap.filter.Filter;
+import org.springframework.ldap.filter.GreaterThanOrEqualsFilter;
+import org.springframework.ldap.filter.LessThanOrEqualsFilter;
+import org.springframework.ldap.filter.LikeFilter;
+import org.springframework.ldap.filter.NotFilter;
+import org.springframework.ldap.filter.OrFilter;
+import org.springframework.ldap.filter.PresentFilter;
 import org.springframework.ldap.odm.annotations.Entry;
 import org.springframework.ldap.odm.core.ObjectDirectoryMapper;
-import org.springframework.ldap.query.ConditionCriteria;
-import org.springframework.ldap.query.ContainerCriteria;
 import org.springframework.ldap.query.LdapQuery;
 import org.springframework.ldap.query.LdapQueryBuilder;
 import org.springframework.util.Assert;
@@ -37,16 +58,26 @@ import org.springframework.util.ObjectUtils;
 
 /**
  * Creator of dynamic queries based on method names.
+ * <p>
+ * Conjunctions list equality conditions on {@link IndexedAttributes indexed attributes} first so that directory
+ * servers evaluating filter terms in order can narrow the candidate set early.
  *
  * @author Mattias Hellborg Arthursson
  * @author Mark Paluch
  * @author Xiangcheng Kuo
  */
-class LdapQueryCreator extends AbstractQueryCreator<LdapQuery, ContainerCriteria> {
+class LdapQueryCreator extends AbstractQueryCreator<LdapQuery, Filter> {
+
+	private static final Filter TRUE = new PresentFilter("objectclass");
+	private static final Filter FALSE = new NotFilter(TRUE);
+
+	private static final DateTimeFormatter GENERALIZED_TIME = DateTimeFormatter.ofPattern("uuuuMMddHHmmss.SSS'Z'")
+			.withZone(ZoneOffset.UTC);
 
 	private final Class<?> entityType;
 	private final ObjectDirectoryMapper mapper;
 	private final List<String> inputProperties;
+	private final IndexedAttributes indexedAttributes;
 
 	/**
 	 * Constructs a new {@link LdapQueryCreator}.
@@ -59,75 +90,231 @@ class LdapQueryCreator extends AbstractQueryCreator<LdapQuery, ContainerCriteria
 	 */
 	LdapQueryCreator(PartTree tree, Class<?> entityType, ObjectDirectoryMapper mapper,
 			LdapParameterAccessor parameterAccessor, List<String> inputProperties) {
+		this(tree, entityType, mapper, parameterAccessor, inputProperties, IndexedAttributes.none());
+	}
+
+	/**
+	 * Constructs a new {@link LdapQueryCreator}.
+	 *
+	 * @param tree must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @param mapper must not be {@literal null}.
+	 * @param parameterAccessor must not be {@literal null}.
+	 * @param inputProperties must not be {@literal null}.
+	 * @param indexedAttributes must not be {@literal null}.
+	 * @since 4.2
+	 */
+	LdapQueryCreator(PartTree tree, Class<?> entityType, ObjectDirectoryMapper mapper,
+			LdapParameterAccessor parameterAccessor, List<String> inputProperties, IndexedAttributes indexedAttributes) {
 
 		super(tree, parameterAccessor);
 
 		Assert.notNull(entityType, "Entity type must not be null");
 		Assert.notNull(mapper, "ObjectDirectoryMapper must not be null");
+		Assert.notNull(indexedAttributes, "IndexedAttributes must not be null");
 
 		this.entityType = entityType;
 		this.mapper = mapper;
 		this.inputProperties = inputProperties;
+		this.indexedAttributes = indexedAttributes;
 	}
 
 	@Override
-	protected ContainerCriteria create(Part part, Iterator<Object> iterator) {
-
-		Entry entry = AnnotatedElementUtils.findMergedAnnotation(entityType, Entry.class);
-
-		LdapQueryBuilder query = LdapQueryBuilder.query();
-
-		if (entry != null) {
-			query = query.base(entry.base());
-		}
-
-		if (!inputProperties.isEmpty()) {
-			query.attributes(
-					inputProperties.stream().map(prop -> mapper.attributeFor(entityType, prop)).toArray(String[]::new));
-		}
-
-		ConditionCriteria criteria = query.where(getAttribute(part));
-
-		return appendCondition(part, iterator, criteria);
+	protected Filter create(Part part, Iterator<Object> iterator) {
+		return new Conjunction().and(createFilter(part, iterator), isIndexedEquality(part));
 	}
 
-	private ContainerCriteria appendCondition(Part part, Iterator<Object> iterator, ConditionCriteria criteria) {
+	private Filter createFilter(Part part, Iterator<Object> iterator) {
 
 		Part.Type type = part.getType();
+		String attribute = getAttribute(part);
 
-		Object value = null;
-		if (iterator.hasNext()) {
-			value = iterator.next();
+		switch (type) {
+			case TRUE:
+				return new EqualsFilter(attribute, "TRUE");
+			case FALSE:
+				return new EqualsFilter(attribute, "FALSE");
+			case IS_NOT_NULL:
+				return new PresentFilter(attribute);
+			case IS_NULL:
+				return new NotFilter(new PresentFilter(attribute));
+			case BETWEEN:
+				return new Conjunction()
+						.and(new GreaterThanOrEqualsFilter(attribute, toComparableString(nextValue(iterator))), false)
+						.and(new LessThanOrEqualsFilter(attribute, toComparableString(nextValue(iterator))), false);
+			default:
 		}
 
+		Object value = nextValue(iterator);
+
 		switch (type) {
 			case NEGATING_SIMPLE_PROPERTY:
-				return value != null ? criteria.not().is(value.toString()) : criteria.isPresent();
+				return value != null ? new NotFilter(equalTo(part, attribute, value.toString()))
+						: new PresentFilter(attribute);
 			case SIMPLE_PROPERTY:
-				return value != null ? criteria.is(value.toString()) : criteria.not().isPresent();
+				return value != null ? equalTo(part, attribute, value.toString())
+						: new NotFilter(new PresentFilter(attribute));
+			case IN:
+				return in(part, attribute, value);
+			case NOT_IN:
+				return not(in(part, attribute, value));
 			case STARTING_WITH:
-				return criteria.like(value + "*");
+				return new LikeFilter(attribute, value + "*");
 			case ENDING_WITH:
-				return criteria.like("*" + value);
+				return substring(attribute, "*" + value);
 			case CONTAINING:
-				return criteria.like("*" + value + "*");
+				return substring(attribute, "*" + value + "*");
 			case LIKE:
-				return criteria.like(ObjectUtils.nullSafeToString(value));
+				return substring(attribute, ObjectUtils.nullSafeToString(value));
 			case NOT_LIKE:
-				return criteria.not().like(ObjectUtils.nullSafeToString(value));
+				return new NotFilter(substring(attribute, ObjectUtils.nullSafeToString(value)));
 			case GREATER_THAN_EQUAL:
-				return criteria.gte(ObjectUtils.nullSafeToString(value));
+				return new GreaterThanOrEqualsFilter(attribute, ObjectUtils.nullSafeToString(value));
 			case LESS_THAN_EQUAL:
-				return criteria.lte(ObjectUtils.nullSafeToString(value));
-			case IS_NOT_NULL:
-				return criteria.isPresent();
-			case IS_NULL:
-				return criteria.not().isPresent();
+				return new LessThanOrEqualsFilter(attribute, ObjectUtils.nullSafeToString(value));
+			case GREATER_THAN:
+			case AFTER:
+				return new Conjunction().and(new GreaterThanOrEqualsFilter(attribute, toComparableString(value)), false)
+						.and(new NotFilter(new EqualsFilter(attribute, toComparableString(value))), false);
+			case LESS_THAN:
+			case BEFORE:
+				return new Conjunction().and(new LessThanOrEqualsFilter(attribute, toComparableString(value)), false)
+						.and(new NotFilter(new EqualsFilter(attribute, toComparableString(value))), false);
 			default:
 				throw new IllegalArgumentException(String.format("%s queries are not supported for LDAP repositories", type));
 		}
 	}
 
+	/**
+	 * Create a substring filter for the given {@code pattern} applying the {@link UnindexedSearchPolicy} if the pattern
+	 * starts with a wildcard.
+	 */
+	private Filter substring(String attribute, String pattern) {
+
+		if (pattern.startsWith("*")) {
+			indexedAttributes.checkLeadingWildcard(attribute, pattern);
+		}
+
+		return new LikeFilter(attribute, pattern);
+	}
+
+	/**
+	 * Create an equality filter for the given {@code value}. Considers {@link Part#shouldIgnoreCase()} by using the
+	 * {@code caseIgnoreMatch} matching rule through an extensible match filter.
+	 */
+	private Filter equalTo(Part part, String attribute, String value) {
+		return new EqualsFilter(ignoreCase(part) ? attribute + ":caseIgnoreMatch:" : attribute, value);
+	}
+
+	/**
+	 * Create a disjunction of equality filters for all (distinct) values. Matches no entry if {@code value} is empty.
+	 */
+	private Filter in(Part part, String attribute, @Nullable Object value) {
+
+		Set<Filter> filters = new LinkedHashSet<>();
+
+		for (Object element : asCollection(value)) {
+			filters.add(
+					element != null ? equalTo(part, attribute, toComparableString(element))
+							: new NotFilter(new PresentFilter(attribute)));
+		}
+
+		if (filters.isEmpty()) {
+			return FALSE;
+		}
+
+		if (filters.size() == 1) {
+			return filters.iterator().next();
+		}
+
+		OrFilter or = new OrFilter();
+		or.appendAll(filters);
+		return or;
+	}
+
+	private static Filter not(Filter filter) {
+
+		if (filter == FALSE) {
+			return TRUE;
+		}
+
+		return new NotFilter(filter);
+	}
+
+	private static boolean ignoreCase(Part part) {
+
+		switch (part.shouldIgnoreCase()) {
+			case ALWAYS:
+				Assert.isTrue(isString(part.getProperty()),
+						() -> String.format("Unable to ignore case of %s types, the property '%s' must reference a String",
+								part.getProperty().getType().getName(), part.getProperty().getSegment()));
+				return true;
+			case WHEN_POSSIBLE:
+				return isString(part.getProperty());
+			default:
+				return false;
+		}
+	}
+
+	private static boolean isString(PropertyPath path) {
+		return CharSequence.class.isAssignableFrom(path.getType());
+	}
+
+	private static @Nullable Object nextValue(Iterator<Object> iterator) {
+		return iterator.hasNext() ? iterator.next() : null;
+	}
+
+	/**
+	 * Render a value of {@code In}, {@code NotIn}, {@code Between}, {@code GreaterThan}, {@code LessThan},
+	 * {@code After} and {@code Before} conditions in its LDAP string representation. Dates and instants are rendered
+	 * using the {@code GeneralizedTime} syntax in UTC. Other conditions render values using {@link Object#toString()}
+	 * to retain their behavior of previous versions.
+	 */
+	static String toComparableString(@Nullable Object value) {
+
+		if (value instanceof Date date) {
+			return GENERALIZED_TIME.format(date.toInstant());
+		}
+
+		if (value instanceof Instant || value instanceof OffsetDateTime || value instanceof ZonedDateTime) {
+			return GENERALIZED_TIME.format((TemporalAccessor) value);
+		}
+
+		return ObjectUtils.nullSafeToString(value);
+	}
+
+	/**
+	 * Obtain the values of a collection-like {@code IN} parameter.
+	 *
+	 * @param value a {@link Collection}, an array or a single value.
+	 * @return the values as collection.
+	 */
+	static Collection<?> asCollection(@Nullable Object value) {
+
+		if (value instanceof Collection<?> collection) {
+			return collection;
+		}
+
+		if (value != null && value.getClass().isArray()) {
+			return Arrays.asList(ObjectUtils.toObjectArray(value));
+		}
+
+		return Collections.singletonList(value);
+	}
+
+	private boolean isIndexedEquality(Part part) {
+
+		switch (part.getType()) {
+			case SIMPLE_PROPERTY:
+			case IN:
+			case TRUE:
+			case FALSE:
+				return indexedAttributes.isIndexed(getAttribute(part));
+			default:
+				return false;
+		}
+	}
+
 	private String getAttribute(Part part) {
 
 		PropertyPath path = part.getProperty();
@@ -139,20 +326,105 @@ class LdapQueryCreator extends AbstractQueryCreator<LdapQuery, ContainerCriteria
 	}
 
 	@Override
-	protected ContainerCriteria and(Part part, ContainerCriteria base, Iterator<Object> iterator) {
+	protected Filter and(Part part, Filter base, Iterator<Object> iterator) {
 
-		ConditionCriteria criteria = base.and(getAttribute(part));
-		return appendCondition(part, iterator, criteria);
+		return ((Conjunction) base).and(createFilter(part, iterator), isIndexedEquality(part));
 	}
 
 	@Override
-	protected ContainerCriteria or(ContainerCriteria base, ContainerCriteria criteria) {
-		return base.or(criteria);
+	protected Filter or(Filter base, Filter criteria) {
+
+		Filter filter = Conjunction.complete(base);
+
+		if (filter instanceof OrFilter or) {
+			return or.or(Conjunction.complete(criteria));
+		}
+
+		return new OrFilter().or(filter).or(Conjunction.complete(criteria));
 	}
 
 	@Override
-	protected LdapQuery complete(@Nullable ContainerCriteria criteria, Sort sort) {
-		return criteria == null ? LdapQueryBuilder.query() : criteria;
+	protected LdapQuery complete(@Nullable Filter criteria, Sort sort) {
+
+		if (criteria == null) {
+			return LdapQueryBuilder.query();
+		}
+
+		Entry entry = AnnotatedElementUtils.findMergedAnnotation(entityType, Entry.class);
+
+		LdapQueryBuilder query = LdapQueryBuilder.query();
+
+		if (entry != null) {
+			query = query.base(entry.base());
+		}
+
+		if (!inputProperties.isEmpty()) {
+			query.attributes(
+					inputProperties.stream().map(prop -> mapper.attributeFor(entityType, prop)).toArray(String[]::new));
+		}
+
+		return query.filter(Conjunction.complete(criteria));
+	}
+
+	/**
+	 * Conjunction under construction keeping equality terms on indexed attributes ahead of all other terms. Must be
+	 * {@link #complete(Filter) completed} into a regular {@link Filter} before leaving the query creator.
+	 */
+	private static class Conjunction extends AbstractFilter {
+
+		private final List<Filter> leading = new ArrayList<>();
+		private final List<Filter> trailing = new ArrayList<>();
+
+		/**
+		 * Add a term to this conjunction. Terms of a nested {@link Conjunction} are added to this conjunction.
+		 *
+		 * @param filter the term to add.
+		 * @param lead whether to add the term ahead of all terms that were not added as leading term.
+		 * @return {@code this} conjunction.
+		 */
+		Conjunction and(Filter filter, boolean lead) {
+
+			if (filter instanceof Conjunction nested) {
+				leading.addAll(nested.leading);
+				trailing.addAll(nested.trailing);
+			} else {
+				(lead ? leading : trailing).add(filter);
+			}
+
+			return this;
+		}
+
+		static Filter complete(Filter filter) {
+			return filter instanceof Conjunction conjunction ? conjunction.toFilter() : filter;
+		}
+
+		Filter toFilter() {
+
+			if (leading.size() + trailing.size() == 1) {
+				return leading.isEmpty() ? trailing.get(0) : leading.get(0);
+			}
+
+			AndFilter and = new AndFilter();
+			leading.forEach(and::and);
+			trailing.forEach(and::and);
+			return and;
+		}
+
+		@Override
+		public StringBuffer encode(StringBuffer buff) {
+			return toFilter().encode(buff);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Conjunction that && toFilter().equals(that.toFilter());
+		}
+
+		@Override
+		public int hashCode() {
+			return toFilter().hashCode();
+		}
+
 	}
 
 }
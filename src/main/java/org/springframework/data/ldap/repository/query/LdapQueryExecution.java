@@ -15,10 +15,20 @@
  */
 package org.springframework.data.ldap.repository.query;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import javax.naming.Name;
+
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.data.convert.DtoInstantiatingConverter;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
@@ -27,6 +37,7 @@ import org.springframework.data.mapping.model.EntityInstantiators;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.ldap.core.LdapOperations;
+import org.springframework.ldap.odm.core.ObjectDirectoryMapper;
 import org.springframework.ldap.query.LdapQuery;
 import org.springframework.util.ClassUtils;
 
@@ -52,15 +63,24 @@ interface LdapQueryExecution {
 	final class FindOneExecution implements LdapQueryExecution {
 
 		private final LdapOperations operations;
+		private final ObjectDirectoryMapper odm;
 		private final Class<?> entityType;
 
-		FindOneExecution(LdapOperations operations, Class<?> entityType) {
+		FindOneExecution(LdapOperations operations, ObjectDirectoryMapper odm, Class<?> entityType) {
 			this.operations = operations;
+			this.odm = odm;
 			this.entityType = entityType;
 		}
 
 		@Override
 		public @Nullable Object execute(LdapQuery query) {
+
+			if (odm != operations.getObjectDirectoryMapper()) {
+
+				return DataAccessUtils.singleResult(
+						ResultSizeLimit.unlimited().find(operations, odm, query, entityType, ResultMapping.sequential()));
+			}
+
 			try {
 				return operations.findOne(query, entityType);
 			} catch (EmptyResultDataAccessException e) {
@@ -78,16 +98,27 @@ interface LdapQueryExecution {
 	final class CollectionExecution implements LdapQueryExecution {
 
 		private final LdapOperations operations;
+		private final ObjectDirectoryMapper odm;
 		private final Class<?> entityType;
+		private final ResultSizeLimit resultSizeLimit;
+		private final ResultMapping resultMapping;
+
+		CollectionExecution(LdapOperations operations, ObjectDirectoryMapper odm, Class<?> entityType) {
+			this(operations, odm, entityType, ResultSizeLimit.unlimited(), ResultMapping.sequential());
+		}
 
-		CollectionExecution(LdapOperations operations, Class<?> entityType) {
+		CollectionExecution(LdapOperations operations, ObjectDirectoryMapper odm, Class<?> entityType,
+				ResultSizeLimit resultSizeLimit, ResultMapping resultMapping) {
 			this.operations = operations;
+			this.odm = odm;
 			this.entityType = entityType;
+			this.resultSizeLimit = resultSizeLimit;
+			this.resultMapping = resultMapping;
 		}
 
 		@Override
 		public Object execute(LdapQuery query) {
-			return operations.find(query, entityType);
+			return resultSizeLimit.find(operations, odm, query, entityType, resultMapping);
 		}
 
 	}
@@ -100,18 +131,80 @@ interface LdapQueryExecution {
 	final class StreamExecution implements LdapQueryExecution {
 
 		private final LdapOperations operations;
+		private final ObjectDirectoryMapper odm;
 		private final Class<?> entityType;
 		private final Converter<Object, Object> resultProcessing;
 
-		StreamExecution(LdapOperations operations, Class<?> entityType, Converter<Object, Object> resultProcessing) {
+		StreamExecution(LdapOperations operations, ObjectDirectoryMapper odm, Class<?> entityType,
+				Converter<Object, Object> resultProcessing) {
 			this.operations = operations;
+			this.odm = odm;
 			this.entityType = entityType;
 			this.resultProcessing = resultProcessing;
 		}
 
 		@Override
 		public Object execute(LdapQuery query) {
-			return operations.find(query, entityType).stream().map(resultProcessing::convert);
+			return ResultSizeLimit.unlimited().find(operations, odm, query, entityType, ResultMapping.sequential()).stream()
+					.map(resultProcessing::convert);
+		}
+
+	}
+
+	/**
+	 * {@link LdapQueryExecution} running multiple queries and merging their results into a list. Results are
+	 * de-duplicated by their distinguished name and truncated to the count limit of the query passed to
+	 * {@link #execute(LdapQuery)}. The {@link ResultSizeLimit} applies to each query and to the merged results.
+	 */
+	final class MergingExecution implements LdapQueryExecution {
+
+		private final LdapOperations operations;
+		private final ObjectDirectoryMapper odm;
+		private final Class<?> entityType;
+		private final List<LdapQuery> queries;
+		private final Executor executor;
+		private final ResultSizeLimit resultSizeLimit;
+		private final ResultMapping resultMapping;
+
+		MergingExecution(LdapOperations operations, ObjectDirectoryMapper odm, Class<?> entityType,
+				List<LdapQuery> queries, Executor executor) {
+			this(operations, odm, entityType, queries, executor, ResultSizeLimit.unlimited(), ResultMapping.sequential());
+		}
+
+		MergingExecution(LdapOperations operations, ObjectDirectoryMapper odm, Class<?> entityType,
+				List<LdapQuery> queries, Executor executor, ResultSizeLimit resultSizeLimit, ResultMapping resultMapping) {
+			this.operations = operations;
+			this.odm = odm;
+			this.entityType = entityType;
+			this.queries = queries;
+			this.executor = executor;
+			this.resultSizeLimit = resultSizeLimit;
+			this.resultMapping = resultMapping;
+		}
+
+		@Override
+		public List<Object> execute(LdapQuery query) {
+
+			List<CompletableFuture<List<?>>> futures = new ArrayList<>(queries.size());
+
+			for (LdapQuery chunk : queries) {
+				futures.add(CompletableFuture
+						.supplyAsync(() -> resultSizeLimit.find(operations, odm, chunk, entityType, resultMapping), executor));
+			}
+
+			Map<Name, Object> results = new LinkedHashMap<>();
+
+			for (CompletableFuture<List<?>> future : futures) {
+				for (Object result : FanOutFutures.join(future, futures)) {
+					results.putIfAbsent(odm.getId(result), result);
+				}
+			}
+
+			List<Object> merged = new ArrayList<>(results.values());
+			Integer limit = query.countLimit();
+
+			return resultSizeLimit.verify(
+					limit != null && limit > 0 && merged.size() > limit ? merged.subList(0, limit) : merged, entityType);
 		}
 
 	}
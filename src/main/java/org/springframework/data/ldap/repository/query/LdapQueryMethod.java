@@ -19,8 +19,10 @@ import java.lang.reflect.Method;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.ldap.repository.Query;
+import org.springframework.data.ldap.repository.SearchLimit;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.QueryMethod;
@@ -35,6 +37,7 @@ import org.springframework.data.repository.query.QueryMethod;
 public class LdapQueryMethod extends QueryMethod {
 
 	private final Method method;
+	private final Class<?> repositoryInterface;
 
 	/**
 	 * Creates a new LdapQueryMethod from the given parameters.
@@ -46,6 +49,7 @@ public class LdapQueryMethod extends QueryMethod {
 
 		super(method, metadata, factory, LdapParameters::new);
 		this.method = method;
+		this.repositoryInterface = metadata.getRepositoryInterface();
 	}
 
 	@Override
@@ -53,6 +57,16 @@ public class LdapQueryMethod extends QueryMethod {
 		return (LdapParameters) super.getParameters();
 	}
 
+	/**
+	 * Returns the repository interface declaring this query method.
+	 *
+	 * @return the repository interface.
+	 * @since 4.2
+	 */
+	public Class<?> getRepositoryInterface() {
+		return repositoryInterface;
+	}
+
 	/**
 	 * Check whether the target method is annotated with {@link org.springframework.data.ldap.repository.Query}.
 	 *
@@ -74,6 +88,21 @@ public class LdapQueryMethod extends QueryMethod {
 		return AnnotationUtils.getAnnotation(method, Query.class);
 	}
 
+	/**
+	 * Get the {@link SearchLimit} annotation of the target method or, if absent, of the repository interface.
+	 *
+	 * @return the {@link SearchLimit} annotation if present, or {@literal null} otherwise.
+	 * @since 4.2
+	 */
+	@Nullable
+	SearchLimit getSearchLimitAnnotation() {
+
+		SearchLimit searchLimit = AnnotatedElementUtils.findMergedAnnotation(method, SearchLimit.class);
+
+		return searchLimit != null ? searchLimit
+				: AnnotatedElementUtils.findMergedAnnotation(repositoryInterface, SearchLimit.class);
+	}
+
 	/**
 	 * Get the required {@link org.springframework.data.ldap.repository.Query} annotation of the target method.
 	 *
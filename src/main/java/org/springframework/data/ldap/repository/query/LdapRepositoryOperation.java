@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.query;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.ldap.query.LdapQuery;
+import org.springframework.util.Assert;
+
+/**
+ * Value object describing a single LDAP repository operation, either a query method execution or the invocation of a
+ * repository base method such as {@code findById} or {@code save}.
+ *
+ * @param repositoryInterface the repository interface, must not be {@literal null}.
+ * @param domainType the domain type managed by the repository, must not be {@literal null}.
+ * @param methodName name of the invoked repository method, must not be {@literal null}.
+ * @param executionType the kind of execution, must not be {@literal null}.
+ * @param query the bound {@link LdapQuery} if available, can be {@literal null}.
+ * @since 4.2
+ * @see LdapRepositoryOperationInterceptor
+ */
+public record LdapRepositoryOperation(Class<?> repositoryInterface, Class<?> domainType, String methodName,
+		ExecutionType executionType, @Nullable LdapQuery query) {
+
+	public LdapRepositoryOperation {
+
+		Assert.notNull(repositoryInterface, "Repository interface must not be null");
+		Assert.notNull(domainType, "Domain type must not be null");
+		Assert.hasText(methodName, "Method name must not be empty");
+		Assert.notNull(executionType, "ExecutionType must not be null");
+	}
+
+	/**
+	 * Determine the number of entries contained in the given operation {@code result}.
+	 *
+	 * @param result the operation result, can be {@literal null}.
+	 * @return the number of returned entries or {@literal null} if the result size cannot be determined (e.g. for
+	 *         streams, counts and write operations).
+	 */
+	public @Nullable Integer getResultSize(@Nullable Object result) {
+
+		return switch (executionType) {
+			case ONE -> result == null || (result instanceof Optional<?> o && o.isEmpty()) ? 0 : 1;
+			case COLLECTION -> getCollectionSize(result);
+			default -> null;
+		};
+	}
+
+	private static @Nullable Integer getCollectionSize(@Nullable Object result) {
+
+		if (result == null) {
+			return 0;
+		}
+
+		if (result instanceof Collection<?> collection) {
+			return collection.size();
+		}
+
+		if (result instanceof Map<?, ?> map) {
+			return map.size();
+		}
+
+		if (result instanceof Slice<?> slice) {
+			return slice.getNumberOfElements();
+		}
+
+		return null;
+	}
+
+	/**
+	 * Kind of repository operation.
+	 */
+	public enum ExecutionType {
+
+		/**
+		 * Lookup of a single entry.
+		 */
+		ONE,
+
+		/**
+		 * Lookup of multiple entries returned as collection.
+		 */
+		COLLECTION,
+
+		/**
+		 * Lookup of multiple entries returned as {@link java.util.stream.Stream}.
+		 */
+		STREAM,
+
+		/**
+		 * Count of matching entries.
+		 */
+		COUNT,
+
+		/**
+		 * Existence check.
+		 */
+		EXISTS,
+
+		/**
+		 * Creation or update of entries.
+		 */
+		SAVE,
+
+		/**
+		 * Removal of entries.
+		 */
+		DELETE
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.query;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Callback interface to intercept LDAP repository operations. Interceptors are applied to query method executions (after
+ * the {@link org.springframework.ldap.query.LdapQuery} has been bound) and to invocations of repository base methods
+ * and Querydsl methods.
+ * <p>
+ * Implementations must call {@link Invocation#proceed()} to continue with the actual operation and return its result.
+ *
+ * @since 4.2
+ * @see LdapRepositoryOperation
+ */
+@FunctionalInterface
+public interface LdapRepositoryOperationInterceptor {
+
+	/**
+	 * Intercept the given {@link LdapRepositoryOperation}.
+	 *
+	 * @param operation the operation to run, must not be {@literal null}.
+	 * @param invocation the actual invocation, must not be {@literal null}.
+	 * @return the result of the operation, can be {@literal null}.
+	 */
+	@Nullable
+	Object intercept(LdapRepositoryOperation operation, Invocation invocation);
+
+	/**
+	 * Return an {@link LdapRepositoryOperationInterceptor} that proceeds without further action.
+	 *
+	 * @return a no-op {@link LdapRepositoryOperationInterceptor}.
+	 */
+	static LdapRepositoryOperationInterceptor none() {
+		return (operation, invocation) -> invocation.proceed();
+	}
+
+	/**
+	 * Compose the given {@code interceptors} into a single {@link LdapRepositoryOperationInterceptor}. Interceptors are
+	 * applied in the order of the list, the first interceptor being the outermost one.
+	 *
+	 * @param interceptors must not be {@literal null}.
+	 * @return the composed {@link LdapRepositoryOperationInterceptor}.
+	 */
+	static LdapRepositoryOperationInterceptor composite(List<? extends LdapRepositoryOperationInterceptor> interceptors) {
+
+		Assert.notNull(interceptors, "Interceptors must not be null");
+
+		if (interceptors.isEmpty()) {
+			return none();
+		}
+
+		if (interceptors.size() == 1) {
+			return interceptors.get(0);
+		}
+
+		List<LdapRepositoryOperationInterceptor> chain = List.copyOf(interceptors);
+
+		return (operation, invocation) -> proceed(chain, 0, operation, invocation);
+	}
+
+	private static @Nullable Object proceed(List<LdapRepositoryOperationInterceptor> chain, int index,
+			LdapRepositoryOperation operation, Invocation invocation) {
+
+		if (index == chain.size()) {
+			return invocation.proceed();
+		}
+
+		return chain.get(index).intercept(operation, () -> proceed(chain, index + 1, operation, invocation));
+	}
+
+	/**
+	 * Callback to continue with the intercepted operation.
+	 */
+	@FunctionalInterface
+	interface Invocation {
+
+		/**
+		 * Proceed with the operation.
+		 *
+		 * @return the operation result, can be {@literal null}.
+		 */
+		@Nullable
+		Object proceed();
+
+	}
+
+}
@@ -15,8 +15,12 @@
  */
 package org.springframework.data.ldap.repository.query;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.function.Function;
 
 import org.springframework.data.domain.Limit;
 import org.springframework.data.mapping.PersistentEntity;
@@ -24,12 +28,16 @@ import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.EntityInstantiators;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.Parameters;
+import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.ldap.core.LdapOperations;
 import org.springframework.ldap.odm.core.ObjectDirectoryMapper;
 import org.springframework.ldap.query.LdapQuery;
 import org.springframework.ldap.query.LdapQueryBuilder;
+import org.springframework.util.Assert;
 
 /**
  * {@link RepositoryQuery} implementation for LDAP.
@@ -41,6 +49,7 @@ public class PartTreeLdapRepositoryQuery extends AbstractLdapRepositoryQuery {
 
 	private final PartTree partTree;
 	private final ObjectDirectoryMapper objectDirectoryMapper;
+	private int inClauseChunkSize = 0;
 
 	/**
 	 * Creates a new {@link PartTreeLdapRepositoryQuery}.
@@ -61,6 +70,21 @@ public class PartTreeLdapRepositoryQuery extends AbstractLdapRepositoryQuery {
 		objectDirectoryMapper = ldapOperations.getObjectDirectoryMapper();
 	}
 
+	/**
+	 * Configure the maximum number of values per {@code In} condition. Queries using an {@code In} condition with more
+	 * values are split into multiple queries. Zero (default) disables splitting.
+	 *
+	 * @param inClauseChunkSize maximum number of {@code In} values per query, must not be negative.
+	 * @since 4.2
+	 * @see #setExecutor(java.util.concurrent.Executor)
+	 */
+	public void setInClauseChunkSize(int inClauseChunkSize) {
+
+		Assert.isTrue(inClauseChunkSize >= 0, "IN clause chunk size must not be negative");
+
+		this.inClauseChunkSize = inClauseChunkSize;
+	}
+
 	@Override
 	protected LdapQuery createQuery(LdapParameterAccessor parameters) {
 
@@ -73,7 +97,7 @@ public class PartTreeLdapRepositoryQuery extends AbstractLdapRepositoryQuery {
 		}
 
 		org.springframework.data.ldap.repository.query.LdapQueryCreator queryCreator = new LdapQueryCreator(partTree,
-				getEntityClass(), objectDirectoryMapper, parameters, inputProperties);
+				getEntityClass(), objectDirectoryMapper, parameters, inputProperties, getIndexedAttributes());
 
 		LdapQuery query = queryCreator.createQuery();
 
@@ -97,4 +121,77 @@ public class PartTreeLdapRepositoryQuery extends AbstractLdapRepositoryQuery {
 		return query;
 	}
 
+	/**
+	 * Split the query if it contains an {@code In} condition exceeding {@link #setInClauseChunkSize(int) the chunk
+	 * size}. The largest {@code In} condition is split into chunks of distinct values.
+	 */
+	@Override
+	protected List<LdapQuery> splitQuery(LdapQuery query, LdapParameterAccessor parameters) {
+
+		if (inClauseChunkSize <= 0) {
+			return List.of(query);
+		}
+
+		List<Integer> inParameters = new ArrayList<>();
+		int bindableIndex = 0;
+
+		for (Part part : partTree.getParts()) {
+
+			if (part.getType() == Part.Type.IN) {
+				inParameters.add(bindableIndex);
+			}
+
+			bindableIndex += part.getNumberOfArguments();
+		}
+
+		return splitInClause(getQueryMethod(), query, parameters, inParameters, inClauseChunkSize, this::createQuery);
+	}
+
+	/**
+	 * Split {@code query} by the largest collection-like parameter of the given {@code IN} parameters exceeding
+	 * {@code chunkSize} into queries created for chunks of its distinct values.
+	 *
+	 * @param queryMethod must not be {@literal null}.
+	 * @param query the query created for {@code parameters}.
+	 * @param parameters must not be {@literal null}.
+	 * @param inParameters bindable parameter indexes of {@code In} conditions.
+	 * @param chunkSize maximum number of {@code In} values per query.
+	 * @param queryCreator function to create a query for the given parameters.
+	 * @return the split queries or a singleton list containing {@code query} if no parameter exceeds the chunk size.
+	 */
+	static List<LdapQuery> splitInClause(QueryMethod queryMethod, LdapQuery query, LdapParameterAccessor parameters,
+			Iterable<Integer> inParameters, int chunkSize, Function<LdapParameterAccessor, LdapQuery> queryCreator) {
+
+		Parameters<?, ?> bindableParameters = queryMethod.getParameters().getBindableParameters();
+		int parameterIndex = -1;
+		Collection<?> largest = Collections.emptyList();
+
+		for (int bindableIndex : inParameters) {
+
+			Collection<?> values = LdapQueryCreator.asCollection(parameters.getBindableValue(bindableIndex));
+
+			if (values.size() > Math.max(chunkSize, largest.size())) {
+				parameterIndex = bindableParameters.getParameter(bindableIndex).getIndex();
+				largest = values;
+			}
+		}
+
+		if (parameterIndex == -1) {
+			return List.of(query);
+		}
+
+		List<?> values = new ArrayList<>(new LinkedHashSet<>(largest));
+		List<LdapQuery> queries = new ArrayList<>(values.size() / chunkSize + 1);
+
+		for (int i = 0; i < values.size(); i += chunkSize) {
+
+			Object[] chunkParameters = parameters.getValues().clone();
+			chunkParameters[parameterIndex] = new ArrayList<>(values.subList(i, Math.min(values.size(), i + chunkSize)));
+
+			queries.add(queryCreator.apply(new LdapParametersParameterAccessor(queryMethod, chunkParameters)));
+		}
+
+		return queries;
+	}
+
 }
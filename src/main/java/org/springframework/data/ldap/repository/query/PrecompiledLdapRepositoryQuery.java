@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.query;
+
+import java.util.List;
+
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mapping.model.EntityInstantiators;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.ldap.core.LdapOperations;
+import org.springframework.ldap.query.LdapQuery;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RepositoryQuery} implementation for LDAP using a {@link QueryFunction} that was generated ahead of time
+ * instead of deriving the query from the method name or parsing a {@link org.springframework.data.ldap.repository.Query
+ * string-based query} at runtime.
+ *
+ * @since 4.2
+ */
+public class PrecompiledLdapRepositoryQuery extends AbstractLdapRepositoryQuery {
+
+	private final LdapQueryMethod queryMethod;
+	private final QueryFunction queryFunction;
+	private int inClauseChunkSize = 0;
+
+	/**
+	 * Creates a new {@link PrecompiledLdapRepositoryQuery}.
+	 *
+	 * @param queryMethod must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @param ldapOperations must not be {@literal null}.
+	 * @param mappingContext must not be {@literal null}.
+	 * @param instantiators must not be {@literal null}.
+	 * @param queryFunction must not be {@literal null}.
+	 */
+	public PrecompiledLdapRepositoryQuery(LdapQueryMethod queryMethod, Class<?> entityType,
+			LdapOperations ldapOperations,
+			MappingContext<? extends PersistentEntity<?, ?>, ? extends PersistentProperty<?>> mappingContext,
+			EntityInstantiators instantiators, QueryFunction queryFunction) {
+
+		super(queryMethod, entityType, ldapOperations, mappingContext, instantiators);
+
+		Assert.notNull(queryFunction, "QueryFunction must not be null");
+
+		this.queryMethod = queryMethod;
+		this.queryFunction = queryFunction;
+	}
+
+	/**
+	 * Configure the maximum number of values per {@code In} condition. Queries using an {@code In} condition with more
+	 * values are split into multiple queries. Zero (default) disables splitting.
+	 *
+	 * @param inClauseChunkSize maximum number of {@code In} values per query, must not be negative.
+	 * @see #setExecutor(java.util.concurrent.Executor)
+	 */
+	public void setInClauseChunkSize(int inClauseChunkSize) {
+
+		Assert.isTrue(inClauseChunkSize >= 0, "IN clause chunk size must not be negative");
+
+		this.inClauseChunkSize = inClauseChunkSize;
+	}
+
+	@Override
+	protected LdapQuery createQuery(LdapParameterAccessor parameters) {
+		return queryFunction.createQuery(parameters, createFilters(parameters));
+	}
+
+	@Override
+	protected List<LdapQuery> splitQuery(LdapQuery query, LdapParameterAccessor parameters) {
+
+		if (inClauseChunkSize <= 0) {
+			return List.of(query);
+		}
+
+		QueryFilters filters = createFilters(parameters);
+		queryFunction.createQuery(parameters, filters);
+
+		return PartTreeLdapRepositoryQuery.splitInClause(queryMethod, query, parameters, filters.getInParameters(),
+				inClauseChunkSize, this::createQuery);
+	}
+
+	private QueryFilters createFilters(LdapParameterAccessor parameters) {
+		return new QueryFilters(getIndexedAttributes(), queryMethod.getParameters(), parameters);
+	}
+
+	/**
+	 * Function creating the {@link LdapQuery} of a query method invocation.
+	 */
+	@FunctionalInterface
+	public interface QueryFunction {
+
+		/**
+		 * Create the {@link LdapQuery} for the given {@code parameters}.
+		 *
+		 * @param parameters the parameters of the query method invocation.
+		 * @param filters factory for filter terms bound to {@code parameters}.
+		 * @return the query to run.
+		 */
+		LdapQuery createQuery(LdapParameterAccessor parameters, QueryFilters filters);
+
+	}
+
+}
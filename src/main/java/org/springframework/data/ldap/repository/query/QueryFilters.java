@@ -0,0 +1,289 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.query;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.ldap.repository.LdapEncoder;
+import org.springframework.ldap.filter.AndFilter;
+import org.springframework.ldap.filter.EqualsFilter;
+import org.springframework.ldap.filter.Filter;
+import org.springframework.ldap.filter.GreaterThanOrEqualsFilter;
+import org.springframework.ldap.filter.LessThanOrEqualsFilter;
+import org.springframework.ldap.filter.LikeFilter;
+import org.springframework.ldap.filter.NotFilter;
+import org.springframework.ldap.filter.OrFilter;
+import org.springframework.ldap.filter.PresentFilter;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Factory for the filter terms of {@link PrecompiledLdapRepositoryQuery precompiled query methods}. Terms are created
+ * from bindable parameter values of the current invocation with the same semantics as derived query methods, and
+ * parameters of string-based queries are encoded as declared by their
+ * {@link org.springframework.data.ldap.repository.LdapEncode} annotation.
+ * <p>
+ * Intended to be used by query methods generated ahead of time; not meant to be used directly by application code.
+ *
+ * @since 4.2
+ */
+public final class QueryFilters {
+
+	private static final Filter TRUE = new PresentFilter("objectclass");
+	private static final Filter FALSE = new NotFilter(TRUE);
+	private static final LdapEncoder FILTER_ENCODER = new LdapEncoder.FilterEncoder();
+
+	private final IndexedAttributes indexedAttributes;
+	private final LdapParameters parameters;
+	private final LdapParameterAccessor accessor;
+	private final List<Integer> inParameters = new ArrayList<>(1);
+
+	QueryFilters(IndexedAttributes indexedAttributes, LdapParameters parameters, LdapParameterAccessor accessor) {
+
+		this.indexedAttributes = indexedAttributes;
+		this.parameters = parameters;
+		this.accessor = accessor;
+	}
+
+	public Filter isTrue(String attribute) {
+		return new EqualsFilter(attribute, "TRUE");
+	}
+
+	public Filter isFalse(String attribute) {
+		return new EqualsFilter(attribute, "FALSE");
+	}
+
+	public Filter isNotNull(String attribute) {
+		return new PresentFilter(attribute);
+	}
+
+	public Filter isNull(String attribute) {
+		return new NotFilter(new PresentFilter(attribute));
+	}
+
+	/**
+	 * Create an equality term for the bindable parameter at {@code index}. Matches entries without {@code attribute}
+	 * if the parameter value is {@literal null}.
+	 */
+	public Filter equalTo(String attribute, int index, boolean ignoreCase) {
+
+		Object value = accessor.getBindableValue(index);
+		return value != null ? equalTo(attribute, value.toString(), ignoreCase) : isNull(attribute);
+	}
+
+	public Filter notEqualTo(String attribute, int index, boolean ignoreCase) {
+
+		Object value = accessor.getBindableValue(index);
+		return value != null ? new NotFilter(equalTo(attribute, value.toString(), ignoreCase)) : isNotNull(attribute);
+	}
+
+	/**
+	 * Create a disjunction of equality terms for all distinct values of the collection-like bindable parameter at
+	 * {@code index}. Matches no entry if the parameter is empty.
+	 */
+	public Filter in(String attribute, int index, boolean ignoreCase) {
+
+		inParameters.add(index);
+
+		Set<Filter> filters = new LinkedHashSet<>();
+
+		for (Object element : LdapQueryCreator.asCollection(accessor.getBindableValue(index))) {
+			filters.add(element != null ? equalTo(attribute, LdapQueryCreator.toComparableString(element), ignoreCase)
+					: isNull(attribute));
+		}
+
+		if (filters.isEmpty()) {
+			return FALSE;
+		}
+
+		if (filters.size() == 1) {
+			return filters.iterator().next();
+		}
+
+		OrFilter or = new OrFilter();
+		or.appendAll(filters);
+		return or;
+	}
+
+	public Filter notIn(String attribute, int index, boolean ignoreCase) {
+
+		Filter in = in(attribute, index, ignoreCase);
+		inParameters.remove(inParameters.size() - 1);
+
+		return in == FALSE ? TRUE : new NotFilter(in);
+	}
+
+	public Filter startingWith(String attribute, int index) {
+		return new LikeFilter(attribute, accessor.getBindableValue(index) + "*");
+	}
+
+	public Filter endingWith(String attribute, int index) {
+		return substring(attribute, "*" + accessor.getBindableValue(index));
+	}
+
+	public Filter containing(String attribute, int index) {
+		return substring(attribute, "*" + accessor.getBindableValue(index) + "*");
+	}
+
+	public Filter like(String attribute, int index) {
+		return substring(attribute, ObjectUtils.nullSafeToString(accessor.getBindableValue(index)));
+	}
+
+	public Filter notLike(String attribute, int index) {
+		return new NotFilter(like(attribute, index));
+	}
+
+	public Filter greaterThanOrEqualTo(String attribute, int index) {
+		return new GreaterThanOrEqualsFilter(attribute, ObjectUtils.nullSafeToString(accessor.getBindableValue(index)));
+	}
+
+	public Filter lessThanOrEqualTo(String attribute, int index) {
+		return new LessThanOrEqualsFilter(attribute, ObjectUtils.nullSafeToString(accessor.getBindableValue(index)));
+	}
+
+	public Filter greaterThan(String attribute, int index) {
+		return new Terms(new GreaterThanOrEqualsFilter(attribute, valueOf(index)),
+				new NotFilter(new EqualsFilter(attribute, valueOf(index))));
+	}
+
+	public Filter lessThan(String attribute, int index) {
+		return new Terms(new LessThanOrEqualsFilter(attribute, valueOf(index)),
+				new NotFilter(new EqualsFilter(attribute, valueOf(index))));
+	}
+
+	/**
+	 * Create a range term using the bindable parameters at {@code index} and {@code index + 1} as inclusive bounds.
+	 */
+	public Filter between(String attribute, int index) {
+		return new Terms(new GreaterThanOrEqualsFilter(attribute, valueOf(index)),
+				new LessThanOrEqualsFilter(attribute, valueOf(index + 1)));
+	}
+
+	/**
+	 * Create a conjunction of the given terms. Returns the term itself if only a single term is given.
+	 */
+	public Filter and(Filter... terms) {
+
+		List<Filter> filters = new ArrayList<>(terms.length + 1);
+
+		for (Filter term : terms) {
+			if (term instanceof Terms nested) {
+				filters.addAll(nested.terms);
+			} else {
+				filters.add(term);
+			}
+		}
+
+		if (filters.size() == 1) {
+			return filters.get(0);
+		}
+
+		AndFilter and = new AndFilter();
+		filters.forEach(and::and);
+		return and;
+	}
+
+	/**
+	 * Create a disjunction of the given conjunctions.
+	 */
+	public Filter or(Filter... conjunctions) {
+
+		Assert.notEmpty(conjunctions, "Conjunctions must not be empty");
+
+		Filter filter = conjunctions[0];
+
+		for (int i = 1; i < conjunctions.length; i++) {
+			filter = filter instanceof OrFilter or ? or.or(conjunctions[i]) : new OrFilter().or(filter).or(conjunctions[i]);
+		}
+
+		return filter;
+	}
+
+	/**
+	 * Encode the bindable parameter at {@code index} for use in a string-based filter using its
+	 * {@link LdapEncoder} or filter encoding by default.
+	 */
+	public String encode(int index) {
+
+		Object value = accessor.getBindableValue(index);
+
+		if (value == null) {
+			return "null";
+		}
+
+		StringBuilder target = new StringBuilder();
+		LdapParameters.LdapParameter parameter = parameters.getBindableParameter(index);
+
+		(parameter.hasLdapEncoder() ? parameter.getLdapEncoder() : FILTER_ENCODER)
+				.encode(value instanceof CharSequence cs ? cs : value.toString(), target);
+
+		return target.toString();
+	}
+
+	/**
+	 * Apply the {@link UnindexedSearchPolicy} to the given string-based {@code filter}.
+	 *
+	 * @return the given filter.
+	 */
+	public String checkFilter(String filter) {
+
+		indexedAttributes.checkFilter(filter);
+		return filter;
+	}
+
+	/**
+	 * @return bindable parameter indexes used by {@link #in(String, int, boolean) IN} terms.
+	 */
+	List<Integer> getInParameters() {
+		return inParameters;
+	}
+
+	private Filter equalTo(String attribute, String value, boolean ignoreCase) {
+		return new EqualsFilter(ignoreCase ? attribute + ":caseIgnoreMatch:" : attribute, value);
+	}
+
+	private Filter substring(String attribute, String pattern) {
+
+		if (pattern.startsWith("*")) {
+			indexedAttributes.checkLeadingWildcard(attribute, pattern);
+		}
+
+		return new LikeFilter(attribute, pattern);
+	}
+
+	private String valueOf(int index) {
+		return LdapQueryCreator.toComparableString(accessor.getBindableValue(index));
+	}
+
+	/**
+	 * Multiple terms of a single condition that are merged into an enclosing {@link #and(Filter...) conjunction}.
+	 */
+	private static class Terms extends AndFilter {
+
+		private final List<Filter> terms;
+
+		Terms(Filter... terms) {
+
+			this.terms = List.of(terms);
+			this.terms.forEach(this::and);
+		}
+
+	}
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.ldap.core.ContextMapper;
+import org.springframework.ldap.core.DirContextOperations;
+import org.springframework.ldap.core.LdapOperations;
+import org.springframework.ldap.odm.core.ObjectDirectoryMapper;
+import org.springframework.ldap.query.LdapQuery;
+import org.springframework.ldap.query.LdapQueryBuilder;
+import org.springframework.util.Assert;
+
+/**
+ * Strategy to map search results to entities. By default, entries are mapped in the thread reading search results.
+ * {@link #parallel(Executor, boolean) Parallel mapping} hands off each entry to an {@link Executor} as soon as it has
+ * been read so that the calling thread keeps reading entries while mapping runs on the {@link Executor}, typically a
+ * {@link java.util.concurrent.ForkJoinPool} with bounded parallelism.
+ * <p>
+ * Parallel mapping pays off for large results with expensive mapping, such as entities with many multi-valued
+ * attributes or custom converters. The {@link ObjectDirectoryMapper} and its converters must be thread-safe.
+ *
+ * @since 4.2
+ */
+public final class ResultMapping {
+
+	private static final ResultMapping SEQUENTIAL = new ResultMapping(null, true);
+
+	private final @Nullable Executor executor;
+	private final boolean preserveOrder;
+
+	private ResultMapping(@Nullable Executor executor, boolean preserveOrder) {
+		this.executor = executor;
+		this.preserveOrder = preserveOrder;
+	}
+
+	/**
+	 * @return a {@link ResultMapping} mapping entries in the thread reading search results.
+	 */
+	public static ResultMapping sequential() {
+		return SEQUENTIAL;
+	}
+
+	/**
+	 * Create a {@link ResultMapping} mapping entries on the given {@link Executor}.
+	 *
+	 * @param executor must not be {@literal null}.
+	 * @param preserveOrder whether to return results in the order returned by the directory server. Otherwise, results
+	 *          are returned in the order their mapping completes.
+	 * @return the {@link ResultMapping}.
+	 */
+	public static ResultMapping parallel(Executor executor, boolean preserveOrder) {
+
+		Assert.notNull(executor, "Executor must not be null");
+
+		return new ResultMapping(executor, preserveOrder);
+	}
+
+	/**
+	 * @return {@literal true} if entries are mapped in the thread reading search results.
+	 */
+	public boolean isSequential() {
+		return executor == null;
+	}
+
+	/**
+	 * Search for and map entries of {@code entityType}. The search scope, time limit and count limit default to the
+	 * settings of {@code operations} if {@code query} does not specify them.
+	 *
+	 * @param operations the operations to search with.
+	 * @param odm the mapper to map entries with.
+	 * @param query the query whose filter to combine with the object class filter of {@code entityType}.
+	 * @param entityType the entity type.
+	 * @return the mapped entities.
+	 */
+	<T> List<T> find(LdapOperations operations, ObjectDirectoryMapper odm, LdapQuery query, Class<T> entityType) {
+
+		if (executor == null && odm == operations.getObjectDirectoryMapper()) {
+			return operations.find(query, entityType);
+		}
+
+		LdapQueryBuilder search = LdapQueryBuilder.query().base(query.base()).searchScope(query.searchScope())
+				.attributes(query.attributes() != null ? query.attributes() : odm.manageClass(entityType));
+
+		if (query.timeLimit() != null) {
+			search.timeLimit(query.timeLimit());
+		}
+
+		if (query.countLimit() != null) {
+			search.countLimit(query.countLimit());
+		}
+
+		search.filter(odm.filterFor(entityType, query.filter()));
+
+		if (executor == null) {
+			return operations.search(search,
+					(ContextMapper<T>) ctx -> odm.mapFromLdapDataEntry((DirContextOperations) ctx, entityType));
+		}
+
+		Executor executor = this.executor;
+		List<CompletableFuture<T>> futures = operations.search(search,
+				(ContextMapper<CompletableFuture<T>>) ctx -> CompletableFuture
+						.supplyAsync(() -> odm.mapFromLdapDataEntry((DirContextOperations) ctx, entityType), executor));
+
+		return preserveOrder ? joinOrdered(futures) : joinUnordered(futures);
+	}
+
+	private static <T> List<T> joinOrdered(List<CompletableFuture<T>> futures) {
+
+		List<T> results = new ArrayList<>(futures.size());
+
+		for (CompletableFuture<T> future : futures) {
+			results.add(FanOutFutures.join(future, futures));
+		}
+
+		return results;
+	}
+
+	private static <T> List<T> joinUnordered(List<CompletableFuture<T>> futures) {
+
+		List<T> results = Collections.synchronizedList(new ArrayList<>(futures.size()));
+		CompletableFuture<?>[] completions = new CompletableFuture<?>[futures.size()];
+
+		for (int i = 0; i < completions.length; i++) {
+			completions[i] = futures.get(i).thenAccept(results::add);
+		}
+
+		FanOutFutures.join(CompletableFuture.allOf(completions), futures);
+
+		return new ArrayList<>(results);
+	}
+
+	@Override
+	public String toString() {
+		return isSequential() ? "ResultMapping[sequential]"
+				: String.format("ResultMapping[parallel, preserveOrder=%s]", preserveOrder);
+	}
+
+}
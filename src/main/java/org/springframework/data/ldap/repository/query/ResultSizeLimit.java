@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.query;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.ldap.core.LdapOperations;
+import org.springframework.ldap.odm.core.ObjectDirectoryMapper;
+import org.springframework.ldap.query.LdapQuery;
+import org.springframework.ldap.query.LdapQueryBuilder;
+import org.springframework.util.Assert;
+
+/**
+ * Value object describing the maximum number of entries a repository materializes into a collection along with the
+ * {@link ResultSizePolicy} to apply if a search exceeds that size.
+ * <p>
+ * Use query methods returning a {@link java.util.stream.Stream} to process results exceeding the maximum result size.
+ * <p>
+ * Searches apply the default search scope and time limit of the {@link LdapOperations} if the query does not specify
+ * them. Limited searches use a count limit of one more than the maximum result size unless the query specifies a lower
+ * count limit, for example through {@link SearchLimits} configured on the repository factory.
+ *
+ * @since 4.2
+ */
+public final class ResultSizeLimit {
+
+	private static final String OBJECTCLASS_ATTRIBUTE = "objectclass";
+
+	private static final ResultSizeLimit UNLIMITED = new ResultSizeLimit(0, ResultSizePolicy.FAIL);
+
+	private final int maxResultSize;
+	private final ResultSizePolicy policy;
+
+	private ResultSizeLimit(int maxResultSize, ResultSizePolicy policy) {
+
+		this.maxResultSize = maxResultSize;
+		this.policy = policy;
+	}
+
+	/**
+	 * @return a {@link ResultSizeLimit} that does not limit the result size.
+	 */
+	public static ResultSizeLimit unlimited() {
+		return UNLIMITED;
+	}
+
+	/**
+	 * Create a {@link ResultSizeLimit} for the given maximum result size and policy.
+	 *
+	 * @param maxResultSize the maximum number of results, zero for unlimited results. Must not be negative.
+	 * @param policy must not be {@literal null}.
+	 * @return the {@link ResultSizeLimit}.
+	 */
+	public static ResultSizeLimit of(int maxResultSize, ResultSizePolicy policy) {
+
+		Assert.isTrue(maxResultSize >= 0, "Maximum result size must not be negative");
+		Assert.notNull(policy, "ResultSizePolicy must not be null");
+
+		return maxResultSize == 0 ? UNLIMITED : new ResultSizeLimit(maxResultSize, policy);
+	}
+
+	/**
+	 * @return {@literal true} if the result size is limited.
+	 */
+	public boolean isLimited() {
+		return maxResultSize > 0;
+	}
+
+	/**
+	 * @return the maximum result size, zero if the result size is not limited.
+	 */
+	public int getMaxResultSize() {
+		return maxResultSize;
+	}
+
+	/**
+	 * @return the policy to apply to searches exceeding the maximum result size.
+	 */
+	public ResultSizePolicy getPolicy() {
+		return policy;
+	}
+
+	/**
+	 * Find all entries of {@code entityType} matching the given {@link LdapQuery}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @return the mapped entries.
+	 * @throws IncorrectResultSizeDataAccessException if the search returns more results than allowed by
+	 *           {@link ResultSizePolicy#FAIL}.
+	 * @see LdapOperations#find(LdapQuery, Class)
+	 */
+	public <T> List<T> find(LdapOperations operations, LdapQuery query, Class<T> entityType) {
+		return find(operations, query, entityType, ResultMapping.sequential());
+	}
+
+	/**
+	 * Find all entries of {@code entityType} matching the given {@link LdapQuery} using the given {@link ResultMapping}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @param mapping must not be {@literal null}.
+	 * @return the mapped entries.
+	 * @throws IncorrectResultSizeDataAccessException if the search returns more results than allowed by
+	 *           {@link ResultSizePolicy#FAIL}.
+	 */
+	public <T> List<T> find(LdapOperations operations, LdapQuery query, Class<T> entityType, ResultMapping mapping) {
+		return find(operations, operations.getObjectDirectoryMapper(), query, entityType, mapping);
+	}
+
+	/**
+	 * Find all entries of {@code entityType} matching the given {@link LdapQuery} mapping entries with the given
+	 * {@link ObjectDirectoryMapper} using the given {@link ResultMapping}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param odm the mapper to map entries with, must not be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @param mapping must not be {@literal null}.
+	 * @return the mapped entries.
+	 * @throws IncorrectResultSizeDataAccessException if the search returns more results than allowed by
+	 *           {@link ResultSizePolicy#FAIL}.
+	 */
+	public <T> List<T> find(LdapOperations operations, ObjectDirectoryMapper odm, LdapQuery query,
+			Class<T> entityType, ResultMapping mapping) {
+
+		if (!isLimited() && mapping.isSequential() && odm == operations.getObjectDirectoryMapper()) {
+			return operations.find(query, entityType);
+		}
+
+		Integer countLimit = query.countLimit();
+
+		if (!isLimited() || (countLimit != null && countLimit > 0 && countLimit <= maxResultSize)) {
+			return mapping.find(operations, odm, query, entityType);
+		}
+
+		LdapQueryBuilder limited = LdapQueryBuilder.fromQuery(query);
+		limited.countLimit((int) Math.min(Integer.MAX_VALUE, maxResultSize + 1L));
+
+		return verify(mapping.find(operations, odm, limited, entityType), entityType);
+	}
+
+	/**
+	 * Find all entries of {@code entityType}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @return the mapped entries.
+	 * @throws IncorrectResultSizeDataAccessException if the search returns more results than allowed by
+	 *           {@link ResultSizePolicy#FAIL}.
+	 * @see LdapOperations#findAll(Class)
+	 */
+	public <T> List<T> findAll(LdapOperations operations, Class<T> entityType) {
+		return findAll(operations, entityType, null);
+	}
+
+	/**
+	 * Find all entries of {@code entityType} requesting the given {@code attributes}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @param attributes the attributes to request, {@literal null} to request all attributes.
+	 * @return the mapped entries.
+	 * @throws IncorrectResultSizeDataAccessException if the search returns more results than allowed by
+	 *           {@link ResultSizePolicy#FAIL}.
+	 * @see SearchAttributes
+	 */
+	public <T> List<T> findAll(LdapOperations operations, Class<T> entityType, String @Nullable [] attributes) {
+		return findAll(operations, operations.getObjectDirectoryMapper(), entityType, attributes);
+	}
+
+	/**
+	 * Find all entries of {@code entityType} requesting the given {@code attributes} and mapping entries with the given
+	 * {@link ObjectDirectoryMapper}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param odm the mapper to map entries with, must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @param attributes the attributes to request, {@literal null} to request all attributes.
+	 * @return the mapped entries.
+	 * @throws IncorrectResultSizeDataAccessException if the search returns more results than allowed by
+	 *           {@link ResultSizePolicy#FAIL}.
+	 */
+	public <T> List<T> findAll(LdapOperations operations, ObjectDirectoryMapper odm, Class<T> entityType,
+			String @Nullable [] attributes) {
+
+		if (!isLimited() && attributes == null && odm == operations.getObjectDirectoryMapper()) {
+			return operations.findAll(entityType);
+		}
+
+		LdapQueryBuilder query = LdapQueryBuilder.query();
+
+		if (attributes != null) {
+			query.attributes(attributes);
+		}
+
+		return find(operations, odm, query.where(OBJECTCLASS_ATTRIBUTE).isPresent(), entityType,
+				ResultMapping.sequential());
+	}
+
+	/**
+	 * Verify that {@code results} do not exceed the maximum result size.
+	 *
+	 * @return {@code results}.
+	 */
+	<R extends List<?>> R verify(R results, Class<?> entityType) {
+
+		if (isLimited() && results.size() > maxResultSize) {
+			throw new IncorrectResultSizeDataAccessException(String.format(
+					"Search for %s returned more than %d results; Consider a narrower filter or a Stream query method",
+					entityType.getName(), maxResultSize), maxResultSize, results.size());
+		}
+
+		return results;
+	}
+
+	@Override
+	public String toString() {
+		return isLimited() ? String.format("ResultSizeLimit[%d, %s]", maxResultSize, policy) : "ResultSizeLimit[unlimited]";
+	}
+
+}
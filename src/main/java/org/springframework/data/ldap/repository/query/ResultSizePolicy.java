@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.query;
+
+/**
+ * Policy applied by {@link ResultSizeLimit} to searches materializing their entire result into a collection.
+ *
+ * @since 4.2
+ * @see ResultSizeLimit
+ */
+public enum ResultSizePolicy {
+
+	/**
+	 * Reject searches returning more results than the maximum result size with
+	 * {@link org.springframework.dao.IncorrectResultSizeDataAccessException}. Searches are sent with a count limit of
+	 * one more than the maximum result size so that at most that many entries are read.
+	 */
+	FAIL
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.query;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.ldap.core.mapping.LazyAttribute;
+import org.springframework.ldap.odm.annotations.Id;
+import org.springframework.ldap.odm.annotations.Transient;
+import org.springframework.ldap.odm.core.ObjectDirectoryMapper;
+import org.springframework.ldap.query.LdapQuery;
+import org.springframework.ldap.query.LdapQueryBuilder;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Value object capturing the LDAP attributes to request when searching for entities. Entities declaring
+ * {@link LazyAttribute lazy attributes} are searched requesting only the attributes mapped by the entity along with
+ * {@code objectclass} so that lazy attributes are not transferred with search results. Searches for all other
+ * entities request all attributes.
+ *
+ * @since 4.2
+ */
+public final class SearchAttributes {
+
+	private static final String OBJECTCLASS_ATTRIBUTE = "objectclass";
+
+	private static final SearchAttributes ALL = new SearchAttributes(null);
+
+	private final String @Nullable [] attributes;
+
+	private SearchAttributes(String @Nullable [] attributes) {
+		this.attributes = attributes;
+	}
+
+	/**
+	 * Return {@link SearchAttributes} requesting all attributes.
+	 *
+	 * @return {@link SearchAttributes} requesting all attributes.
+	 */
+	public static SearchAttributes all() {
+		return ALL;
+	}
+
+	/**
+	 * Create {@link SearchAttributes} for the given entity type. Requests all attributes if the entity type does not
+	 * declare {@link LazyAttribute lazy attributes}.
+	 *
+	 * @param entityType must not be {@literal null}.
+	 * @param odm the {@link ObjectDirectoryMapper} to resolve attribute names of mapped properties.
+	 * @return {@link SearchAttributes} for {@code entityType}.
+	 */
+	public static SearchAttributes of(Class<?> entityType, @Nullable ObjectDirectoryMapper odm) {
+
+		Assert.notNull(entityType, "Entity type must not be null");
+
+		boolean[] lazy = new boolean[1];
+		ReflectionUtils.doWithFields(entityType, field -> lazy[0] = true,
+				field -> field.isAnnotationPresent(LazyAttribute.class));
+
+		if (!lazy[0]) {
+			return ALL;
+		}
+
+		Assert.notNull(odm, "ObjectDirectoryMapper must not be null");
+
+		Set<String> attributes = new LinkedHashSet<>();
+		attributes.add(OBJECTCLASS_ATTRIBUTE);
+
+		for (Field field : entityType.getDeclaredFields()) {
+
+			if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic() || field.isAnnotationPresent(Id.class)
+					|| field.isAnnotationPresent(Transient.class)) {
+				continue;
+			}
+
+			attributes.add(odm.attributeFor(entityType, field.getName()));
+		}
+
+		return new SearchAttributes(attributes.toArray(String[]::new));
+	}
+
+	/**
+	 * @return {@literal true} if searches request only specific attributes.
+	 */
+	public boolean isRestricted() {
+		return attributes != null;
+	}
+
+	/**
+	 * @return the attributes to request or {@literal null} to request all attributes.
+	 */
+	public String @Nullable [] getAttributes() {
+		return attributes != null ? attributes.clone() : null;
+	}
+
+	/**
+	 * Apply the attributes to request to the given {@link LdapQuery}. Queries that already specify attributes are
+	 * returned unchanged.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @return the query requesting the attributes.
+	 */
+	public LdapQuery apply(LdapQuery query) {
+
+		if (attributes == null || query.attributes() != null) {
+			return query;
+		}
+
+		return LdapQueryBuilder.fromQuery(query).attributes(attributes);
+	}
+
+	@Override
+	public String toString() {
+		return attributes != null ? "SearchAttributes" + Arrays.toString(attributes) : "SearchAttributes[all]";
+	}
+
+}
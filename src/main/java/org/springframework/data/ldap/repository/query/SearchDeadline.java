@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.query;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.util.Assert;
+
+/**
+ * Deadline of a request bounding the time limits of repository searches. Searches issued while a deadline is active
+ * use a server-side time limit no longer than the remaining time of the deadline, so that nested repository calls
+ * only receive the remaining budget of the calling request. Searches issued after the deadline has expired fail with
+ * a {@link org.springframework.dao.QueryTimeoutException} without contacting the directory server.
+ * <p>
+ * Deadlines are bound to the current thread. Nested deadlines never extend the deadline of an enclosing scope.
+ *
+ * <pre class="code">
+ * List&lt;Person&gt; people = SearchDeadline.callWithin(Duration.ofMillis(500), () -&gt; {
+ * 	Person manager = repository.findByUid(uid);
+ * 	return repository.findByManager(manager.getDn());
+ * });
+ * </pre>
+ *
+ * @since 4.2
+ * @see SearchLimits#withinDeadline()
+ */
+public final class SearchDeadline {
+
+	private static final ThreadLocal<SearchDeadline> CURRENT = new NamedThreadLocal<>("LDAP search deadline");
+
+	private final long deadline;
+
+	private SearchDeadline(long deadline) {
+		this.deadline = deadline;
+	}
+
+	/**
+	 * Return the deadline bound to the current thread.
+	 *
+	 * @return the current deadline, or {@literal null} if no deadline is active.
+	 */
+	public static @Nullable SearchDeadline current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Run the given {@code action} with a deadline expiring after {@code budget} or the current deadline, whichever
+	 * expires first.
+	 *
+	 * @param budget the time budget of {@code action}, must not be {@literal null} or negative.
+	 * @param action must not be {@literal null}.
+	 * @return the result of {@code action}.
+	 */
+	public static <T> T callWithin(Duration budget, Supplier<T> action) {
+
+		Assert.isTrue(budget != null && !budget.isNegative(), "Budget must not be negative");
+		Assert.notNull(action, "Action must not be null");
+
+		SearchDeadline previous = CURRENT.get();
+		long deadline = System.nanoTime() + budget.toNanos();
+
+		if (previous != null && previous.deadline - deadline < 0) {
+			deadline = previous.deadline;
+		}
+
+		CURRENT.set(new SearchDeadline(deadline));
+
+		try {
+			return action.get();
+		} finally {
+
+			if (previous != null) {
+				CURRENT.set(previous);
+			} else {
+				CURRENT.remove();
+			}
+		}
+	}
+
+	/**
+	 * Run the given {@code action} with a deadline expiring after {@code budget} or the current deadline, whichever
+	 * expires first.
+	 *
+	 * @param budget the time budget of {@code action}, must not be {@literal null} or negative.
+	 * @param action must not be {@literal null}.
+	 */
+	public static void runWithin(Duration budget, Runnable action) {
+
+		Assert.notNull(action, "Action must not be null");
+
+		callWithin(budget, () -> {
+			action.run();
+			return null;
+		});
+	}
+
+	/**
+	 * @return the remaining time until the deadline expires, negative if the deadline has expired.
+	 */
+	public Duration getRemaining() {
+		return Duration.ofNanos(deadline - System.nanoTime());
+	}
+
+	/**
+	 * @return {@literal true} if the deadline has expired.
+	 */
+	public boolean isExpired() {
+		return deadline - System.nanoTime() <= 0;
+	}
+
+	@Override
+	public String toString() {
+		return "SearchDeadline[remaining=%s]".formatted(getRemaining());
+	}
+
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.query;
+
+import java.time.Duration;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.ldap.repository.SearchLimit;
+import org.springframework.ldap.query.LdapQuery;
+import org.springframework.ldap.query.LdapQueryBuilder;
+import org.springframework.util.Assert;
+
+/**
+ * Value object capturing the server-side time limit and count limit applied to repository searches. Limits only apply
+ * to searches that do not declare a limit themselves. Time limits are additionally capped by the remaining time of
+ * the current {@link SearchDeadline} through {@link #withinDeadline()}.
+ *
+ * @since 4.2
+ * @see SearchLimit
+ */
+public final class SearchLimits {
+
+	private static final SearchLimits NONE = new SearchLimits(0, 0, 0);
+
+	private final int timeLimit;
+	private final int countLimit;
+	private final int maxTimeLimit;
+
+	private SearchLimits(int timeLimit, int countLimit, int maxTimeLimit) {
+
+		this.timeLimit = timeLimit;
+		this.countLimit = countLimit;
+		this.maxTimeLimit = maxTimeLimit;
+	}
+
+	/**
+	 * Return {@link SearchLimits} that do not limit searches.
+	 *
+	 * @return {@link SearchLimits} that do not limit searches.
+	 */
+	public static SearchLimits none() {
+		return NONE;
+	}
+
+	/**
+	 * Create {@link SearchLimits} from the given {@link SearchLimit} annotation.
+	 *
+	 * @param annotation the annotation, can be {@literal null}.
+	 * @return {@link SearchLimits} declared by {@code annotation} or {@link #none()} if {@code annotation} is
+	 *         {@literal null}.
+	 */
+	public static SearchLimits from(@Nullable SearchLimit annotation) {
+
+		if (annotation == null) {
+			return NONE;
+		}
+
+		Assert.isTrue(annotation.timeLimit() >= 0, "Time limit must not be negative");
+		Assert.isTrue(annotation.countLimit() >= 0, "Count limit must not be negative");
+
+		return new SearchLimits(annotation.timeLimit(), annotation.countLimit(), 0);
+	}
+
+	/**
+	 * Return new {@link SearchLimits} limiting the search time to {@code timeLimit}. {@link Duration#ZERO} does not limit
+	 * the search time.
+	 *
+	 * @param timeLimit must not be {@literal null} or negative.
+	 * @return new {@link SearchLimits}.
+	 */
+	public SearchLimits timeLimit(Duration timeLimit) {
+
+		Assert.isTrue(timeLimit != null && !timeLimit.isNegative(), "Time limit must not be negative");
+		Assert.isTrue(timeLimit.toMillis() <= Integer.MAX_VALUE, "Time limit must not exceed Integer.MAX_VALUE millis");
+
+		return new SearchLimits((int) timeLimit.toMillis(), countLimit, maxTimeLimit);
+	}
+
+	/**
+	 * Return new {@link SearchLimits} limiting the number of results to {@code countLimit}. Zero does not limit the
+	 * number of results.
+	 *
+	 * @param countLimit must not be negative.
+	 * @return new {@link SearchLimits}.
+	 */
+	public SearchLimits countLimit(int countLimit) {
+
+		Assert.isTrue(countLimit >= 0, "Count limit must not be negative");
+
+		return new SearchLimits(timeLimit, countLimit, maxTimeLimit);
+	}
+
+	/**
+	 * Return {@link SearchLimits} using the limits of {@code defaults} for limits that are not set by this instance.
+	 *
+	 * @param defaults must not be {@literal null}.
+	 * @return the combined {@link SearchLimits}.
+	 */
+	public SearchLimits orElse(SearchLimits defaults) {
+
+		Assert.notNull(defaults, "Default SearchLimits must not be null");
+
+		return new SearchLimits(timeLimit > 0 ? timeLimit : defaults.timeLimit,
+				countLimit > 0 ? countLimit : defaults.countLimit, maxTimeLimit > 0 ? maxTimeLimit : defaults.maxTimeLimit);
+	}
+
+	/**
+	 * Return {@link SearchLimits} without a count limit, typically to count results.
+	 *
+	 * @return {@link SearchLimits} without a count limit.
+	 */
+	public SearchLimits withoutCountLimit() {
+		return countLimit == 0 ? this : new SearchLimits(timeLimit, 0, maxTimeLimit);
+	}
+
+	/**
+	 * Return {@link SearchLimits} whose time limit does not exceed the remaining time of the current
+	 * {@link SearchDeadline}. The remaining time is captured when calling this method.
+	 *
+	 * @return {@link SearchLimits} bounded by the current deadline.
+	 * @throws QueryTimeoutException if the current deadline has expired.
+	 */
+	public SearchLimits withinDeadline() {
+
+		SearchDeadline deadline = SearchDeadline.current();
+
+		if (deadline == null) {
+			return this;
+		}
+
+		long remaining = deadline.getRemaining().toNanos();
+
+		if (remaining <= 0) {
+			throw new QueryTimeoutException("Search deadline exceeded by %d ms".formatted(-remaining / 1_000_000));
+		}
+
+		int remainingMillis = (int) Math.min(Integer.MAX_VALUE, Math.max(1, remaining / 1_000_000));
+
+		return new SearchLimits(timeLimit, countLimit,
+				maxTimeLimit > 0 ? Math.min(maxTimeLimit, remainingMillis) : remainingMillis);
+	}
+
+	/**
+	 * @return {@literal true} if searches are limited.
+	 */
+	public boolean isLimited() {
+		return timeLimit > 0 || countLimit > 0 || maxTimeLimit > 0;
+	}
+
+	/**
+	 * Apply the limits to the given {@link LdapQueryBuilder} unless the builder declares limits itself. Time limits of
+	 * the builder are capped by the deadline captured through {@link #withinDeadline()}.
+	 *
+	 * @param builder must not be {@literal null}.
+	 */
+	public void applyTo(LdapQueryBuilder builder) {
+
+		int timeLimit = getTimeLimit(builder.timeLimit());
+
+		if (timeLimit > 0) {
+			builder.timeLimit(timeLimit);
+		}
+
+		if (countLimit > 0 && isUnset(builder.countLimit())) {
+			builder.countLimit(countLimit);
+		}
+	}
+
+	/**
+	 * Apply the limits to the given {@link LdapQuery} unless the query declares limits itself.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @return the limited query.
+	 * @see #applyTo(LdapQueryBuilder)
+	 */
+	public LdapQuery apply(LdapQuery query) {
+
+		int timeLimit = getTimeLimit(query.timeLimit());
+		boolean applyTimeLimit = timeLimit > 0 && (query.timeLimit() == null || timeLimit != query.timeLimit());
+		boolean applyCountLimit = countLimit > 0 && isUnset(query.countLimit());
+
+		if (!applyTimeLimit && !applyCountLimit) {
+			return query;
+		}
+
+		LdapQueryBuilder builder = LdapQueryBuilder.fromQuery(query);
+		applyTo(builder);
+
+		return builder;
+	}
+
+	private int getTimeLimit(@Nullable Integer declaredTimeLimit) {
+
+		int timeLimit = isUnset(declaredTimeLimit) ? this.timeLimit : declaredTimeLimit;
+
+		if (maxTimeLimit > 0) {
+			return timeLimit > 0 ? Math.min(timeLimit, maxTimeLimit) : maxTimeLimit;
+		}
+
+		return timeLimit;
+	}
+
+	private static boolean isUnset(@Nullable Integer limit) {
+		return limit == null || limit == 0;
+	}
+
+	public Duration getTimeLimit() {
+		return Duration.ofMillis(getTimeLimit(null));
+	}
+
+	public int getCountLimit() {
+		return countLimit;
+	}
+
+	@Override
+	public String toString() {
+		return "SearchLimits[timeLimit=%dms, countLimit=%d]".formatted(getTimeLimit().toMillis(), countLimit);
+	}
+
+}
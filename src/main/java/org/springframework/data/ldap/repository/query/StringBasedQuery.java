@@ -18,7 +18,6 @@ package org.springframework.data.ldap.repository.query;
 import static org.springframework.data.ldap.repository.query.StringBasedQuery.BindingContext.*;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -31,12 +30,12 @@ import org.jspecify.annotations.Nullable;
 
 import org.springframework.data.expression.ValueExpression;
 import org.springframework.data.expression.ValueExpressionParser;
+import org.springframework.data.ldap.repository.LdapEncoder;
 import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.ValueExpressionDelegate;
 import org.springframework.data.spel.ExpressionDependencies;
-import org.springframework.ldap.support.LdapEncoder;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -49,7 +48,7 @@ import org.springframework.util.StringUtils;
  */
 class StringBasedQuery {
 
-	private final String query;
+	private final String[] queryFragments;
 	private final LdapParameters parameters;
 	private final List<ParameterBinding> queryParameterBindings = new ArrayList<>();
 	private final ExpressionDependencies expressionDependencies;
@@ -63,8 +62,8 @@ class StringBasedQuery {
 	 */
 	public StringBasedQuery(String query, LdapParameters parameters, ValueExpressionDelegate expressionParser) {
 
-		this.query = ParameterBindingParser.parseAndCollectParameterBindingsFromQueryIntoBindings(query,
-				this.queryParameterBindings, expressionParser);
+		this.queryFragments = ParameterBinder.split(ParameterBindingParser
+				.parseAndCollectParameterBindingsFromQueryIntoBindings(query, this.queryParameterBindings, expressionParser));
 		this.parameters = parameters;
 		this.expressionDependencies = createExpressionDependencies();
 	}
@@ -110,9 +109,7 @@ class StringBasedQuery {
 		BindingContext bindingContext = new BindingContext(this.parameters, parameterAccessor, this.queryParameterBindings,
 				evaluator);
 
-		List<Object> arguments = bindingContext.getBindingValues();
-
-		return ParameterBinder.bind(this.query, arguments);
+		return ParameterBinder.bind(this.queryFragments, bindingContext);
 	}
 
 	/**
@@ -257,38 +254,58 @@ class StringBasedQuery {
 	static class ParameterBinder {
 
 		private static final String ARGUMENT_PLACEHOLDER = "?_param_?";
-		private static final Pattern ARGUMENT_PLACEHOLDER_PATTERN = Pattern.compile(Pattern.quote(ARGUMENT_PLACEHOLDER));
-
-		public static String bind(String input, List<Object> parameters) {
 
-			if (parameters.isEmpty()) {
-				return input;
-			}
+		/**
+		 * Split the given {@code input} into the query fragments surrounding argument placeholders.
+		 *
+		 * @param input the query containing argument placeholders.
+		 * @return the query fragments. Contains one more element than argument placeholders.
+		 */
+		public static String[] split(String input) {
 
-			StringBuilder result = new StringBuilder();
+			List<String> fragments = new ArrayList<>();
 
 			int startIndex = 0;
-			int currentPosition = 0;
-			int parameterIndex = 0;
+			int placeholderIndex;
 
-			Matcher matcher = ARGUMENT_PLACEHOLDER_PATTERN.matcher(input);
+			while ((placeholderIndex = input.indexOf(ARGUMENT_PLACEHOLDER, startIndex)) != -1) {
 
-			while (currentPosition < input.length()) {
+				fragments.add(input.substring(startIndex, placeholderIndex));
+				startIndex = placeholderIndex + ARGUMENT_PLACEHOLDER.length();
+			}
 
-				if (!matcher.find()) {
-					break;
-				}
+			fragments.add(input.substring(startIndex));
 
-				int exprStart = matcher.start();
+			return fragments.toArray(new String[0]);
+		}
 
-				result.append(input.subSequence(startIndex, exprStart)).append(parameters.get(parameterIndex));
+		/**
+		 * Bind the values provided by {@link BindingContext} to the placeholders between the given query
+		 * {@code fragments}, appending encoded values directly to the resulting query.
+		 *
+		 * @param fragments query fragments obtained from {@link #split(String)}.
+		 * @param bindingContext the binding context providing values.
+		 * @return the bound query.
+		 */
+		public static String bind(String[] fragments, BindingContext bindingContext) {
 
-				parameterIndex++;
-				currentPosition = matcher.end();
-				startIndex = currentPosition;
+			if (fragments.length == 1) {
+				return fragments[0];
 			}
 
-			return result.append(input.subSequence(currentPosition, input.length())).toString();
+			int length = 0;
+			for (String fragment : fragments) {
+				length += fragment.length();
+			}
+
+			StringBuilder result = new StringBuilder(length + 16 * (fragments.length - 1));
+
+			for (int i = 0; i < fragments.length - 1; i++) {
+				result.append(fragments[i]);
+				bindingContext.appendBindingValue(i, result);
+			}
+
+			return result.append(fragments[fragments.length - 1]).toString();
 		}
 
 	}
@@ -300,6 +317,8 @@ class StringBasedQuery {
 	 */
 	static class BindingContext {
 
+		private static final LdapEncoder FILTER_ENCODER = new LdapEncoder.FilterEncoder();
+
 		private final LdapParameters parameters;
 		private final ParameterAccessor parameterAccessor;
 		private final List<ParameterBinding> bindings;
@@ -318,44 +337,20 @@ class StringBasedQuery {
 		}
 
 		/**
-		 * @return {@literal true} when list of bindings is not empty.
-		 */
-		private boolean hasBindings() {
-			return !bindings.isEmpty();
-		}
-
-		/**
-		 * Bind values provided by {@link LdapParameterAccessor} to placeholders in {@link BindingContext} while considering
-		 * potential conversions and parameter types.
+		 * Append the value for the binding at {@code bindingIndex} to {@code target}. Parameter values are encoded using
+		 * their configured {@link org.springframework.data.ldap.repository.LdapEncoder} or filter-encoded by default,
+		 * expression values are appended as-is.
 		 *
-		 * @return {@literal null} if given {@code raw} value is empty.
+		 * @param bindingIndex index of the {@link ParameterBinding}.
+		 * @param target the builder to append the value to.
 		 */
-		public List<Object> getBindingValues() {
+		void appendBindingValue(int bindingIndex, StringBuilder target) {
 
-			if (!hasBindings()) {
-				return Collections.emptyList();
-			}
-
-			List<Object> parameters = new ArrayList<>(bindings.size());
-
-			for (ParameterBinding binding : bindings) {
-				Object parameterValueForBinding = getParameterValueForBinding(binding);
-				parameters.add(parameterValueForBinding);
-			}
-
-			return parameters;
-		}
-
-		/**
-		 * Return the value to be used for the given {@link ParameterBinding}.
-		 *
-		 * @param binding must not be {@literal null}.
-		 * @return the value used for the given {@link ParameterBinding}.
-		 */
-		private @Nullable Object getParameterValueForBinding(ParameterBinding binding) {
+			ParameterBinding binding = bindings.get(bindingIndex);
 
 			if (binding.isExpression()) {
-				return evaluator.apply(binding.getRequiredExpression());
+				target.append(evaluator.apply(binding.getRequiredExpression()));
+				return;
 			}
 
 			int index = binding.isNamed() ? getParameterIndex(parameters, binding.getRequiredParameterName())
@@ -363,14 +358,14 @@ class StringBasedQuery {
 			Object value = parameterAccessor.getBindableValue(index);
 
 			if (value == null) {
-				return null;
+				target.append((Object) null);
+				return;
 			}
 
-			String toString = value.toString();
+			CharSequence sequence = value instanceof CharSequence cs ? cs : value.toString();
 			LdapParameters.LdapParameter parameter = parameters.getBindableParameter(index);
 
-			return parameter.hasLdapEncoder() ? parameter.getLdapEncoder().encode(toString)
-					: LdapEncoder.filterEncode(toString);
+			(parameter.hasLdapEncoder() ? parameter.getLdapEncoder() : FILTER_ENCODER).encode(sequence, target);
 		}
 
 		private int getParameterIndex(Parameters<?, ?> parameters, String parameterName) {
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javax.naming.Name;
+
+import org.springframework.ldap.core.ContextMapper;
+import org.springframework.ldap.core.DirContextOperations;
+import org.springframework.ldap.core.LdapOperations;
+import org.springframework.ldap.filter.EqualsFilter;
+import org.springframework.ldap.filter.OrFilter;
+import org.springframework.ldap.odm.core.ObjectDirectoryMapper;
+import org.springframework.ldap.query.LdapQuery;
+import org.springframework.ldap.query.LdapQueryBuilder;
+import org.springframework.ldap.query.SearchScope;
+import org.springframework.ldap.support.LdapUtils;
+import org.springframework.util.Assert;
+
+/**
+ * Value object capturing whether subtree searches are split into one search per child container of the search base.
+ * Split searches cover the search base itself, its immediate children and the subtree of each child container, run
+ * concurrently on the repository {@link Executor} and their results are merged and de-duplicated by their
+ * distinguished name. If the search base has a single child container, the child container is split instead.
+ * <p>
+ * Splitting requires an additional one-level search to enumerate child containers and is beneficial for very large
+ * subtrees where a single search would be serialized on one connection or run into server time limits.
+ *
+ * @since 4.2
+ */
+public final class SubtreeSplitting {
+
+	private static final SubtreeSplitting NONE = new SubtreeSplitting(List.of());
+
+	private static final SubtreeSplitting BY_CONTAINERS = new SubtreeSplitting(
+			List.of("organizationalUnit", "container", "organization", "domain"));
+
+	private final List<String> containerObjectClasses;
+
+	private SubtreeSplitting(List<String> containerObjectClasses) {
+		this.containerObjectClasses = containerObjectClasses;
+	}
+
+	/**
+	 * @return {@link SubtreeSplitting} that does not split searches.
+	 */
+	public static SubtreeSplitting none() {
+		return NONE;
+	}
+
+	/**
+	 * Return a {@link SubtreeSplitting} splitting searches by child entries of the {@code organizationalUnit},
+	 * {@code container}, {@code organization} or {@code domain} object classes.
+	 *
+	 * @return {@link SubtreeSplitting} splitting searches by child containers.
+	 */
+	public static SubtreeSplitting byContainers() {
+		return BY_CONTAINERS;
+	}
+
+	/**
+	 * Return a new {@link SubtreeSplitting} splitting searches by child entries of any of the given object classes.
+	 *
+	 * @param containerObjectClasses must not be empty.
+	 * @return a new {@link SubtreeSplitting}.
+	 */
+	public SubtreeSplitting containerObjectClasses(String... containerObjectClasses) {
+
+		Assert.notEmpty(containerObjectClasses, "Container object classes must not be empty");
+
+		return new SubtreeSplitting(List.of(containerObjectClasses));
+	}
+
+	/**
+	 * @return {@literal true} if searches are split.
+	 */
+	public boolean isEnabled() {
+		return !containerObjectClasses.isEmpty();
+	}
+
+	public List<String> getContainerObjectClasses() {
+		return containerObjectClasses;
+	}
+
+	/**
+	 * Split a subtree search into searches per child container of its base. Searches using a different scope and
+	 * searches whose base has no child containers are not split.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @return the split searches, or a singleton list containing {@code query} if the search is not split.
+	 */
+	public List<LdapQuery> split(LdapOperations operations, LdapQuery query) {
+
+		Assert.notNull(operations, "LdapOperations must not be null");
+		Assert.notNull(query, "LdapQuery must not be null");
+
+		if (!isEnabled() || (query.searchScope() != null && query.searchScope() != SearchScope.SUBTREE)) {
+			return List.of(query);
+		}
+
+		OrFilter containerFilter = new OrFilter();
+		containerObjectClasses.forEach(it -> containerFilter.or(new EqualsFilter("objectclass", it)));
+		ContextMapper<Name> dnMapper = ctx -> ((DirContextOperations) ctx).getDn();
+
+		List<LdapQuery> queries = new ArrayList<>();
+		Name base = query.base() != null ? query.base() : LdapUtils.emptyLdapName();
+		List<Name> containers;
+
+		while (true) {
+
+			containers = operations.search(LdapQueryBuilder.query().base(base).searchScope(SearchScope.ONELEVEL)
+					.attributes("1.1").filter(containerFilter), dnMapper);
+
+			if (containers.size() != 1) {
+				break;
+			}
+
+			queries.add(withBase(query, base, SearchScope.OBJECT));
+			queries.add(withBase(query, base, SearchScope.ONELEVEL));
+			base = containers.get(0);
+		}
+
+		if (containers.isEmpty()) {
+
+			if (queries.isEmpty()) {
+				return List.of(query);
+			}
+
+			queries.add(withBase(query, base, SearchScope.SUBTREE));
+			return queries;
+		}
+
+		queries.add(withBase(query, base, SearchScope.OBJECT));
+		queries.add(withBase(query, base, SearchScope.ONELEVEL));
+
+		for (Name container : containers) {
+			queries.add(withBase(query, container, SearchScope.SUBTREE));
+		}
+
+		return queries;
+	}
+
+	/**
+	 * Find all entries of {@code entityType} matching the given {@link LdapQuery} by
+	 * {@link #split(LdapOperations, LdapQuery) splitting} the search and running split searches on the given
+	 * {@link Executor}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 * @param resultSizeLimit must not be {@literal null}.
+	 * @param resultMapping must not be {@literal null}.
+	 * @return the merged entries.
+	 */
+	public <T> List<T> find(LdapOperations operations, LdapQuery query, Class<T> entityType, Executor executor,
+			ResultSizeLimit resultSizeLimit, ResultMapping resultMapping) {
+		return find(operations, operations.getObjectDirectoryMapper(), query, entityType, executor, resultSizeLimit,
+				resultMapping);
+	}
+
+	/**
+	 * Find all entries of {@code entityType} matching the given {@link LdapQuery} by
+	 * {@link #split(LdapOperations, LdapQuery) splitting} the search, running split searches on the given
+	 * {@link Executor} and mapping entries with the given {@link ObjectDirectoryMapper}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param odm the mapper to map entries with, must not be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 * @param resultSizeLimit must not be {@literal null}.
+	 * @param resultMapping must not be {@literal null}.
+	 * @return the merged entries.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> List<T> find(LdapOperations operations, ObjectDirectoryMapper odm, LdapQuery query, Class<T> entityType,
+			Executor executor, ResultSizeLimit resultSizeLimit, ResultMapping resultMapping) {
+
+		List<LdapQuery> queries = split(operations, query);
+
+		if (queries.size() == 1) {
+			return resultSizeLimit.find(operations, odm, query, entityType, resultMapping);
+		}
+
+		return (List<T>) new LdapQueryExecution.MergingExecution(operations, odm, entityType, queries, executor,
+				resultSizeLimit, resultMapping).execute(query);
+	}
+
+	private static LdapQuery withBase(LdapQuery query, Name base, SearchScope scope) {
+		return LdapQueryBuilder.fromQuery(query).base(base).searchScope(scope);
+	}
+
+	@Override
+	public String toString() {
+		return "SubtreeSplitting%s".formatted(containerObjectClasses);
+	}
+
+}
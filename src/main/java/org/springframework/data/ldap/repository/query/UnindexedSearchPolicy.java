@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.query;
+
+/**
+ * Policy applied to substring searches with a leading wildcard (such as {@code (cn=*doe)} or {@code (cn=*doe*)})
+ * against attributes that are not {@link org.springframework.data.ldap.core.mapping.Indexed indexed}. Such searches
+ * typically require the directory server to scan all candidate entries.
+ * <p>
+ * The policy applies only to entities that declare at least one
+ * {@link org.springframework.data.ldap.core.mapping.Indexed @Indexed} property.
+ *
+ * @since 4.2
+ * @see IndexedAttributes
+ */
+public enum UnindexedSearchPolicy {
+
+	/**
+	 * Run the search without further notice.
+	 */
+	IGNORE,
+
+	/**
+	 * Log a warning and run the search.
+	 */
+	WARN,
+
+	/**
+	 * Reject the search with {@link org.springframework.dao.InvalidDataAccessApiUsageException}.
+	 */
+	FAIL
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.springframework.data.ldap.repository.query.FanOutFutures;
+
+/**
+ * Utility to run lookups of multiple keys in at most {@code concurrency} chunks on an {@link Executor}.
+ *
+ * @since 4.2
+ */
+final class ChunkedLookups {
+
+	private ChunkedLookups() {}
+
+	/**
+	 * Look up {@code keys} by partitioning them into at most {@code concurrency} chunks. A single chunk is looked up in
+	 * the calling thread. Pending chunks are cancelled if a lookup fails.
+	 *
+	 * @param keys distinct keys to look up.
+	 * @param concurrency maximum number of chunks.
+	 * @param executor the executor to run chunks.
+	 * @param lookup function looking up a chunk of keys.
+	 * @return the merged lookup results.
+	 */
+	static <K, V> Map<K, V> lookup(List<K> keys, int concurrency, Executor executor,
+			Function<List<K>, Map<K, V>> lookup) {
+
+		if (keys.isEmpty()) {
+			return Map.of();
+		}
+
+		int chunkSize = (keys.size() + concurrency - 1) / concurrency;
+
+		if (chunkSize >= keys.size()) {
+			return lookup.apply(keys);
+		}
+
+		List<CompletableFuture<Map<K, V>>> futures = new ArrayList<>();
+
+		for (int i = 0; i < keys.size(); i += chunkSize) {
+
+			List<K> chunk = keys.subList(i, Math.min(keys.size(), i + chunkSize));
+			futures.add(CompletableFuture.supplyAsync(() -> lookup.apply(chunk), executor));
+		}
+
+		Map<K, V> results = new HashMap<>(keys.size());
+
+		for (CompletableFuture<Map<K, V>> future : futures) {
+			results.putAll(FanOutFutures.join(future, futures));
+		}
+
+		return results;
+	}
+
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.data.ldap.repository.query.LdapRepositoryOperationInterceptor.Invocation;
+import org.springframework.ldap.CommunicationException;
+import org.springframework.ldap.ServiceUnavailableException;
+import org.springframework.ldap.TimeLimitExceededException;
+import org.springframework.util.Assert;
+
+/**
+ * Limiter for the number of concurrent repository operations enforcing {@link ConcurrencyLimits}. Operations exceeding
+ * the current limit wait for up to the {@link ConcurrencyLimits#getQueueTimeout() queue timeout} and are rejected
+ * with a {@link TransientDataAccessResourceException} afterwards.
+ * <p>
+ * Adaptive limits are adjusted after each operation. Operations failing with a timeout, a communication error or an
+ * unavailable directory server are considered an overload signal, other failures are treated as successful
+ * operations. Expiry of a client-side {@link org.springframework.data.ldap.repository.query.SearchDeadline} and
+ * rejections by a concurrency limiter are not an overload signal as they do not reflect the directory server
+ * latency. Limits only grow while at least half of the current limit is in use.
+ * <p>
+ * Operations are reentrant: nested operations invoked by the thread already running an operation of this limiter
+ * (e.g. resolving DN references or repository calls from within a repository operation) do not acquire additional
+ * capacity. Nested operations running on other threads are limited as usual.
+ *
+ * @since 4.2
+ * @see ConcurrencyLimits#createLimiter(String)
+ */
+public final class ConcurrencyLimiter {
+
+	private static final double BACKOFF_RATIO = 0.9;
+	private static final double SHORT_SMOOTHING = 0.5;
+	private static final double LONG_WINDOW = 100;
+	private static final double LATENCY_TOLERANCE = 1.5;
+	private static final double LIMIT_SMOOTHING = 0.2;
+
+	private final String name;
+	private final ConcurrencyLimits limits;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition capacity = lock.newCondition();
+	private final LongAdder accepted = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final ThreadLocal<Boolean> running = new ThreadLocal<>();
+
+	private double limit;
+	private int inFlight;
+	private double shortLatency;
+	private double longLatency;
+
+	ConcurrencyLimiter(String name, ConcurrencyLimits limits) {
+
+		Assert.hasText(name, "Name must not be empty");
+		Assert.notNull(limits, "ConcurrencyLimits must not be null");
+
+		this.name = name;
+		this.limits = limits;
+		this.limit = limits.getInitialLimit();
+	}
+
+	/**
+	 * Run the given {@link Invocation} once capacity is available. Runs the invocation immediately if the current
+	 * thread is already running an operation of this limiter.
+	 *
+	 * @param invocation must not be {@literal null}.
+	 * @return the invocation result, can be {@literal null}.
+	 * @throws TransientDataAccessResourceException if no capacity became available within the queue timeout.
+	 */
+	public @Nullable Object execute(Invocation invocation) {
+
+		if (running.get() != null) {
+			return invocation.proceed();
+		}
+
+		int inFlightAtStart = acquire();
+		long start = System.nanoTime();
+		boolean dropped = false;
+		running.set(Boolean.TRUE);
+
+		try {
+			return invocation.proceed();
+		} catch (RuntimeException e) {
+			dropped = isOverload(e);
+			throw e;
+		} finally {
+			running.remove();
+			release(System.nanoTime() - start, inFlightAtStart, dropped);
+		}
+	}
+
+	/**
+	 * Acquire capacity for an operation.
+	 *
+	 * @return the number of operations in flight including the acquiring operation.
+	 */
+	int acquire() {
+
+		long remaining = limits.getQueueTimeout().toNanos();
+
+		lock.lock();
+		try {
+
+			while (inFlight >= (int) limit) {
+
+				if (remaining <= 0) {
+					rejected.increment();
+					throw new ConcurrencyLimitExceededException(
+							"Concurrency limit of %d exceeded for %s".formatted((int) limit, name), null);
+				}
+
+				remaining = capacity.awaitNanos(remaining);
+			}
+
+			accepted.increment();
+			return ++inFlight;
+		} catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+			rejected.increment();
+			throw new ConcurrencyLimitExceededException("Interrupted while waiting for capacity of " + name, e);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Release capacity of an operation and adjust the limit.
+	 *
+	 * @param latencyNanos the operation latency.
+	 * @param inFlightAtStart the number of operations in flight when the operation started.
+	 * @param dropped whether the operation failed due to an overload.
+	 */
+	void release(long latencyNanos, int inFlightAtStart, boolean dropped) {
+
+		lock.lock();
+		try {
+
+			inFlight--;
+			limit = switch (limits.getAlgorithm()) {
+				case FIXED -> limit;
+				case AIMD -> adjustAimd(inFlightAtStart, dropped);
+				case GRADIENT -> adjustGradient(latencyNanos, inFlightAtStart, dropped);
+			};
+
+			capacity.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private double adjustAimd(int inFlight, boolean dropped) {
+
+		if (dropped) {
+			return clamp(Math.floor(limit * BACKOFF_RATIO));
+		}
+
+		return inFlight * 2 >= limit ? clamp(limit + 1) : limit;
+	}
+
+	private double adjustGradient(long latencyNanos, int inFlight, boolean dropped) {
+
+		if (longLatency == 0) {
+			shortLatency = longLatency = latencyNanos;
+			return limit;
+		}
+
+		shortLatency += (latencyNanos - shortLatency) * SHORT_SMOOTHING;
+		longLatency += (latencyNanos - longLatency) / LONG_WINDOW;
+
+		// recover quickly from a sustained latency increase that has been absorbed by the long-term average
+		if (longLatency > shortLatency * 2) {
+			longLatency *= 0.95;
+		}
+
+		if (!dropped && inFlight * 2 < limit) {
+			return limit;
+		}
+
+		double gradient = dropped ? 0.5 : Math.max(0.5, Math.min(1, LATENCY_TOLERANCE * longLatency / shortLatency));
+		double newLimit = limit * gradient + Math.sqrt(limit);
+
+		return clamp(limit * (1 - LIMIT_SMOOTHING) + newLimit * LIMIT_SMOOTHING);
+	}
+
+	private double clamp(double limit) {
+		return Math.max(limits.getMinLimit(), Math.min(limits.getMaxLimit(), limit));
+	}
+
+	private static boolean isOverload(RuntimeException e) {
+
+		// deadline expiry detected by SearchLimits.withinDeadline() before contacting the server, or a rejection
+		if (e instanceof QueryTimeoutException || e instanceof ConcurrencyLimitExceededException) {
+			return false;
+		}
+
+		return e instanceof TransientDataAccessException || e instanceof DataAccessResourceFailureException
+				|| e instanceof TimeLimitExceededException || e instanceof CommunicationException
+				|| e instanceof ServiceUnavailableException;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public ConcurrencyLimits getLimits() {
+		return limits;
+	}
+
+	/**
+	 * @return the current limit.
+	 */
+	public int getLimit() {
+
+		lock.lock();
+		try {
+			return (int) limit;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return the number of operations currently running.
+	 */
+	public int getInFlight() {
+
+		lock.lock();
+		try {
+			return inFlight;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return the number of operations that acquired capacity.
+	 */
+	public long getAcceptedCount() {
+		return accepted.sum();
+	}
+
+	/**
+	 * @return the number of operations rejected because no capacity became available within the queue timeout.
+	 */
+	public long getRejectedCount() {
+		return rejected.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "ConcurrencyLimiter[name=%s, limit=%d, inFlight=%d, queueTimeout=%dms]".formatted(name, getLimit(),
+				getInFlight(), limits.getQueueTimeout().toMillis());
+	}
+
+	/**
+	 * Rejection of an operation by a {@link ConcurrencyLimiter}.
+	 */
+	@SuppressWarnings("serial")
+	private static class ConcurrencyLimitExceededException extends TransientDataAccessResourceException {
+
+		ConcurrencyLimitExceededException(String message, @Nullable Throwable cause) {
+			super(message, cause);
+		}
+
+	}
+
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+/**
+ * Callback notified about {@link ConcurrencyLimiter} instances created for repositories, typically to expose their
+ * statistics as metrics. Beans implementing this interface are registered with repositories created through
+ * {@link LdapRepositoryFactoryBean}.
+ *
+ * @since 4.2
+ * @see LdapRepositoryFactory#addConcurrencyLimiterListener(ConcurrencyLimiterListener)
+ */
+@FunctionalInterface
+public interface ConcurrencyLimiterListener {
+
+	/**
+	 * Called after a {@link ConcurrencyLimiter} was created for a repository or a repository method.
+	 *
+	 * @param limiter the created limiter.
+	 */
+	void limiterCreated(ConcurrencyLimiter limiter);
+
+}
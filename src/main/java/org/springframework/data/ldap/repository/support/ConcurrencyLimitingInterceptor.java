@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.ldap.repository.ConcurrencyLimit;
+import org.springframework.data.ldap.repository.query.LdapRepositoryOperation;
+import org.springframework.data.ldap.repository.query.LdapRepositoryOperationInterceptor;
+
+/**
+ * {@link LdapRepositoryOperationInterceptor} running repository operations through a {@link ConcurrencyLimiter}.
+ * Repositories use a single limiter for all of their methods configured through a {@link ConcurrencyLimit} annotation
+ * on the repository interface or through the default {@link ConcurrencyLimits}. Methods annotated with
+ * {@link ConcurrencyLimit} use a limiter of their own.
+ *
+ * @since 4.2
+ */
+class ConcurrencyLimitingInterceptor implements LdapRepositoryOperationInterceptor {
+
+	private final @Nullable ConcurrencyLimits defaults;
+	private final List<ConcurrencyLimiterListener> listeners;
+	private final Map<Class<?>, RepositoryLimiters> limiters = new ConcurrentHashMap<>();
+
+	ConcurrencyLimitingInterceptor(@Nullable ConcurrencyLimits defaults, List<ConcurrencyLimiterListener> listeners) {
+
+		this.defaults = defaults;
+		this.listeners = List.copyOf(listeners);
+	}
+
+	/**
+	 * Create the limiters of the given repository interface unless already created.
+	 *
+	 * @param repositoryInterface the repository interface.
+	 * @return whether operations of the repository are limited.
+	 */
+	boolean register(Class<?> repositoryInterface) {
+		return limiters.computeIfAbsent(repositoryInterface, this::createLimiters).isLimited();
+	}
+
+	@Override
+	public @Nullable Object intercept(LdapRepositoryOperation operation, Invocation invocation) {
+
+		RepositoryLimiters repositoryLimiters = limiters.get(operation.repositoryInterface());
+		ConcurrencyLimiter limiter = repositoryLimiters != null ? repositoryLimiters.get(operation.methodName()) : null;
+
+		return limiter != null ? limiter.execute(invocation) : invocation.proceed();
+	}
+
+	private RepositoryLimiters createLimiters(Class<?> repositoryInterface) {
+
+		String name = repositoryInterface.getSimpleName();
+		ConcurrencyLimit annotation = AnnotatedElementUtils.findMergedAnnotation(repositoryInterface,
+				ConcurrencyLimit.class);
+		ConcurrencyLimits repositoryLimits = annotation != null ? ConcurrencyLimits.from(annotation) : defaults;
+		ConcurrencyLimiter repositoryLimiter = repositoryLimits != null ? createLimiter(name, repositoryLimits) : null;
+		Map<String, ConcurrencyLimiter> methodLimiters = new HashMap<>();
+
+		for (Method method : repositoryInterface.getMethods()) {
+
+			ConcurrencyLimit methodAnnotation = AnnotatedElementUtils.findMergedAnnotation(method, ConcurrencyLimit.class);
+
+			if (methodAnnotation != null && !methodLimiters.containsKey(method.getName())) {
+				methodLimiters.put(method.getName(),
+						createLimiter(name + "." + method.getName(), ConcurrencyLimits.from(methodAnnotation)));
+			}
+		}
+
+		return new RepositoryLimiters(repositoryLimiter, methodLimiters);
+	}
+
+	private ConcurrencyLimiter createLimiter(String name, ConcurrencyLimits limits) {
+
+		ConcurrencyLimiter limiter = limits.createLimiter(name);
+		listeners.forEach(it -> it.limiterCreated(limiter));
+
+		return limiter;
+	}
+
+	private record RepositoryLimiters(@Nullable ConcurrencyLimiter repositoryLimiter,
+			Map<String, ConcurrencyLimiter> methodLimiters) {
+
+		@Nullable
+		ConcurrencyLimiter get(String methodName) {
+
+			ConcurrencyLimiter limiter = methodLimiters.get(methodName);
+
+			return limiter != null ? limiter : repositoryLimiter;
+		}
+
+		boolean isLimited() {
+			return repositoryLimiter != null || !methodLimiters.isEmpty();
+		}
+
+	}
+
+}
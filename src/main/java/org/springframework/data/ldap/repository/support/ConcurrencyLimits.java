@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import java.time.Duration;
+
+import org.springframework.data.ldap.repository.ConcurrencyLimit;
+import org.springframework.data.ldap.repository.ConcurrencyLimit.Algorithm;
+import org.springframework.util.Assert;
+
+/**
+ * Value object capturing the concurrency limit of repositories or repository methods. Limits are either fixed or
+ * adaptive: Adaptive limits start at the initial limit and are adjusted between the minimum and the maximum limit
+ * based on observed latencies and failures. Operations exceeding the current limit wait for up to the queue timeout
+ * and are rejected afterwards.
+ *
+ * @since 4.2
+ * @see ConcurrencyLimit
+ * @see LdapRepositoryFactory#setConcurrencyLimits(ConcurrencyLimits)
+ */
+public final class ConcurrencyLimits {
+
+	private final Algorithm algorithm;
+	private final int initialLimit;
+	private final int minLimit;
+	private final int maxLimit;
+	private final Duration queueTimeout;
+
+	private ConcurrencyLimits(Algorithm algorithm, int initialLimit, int minLimit, int maxLimit, Duration queueTimeout) {
+
+		this.algorithm = algorithm;
+		this.initialLimit = initialLimit;
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.queueTimeout = queueTimeout;
+	}
+
+	/**
+	 * Return a new {@link ConcurrencyLimits} allowing a fixed number of concurrent operations.
+	 *
+	 * @param limit maximum number of concurrent operations, must be greater than zero.
+	 * @return a new {@link ConcurrencyLimits}.
+	 */
+	public static ConcurrencyLimits fixed(int limit) {
+		return of(Algorithm.FIXED, limit, limit, limit);
+	}
+
+	/**
+	 * Return a new {@link ConcurrencyLimits} adjusting the limit using additive-increase/multiplicative-decrease.
+	 *
+	 * @param initialLimit the initial limit.
+	 * @param minLimit the lower bound of the limit, must be greater than zero.
+	 * @param maxLimit the upper bound of the limit.
+	 * @return a new {@link ConcurrencyLimits}.
+	 * @see Algorithm#AIMD
+	 */
+	public static ConcurrencyLimits aimd(int initialLimit, int minLimit, int maxLimit) {
+		return of(Algorithm.AIMD, initialLimit, minLimit, maxLimit);
+	}
+
+	/**
+	 * Return a new {@link ConcurrencyLimits} adjusting the limit using the gradient of observed latencies.
+	 *
+	 * @param initialLimit the initial limit.
+	 * @param minLimit the lower bound of the limit, must be greater than zero.
+	 * @param maxLimit the upper bound of the limit.
+	 * @return a new {@link ConcurrencyLimits}.
+	 * @see Algorithm#GRADIENT
+	 */
+	public static ConcurrencyLimits gradient(int initialLimit, int minLimit, int maxLimit) {
+		return of(Algorithm.GRADIENT, initialLimit, minLimit, maxLimit);
+	}
+
+	/**
+	 * Return a new {@link ConcurrencyLimits} from the given {@link ConcurrencyLimit} annotation.
+	 *
+	 * @param annotation must not be {@literal null}.
+	 * @return a new {@link ConcurrencyLimits}.
+	 */
+	public static ConcurrencyLimits from(ConcurrencyLimit annotation) {
+
+		Assert.notNull(annotation, "ConcurrencyLimit must not be null");
+
+		ConcurrencyLimits limits = annotation.algorithm() == Algorithm.FIXED ? fixed(annotation.value())
+				: of(annotation.algorithm(), annotation.value(), annotation.minLimit(),
+						annotation.maxLimit() > 0 ? annotation.maxLimit() : annotation.value());
+
+		return limits.queueTimeout(Duration.ofMillis(annotation.queueTimeout()));
+	}
+
+	private static ConcurrencyLimits of(Algorithm algorithm, int initialLimit, int minLimit, int maxLimit) {
+
+		Assert.isTrue(minLimit > 0, "Minimum limit must be greater than zero");
+		Assert.isTrue(minLimit <= initialLimit && initialLimit <= maxLimit,
+				"Initial limit must be between minimum limit and maximum limit");
+
+		return new ConcurrencyLimits(algorithm, initialLimit, minLimit, maxLimit, Duration.ZERO);
+	}
+
+	/**
+	 * Return a new {@link ConcurrencyLimits} waiting for up to {@code queueTimeout} for capacity before rejecting an
+	 * operation. Defaults to {@link Duration#ZERO} rejecting operations immediately.
+	 *
+	 * @param queueTimeout must not be {@literal null} or negative.
+	 * @return a new {@link ConcurrencyLimits}.
+	 */
+	public ConcurrencyLimits queueTimeout(Duration queueTimeout) {
+
+		Assert.isTrue(queueTimeout != null && !queueTimeout.isNegative(), "Queue timeout must not be negative");
+
+		return new ConcurrencyLimits(algorithm, initialLimit, minLimit, maxLimit, queueTimeout);
+	}
+
+	/**
+	 * Create a new {@link ConcurrencyLimiter} enforcing these limits.
+	 *
+	 * @param name name of the limiter, must not be {@literal null}.
+	 * @return a new {@link ConcurrencyLimiter}.
+	 */
+	public ConcurrencyLimiter createLimiter(String name) {
+		return new ConcurrencyLimiter(name, this);
+	}
+
+	public Algorithm getAlgorithm() {
+		return algorithm;
+	}
+
+	public int getInitialLimit() {
+		return initialLimit;
+	}
+
+	public int getMinLimit() {
+		return minLimit;
+	}
+
+	public int getMaxLimit() {
+		return maxLimit;
+	}
+
+	public Duration getQueueTimeout() {
+		return queueTimeout;
+	}
+
+	@Override
+	public String toString() {
+		return "ConcurrencyLimits[algorithm=%s, initialLimit=%d, minLimit=%d, maxLimit=%d, queueTimeout=%s]"
+				.formatted(algorithm, initialLimit, minLimit, maxLimit, queueTimeout);
+	}
+
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import static org.springframework.ldap.query.LdapQueryBuilder.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import javax.naming.InvalidNameException;
+import javax.naming.Name;
+import javax.naming.ldap.LdapName;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.ldap.repository.NestedGroupExpansion;
+import org.springframework.ldap.core.ContextMapper;
+import org.springframework.ldap.core.DirContextOperations;
+import org.springframework.ldap.core.LdapOperations;
+import org.springframework.ldap.filter.AndFilter;
+import org.springframework.ldap.filter.EqualsFilter;
+import org.springframework.ldap.filter.Filter;
+import org.springframework.ldap.filter.OrFilter;
+import org.springframework.ldap.support.LdapUtils;
+import org.springframework.util.Assert;
+
+/**
+ * Default {@link NestedGroupExpansion} implementation searching for the direct groups of the members of a nesting
+ * level using {@link ChunkedLookups}, with a single search for up to {@value #MAXIMUM_MEMBERS_PER_SEARCH} members of
+ * a chunk, and memoizing them in a bounded cache expiring after the configured time to live.
+ *
+ * @since 4.2
+ */
+class DefaultNestedGroupExpansion implements NestedGroupExpansion {
+
+	static final int MAXIMUM_MEMBERS_PER_SEARCH = 100;
+
+	private final LdapOperations operations;
+	private final Executor executor;
+	private final GroupExpansion settings;
+	private final Filter groupFilter;
+	private final String[] memberAttributes;
+	private final GroupCache directGroups;
+
+	DefaultNestedGroupExpansion(LdapOperations operations, Executor executor, GroupExpansion settings) {
+
+		this.operations = operations;
+		this.executor = executor;
+		this.settings = settings;
+
+		OrFilter groupFilter = new OrFilter();
+		settings.getGroupObjectClasses().forEach(it -> groupFilter.or(new EqualsFilter("objectclass", it)));
+
+		this.groupFilter = groupFilter;
+		this.memberAttributes = settings.getMemberAttributes().toArray(String[]::new);
+		this.directGroups = new GroupCache(settings.getCacheSize(), settings.getCacheTimeToLive());
+	}
+
+	@Override
+	public Set<Name> findTransitiveGroups(Name member) {
+
+		Assert.notNull(member, "Member must not be null");
+
+		Set<Name> groups = new LinkedHashSet<>();
+		Set<Name> visited = new HashSet<>();
+		visited.add(member);
+
+		List<Name> level = List.of(member);
+
+		while (!level.isEmpty()) {
+
+			Map<Name, Set<Name>> parents = ChunkedLookups.lookup(level, settings.getConcurrency(), executor,
+					this::getDirectGroups);
+			List<Name> nextLevel = new ArrayList<>();
+
+			for (Name name : level) {
+				for (Name group : parents.getOrDefault(name, Set.of())) {
+					if (visited.add(group)) {
+						groups.add(group);
+						nextLevel.add(group);
+					}
+				}
+			}
+
+			level = nextLevel;
+		}
+
+		return Collections.unmodifiableSet(groups);
+	}
+
+	@Override
+	public void evictCachedGroups(Name member) {
+
+		Assert.notNull(member, "Member must not be null");
+
+		directGroups.evict(LdapUtils.newLdapName(member));
+	}
+
+	private Map<Name, Set<Name>> getDirectGroups(List<Name> members) {
+
+		Map<Name, Set<Name>> result = new HashMap<>(members.size());
+		Map<LdapName, Name> misses = new LinkedHashMap<>();
+
+		for (Name member : members) {
+
+			LdapName key = LdapUtils.newLdapName(member);
+			Set<Name> groups = directGroups.get(key);
+
+			if (groups != null) {
+				result.put(member, groups);
+			} else {
+				misses.put(key, member);
+			}
+		}
+
+		List<LdapName> keys = new ArrayList<>(misses.keySet());
+
+		for (int i = 0; i < keys.size(); i += MAXIMUM_MEMBERS_PER_SEARCH) {
+
+			Map<LdapName, Set<Name>> found = searchDirectGroups(
+					keys.subList(i, Math.min(i + MAXIMUM_MEMBERS_PER_SEARCH, keys.size())));
+
+			found.forEach((key, groups) -> {
+				directGroups.put(key, groups);
+				result.put(misses.get(key), groups);
+			});
+		}
+
+		return result;
+	}
+
+	/**
+	 * Search the direct groups of all {@code members} at once and attribute each group to the members listed in its
+	 * member attributes.
+	 */
+	private Map<LdapName, Set<Name>> searchDirectGroups(List<LdapName> members) {
+
+		Map<LdapName, Set<Name>> groups = new LinkedHashMap<>(members.size());
+		OrFilter memberFilter = new OrFilter();
+
+		for (LdapName member : members) {
+
+			groups.put(member, new LinkedHashSet<>());
+
+			for (String attribute : memberAttributes) {
+				memberFilter.or(new EqualsFilter(attribute, member.toString()));
+			}
+		}
+
+		operations.search(
+				query().base(settings.getBase()).attributes(memberAttributes)
+						.filter(new AndFilter().and(groupFilter).and(memberFilter)),
+				(ContextMapper<Name>) ctx -> {
+
+					DirContextOperations group = (DirContextOperations) ctx;
+					Name dn = LdapUtils.newLdapName(group.getNameInNamespace());
+
+					for (String attribute : memberAttributes) {
+						for (String value : getValues(group, attribute)) {
+
+							LdapName member = toLdapName(value);
+							Set<Name> memberGroups = member != null ? groups.get(member) : null;
+
+							if (memberGroups != null) {
+								memberGroups.add(dn);
+							}
+						}
+					}
+
+					return dn;
+				});
+
+		groups.replaceAll((member, memberGroups) -> Collections.unmodifiableSet(memberGroups));
+
+		return groups;
+	}
+
+	private static String[] getValues(DirContextOperations group, String attribute) {
+
+		String[] values = group.getStringAttributes(attribute);
+
+		return values != null ? values : new String[0];
+	}
+
+	private static @Nullable LdapName toLdapName(String value) {
+
+		try {
+			return new LdapName(value);
+		} catch (InvalidNameException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Bounded cache of direct groups per member, evicting the least recently used member and expiring entries after the
+	 * configured time to live.
+	 */
+	private static class GroupCache {
+
+		private final int size;
+		private final long timeToLive;
+		private final Map<LdapName, CachedGroups> entries;
+
+		GroupCache(int size, Duration timeToLive) {
+
+			this.size = size;
+			this.timeToLive = timeToLive.toNanos();
+			this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<LdapName, CachedGroups> eldest) {
+					return size() > GroupCache.this.size;
+				}
+			};
+		}
+
+		synchronized @Nullable Set<Name> get(LdapName member) {
+
+			CachedGroups cached = entries.get(member);
+
+			if (cached == null) {
+				return null;
+			}
+
+			if (System.nanoTime() - cached.cachedAt() > timeToLive) {
+				entries.remove(member);
+				return null;
+			}
+
+			return cached.groups();
+		}
+
+		synchronized void put(LdapName member, Set<Name> groups) {
+
+			if (size > 0 && timeToLive > 0) {
+				entries.put(member, new CachedGroups(groups, System.nanoTime()));
+			}
+		}
+
+		synchronized void evict(LdapName member) {
+			entries.remove(member);
+		}
+
+	}
+
+	private record CachedGroups(Set<Name> groups, long cachedAt) {
+
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import javax.naming.Name;
+
+import org.springframework.LdapDataEntry;
+import org.springframework.ldap.core.LdapOperations;
+import org.springframework.ldap.filter.Filter;
+import org.springframework.ldap.odm.core.ObjectDirectoryMapper;
+
+/**
+ * {@link ObjectDirectoryMapper} delegating all operations to another {@link ObjectDirectoryMapper}. Base class for
+ * mappers that a repository uses in place of the {@link ObjectDirectoryMapper} of its {@link LdapOperations}.
+ *
+ * @since 4.2
+ */
+abstract class DelegatingObjectDirectoryMapper implements ObjectDirectoryMapper {
+
+	private final ObjectDirectoryMapper delegate;
+
+	DelegatingObjectDirectoryMapper(ObjectDirectoryMapper delegate) {
+		this.delegate = delegate;
+	}
+
+	ObjectDirectoryMapper getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public void mapToLdapDataEntry(Object entry, LdapDataEntry context) {
+		delegate.mapToLdapDataEntry(entry, context);
+	}
+
+	@Override
+	public <T> T mapFromLdapDataEntry(LdapDataEntry ctx, Class<T> clazz) {
+		return delegate.mapFromLdapDataEntry(ctx, clazz);
+	}
+
+	@Override
+	public Name getId(Object entry) {
+		return delegate.getId(entry);
+	}
+
+	@Override
+	public void setId(Object entry, Name id) {
+		delegate.setId(entry, id);
+	}
+
+	@Override
+	public Name getCalculatedId(Object entry) {
+		return delegate.getCalculatedId(entry);
+	}
+
+	@Override
+	public Filter filterFor(Class<?> clazz, Filter baseFilter) {
+		return delegate.filterFor(clazz, baseFilter);
+	}
+
+	@Override
+	public String attributeFor(Class<?> clazz, String fieldName) {
+		return delegate.attributeFor(clazz, fieldName);
+	}
+
+	@Override
+	public String[] manageClass(Class<?> clazz) {
+		return delegate.manageClass(clazz);
+	}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import javax.naming.Name;
+
+import org.springframework.ldap.core.LdapOperations;
+import org.springframework.ldap.support.LdapUtils;
+import org.springframework.util.Assert;
+
+/**
+ * A partition of a directory: a naming context below {@code base} served by {@code operations}. The base is relative
+ * to the base of the context source of {@code operations}, which should be shared by all partitions (typically the
+ * root) so that distinguished names are unique across partitions.
+ *
+ * @param base base of the naming context.
+ * @param operations operations serving the naming context.
+ * @since 4.2
+ * @see DirectoryPartitions
+ */
+public record DirectoryPartition(Name base, LdapOperations operations) {
+
+	public DirectoryPartition {
+
+		Assert.notNull(base, "Base must not be null");
+		Assert.notNull(operations, "LdapOperations must not be null");
+	}
+
+	/**
+	 * Create a new {@link DirectoryPartition}.
+	 *
+	 * @param base base of the naming context, must not be {@literal null}.
+	 * @param operations operations serving the naming context, must not be {@literal null}.
+	 * @return a new {@link DirectoryPartition}.
+	 */
+	public static DirectoryPartition of(String base, LdapOperations operations) {
+
+		Assert.notNull(base, "Base must not be null");
+
+		return new DirectoryPartition(LdapUtils.newLdapName(base), operations);
+	}
+
+	/**
+	 * @param name the name to inspect.
+	 * @return {@literal true} if {@code name} is the base of this partition or below.
+	 */
+	boolean contains(Name name) {
+		return name.startsWith(base);
+	}
+
+	/**
+	 * @param name the name to inspect.
+	 * @return {@literal true} if this partition is below {@code name}.
+	 */
+	boolean isBelow(Name name) {
+		return base.size() > name.size() && base.startsWith(name);
+	}
+
+}
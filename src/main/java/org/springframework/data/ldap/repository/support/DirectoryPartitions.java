@@ -0,0 +1,552 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+import javax.naming.Name;
+import javax.naming.directory.SearchControls;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.ldap.repository.query.FanOutFutures;
+import org.springframework.ldap.NameNotFoundException;
+import org.springframework.ldap.control.SortControlDirContextProcessor;
+import org.springframework.ldap.core.AttributesMapper;
+import org.springframework.ldap.core.ContextMapper;
+import org.springframework.ldap.core.DirContextOperations;
+import org.springframework.ldap.core.DirContextProcessor;
+import org.springframework.ldap.core.LdapOperations;
+import org.springframework.ldap.odm.annotations.Entry;
+import org.springframework.ldap.filter.Filter;
+import org.springframework.ldap.odm.core.ObjectDirectoryMapper;
+import org.springframework.ldap.query.LdapQuery;
+import org.springframework.ldap.query.LdapQueryBuilder;
+import org.springframework.ldap.query.SearchScope;
+import org.springframework.ldap.support.LdapUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Scatter-gather across {@link DirectoryPartition directory partitions}. Use {@link #getOperations()} as the
+ * {@link LdapOperations} of repositories, for example through {@code @EnableLdapRepositories(ldapTemplateRef = …)}.
+ * <p>
+ * Searches are sent in parallel to all partitions that can contain matching entries and their results are merged.
+ * Partitions are pruned using the search base, which is typically derived from {@code @Entry(base = …)} (also for
+ * {@code findAll(Class)}): a search below the base of a partition only searches that partition; a subtree search
+ * above the base of partitions searches these partitions from their base. Merged results are ordered by partition
+ * unless {@link #sortedBy(Comparator) a comparator} is configured, and are truncated to the count limit of the
+ * search. Without a comparator, each partition applies the count limit of the search. When sorting, partitions are
+ * searched without count limit so that the merged results are the first entries in global order, unless a
+ * {@link #sortedBy(Comparator, String) sort key} lets partitions return their first entries through the server-side
+ * sort control.
+ * <p>
+ * Operations on a single entry ({@code lookup}, {@code findByDn}, {@code bind}, {@code create}, {@code update},
+ * {@code delete}, …) are routed to the partition containing the entry. Paged searches cannot span multiple
+ * partitions.
+ *
+ * @since 4.2
+ */
+public final class DirectoryPartitions implements InvocationHandler {
+
+	private static final Executor DEFAULT_EXECUTOR;
+
+	private static final Object NOT_FOUND = new Object();
+
+	private static final Method FIND = ClassUtils.getMethod(LdapOperations.class, "find", LdapQuery.class,
+			Class.class);
+
+	private static final Method SEARCH_CONTEXT = ClassUtils.getMethod(LdapOperations.class, "search", Name.class,
+			String.class, SearchControls.class, ContextMapper.class, DirContextProcessor.class);
+
+	private static final Method SEARCH_ATTRIBUTES = ClassUtils.getMethod(LdapOperations.class, "search", Name.class,
+			String.class, SearchControls.class, AttributesMapper.class, DirContextProcessor.class);
+
+	static {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("ldap-partition-");
+		executor.setDaemon(true);
+		DEFAULT_EXECUTOR = executor;
+	}
+
+	private final List<DirectoryPartition> partitions;
+	private final @Nullable Comparator<Object> comparator;
+	private final @Nullable String sortKey;
+	private final Executor executor;
+	private final LdapOperations operations;
+
+	private DirectoryPartitions(List<DirectoryPartition> partitions, @Nullable Comparator<Object> comparator,
+			@Nullable String sortKey, Executor executor) {
+
+		this.partitions = partitions;
+		this.comparator = comparator;
+		this.sortKey = sortKey;
+		this.executor = executor;
+		this.operations = (LdapOperations) Proxy.newProxyInstance(ClassUtils.getDefaultClassLoader(),
+				new Class<?>[] { LdapOperations.class }, this);
+	}
+
+	/**
+	 * Create a new {@link DirectoryPartitions} searching partitions in parallel on a {@link SimpleAsyncTaskExecutor}.
+	 *
+	 * @param partitions must not be empty.
+	 * @return a new {@link DirectoryPartitions}.
+	 */
+	public static DirectoryPartitions create(List<DirectoryPartition> partitions) {
+
+		Assert.notEmpty(partitions, "Partitions must not be empty");
+		Assert.noNullElements(partitions, "Partitions must not contain null elements");
+
+		return new DirectoryPartitions(List.copyOf(partitions), null, null, DEFAULT_EXECUTOR);
+	}
+
+	/**
+	 * Return a new {@link DirectoryPartitions} ordering merged search results using the given {@link Comparator}. The
+	 * comparator must accept all search results, for example all entities of a repository.
+	 * <p>
+	 * Sorting requires the complete results of all partitions: partitions are searched without count limit and all
+	 * results are held in memory before applying the count limit of the search. This applies to {@link Stream} results
+	 * as well, which are buffered completely. Use {@link #sortedBy(Comparator, String)} to limit count-limited searches
+	 * on each partition through the server-side sort control.
+	 *
+	 * @param comparator must not be {@literal null}.
+	 * @return a new {@link DirectoryPartitions}.
+	 */
+	@SuppressWarnings("unchecked")
+	public DirectoryPartitions sortedBy(Comparator<?> comparator) {
+
+		Assert.notNull(comparator, "Comparator must not be null");
+
+		return new DirectoryPartitions(partitions, (Comparator<Object>) comparator, null, executor);
+	}
+
+	/**
+	 * Return a new {@link DirectoryPartitions} ordering merged search results using the given {@link Comparator} and
+	 * requesting partitions to sort count-limited searches by the given attribute using the server-side sort control
+	 * (RFC 2891). Each partition then returns only the first entries up to the count limit, and merging these yields
+	 * the first entries in global order. The comparator must order entries consistently with the ordering rule of the
+	 * sort attribute on the directory servers, and all partitions must support the server-side sort control.
+	 * <p>
+	 * The server-side sort control is applied to {@link LdapQuery}-based {@code find} and {@code search} methods
+	 * returning a {@link List}. Other searches are sorted as described in {@link #sortedBy(Comparator)}. Searches using
+	 * the server-side sort control use the scope and time limit of the query, defaulting to a subtree search without
+	 * time limit.
+	 *
+	 * @param comparator must not be {@literal null}.
+	 * @param sortKey the attribute to sort by, must not be empty.
+	 * @return a new {@link DirectoryPartitions}.
+	 */
+	@SuppressWarnings("unchecked")
+	public DirectoryPartitions sortedBy(Comparator<?> comparator, String sortKey) {
+
+		Assert.notNull(comparator, "Comparator must not be null");
+		Assert.hasText(sortKey, "Sort key must not be empty");
+
+		return new DirectoryPartitions(partitions, (Comparator<Object>) comparator, sortKey, executor);
+	}
+
+	/**
+	 * Return a new {@link DirectoryPartitions} searching partitions on the given {@link Executor}.
+	 *
+	 * @param executor must not be {@literal null}.
+	 * @return a new {@link DirectoryPartitions}.
+	 */
+	public DirectoryPartitions executor(Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null");
+
+		return new DirectoryPartitions(partitions, comparator, sortKey, executor);
+	}
+
+	/**
+	 * @return the scatter-gather {@link LdapOperations}.
+	 */
+	public LdapOperations getOperations() {
+		return operations;
+	}
+
+	public List<DirectoryPartition> getPartitions() {
+		return partitions;
+	}
+
+	@Override
+	public @Nullable Object invoke(Object proxy, Method method, @Nullable Object[] args) throws Throwable {
+
+		if (method.getDeclaringClass() == Object.class) {
+			return switch (method.getName()) {
+				case "equals" -> args != null && proxy == args[0];
+				case "hashCode" -> System.identityHashCode(proxy);
+				default -> toString();
+			};
+		}
+
+		if (method.getName().equals("getObjectDirectoryMapper")) {
+			return invoke(partitions.get(0).operations(), method, args);
+		}
+
+		Class<?> firstType = method.getParameterCount() != 0 ? method.getParameterTypes()[0] : Void.class;
+		Object first = args != null ? args[0] : null;
+
+		if (first instanceof LdapQuery query) {
+			return scatter(method, args, query);
+		}
+
+		if (firstType == Name.class || firstType == String.class) {
+
+			Name name = first instanceof Name dn ? dn
+					: first != null ? LdapUtils.newLdapName((String) first) : LdapUtils.emptyLdapName();
+
+			return route(method, args, name);
+		}
+
+		if (method.getName().equals("findAll") && args != null && args.length == 1 && first instanceof Class<?> type) {
+
+			Entry entry = AnnotatedElementUtils.findMergedAnnotation(type, Entry.class);
+			ObjectDirectoryMapper odm = partitions.get(0).operations().getObjectDirectoryMapper();
+			LdapQuery query = LdapQueryBuilder.query().base(entry != null ? entry.base() : "")
+					.filter(odm.filterFor(type, null));
+
+			return scatter(FIND, new Object[] { query, type }, query);
+		}
+
+		if (firstType == Object.class && first != null) {
+
+			ObjectDirectoryMapper odm = partitions.get(0).operations().getObjectDirectoryMapper();
+			Name id = odm.getId(first);
+			Name dn = id != null ? id : odm.getCalculatedId(first);
+			DirectoryPartition partition = dn != null ? getPartition(dn) : null;
+
+			if (partition == null) {
+				throw new InvalidDataAccessApiUsageException("No partition contains entry '%s'".formatted(dn));
+			}
+
+			return invoke(partition.operations(), method, args);
+		}
+
+		throw new InvalidDataAccessApiUsageException(
+				"LdapOperations.%s(…) is not supported across partitions".formatted(method.getName()));
+	}
+
+	private @Nullable Object scatter(Method method, Object[] args, LdapQuery query) throws Throwable {
+
+		Name base = query.base() != null ? query.base() : LdapUtils.emptyLdapName();
+		boolean subtree = query.searchScope() == null || query.searchScope() == SearchScope.SUBTREE;
+		boolean limited = query.countLimit() != null && query.countLimit() > 0;
+		boolean serverSorted = comparator != null && limited && sortKey != null && isServerSortable(method);
+		List<Target> targets = new ArrayList<>(partitions.size());
+
+		for (DirectoryPartition partition : partitions) {
+
+			Name searchBase = partition.contains(base) ? base
+					: subtree && partition.isBelow(base) ? partition.base() : null;
+
+			if (searchBase == null) {
+				continue;
+			}
+
+			LdapQuery partitionQuery = query;
+
+			if (searchBase != base || (comparator != null && limited && !serverSorted)) {
+
+				LdapQueryBuilder builder = LdapQueryBuilder.fromQuery(query).base(searchBase);
+
+				if (comparator != null && !serverSorted) {
+					builder.countLimit(0);
+				}
+
+				partitionQuery = builder;
+			}
+
+			if (serverSorted) {
+				targets.add(sortedSearch(partition.operations(), partitionQuery, args[1]));
+				continue;
+			}
+
+			Object[] partitionArgs = args.clone();
+			partitionArgs[0] = partitionQuery;
+			targets.add(new Target(partition.operations(), method, partitionArgs));
+		}
+
+		return gather(method, targets, query.countLimit() != null ? query.countLimit() : 0);
+	}
+
+	private @Nullable Object route(Method method, @Nullable Object[] args, Name name) throws Throwable {
+
+		DirectoryPartition owner = getPartition(name);
+
+		if (owner != null) {
+			return invoke(owner.operations(), method, args);
+		}
+
+		if (args == null || !isSearch(method)) {
+			throw new NameNotFoundException("No partition contains '%s'".formatted(name));
+		}
+
+		SearchControls controls = null;
+		boolean processor = false;
+
+		for (Object arg : args) {
+			if (arg instanceof SearchControls searchControls) {
+				controls = searchControls;
+			} else if (arg instanceof DirContextProcessor) {
+				processor = true;
+			}
+		}
+
+		Class<?>[] parameterTypes = method.getParameterTypes();
+		int scope = controls != null ? controls.getSearchScope()
+				: parameterTypes.length > 2 && parameterTypes[2] == int.class ? (int) args[2]
+						: SearchControls.SUBTREE_SCOPE;
+		List<Target> targets = new ArrayList<>(partitions.size());
+
+		for (DirectoryPartition partition : partitions) {
+
+			if (scope != SearchControls.SUBTREE_SCOPE || !partition.isBelow(name)) {
+				continue;
+			}
+
+			Object[] partitionArgs = args.clone();
+			partitionArgs[0] = args[0] instanceof String ? partition.base().toString() : partition.base();
+
+			for (int i = 0; i < partitionArgs.length; i++) {
+				if (partitionArgs[i] instanceof SearchControls searchControls) {
+					partitionArgs[i] = copy(searchControls);
+				}
+			}
+
+			targets.add(new Target(partition.operations(), method, partitionArgs));
+		}
+
+		if (processor && targets.size() > 1) {
+			throw new InvalidDataAccessApiUsageException(
+					("Searches using a DirContextProcessor (e.g. paged searches) cannot span multiple partitions "
+							+ "below '%s'").formatted(name));
+		}
+
+		return gather(method, targets, controls != null ? (int) controls.getCountLimit() : 0);
+	}
+
+	private @Nullable Object gather(Method method, List<Target> targets, int countLimit) throws Throwable {
+
+		Class<?> returnType = method.getReturnType();
+
+		if (returnType == void.class) {
+
+			for (Target target : targets) {
+				invoke(target.operations(), target.method(), target.args());
+			}
+
+			return null;
+		}
+
+		if (targets.size() == 1 && comparator == null) {
+			return invoke(targets.get(0).operations(), targets.get(0).method(), targets.get(0).args());
+		}
+
+		List<@Nullable Object> results = invokeAll(targets);
+
+		if (List.class.isAssignableFrom(returnType) || Stream.class.isAssignableFrom(returnType)) {
+
+			List<Object> merged = new ArrayList<>();
+
+			for (Object result : results) {
+				if (result instanceof List<?> list) {
+					merged.addAll(list);
+				} else if (result instanceof Stream<?> stream) {
+					try (stream) {
+						stream.forEach(merged::add);
+					}
+				}
+			}
+
+			if (comparator != null) {
+				merged.sort(comparator);
+			}
+
+			List<Object> limited = countLimit > 0 && merged.size() > countLimit ? merged.subList(0, countLimit)
+					: merged;
+
+			return List.class.isAssignableFrom(returnType) ? limited : limited.stream();
+		}
+
+		if (returnType == boolean.class || returnType == Boolean.class) {
+			return results.contains(Boolean.TRUE);
+		}
+
+		List<Object> found = new ArrayList<>(1);
+		boolean notFound = false;
+
+		for (Object result : results) {
+			if (result == NOT_FOUND) {
+				notFound = true;
+			} else if (result != null) {
+				found.add(result);
+			}
+		}
+
+		if (found.size() > 1) {
+			throw new IncorrectResultSizeDataAccessException(1, found.size());
+		}
+
+		if (found.isEmpty() && (notFound || results.isEmpty())) {
+			throw new EmptyResultDataAccessException(1);
+		}
+
+		return found.isEmpty() ? null : found.get(0);
+	}
+
+	private List<@Nullable Object> invokeAll(List<Target> targets) throws Throwable {
+
+		List<CompletableFuture<@Nullable Object>> futures = new ArrayList<>(targets.size());
+
+		for (Target target : targets) {
+			futures.add(CompletableFuture.supplyAsync(() -> {
+				try {
+					return invoke(target.operations(), target.method(), target.args());
+				} catch (EmptyResultDataAccessException e) {
+					return NOT_FOUND;
+				} catch (Throwable e) {
+					throw new CompletionException(e);
+				}
+			}, executor));
+		}
+
+		List<@Nullable Object> results = new ArrayList<>(targets.size());
+
+		try {
+			for (CompletableFuture<@Nullable Object> future : futures) {
+				results.add(FanOutFutures.join(future, futures));
+			}
+		} catch (CompletionException e) {
+			throw e.getCause() != null ? e.getCause() : e;
+		}
+
+		return results;
+	}
+
+	private @Nullable DirectoryPartition getPartition(Name name) {
+
+		DirectoryPartition owner = null;
+
+		for (DirectoryPartition partition : partitions) {
+			if (partition.contains(name) && (owner == null || partition.base().size() > owner.base().size())) {
+				owner = partition;
+			}
+		}
+
+		return owner;
+	}
+
+	private SearchControls copy(SearchControls controls) {
+
+		return new SearchControls(controls.getSearchScope(), comparator != null ? 0 : controls.getCountLimit(),
+				controls.getTimeLimit(), controls.getReturningAttributes(), controls.getReturningObjFlag(),
+				controls.getDerefLinkFlag());
+	}
+
+	/**
+	 * Create a search of the given partition sorted by the sort key using the server-side sort control that is
+	 * equivalent to the {@code find} or {@code search} method using the given query and class or mapper.
+	 */
+	@SuppressWarnings("unchecked")
+	private Target sortedSearch(LdapOperations operations, LdapQuery query, Object mapper) {
+
+		Assert.state(sortKey != null, "Sort key must not be null");
+
+		SearchControls controls = new SearchControls();
+		controls.setSearchScope(
+				query.searchScope() != null ? query.searchScope().getId() : SearchControls.SUBTREE_SCOPE);
+		controls.setTimeLimit(query.timeLimit() != null ? query.timeLimit() : 0);
+		controls.setCountLimit(query.countLimit() != null ? query.countLimit() : 0);
+		controls.setReturningAttributes(query.attributes());
+		controls.setReturningObjFlag(!(mapper instanceof AttributesMapper));
+
+		Filter filter = query.filter();
+		Object searchMapper = mapper;
+
+		if (mapper instanceof Class<?> type) {
+
+			ObjectDirectoryMapper odm = operations.getObjectDirectoryMapper();
+			filter = odm.filterFor(type, filter);
+			searchMapper = (ContextMapper<Object>) ctx -> odm.mapFromLdapDataEntry((DirContextOperations) ctx, type);
+
+			if (query.attributes() == null) {
+				controls.setReturningAttributes(odm.manageClass(type));
+			}
+		}
+
+		Name base = query.base() != null ? query.base() : LdapUtils.emptyLdapName();
+		Method search = mapper instanceof AttributesMapper ? SEARCH_ATTRIBUTES : SEARCH_CONTEXT;
+
+		return new Target(operations, search, new Object[] { base, filter.encode(), controls, searchMapper,
+				new SortControlDirContextProcessor(sortKey) });
+	}
+
+	private static boolean isServerSortable(Method method) {
+
+		Class<?>[] parameterTypes = method.getParameterTypes();
+
+		if (parameterTypes.length != 2 || parameterTypes[0] != LdapQuery.class
+				|| method.getReturnType() != List.class) {
+			return false;
+		}
+
+		return method.getName().equals("find") ? parameterTypes[1] == Class.class
+				: method.getName().equals("search")
+						&& (parameterTypes[1] == ContextMapper.class || parameterTypes[1] == AttributesMapper.class);
+	}
+
+	private static boolean isSearch(Method method) {
+
+		String name = method.getName();
+
+		return name.startsWith("search") || name.equals("find") || name.equals("findAll");
+	}
+
+	private static @Nullable Object invoke(LdapOperations target, Method method, @Nullable Object[] args)
+			throws Throwable {
+
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "DirectoryPartitions%s".formatted(partitions.stream().map(DirectoryPartition::base).toList());
+	}
+
+	private record Target(LdapOperations operations, Method method, Object[] args) {
+
+	}
+
+}
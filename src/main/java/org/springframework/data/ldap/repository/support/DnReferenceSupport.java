@@ -0,0 +1,267 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import javax.naming.Name;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.CollectionFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.ldap.core.mapping.DnReference;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.ldap.NameNotFoundException;
+import org.springframework.ldap.core.LdapOperations;
+import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.core.support.BaseLdapPathSource;
+import org.springframework.ldap.odm.annotations.Entry;
+import org.springframework.ldap.odm.annotations.Transient;
+import org.springframework.ldap.support.LdapUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * Resolves {@link DnReference} properties of entities returned by a repository. Eager references of a batch of
+ * entities are resolved together by looking up each distinct distinguished name once. Lookups are partitioned into at
+ * most {@code concurrency} chunks that run on the configured {@link Executor}. Lazy references are assigned a
+ * {@link Supplier} resolving the references of a single entity on first access.
+ *
+ * @since 4.2
+ */
+final class DnReferenceSupport {
+
+	private final LdapOperations operations;
+	private final Executor executor;
+	private final int concurrency;
+	private final Name base;
+	private final List<ReferenceProperty> properties;
+
+	private DnReferenceSupport(LdapOperations operations, Executor executor, int concurrency,
+			List<ReferenceProperty> properties) {
+
+		this.operations = operations;
+		this.executor = executor;
+		this.concurrency = concurrency;
+		this.base = operations instanceof LdapTemplate template
+				&& template.getContextSource() instanceof BaseLdapPathSource pathSource ? pathSource.getBaseLdapName()
+						: LdapUtils.emptyLdapName();
+		this.properties = properties;
+	}
+
+	/**
+	 * Create {@link DnReferenceSupport} for the given {@code entityType}.
+	 *
+	 * @param entityType the entity type.
+	 * @param operations the LDAP operations.
+	 * @param executor the executor to run lookups.
+	 * @param concurrency maximum number of concurrent lookup chunks.
+	 * @return the {@link DnReferenceSupport} or {@literal null} if the entity type does not declare {@link DnReference}
+	 *         properties.
+	 */
+	static @Nullable DnReferenceSupport create(Class<?> entityType, LdapOperations operations, Executor executor,
+			int concurrency) {
+
+		List<Field> fields = new ArrayList<>();
+		ReflectionUtils.doWithFields(entityType, fields::add, field -> field.isAnnotationPresent(DnReference.class));
+
+		if (fields.isEmpty()) {
+			return null;
+		}
+
+		List<ReferenceProperty> properties = new ArrayList<>(fields.size());
+
+		for (Field field : fields) {
+			properties.add(ReferenceProperty.of(entityType, field));
+		}
+
+		return new DnReferenceSupport(operations, executor, concurrency, properties);
+	}
+
+	/**
+	 * Resolve {@link DnReference} properties of the given {@code entities}.
+	 *
+	 * @param entities the entities returned by the repository.
+	 */
+	void process(List<?> entities) {
+
+		Map<Class<?>, Set<Name>> requested = new LinkedHashMap<>();
+
+		for (Object entity : entities) {
+			for (ReferenceProperty property : properties) {
+				if (!property.lazy()) {
+					requested.computeIfAbsent(property.targetType(), it -> new LinkedHashSet<>())
+							.addAll(property.getNames(entity));
+				}
+			}
+		}
+
+		Map<Class<?>, Map<Name, Object>> resolved = new HashMap<>(requested.size());
+		requested.forEach((type, names) -> resolved.put(type, resolve(type, names)));
+
+		for (Object entity : entities) {
+			for (ReferenceProperty property : properties) {
+
+				List<Name> names = property.getNames(entity);
+				Object value = property.lazy()
+						? SingletonSupplier.of(() -> property.getValue(names, resolve(property.targetType(), names)))
+						: property.getValue(names, resolved.get(property.targetType()));
+
+				ReflectionUtils.setField(property.field(), entity, value);
+			}
+		}
+	}
+
+	/**
+	 * Look up the entries with the given distinguished names.
+	 *
+	 * @return the entities by distinguished name omitting entries that do not exist.
+	 */
+	Map<Name, Object> resolve(Class<?> type, Collection<Name> names) {
+		return ChunkedLookups.lookup(List.copyOf(new LinkedHashSet<>(names)), concurrency, executor,
+				chunk -> lookup(type, chunk));
+	}
+
+	private Map<Name, Object> lookup(Class<?> type, List<Name> names) {
+
+		Map<Name, Object> results = new HashMap<>(names.size());
+
+		for (Name name : names) {
+			try {
+				results.put(name, operations.findByDn(relativize(name), type));
+			} catch (NameNotFoundException e) {
+				// referenced entry does not exist
+			}
+		}
+
+		return results;
+	}
+
+	private Name relativize(Name name) {
+		return !base.isEmpty() && name.startsWith(base) ? LdapUtils.removeFirst(name, base) : name;
+	}
+
+	private record ReferenceProperty(Field field, Field namesField, Class<?> targetType,
+			@Nullable Class<?> collectionType, boolean lazy) {
+
+		static ReferenceProperty of(Class<?> entityType, Field field) {
+
+			String property = entityType.getName() + "." + field.getName();
+			DnReference annotation = field.getAnnotation(DnReference.class);
+			Field namesField = ReflectionUtils.findField(entityType, annotation.value());
+
+			if (namesField == null) {
+				throw new MappingException("Property %s referenced by @DnReference property %s does not exist"
+						.formatted(annotation.value(), property));
+			}
+
+			if (!field.isAnnotationPresent(Transient.class)) {
+				throw new MappingException("@DnReference property %s must be @Transient".formatted(property));
+			}
+
+			boolean lazy = field.getType() == Supplier.class;
+			ResolvableType valueType = lazy ? ResolvableType.forField(field).as(Supplier.class).getGeneric(0)
+					: ResolvableType.forField(field);
+			Class<?> collectionType = Collection.class.isAssignableFrom(valueType.resolve(Object.class))
+					? valueType.resolve()
+					: null;
+			Class<?> targetType = collectionType != null ? valueType.asCollection().getGeneric(0).resolve(Object.class)
+					: valueType.resolve(Object.class);
+
+			if (!AnnotatedElementUtils.hasAnnotation(targetType, Entry.class)) {
+				throw new MappingException("@DnReference property %s must reference an @Entry type but was %s"
+						.formatted(property, targetType.getName()));
+			}
+
+			ReflectionUtils.makeAccessible(field);
+			ReflectionUtils.makeAccessible(namesField);
+
+			return new ReferenceProperty(field, namesField, targetType, collectionType, lazy);
+		}
+
+		List<Name> getNames(Object entity) {
+
+			Object value = ReflectionUtils.getField(namesField, entity);
+
+			if (value == null) {
+				return List.of();
+			}
+
+			if (value instanceof Collection<?> collection) {
+
+				List<Name> names = new ArrayList<>(collection.size());
+
+				for (Object element : collection) {
+					if (element != null) {
+						names.add(toName(element));
+					}
+				}
+
+				return names;
+			}
+
+			return List.of(toName(value));
+		}
+
+		private static Name toName(Object value) {
+			return value instanceof Name name ? name : LdapUtils.newLdapName(value.toString());
+		}
+
+		@Nullable
+		Object getValue(List<Name> names, Map<Name, Object> resolved) {
+
+			if (collectionType != null) {
+
+				Collection<Object> collection = CollectionFactory.createCollection(collectionType, names.size());
+
+				for (Name name : names) {
+
+					Object entity = resolved.get(name);
+
+					if (entity != null) {
+						collection.add(entity);
+					}
+				}
+
+				return collection;
+			}
+
+			for (Name name : names) {
+
+				Object entity = resolved.get(name);
+
+				if (entity != null) {
+					return entity;
+				}
+			}
+
+			return null;
+		}
+	}
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.LdapDataEntry;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.ldap.core.mapping.LdapEntityMapper;
+import org.springframework.data.ldap.core.mapping.LdapEntityMapperSupport;
+import org.springframework.ldap.core.LdapOperations;
+import org.springframework.ldap.odm.core.ObjectDirectoryMapper;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * {@link ObjectDirectoryMapper} mapping entities using their {@link LdapEntityMapper} generated at build time by
+ * {@link LdapAnnotationProcessor} and delegating to the reflective {@link ObjectDirectoryMapper} for entities without
+ * generated mapper and all other operations.
+ *
+ * @since 4.2
+ */
+final class EntityMapperObjectDirectoryMapper extends DelegatingObjectDirectoryMapper {
+
+	private static final Map<Class<?>, Optional<LdapEntityMapper<?>>> MAPPERS = new ConcurrentReferenceHashMap<>();
+
+	EntityMapperObjectDirectoryMapper(ObjectDirectoryMapper delegate) {
+		super(delegate);
+	}
+
+	/**
+	 * Return an {@link ObjectDirectoryMapper} for repositories of {@code entityType}. The mapper is local to the
+	 * repository and leaves the {@link ObjectDirectoryMapper} of the {@link LdapOperations} unchanged.
+	 *
+	 * @param delegate the reflective mapper to delegate to.
+	 * @param entityType the entity type.
+	 * @return a {@link EntityMapperObjectDirectoryMapper} if {@code entityType} has a generated {@link LdapEntityMapper},
+	 *         {@code delegate} otherwise.
+	 */
+	static ObjectDirectoryMapper of(ObjectDirectoryMapper delegate, Class<?> entityType) {
+
+		if (delegate instanceof EntityMapperObjectDirectoryMapper || getMapper(entityType) == null) {
+			return delegate;
+		}
+
+		return new EntityMapperObjectDirectoryMapper(delegate);
+	}
+
+	/**
+	 * Return the generated {@link LdapEntityMapper} for {@code entityType}.
+	 *
+	 * @param entityType the entity type.
+	 * @return the generated mapper or {@literal null} if {@code entityType} has no generated mapper.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> @Nullable LdapEntityMapper<T> getMapper(Class<T> entityType) {
+		return (LdapEntityMapper<T>) MAPPERS
+				.computeIfAbsent(entityType, EntityMapperObjectDirectoryMapper::loadMapper).orElse(null);
+	}
+
+	private static Optional<LdapEntityMapper<?>> loadMapper(Class<?> entityType) {
+
+		String mapperClassName = entityType.getPackageName() + "."
+				+ ClassUtils.getShortName(entityType).replace('.', '_') + LdapEntityMapper.MAPPER_SUFFIX;
+
+		if (!ClassUtils.isPresent(mapperClassName, entityType.getClassLoader())) {
+			return Optional.empty();
+		}
+
+		Class<?> mapperClass = ClassUtils.resolveClassName(mapperClassName, entityType.getClassLoader());
+
+		if (!LdapEntityMapper.class.isAssignableFrom(mapperClass)) {
+			return Optional.empty();
+		}
+
+		LdapEntityMapper<?> mapper = (LdapEntityMapper<?>) BeanUtils.instantiateClass(mapperClass);
+
+		if (mapper instanceof LdapEntityMapperSupport<?> support && support.getEntityType() != entityType) {
+			return Optional.empty();
+		}
+
+		return Optional.of(mapper);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void mapToLdapDataEntry(Object entry, LdapDataEntry context) {
+
+		LdapEntityMapper<Object> mapper = (LdapEntityMapper<Object>) getMapper(entry.getClass());
+
+		if (mapper != null) {
+			mapper.write(entry, context);
+		} else {
+			super.mapToLdapDataEntry(entry, context);
+		}
+	}
+
+	@Override
+	public <T> T mapFromLdapDataEntry(LdapDataEntry ctx, Class<T> clazz) {
+
+		LdapEntityMapper<T> mapper = getMapper(clazz);
+
+		return mapper != null ? mapper.read(ctx) : super.mapFromLdapDataEntry(ctx, clazz);
+	}
+
+}
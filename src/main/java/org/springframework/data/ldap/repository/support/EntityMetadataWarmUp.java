@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.ldap.core.LdapOperations;
+import org.springframework.util.Assert;
+
+/**
+ * Initializes the mapping metadata, object-directory mapping metadata and
+ * {@link org.springframework.data.ldap.core.mapping.LdapEntityMapper generated mappers} of entity types once all
+ * singletons are instantiated, that is before the application context completes its refresh. Entity types that cannot
+ * be initialized are logged and initialized on first use.
+ *
+ * @since 4.2
+ * @see LdapRepositoryFactory#setWarmUp(boolean)
+ */
+public class EntityMetadataWarmUp implements SmartInitializingSingleton {
+
+	private static final Log LOG = LogFactory.getLog(EntityMetadataWarmUp.class);
+
+	private final LdapOperations ldapOperations;
+	private final MappingContext<?, ?> mappingContext;
+	private final List<Class<?>> entityTypes;
+
+	/**
+	 * Create a new {@link EntityMetadataWarmUp}.
+	 *
+	 * @param ldapOperations must not be {@literal null}.
+	 * @param mappingContext must not be {@literal null}.
+	 * @param entityTypes entity types to initialize, must not be {@literal null}.
+	 */
+	public EntityMetadataWarmUp(LdapOperations ldapOperations, MappingContext<?, ?> mappingContext,
+			Collection<Class<?>> entityTypes) {
+
+		Assert.notNull(ldapOperations, "LdapOperations must not be null");
+		Assert.notNull(mappingContext, "MappingContext must not be null");
+		Assert.notNull(entityTypes, "Entity types must not be null");
+
+		this.ldapOperations = ldapOperations;
+		this.mappingContext = mappingContext;
+		this.entityTypes = List.copyOf(entityTypes);
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		warmUp();
+	}
+
+	/**
+	 * Initialize the metadata of all entity types.
+	 */
+	public void warmUp() {
+
+		long start = System.nanoTime();
+
+		for (Class<?> entityType : entityTypes) {
+
+			try {
+				mappingContext.getPersistentEntity(entityType);
+
+				for (LdapOperations target : ReadReplicaRouting.targetsOf(ldapOperations)) {
+					target.getObjectDirectoryMapper().manageClass(entityType);
+				}
+
+				EntityMapperObjectDirectoryMapper.getMapper(entityType);
+			} catch (RuntimeException ex) {
+				if (LOG.isWarnEnabled()) {
+					LOG.warn(String.format("Cannot initialize metadata of entity %s: %s", entityType.getName(),
+							ex.getMessage()));
+				}
+			}
+		}
+
+		if (LOG.isDebugEnabled()) {
+			LOG.debug(String.format("Initialized metadata of %d entities in %d ms", entityTypes.size(),
+					(System.nanoTime() - start) / 1_000_000));
+		}
+	}
+
+}
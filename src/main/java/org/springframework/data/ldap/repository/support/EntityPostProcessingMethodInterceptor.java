@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.repository.core.RepositoryInformation;
+
+/**
+ * {@link MethodInterceptor} applying a post-processing {@link Consumer} to entities returned by repository methods.
+ * Entities are post-processed when returned directly, wrapped in {@link Optional}, contained in an {@link Iterable}
+ * (including {@link org.springframework.data.domain.Page} and {@link org.springframework.data.domain.Slice}) or
+ * emitted by a {@link Stream}. Entities contained in an {@link Iterable} are post-processed as a single batch, all
+ * other entities one by one. Save, delete, count and exists methods are not post-processed.
+ *
+ * @since 4.2
+ */
+class EntityPostProcessingMethodInterceptor implements MethodInterceptor {
+
+	private final Class<?> domainType;
+	private final Consumer<List<Object>> postProcessor;
+
+	EntityPostProcessingMethodInterceptor(RepositoryInformation information, Consumer<List<Object>> postProcessor) {
+
+		this.domainType = information.getDomainType();
+		this.postProcessor = postProcessor;
+	}
+
+	@Override
+	public @Nullable Object invoke(MethodInvocation invocation) throws Throwable {
+
+		Method method = invocation.getMethod();
+		Object result = invocation.proceed();
+
+		if (result == null || method.getDeclaringClass() == Object.class || !isReadOperation(method)) {
+			return result;
+		}
+
+		if (domainType.isInstance(result)) {
+			postProcessor.accept(List.of(result));
+		} else if (result instanceof Optional<?> optional) {
+			optional.filter(domainType::isInstance).ifPresent(this::postProcess);
+		} else if (result instanceof Stream<?> stream) {
+			return stream.map(this::postProcess);
+		} else if (result instanceof Iterable<?> iterable) {
+
+			List<Object> entities = new ArrayList<>();
+
+			for (Object element : iterable) {
+				if (domainType.isInstance(element)) {
+					entities.add(element);
+				}
+			}
+
+			if (!entities.isEmpty()) {
+				postProcessor.accept(entities);
+			}
+		}
+
+		return result;
+	}
+
+	private Object postProcess(Object element) {
+
+		if (domainType.isInstance(element)) {
+			postProcessor.accept(List.of(element));
+		}
+
+		return element;
+	}
+
+	private static boolean isReadOperation(Method method) {
+
+		return switch (RepositoryOperationMethodInterceptor.getExecutionType(method)) {
+			case ONE, COLLECTION, STREAM -> true;
+			default -> false;
+		};
+	}
+
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import java.time.Duration;
+import java.util.List;
+
+import javax.naming.Name;
+
+import org.springframework.ldap.support.LdapUtils;
+import org.springframework.util.Assert;
+
+/**
+ * Value object capturing how {@link org.springframework.data.ldap.repository.NestedGroupExpansion} searches for the
+ * groups of a member. Defaults search for {@code group}, {@code groupOfNames} and {@code groupOfUniqueNames} entries
+ * below the base of the context source whose {@code member} or {@code uniqueMember} attribute contains the member,
+ * running up to {@code 4} searches concurrently and memoizing the direct groups of up to {@code 1000} members for
+ * {@code 5} minutes.
+ *
+ * @since 4.2
+ */
+public final class GroupExpansion {
+
+	private static final GroupExpansion DEFAULTS = new GroupExpansion(LdapUtils.emptyLdapName(),
+			List.of("group", "groupOfNames", "groupOfUniqueNames"), List.of("member", "uniqueMember"), 4, 1000,
+			Duration.ofMinutes(5));
+
+	private final Name base;
+	private final List<String> groupObjectClasses;
+	private final List<String> memberAttributes;
+	private final int concurrency;
+	private final int cacheSize;
+	private final Duration cacheTimeToLive;
+
+	private GroupExpansion(Name base, List<String> groupObjectClasses, List<String> memberAttributes, int concurrency,
+			int cacheSize, Duration cacheTimeToLive) {
+
+		this.base = base;
+		this.groupObjectClasses = groupObjectClasses;
+		this.memberAttributes = memberAttributes;
+		this.concurrency = concurrency;
+		this.cacheSize = cacheSize;
+		this.cacheTimeToLive = cacheTimeToLive;
+	}
+
+	/**
+	 * Return the default {@link GroupExpansion}.
+	 *
+	 * @return the default {@link GroupExpansion}.
+	 */
+	public static GroupExpansion defaults() {
+		return DEFAULTS;
+	}
+
+	/**
+	 * Return a new {@link GroupExpansion} searching for groups below the given {@code base}.
+	 *
+	 * @param base search base relative to the base of the context source, must not be {@literal null}.
+	 * @return a new {@link GroupExpansion}.
+	 */
+	public GroupExpansion base(String base) {
+
+		Assert.notNull(base, "Base must not be null");
+
+		return new GroupExpansion(LdapUtils.newLdapName(base), groupObjectClasses, memberAttributes, concurrency,
+				cacheSize, cacheTimeToLive);
+	}
+
+	/**
+	 * Return a new {@link GroupExpansion} searching for entries with any of the given object classes.
+	 *
+	 * @param groupObjectClasses must not be empty.
+	 * @return a new {@link GroupExpansion}.
+	 */
+	public GroupExpansion groupObjectClasses(String... groupObjectClasses) {
+
+		Assert.notEmpty(groupObjectClasses, "Group object classes must not be empty");
+
+		return new GroupExpansion(base, List.of(groupObjectClasses), memberAttributes, concurrency, cacheSize,
+				cacheTimeToLive);
+	}
+
+	/**
+	 * Return a new {@link GroupExpansion} matching members by any of the given DN-valued attributes.
+	 *
+	 * @param memberAttributes must not be empty.
+	 * @return a new {@link GroupExpansion}.
+	 */
+	public GroupExpansion memberAttributes(String... memberAttributes) {
+
+		Assert.notEmpty(memberAttributes, "Member attributes must not be empty");
+
+		return new GroupExpansion(base, groupObjectClasses, List.of(memberAttributes), concurrency, cacheSize,
+				cacheTimeToLive);
+	}
+
+	/**
+	 * Return a new {@link GroupExpansion} running up to {@code concurrency} searches of a nesting level concurrently on
+	 * the repository {@link java.util.concurrent.Executor}.
+	 *
+	 * @param concurrency must be greater than zero.
+	 * @return a new {@link GroupExpansion}.
+	 */
+	public GroupExpansion concurrency(int concurrency) {
+
+		Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero");
+
+		return new GroupExpansion(base, groupObjectClasses, memberAttributes, concurrency, cacheSize, cacheTimeToLive);
+	}
+
+	/**
+	 * Return a new {@link GroupExpansion} memoizing the direct groups of up to {@code cacheSize} members. Zero disables
+	 * memoization.
+	 *
+	 * @param cacheSize must not be negative.
+	 * @return a new {@link GroupExpansion}.
+	 */
+	public GroupExpansion cacheSize(int cacheSize) {
+
+		Assert.isTrue(cacheSize >= 0, "Cache size must not be negative");
+
+		return new GroupExpansion(base, groupObjectClasses, memberAttributes, concurrency, cacheSize, cacheTimeToLive);
+	}
+
+	/**
+	 * Return a new {@link GroupExpansion} memoizing the direct groups of a member for {@code cacheTimeToLive}. Zero
+	 * disables memoization.
+	 *
+	 * @param cacheTimeToLive must not be negative.
+	 * @return a new {@link GroupExpansion}.
+	 * @see org.springframework.data.ldap.repository.NestedGroupExpansion#evictCachedGroups(Name)
+	 */
+	public GroupExpansion cacheTimeToLive(Duration cacheTimeToLive) {
+
+		Assert.isTrue(cacheTimeToLive != null && !cacheTimeToLive.isNegative(),
+				"Cache time to live must not be negative");
+
+		return new GroupExpansion(base, groupObjectClasses, memberAttributes, concurrency, cacheSize, cacheTimeToLive);
+	}
+
+	public Name getBase() {
+		return base;
+	}
+
+	public List<String> getGroupObjectClasses() {
+		return groupObjectClasses;
+	}
+
+	public List<String> getMemberAttributes() {
+		return memberAttributes;
+	}
+
+	public int getConcurrency() {
+		return concurrency;
+	}
+
+	public int getCacheSize() {
+		return cacheSize;
+	}
+
+	public Duration getCacheTimeToLive() {
+		return cacheTimeToLive;
+	}
+
+	@Override
+	public String toString() {
+		return ("GroupExpansion[base=%s, groupObjectClasses=%s, memberAttributes=%s, concurrency=%d, cacheSize=%d, "
+				+ "cacheTimeToLive=%s]").formatted(base, groupObjectClasses, memberAttributes, concurrency, cacheSize,
+						cacheTimeToLive);
+	}
+
+}
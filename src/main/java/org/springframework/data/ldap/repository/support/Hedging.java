@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.ldap.repository.query.SearchDeadline;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Value object capturing when {@link ReadReplicaRouting} hedges repository reads. A hedged read sends the same read to
+ * a second replica if the first replica did not answer within the configured percentile of recently observed read
+ * latencies, using whichever response arrives first. The hedging delay is never shorter than the minimum delay. Reads
+ * are not hedged until enough latencies were observed to compute the percentile.
+ * <p>
+ * The first read runs on the calling thread, the second read runs on the {@link #executor(Executor) hedging executor}
+ * within the {@link SearchDeadline} of the calling thread and, if an {@link #observationRegistry(ObservationRegistry)
+ * ObservationRegistry} is configured, within the current {@link Observation} of the calling thread. The calling
+ * thread is interrupted to abandon the first read once the second read answered first.
+ *
+ * @since 4.2
+ * @see ReadReplicaRouting#withHedging(Hedging)
+ */
+public final class Hedging {
+
+	private static final int DEFAULT_MAXIMUM_HEDGES = 16;
+
+	private static final Executor DEFAULT_EXECUTOR;
+
+	static {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("ldap-hedging-");
+		threadFactory.setDaemon(true);
+		DEFAULT_EXECUTOR = new ThreadPoolExecutor(0, DEFAULT_MAXIMUM_HEDGES, 60, TimeUnit.SECONDS,
+				new SynchronousQueue<>(), threadFactory);
+	}
+
+	private final double percentile;
+	private final Duration minimumDelay;
+	private final Executor executor;
+	private final @Nullable ObservationRegistry observationRegistry;
+
+	private Hedging(double percentile, Duration minimumDelay, Executor executor,
+			@Nullable ObservationRegistry observationRegistry) {
+
+		this.percentile = percentile;
+		this.minimumDelay = minimumDelay;
+		this.executor = executor;
+		this.observationRegistry = observationRegistry;
+	}
+
+	/**
+	 * Return a new {@link Hedging} hedging reads that did not complete within the given percentile of recent read
+	 * latencies, with a minimum delay of {@code 5} milliseconds.
+	 *
+	 * @param percentile percentile of read latencies, must be greater than zero and less than {@code 100}.
+	 * @return a new {@link Hedging}.
+	 */
+	public static Hedging atPercentile(double percentile) {
+
+		Assert.isTrue(percentile > 0 && percentile < 100, "Percentile must be greater than zero and less than 100");
+
+		return new Hedging(percentile, Duration.ofMillis(5), DEFAULT_EXECUTOR, null);
+	}
+
+	/**
+	 * Return a new {@link Hedging} never hedging reads earlier than {@code minimumDelay}.
+	 *
+	 * @param minimumDelay must not be negative.
+	 * @return a new {@link Hedging}.
+	 */
+	public Hedging minimumDelay(Duration minimumDelay) {
+
+		Assert.isTrue(minimumDelay != null && !minimumDelay.isNegative(), "Minimum delay must not be negative");
+
+		return new Hedging(percentile, minimumDelay, executor, observationRegistry);
+	}
+
+	/**
+	 * Return a new {@link Hedging} running second reads on the given {@link Executor}. Reads are not hedged while the
+	 * executor rejects tasks, so a bounded executor caps the additional load hedging puts on replicas.
+	 * <p>
+	 * Size the executor for the number of concurrent second reads: about {@code (100 - percentile) / 100} of the
+	 * concurrent repository reads are hedged, each occupying a thread for the latency of a replica read. For example,
+	 * hedging at the 95th percentile with 100 concurrent reads requires about 5 threads. Defaults to a shared pool of up
+	 * to {@code 16} daemon threads that does not queue tasks.
+	 *
+	 * @param executor must not be {@literal null}.
+	 * @return a new {@link Hedging}.
+	 */
+	public Hedging executor(Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null");
+
+		return new Hedging(percentile, minimumDelay, executor, observationRegistry);
+	}
+
+	/**
+	 * Return a new {@link Hedging} running second reads within the current {@link Observation} of the calling thread
+	 * as reported by the given {@link ObservationRegistry}.
+	 *
+	 * @param observationRegistry must not be {@literal null}.
+	 * @return a new {@link Hedging}.
+	 */
+	public Hedging observationRegistry(ObservationRegistry observationRegistry) {
+
+		Assert.notNull(observationRegistry, "ObservationRegistry must not be null");
+
+		return new Hedging(percentile, minimumDelay, executor, observationRegistry);
+	}
+
+	public double getPercentile() {
+		return percentile;
+	}
+
+	public Duration getMinimumDelay() {
+		return minimumDelay;
+	}
+
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	public @Nullable ObservationRegistry getObservationRegistry() {
+		return observationRegistry;
+	}
+
+	/**
+	 * Capture the {@link SearchDeadline} and {@link Observation} of the calling thread to run {@code task} within them on
+	 * the hedging executor.
+	 *
+	 * @param task the task to run.
+	 * @return the task restoring the captured context.
+	 */
+	Runnable capture(Runnable task) {
+
+		SearchDeadline deadline = SearchDeadline.current();
+		Runnable decorated = deadline != null ? () -> SearchDeadline.runWithin(remaining(deadline), task) : task;
+
+		return observationRegistry != null ? ObservationScopes.capture(observationRegistry, decorated) : decorated;
+	}
+
+	private static Duration remaining(SearchDeadline deadline) {
+
+		Duration remaining = deadline.getRemaining();
+
+		return remaining.isNegative() ? Duration.ZERO : remaining;
+	}
+
+	@Override
+	public String toString() {
+		return "Hedging[percentile=%s, minimumDelay=%s]".formatted(percentile, minimumDelay);
+	}
+
+	/**
+	 * Isolates Micrometer Observation usage to not require it on the class path.
+	 */
+	private static class ObservationScopes {
+
+		static Runnable capture(ObservationRegistry registry, Runnable task) {
+
+			Observation observation = registry.getCurrentObservation();
+
+			if (observation == null) {
+				return task;
+			}
+
+			return () -> {
+				try (Observation.Scope scope = observation.openScope()) {
+					task.run();
+				}
+			};
+		}
+
+	}
+
+}
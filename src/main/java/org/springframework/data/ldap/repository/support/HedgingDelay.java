@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sliding window of recent read latencies computing the hedging delay of a {@link Hedging} configuration. The delay is
+ * recomputed every {@value #RECOMPUTE_INTERVAL} samples to keep recording cheap.
+ *
+ * @since 4.2
+ */
+class HedgingDelay {
+
+	static final int WINDOW_SIZE = 1024;
+
+	static final int MINIMUM_SAMPLES = 32;
+
+	static final int RECOMPUTE_INTERVAL = 32;
+
+	private final double percentile;
+	private final long minimumDelay;
+	private final AtomicLongArray samples = new AtomicLongArray(WINDOW_SIZE);
+	private final AtomicLong recorded = new AtomicLong();
+	private volatile long delay = -1;
+
+	HedgingDelay(Hedging hedging) {
+		this.percentile = hedging.getPercentile();
+		this.minimumDelay = hedging.getMinimumDelay().toNanos();
+	}
+
+	/**
+	 * Record the latency of a successful read.
+	 *
+	 * @param nanos latency in nanoseconds.
+	 */
+	void record(long nanos) {
+
+		long count = recorded.getAndIncrement();
+		samples.set((int) (count % WINDOW_SIZE), nanos);
+
+		if (count + 1 >= MINIMUM_SAMPLES && (count + 1) % RECOMPUTE_INTERVAL == 0) {
+			delay = Math.max(minimumDelay, computePercentile((int) Math.min(count + 1, WINDOW_SIZE)));
+		}
+	}
+
+	/**
+	 * @return the hedging delay in nanoseconds or {@code -1} if not enough latencies were recorded yet.
+	 */
+	long getDelay() {
+		return delay;
+	}
+
+	private long computePercentile(int size) {
+
+		long[] sorted = new long[size];
+
+		for (int i = 0; i < size; i++) {
+			sorted[i] = samples.get(i);
+		}
+
+		Arrays.sort(sorted);
+
+		return sorted[Math.min(size - 1, (int) Math.ceil(percentile / 100 * size) - 1)];
+	}
+
+}
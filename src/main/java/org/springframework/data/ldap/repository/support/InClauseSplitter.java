@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import com.querydsl.core.types.Constant;
+import com.querydsl.core.types.ConstantImpl;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Operation;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Predicate;
+
+/**
+ * Utility to split a Querydsl {@link Predicate} containing a large {@code IN} operation into multiple predicates, each
+ * using a chunk of the {@code IN} values. The union of the results of all chunked predicates is equivalent to the
+ * result of the original predicate.
+ * <p>
+ * Only {@code IN} operations that are reachable through {@code AND} and {@code OR} operations are considered as
+ * splitting an operation below a negation would not preserve the predicate semantics.
+ *
+ * @since 4.2
+ */
+final class InClauseSplitter {
+
+	private InClauseSplitter() {}
+
+	/**
+	 * Split the given {@link Predicate} if it contains an {@code IN} operation with more than {@code chunkSize} values.
+	 * The largest {@code IN} operation is split.
+	 *
+	 * @param predicate the predicate to split.
+	 * @param chunkSize maximum number of {@code IN} values per predicate. Zero or a negative value disables splitting.
+	 * @return the chunked predicates or a singleton list containing {@code predicate} if no splitting is required.
+	 */
+	static List<Predicate> split(Predicate predicate, int chunkSize) {
+
+		if (chunkSize <= 0) {
+			return List.of(predicate);
+		}
+
+		Operation<?> in = findLargestIn(predicate, null);
+
+		if (in == null || getValues(in).size() <= chunkSize) {
+			return List.of(predicate);
+		}
+
+		List<?> values = new ArrayList<>(new LinkedHashSet<>(getValues(in)));
+		List<Predicate> predicates = new ArrayList<>(values.size() / chunkSize + 1);
+
+		for (int i = 0; i < values.size(); i += chunkSize) {
+
+			List<?> chunk = values.subList(i, Math.min(values.size(), i + chunkSize));
+			Predicate replacement = ExpressionUtils.predicate(Ops.IN, in.getArg(0),
+					ConstantImpl.create(new ArrayList<>(chunk)));
+
+			predicates.add((Predicate) replace(predicate, in, replacement));
+		}
+
+		return predicates;
+	}
+
+	private static @Nullable Operation<?> findLargestIn(Expression<?> expr, @Nullable Operation<?> largest) {
+
+		if (!(expr instanceof Operation<?> operation)) {
+			return largest;
+		}
+
+		if (operation.getOperator() == Ops.IN && operation.getArg(1) instanceof Constant<?> constant
+				&& constant.getConstant() instanceof Collection<?> values) {
+			return largest == null || values.size() > getValues(largest).size() ? operation : largest;
+		}
+
+		if (operation.getOperator() == Ops.AND || operation.getOperator() == Ops.OR) {
+
+			Operation<?> result = largest;
+
+			for (Expression<?> arg : operation.getArgs()) {
+				result = findLargestIn(arg, result);
+			}
+
+			return result;
+		}
+
+		return largest;
+	}
+
+	private static Expression<?> replace(Expression<?> expr, Operation<?> target, Predicate replacement) {
+
+		if (expr == target) {
+			return replacement;
+		}
+
+		if (expr instanceof Operation<?> operation
+				&& (operation.getOperator() == Ops.AND || operation.getOperator() == Ops.OR)) {
+
+			Expression<?>[] args = new Expression<?>[operation.getArgs().size()];
+
+			for (int i = 0; i < args.length; i++) {
+				args[i] = replace(operation.getArg(i), target, replacement);
+			}
+
+			return ExpressionUtils.predicate(operation.getOperator(), args);
+		}
+
+		return expr;
+	}
+
+	private static Collection<?> getValues(Operation<?> in) {
+		return (Collection<?>) ((Constant<?>) in.getArg(1)).getConstant();
+	}
+
+}
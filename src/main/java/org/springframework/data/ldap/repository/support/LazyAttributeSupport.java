@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.naming.Name;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.CollectionFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.ldap.core.mapping.LazyAttribute;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.ldap.core.LdapOperations;
+import org.springframework.ldap.odm.annotations.Transient;
+import org.springframework.ldap.odm.core.ObjectDirectoryMapper;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * Assigns loading {@link Supplier suppliers} to {@link LazyAttribute} properties of entities returned by a
+ * repository. Suppliers read their attribute on first access using a base-object lookup and retain its value.
+ *
+ * @since 4.2
+ * @see org.springframework.data.ldap.repository.query.SearchAttributes
+ */
+final class LazyAttributeSupport {
+
+	private final LdapOperations operations;
+	private final ObjectDirectoryMapper objectDirectoryMapper;
+	private final List<LazyProperty> properties;
+
+	private LazyAttributeSupport(LdapOperations operations, ObjectDirectoryMapper objectDirectoryMapper,
+			List<LazyProperty> properties) {
+
+		this.operations = operations;
+		this.objectDirectoryMapper = objectDirectoryMapper;
+		this.properties = properties;
+	}
+
+	/**
+	 * Create {@link LazyAttributeSupport} for the given {@code entityType}.
+	 *
+	 * @param entityType the entity type.
+	 * @param operations the LDAP operations.
+	 * @return the {@link LazyAttributeSupport} or {@literal null} if the entity type does not declare
+	 *         {@link LazyAttribute} properties.
+	 */
+	static @Nullable LazyAttributeSupport create(Class<?> entityType, LdapOperations operations) {
+
+		List<Field> fields = new ArrayList<>();
+		ReflectionUtils.doWithFields(entityType, fields::add, field -> field.isAnnotationPresent(LazyAttribute.class));
+
+		if (fields.isEmpty()) {
+			return null;
+		}
+
+		List<LazyProperty> properties = new ArrayList<>(fields.size());
+
+		for (Field field : fields) {
+			properties.add(LazyProperty.of(entityType, field));
+		}
+
+		return new LazyAttributeSupport(operations, operations.getObjectDirectoryMapper(), properties);
+	}
+
+	/**
+	 * Assign loading suppliers to {@link LazyAttribute} properties of the given {@code entity}.
+	 *
+	 * @param entity the entity returned by the repository.
+	 */
+	void process(Object entity) {
+
+		Name dn = objectDirectoryMapper.getId(entity);
+
+		if (dn == null) {
+			return;
+		}
+
+		for (LazyProperty property : properties) {
+			ReflectionUtils.setField(property.field(), entity, SingletonSupplier.of(() -> property.load(operations, dn)));
+		}
+	}
+
+	private record LazyProperty(Field field, String attribute, Function<Object, Object> converter,
+			@Nullable Class<?> collectionType) {
+
+		static LazyProperty of(Class<?> entityType, Field field) {
+
+			String property = entityType.getName() + "." + field.getName();
+
+			if (field.getType() != Supplier.class) {
+				throw new MappingException("@LazyAttribute property %s must be declared as Supplier".formatted(property));
+			}
+
+			if (!field.isAnnotationPresent(Transient.class)) {
+				throw new MappingException("@LazyAttribute property %s must be @Transient".formatted(property));
+			}
+
+			ResolvableType valueType = ResolvableType.forField(field).as(Supplier.class).getGeneric(0);
+			Class<?> collectionType = Collection.class.isAssignableFrom(valueType.resolve(Object.class))
+					? valueType.resolve()
+					: null;
+			Class<?> elementType = collectionType != null ? valueType.asCollection().getGeneric(0).resolve(Object.class)
+					: valueType.resolve(Object.class);
+			Function<Object, Object> converter = RangeRetrievalSupport.getConverter(elementType);
+
+			if (converter == null) {
+				throw new MappingException("Unsupported value type %s of @LazyAttribute property %s"
+						.formatted(valueType, property));
+			}
+
+			ReflectionUtils.makeAccessible(field);
+
+			return new LazyProperty(field, field.getAnnotation(LazyAttribute.class).value(), converter, collectionType);
+		}
+
+		@Nullable
+		Object load(LdapOperations operations, Name dn) {
+
+			RangedAttributeValues<Object> values = new RangedAttributeValues<>(operations, dn, attribute, converter);
+
+			if (collectionType != null) {
+
+				Collection<Object> collection = CollectionFactory.createCollection(collectionType, 16);
+				values.forEach(collection::add);
+
+				return collection;
+			}
+
+			Iterator<Object> iterator = values.iterator();
+
+			return iterator.hasNext() ? iterator.next() : null;
+		}
+	}
+
+}
@@ -16,11 +16,15 @@
 package org.springframework.data.ldap.repository.support;
 
 import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
 import javax.tools.Diagnostic;
 
 import org.springframework.ldap.odm.annotations.Entry;
@@ -33,6 +37,11 @@ import com.querydsl.core.annotations.QueryEntities;
 
 /**
  * QueryDSL Annotation Processor to generate QueryDSL classes for entity classes annotated with {@link Entry}.
+ * <p>
+ * Setting the {@value #ENTITY_MAPPERS_OPTION} processor option to {@literal true} (for example
+ * {@code -Aspring.data.ldap.entityMappers=true}) additionally generates a reflection-free
+ * {@link org.springframework.data.ldap.core.mapping.LdapEntityMapper} for each supported entity class. Repositories use
+ * generated mappers instead of reflective object-directory mapping to read and write entities.
  *
  * @author Mattias Hellborg Arthursson
  * @author Eddu Melendez
@@ -42,6 +51,40 @@ import com.querydsl.core.annotations.QueryEntities;
 @SupportedSourceVersion(SourceVersion.RELEASE_6)
 public class LdapAnnotationProcessor extends AbstractQuerydslProcessor {
 
+	/**
+	 * Processor option to enable generation of {@link org.springframework.data.ldap.core.mapping.LdapEntityMapper
+	 * entity mappers}.
+	 *
+	 * @since 4.2
+	 */
+	public static final String ENTITY_MAPPERS_OPTION = "spring.data.ldap.entityMappers";
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+		boolean claimed = super.process(annotations, roundEnv);
+
+		if (Boolean.parseBoolean(processingEnv.getOptions().get(ENTITY_MAPPERS_OPTION))) {
+
+			LdapEntityMapperGenerator generator = new LdapEntityMapperGenerator(processingEnv);
+
+			for (TypeElement entity : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(Entry.class))) {
+				generator.generate(entity);
+			}
+		}
+
+		return claimed;
+	}
+
+	@Override
+	public Set<String> getSupportedOptions() {
+
+		Set<String> options = new LinkedHashSet<>(super.getSupportedOptions());
+		options.add(ENTITY_MAPPERS_OPTION);
+
+		return options;
+	}
+
 	@Override
 	protected Configuration createConfiguration(RoundEnvironment roundEnv) {
 		processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Running " + getClass().getSimpleName());
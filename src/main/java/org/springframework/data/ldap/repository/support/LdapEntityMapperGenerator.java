@@ -0,0 +1,398 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.naming.Name;
+import javax.tools.Diagnostic;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.LdapDataEntry;
+import org.springframework.aot.generate.Generated;
+import org.springframework.data.ldap.core.mapping.LdapEntityMapper;
+import org.springframework.data.ldap.core.mapping.LdapEntityMapperSupport;
+import org.springframework.javapoet.ClassName;
+import org.springframework.javapoet.CodeBlock;
+import org.springframework.javapoet.JavaFile;
+import org.springframework.javapoet.MethodSpec;
+import org.springframework.javapoet.ParameterizedTypeName;
+import org.springframework.javapoet.TypeName;
+import org.springframework.javapoet.TypeSpec;
+import org.springframework.ldap.odm.annotations.Attribute;
+import org.springframework.ldap.odm.annotations.DnAttribute;
+import org.springframework.ldap.odm.annotations.Entry;
+import org.springframework.ldap.odm.annotations.Id;
+import org.springframework.ldap.odm.annotations.Transient;
+
+/**
+ * Generates {@link LdapEntityMapper} source files for {@link Entry} classes. Mappers read and write the fields declared
+ * by the entity class the same way as the reflective object-directory mapping. Fields are accessed directly unless they
+ * are {@code private}, in which case the entity must declare a setter and, for written attributes, a getter.
+ * <p>
+ * Entities using field types other than {@link String}, boxed primitives, binary {@code byte[]}, {@link List},
+ * {@link Set}, {@link SortedSet} or {@link Collection} thereof and a {@link Name} identifier, or that cannot be
+ * instantiated through a non-private no-arg constructor, are skipped and continue to use reflective mapping.
+ *
+ * @since 4.2
+ */
+final class LdapEntityMapperGenerator {
+
+	private static final Set<String> SIMPLE_TYPES = Set.of(String.class.getName(), Boolean.class.getName(),
+			Byte.class.getName(), Short.class.getName(), Integer.class.getName(), Long.class.getName(),
+			Float.class.getName(), Double.class.getName());
+
+	private static final Map<String, Class<?>> COLLECTION_TYPES = Map.of(Collection.class.getName(), ArrayList.class,
+			List.class.getName(), ArrayList.class, Set.class.getName(), LinkedHashSet.class, SortedSet.class.getName(),
+			TreeSet.class);
+
+	private final ProcessingEnvironment processingEnv;
+
+	LdapEntityMapperGenerator(ProcessingEnvironment processingEnv) {
+		this.processingEnv = processingEnv;
+	}
+
+	/**
+	 * Generate the {@link LdapEntityMapper} for the given {@link Entry} class.
+	 *
+	 * @param entity the entity class.
+	 * @return {@literal true} if the mapper was generated, {@literal false} if the entity is not supported.
+	 */
+	boolean generate(TypeElement entity) {
+
+		JavaFile file;
+
+		try {
+			file = createMapper(entity);
+		} catch (UnsupportedEntityException ex) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+					String.format("Not generating entity mapper for %s: %s", entity.getQualifiedName(), ex.getMessage()),
+					entity);
+			return false;
+		}
+
+		try {
+			file.writeTo(processingEnv.getFiler());
+		} catch (IOException ex) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+					String.format("Cannot write entity mapper for %s: %s", entity.getQualifiedName(), ex.getMessage()), entity);
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Return the name of the {@link LdapEntityMapper} class for the given entity class.
+	 *
+	 * @param entity the entity class.
+	 * @return the simple name of the mapper class.
+	 */
+	String getMapperClassName(TypeElement entity) {
+
+		String packageName = processingEnv.getElementUtils().getPackageOf(entity).getQualifiedName().toString();
+		String binaryName = processingEnv.getElementUtils().getBinaryName(entity).toString();
+		String simpleName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+
+		return simpleName.replace('$', '_') + LdapEntityMapper.MAPPER_SUFFIX;
+	}
+
+	private JavaFile createMapper(TypeElement entity) {
+
+		verifyInstantiable(entity);
+
+		ClassName entityType = ClassName.get(entity);
+		CodeBlock.Builder read = CodeBlock.builder();
+		CodeBlock.Builder write = CodeBlock.builder();
+
+		read.beginControlFlow("if (!hasObjectClasses(entry))").addStatement("return null").endControlFlow();
+		read.addStatement("$T entity = new $T()", entityType, entityType);
+		write.addStatement("writeObjectClasses(entry)");
+
+		for (VariableElement field : ElementFilter.fieldsIn(entity.getEnclosedElements())) {
+			if (!field.getModifiers().contains(Modifier.STATIC)) {
+				addField(entity, field, read, write);
+			}
+		}
+
+		read.addStatement("return entity");
+
+		Entry entry = entity.getAnnotation(Entry.class);
+		List<String> objectClasses = entry.objectClasses().length != 0 ? Arrays.asList(entry.objectClasses())
+				: List.of(entity.getSimpleName().toString());
+
+		CodeBlock.Builder superCall = CodeBlock.builder().add("super($T.class", entityType);
+		objectClasses.forEach(objectClass -> superCall.add(", $S", objectClass));
+
+		TypeSpec mapper = TypeSpec.classBuilder(getMapperClassName(entity)) //
+				.addJavadoc("{@link $T} for {@link $T}.\n", LdapEntityMapper.class, entityType) //
+				.addAnnotation(Generated.class) //
+				.addModifiers(Modifier.PUBLIC, Modifier.FINAL) //
+				.superclass(ParameterizedTypeName.get(ClassName.get(LdapEntityMapperSupport.class), entityType)) //
+				.addMethod(MethodSpec.constructorBuilder() //
+						.addModifiers(Modifier.PUBLIC) //
+						.addStatement(superCall.add(")").build()) //
+						.build()) //
+				.addMethod(MethodSpec.methodBuilder("read") //
+						.addAnnotation(Override.class) //
+						.addModifiers(Modifier.PUBLIC) //
+						.returns(entityType) //
+						.addParameter(LdapDataEntry.class, "entry") //
+						.addCode(read.build()) //
+						.build()) //
+				.addMethod(MethodSpec.methodBuilder("write") //
+						.addAnnotation(Override.class) //
+						.addModifiers(Modifier.PUBLIC) //
+						.addParameter(entityType, "entity") //
+						.addParameter(LdapDataEntry.class, "entry") //
+						.addCode(write.build()) //
+						.build()) //
+				.build();
+
+		return JavaFile.builder(entityType.packageName(), mapper).skipJavaLangImports(true).build();
+	}
+
+	private void verifyInstantiable(TypeElement entity) {
+
+		if (entity.getKind() != ElementKind.CLASS || entity.getModifiers().contains(Modifier.ABSTRACT)) {
+			throw new UnsupportedEntityException("Entity must be a concrete class");
+		}
+
+		if (!entity.getTypeParameters().isEmpty()) {
+			throw new UnsupportedEntityException("Entity must not declare type parameters");
+		}
+
+		for (Element element = entity; element instanceof TypeElement type; element = element.getEnclosingElement()) {
+
+			if (type.getModifiers().contains(Modifier.PRIVATE)) {
+				throw new UnsupportedEntityException("Entity must not be private");
+			}
+
+			if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) {
+				throw new UnsupportedEntityException("Nested entity must be static");
+			}
+
+			if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+				throw new UnsupportedEntityException("Entity must not be local");
+			}
+		}
+
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(entity.getEnclosedElements())) {
+			if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+				return;
+			}
+		}
+
+		throw new UnsupportedEntityException("Entity must declare a non-private no-arg constructor");
+	}
+
+	private void addField(TypeElement entity, VariableElement field, CodeBlock.Builder read, CodeBlock.Builder write) {
+
+		String fieldName = field.getSimpleName().toString();
+		TypeMirror type = field.asType();
+		Attribute attribute = field.getAnnotation(Attribute.class);
+		DnAttribute dnAttribute = field.getAnnotation(DnAttribute.class);
+		boolean isTransient = field.getAnnotation(Transient.class) != null;
+		boolean isId = field.getAnnotation(Id.class) != null;
+
+		if (!isTransient) {
+
+			String name = attribute != null && !attribute.name().isEmpty() ? attribute.name() : fieldName;
+			boolean binary = attribute != null && attribute.type() == Attribute.Type.BINARY;
+			boolean written = !isId && !name.equalsIgnoreCase("objectclass") && (attribute == null || !attribute.readonly());
+			Accessor accessor = Accessor.of(entity, field);
+
+			if (isId) {
+
+				if (!isType(type, Name.class.getName())) {
+					throw new UnsupportedEntityException("Id field %s must be of type %s".formatted(fieldName, Name.class));
+				}
+
+				read.addStatement(accessor.assign(CodeBlock.of("entry.getDn()")));
+			} else if (getCollectionType(type) != null) {
+
+				TypeName elementType = getSimpleType(((DeclaredType) type).getTypeArguments().get(0), fieldName);
+
+				read.addStatement(accessor.assign(CodeBlock.of("readValues(entry, $S, new $T<>(), $L)", name,
+						getCollectionType(type), converter(elementType))));
+
+				if (written) {
+					write.addStatement("writeValues(entry, $S, $L)", name, accessor.get());
+				}
+			} else if (binary && type.getKind() == TypeKind.ARRAY
+					&& ((ArrayType) type).getComponentType().getKind() == TypeKind.BYTE) {
+
+				read.addStatement("readBinaryValue(entry, $S, $L)", name, accessor.consumer());
+
+				if (written) {
+					write.addStatement("writeValue(entry, $S, $L)", name, accessor.get());
+				}
+			} else {
+
+				TypeName simpleType = getSimpleType(type, fieldName);
+
+				read.addStatement("readValue(entry, $S, $L, $L)", name, converter(simpleType), accessor.consumer());
+
+				if (written) {
+					write.addStatement("writeValue(entry, $S, $L)", name, accessor.get());
+				}
+			}
+		}
+
+		if (dnAttribute != null) {
+
+			if (!isType(type, String.class.getName())) {
+				throw new UnsupportedEntityException("DN attribute field %s must be of type String".formatted(fieldName));
+			}
+
+			CodeBlock value = dnAttribute.index() != -1 ? CodeBlock.of("readDnValue(entry, $L)", dnAttribute.index())
+					: CodeBlock.of("readDnValue(entry, $S)", dnAttribute.value());
+
+			read.addStatement(Accessor.of(entity, field).assign(value));
+		}
+	}
+
+	private static @Nullable Class<?> getCollectionType(TypeMirror type) {
+
+		if (!(type instanceof DeclaredType declaredType) || declaredType.getTypeArguments().size() != 1) {
+			return null;
+		}
+
+		return COLLECTION_TYPES.get(((TypeElement) declaredType.asElement()).getQualifiedName().toString());
+	}
+
+	private static TypeName getSimpleType(TypeMirror type, String fieldName) {
+
+		if (type instanceof DeclaredType declaredType && declaredType.getTypeArguments().isEmpty()) {
+
+			String typeName = ((TypeElement) declaredType.asElement()).getQualifiedName().toString();
+
+			if (SIMPLE_TYPES.contains(typeName)) {
+				return ClassName.get((TypeElement) declaredType.asElement());
+			}
+		}
+
+		throw new UnsupportedEntityException("Type %s of field %s is not supported".formatted(type, fieldName));
+	}
+
+	private static CodeBlock converter(TypeName type) {
+		return type.equals(ClassName.get(String.class)) ? CodeBlock.of("$T.identity()", Function.class)
+				: CodeBlock.of("$T::valueOf", type);
+	}
+
+	private static boolean isType(TypeMirror type, String typeName) {
+		return type instanceof DeclaredType declaredType
+				&& ((TypeElement) declaredType.asElement()).getQualifiedName().contentEquals(typeName);
+	}
+
+	/**
+	 * Access to an entity field, either directly or through its accessor methods.
+	 */
+	private record Accessor(String field, @Nullable String getter, @Nullable String setter) {
+
+		static Accessor of(TypeElement entity, VariableElement field) {
+
+			String fieldName = field.getSimpleName().toString();
+
+			if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+				return new Accessor(fieldName, null, null);
+			}
+
+			String property = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+			String getter = null;
+			String setter = null;
+
+			for (ExecutableElement method : ElementFilter.methodsIn(entity.getEnclosedElements())) {
+
+				String name = method.getSimpleName().toString();
+
+				if (method.getModifiers().contains(Modifier.PRIVATE) || method.getModifiers().contains(Modifier.STATIC)) {
+					continue;
+				}
+
+				if (method.getParameters().isEmpty() && (name.equals("get" + property) || name.equals("is" + property))) {
+					getter = name;
+				}
+
+				if (method.getParameters().size() == 1 && name.equals("set" + property)) {
+					setter = name;
+				}
+			}
+
+			if (setter == null) {
+				throw new UnsupportedEntityException("Private field %s requires a setter".formatted(fieldName));
+			}
+
+			return new Accessor(fieldName, getter, setter);
+		}
+
+		CodeBlock assign(CodeBlock value) {
+			return setter != null ? CodeBlock.of("entity.$L($L)", setter, value)
+					: CodeBlock.of("entity.$L = $L", field, value);
+		}
+
+		CodeBlock consumer() {
+			return setter != null ? CodeBlock.of("entity::$L", setter) : CodeBlock.of("value -> entity.$L = value", field);
+		}
+
+		CodeBlock get() {
+
+			if (setter != null && getter == null) {
+				throw new UnsupportedEntityException("Private field %s requires a getter".formatted(field));
+			}
+
+			return getter != null ? CodeBlock.of("entity.$L()", getter) : CodeBlock.of("entity.$L", field);
+		}
+
+	}
+
+	/**
+	 * Exception indicating that no mapper can be generated for an entity.
+	 */
+	@SuppressWarnings("serial")
+	private static class UnsupportedEntityException extends RuntimeException {
+
+		UnsupportedEntityException(String message) {
+			super(message);
+		}
+
+	}
+
+}
@@ -20,15 +20,34 @@ import static org.springframework.data.repository.core.support.RepositoryComposi
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.ldap.core.mapping.LdapEntityMapper;
 import org.springframework.data.ldap.core.mapping.LdapMappingContext;
+import org.springframework.data.ldap.repository.NestedGroupExpansion;
+import org.springframework.data.ldap.repository.SearchLimit;
+import org.springframework.data.ldap.repository.aot.LdapAotRepositoryFragmentSupport;
+import org.springframework.data.ldap.repository.query.AbstractLdapRepositoryQuery;
 import org.springframework.data.ldap.repository.query.AnnotatedLdapRepositoryQuery;
 import org.springframework.data.ldap.repository.query.LdapQueryMethod;
+import org.springframework.data.ldap.repository.query.LdapRepositoryOperationInterceptor;
 import org.springframework.data.ldap.repository.query.PartTreeLdapRepositoryQuery;
+import org.springframework.data.ldap.repository.query.PrecompiledLdapRepositoryQuery;
+import org.springframework.data.ldap.repository.query.ResultMapping;
+import org.springframework.data.ldap.repository.query.ResultSizeLimit;
+import org.springframework.data.ldap.repository.query.SearchLimits;
+import org.springframework.data.ldap.repository.query.SubtreeSplitting;
+import org.springframework.data.ldap.repository.query.UnindexedSearchPolicy;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.context.MappingContext;
@@ -40,11 +59,13 @@ import org.springframework.data.repository.core.NamedQueries;
 import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+import org.springframework.data.repository.core.support.RepositoryFragment;
 import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.QueryLookupStrategy.Key;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ValueExpressionDelegate;
 import org.springframework.ldap.core.LdapOperations;
+import org.springframework.ldap.odm.core.ObjectDirectoryMapper;
 import org.springframework.util.Assert;
 
 /**
@@ -60,6 +81,20 @@ public class LdapRepositoryFactory extends RepositoryFactorySupport {
 	private final LdapOperations ldapOperations;
 	private final MappingContext<? extends PersistentEntity<?, ?>, ? extends PersistentProperty<?>> mappingContext;
 	private final EntityInstantiators instantiators = new EntityInstantiators();
+	private final List<LdapRepositoryOperationInterceptor> operationInterceptors = new ArrayList<>();
+	private Executor executor = new SyncTaskExecutor();
+	private int inClauseChunkSize = 0;
+	private UnindexedSearchPolicy unindexedSearchPolicy = UnindexedSearchPolicy.WARN;
+	private ResultSizeLimit resultSizeLimit = ResultSizeLimit.unlimited();
+	private ResultMapping resultMapping = ResultMapping.sequential();
+	private SubtreeSplitting subtreeSplitting = SubtreeSplitting.none();
+	private SearchLimits searchLimits = SearchLimits.none();
+	private int referenceResolutionConcurrency = 4;
+	private GroupExpansion groupExpansion = GroupExpansion.defaults();
+	private @Nullable ConcurrencyLimits concurrencyLimits;
+	private final List<ConcurrencyLimiterListener> concurrencyLimiterListeners = new ArrayList<>();
+	private @Nullable ConcurrencyLimitingInterceptor concurrencyLimiting;
+	private boolean warmUp = false;
 
 	/**
 	 * Creates a new {@link LdapRepositoryFactory}.
@@ -72,6 +107,7 @@ public class LdapRepositoryFactory extends RepositoryFactorySupport {
 
 		this.ldapOperations = ldapOperations;
 		this.mappingContext = new LdapMappingContext();
+		registerRepositoryProxyPostProcessors();
 	}
 
 	/**
@@ -88,6 +124,7 @@ public class LdapRepositoryFactory extends RepositoryFactorySupport {
 
 		this.ldapOperations = ldapOperations;
 		this.mappingContext = mappingContext;
+		registerRepositoryProxyPostProcessors();
 	}
 
 	@Override
@@ -108,7 +145,8 @@ public class LdapRepositoryFactory extends RepositoryFactorySupport {
 
 	/**
 	 * Creates {@link RepositoryFragments} based on {@link RepositoryMetadata} to add LDAP-specific extensions. Typically,
-	 * adds a {@link QuerydslLdapPredicateExecutor} if the repository interface uses Querydsl.
+	 * adds a {@link QuerydslLdapPredicateExecutor} if the repository interface uses Querydsl and a
+	 * {@link NestedGroupExpansion} implementation if the repository interface extends {@link NestedGroupExpansion}.
 	 * <p>
 	 * Can be overridden by subclasses to customize {@link RepositoryFragments}.
 	 *
@@ -122,6 +160,8 @@ public class LdapRepositoryFactory extends RepositoryFactorySupport {
 		boolean isQueryDslRepository = QUERY_DSL_PRESENT
 				&& QuerydslPredicateExecutor.class.isAssignableFrom(metadata.getRepositoryInterface());
 
+		RepositoryFragments fragments = RepositoryFragments.empty();
+
 		if (isQueryDslRepository) {
 
 			if (metadata.isReactiveRepository()) {
@@ -129,32 +169,399 @@ public class LdapRepositoryFactory extends RepositoryFactorySupport {
 						"Cannot combine Querydsl and reactive repository support in a single interface");
 			}
 
-			return RepositoryFragments.just(new QuerydslLdapPredicateExecutor<>(
-					getEntityInformation(metadata.getDomainType()), getProjectionFactory(), operations, mappingContext));
+			QuerydslLdapPredicateExecutor<?> executor = new QuerydslLdapPredicateExecutor<>(
+					getEntityInformation(metadata.getDomainType()), getProjectionFactory(), operations, mappingContext);
+			executor.setExecutor(getExecutor(operations));
+			executor.setInClauseChunkSize(this.inClauseChunkSize);
+			executor.setUnindexedSearchPolicy(this.unindexedSearchPolicy);
+			executor.setSubtreeSplitting(this.subtreeSplitting);
+			executor.setSearchLimits(getSearchLimits(metadata.getRepositoryInterface()));
+			applyObjectDirectoryMapper(operations, metadata.getDomainType(), executor::setObjectDirectoryMapper);
+
+			fragments = fragments.append(RepositoryFragments.just(executor));
+		}
+
+		if (NestedGroupExpansion.class.isAssignableFrom(metadata.getRepositoryInterface())) {
+			fragments = fragments.append(RepositoryFragment.implemented(NestedGroupExpansion.class,
+					new DefaultNestedGroupExpansion(operations, getExecutor(operations), this.groupExpansion)));
 		}
 
-		return RepositoryFragments.empty();
+		return fragments;
 	}
 
 	@Override
 	protected Object getTargetRepository(RepositoryInformation information) {
 
-		boolean acceptsMappingContext = acceptsMappingContext(information);
+		if (warmUp) {
+
+			mappingContext.getPersistentEntity(information.getDomainType());
 
-		if (acceptsMappingContext) {
-			return getTargetRepositoryViaReflection(information, ldapOperations, mappingContext,
-					ldapOperations.getObjectDirectoryMapper(), information.getDomainType());
+			for (LdapOperations target : ReadReplicaRouting.targetsOf(ldapOperations)) {
+				target.getObjectDirectoryMapper().manageClass(information.getDomainType());
+			}
 		}
 
-		return getTargetRepositoryViaReflection(information, ldapOperations, ldapOperations.getObjectDirectoryMapper(),
-				information.getDomainType());
+		boolean acceptsMappingContext = acceptsMappingContext(information);
+		ObjectDirectoryMapper odm = getObjectDirectoryMapper(ldapOperations, information.getDomainType());
+
+		Object repository = acceptsMappingContext
+				? getTargetRepositoryViaReflection(information, ldapOperations, mappingContext, odm,
+						information.getDomainType())
+				: getTargetRepositoryViaReflection(information, ldapOperations, odm, information.getDomainType());
+
+		if (repository instanceof SimpleLdapRepository<?> simpleLdapRepository) {
+			simpleLdapRepository.setResultSizeLimit(resultSizeLimit);
+			simpleLdapRepository.setSubtreeSplitting(subtreeSplitting);
+			simpleLdapRepository.setExecutor(getExecutor(ldapOperations));
+			simpleLdapRepository.setSearchLimits(getSearchLimits(information.getRepositoryInterface()));
+		}
+
+		return repository;
 	}
 
 	@Override
 	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(@Nullable Key key,
 			ValueExpressionDelegate valueExpressionDelegate) {
-		return Optional
-				.of(new LdapQueryLookupStrategy(ldapOperations, instantiators, mappingContext, valueExpressionDelegate));
+		return Optional.of(createQueryLookupStrategy(valueExpressionDelegate));
+	}
+
+	/**
+	 * Register a {@link LdapRepositoryOperationInterceptor} to be applied to query method executions and invocations of
+	 * repository base and Querydsl methods. Interceptors are applied in registration order.
+	 *
+	 * @param interceptor must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void addOperationInterceptor(LdapRepositoryOperationInterceptor interceptor) {
+
+		Assert.notNull(interceptor, "LdapRepositoryOperationInterceptor must not be null");
+
+		this.operationInterceptors.add(interceptor);
+	}
+
+	/**
+	 * Configure the {@link Executor} to run concurrent searches issued by a single repository operation. Defaults to
+	 * {@link SyncTaskExecutor} running searches sequentially in the calling thread.
+	 *
+	 * @param executor must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setExecutor(Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null");
+
+		this.executor = executor;
+	}
+
+	/**
+	 * Configure the maximum number of {@code IN} values per search. Querydsl predicates and derived queries with larger
+	 * {@code IN} collections are split into multiple searches whose results are merged and de-duplicated by their
+	 * distinguished name. Zero (default) disables splitting.
+	 *
+	 * @param inClauseChunkSize maximum number of {@code IN} values per search, must not be negative.
+	 * @since 4.2
+	 * @see #setExecutor(Executor)
+	 */
+	public void setInClauseChunkSize(int inClauseChunkSize) {
+
+		Assert.isTrue(inClauseChunkSize >= 0, "IN clause chunk size must not be negative");
+
+		this.inClauseChunkSize = inClauseChunkSize;
+	}
+
+	/**
+	 * Configure the {@link UnindexedSearchPolicy} to apply to substring searches with a leading wildcard on attributes
+	 * that are not {@link org.springframework.data.ldap.core.mapping.Indexed indexed}. The policy applies to entities
+	 * declaring at least one indexed property. Defaults to {@link UnindexedSearchPolicy#WARN}.
+	 *
+	 * @param unindexedSearchPolicy must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setUnindexedSearchPolicy(UnindexedSearchPolicy unindexedSearchPolicy) {
+
+		Assert.notNull(unindexedSearchPolicy, "UnindexedSearchPolicy must not be null");
+
+		this.unindexedSearchPolicy = unindexedSearchPolicy;
+	}
+
+	/**
+	 * Configure the {@link ResultSizeLimit} to apply to {@link SimpleLdapRepository#findAll()},
+	 * {@link SimpleLdapRepository#findAll(org.springframework.ldap.query.LdapQuery)} and query methods returning a
+	 * collection. Defaults to {@link ResultSizeLimit#unlimited()}.
+	 *
+	 * @param resultSizeLimit must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setResultSizeLimit(ResultSizeLimit resultSizeLimit) {
+
+		Assert.notNull(resultSizeLimit, "ResultSizeLimit must not be null");
+
+		this.resultSizeLimit = resultSizeLimit;
+	}
+
+	/**
+	 * Configure the {@link ResultMapping} to map results of query methods returning a collection. Defaults to
+	 * {@link ResultMapping#sequential()} mapping entries in the thread reading search results.
+	 *
+	 * @param resultMapping must not be {@literal null}.
+	 * @since 4.2
+	 * @see ResultMapping#parallel(Executor, boolean)
+	 */
+	public void setResultMapping(ResultMapping resultMapping) {
+
+		Assert.notNull(resultMapping, "ResultMapping must not be null");
+
+		this.resultMapping = resultMapping;
+	}
+
+	/**
+	 * Configure the {@link SubtreeSplitting} to apply to {@link SimpleLdapRepository#findAll()},
+	 * {@link SimpleLdapRepository#findAll(org.springframework.ldap.query.LdapQuery)}, Querydsl
+	 * {@code findAll(Predicate)} and query methods returning a collection or a stream. Split searches run on the
+	 * configured {@link #setExecutor(Executor) Executor}. Defaults to {@link SubtreeSplitting#none()}.
+	 *
+	 * @param subtreeSplitting must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setSubtreeSplitting(SubtreeSplitting subtreeSplitting) {
+
+		Assert.notNull(subtreeSplitting, "SubtreeSplitting must not be null");
+
+		this.subtreeSplitting = subtreeSplitting;
+	}
+
+	/**
+	 * Configure the default {@link SearchLimits} to apply to query methods, Querydsl methods and
+	 * {@link SimpleLdapRepository} methods searching for entities. Limits declared through a
+	 * {@link org.springframework.data.ldap.repository.SearchLimit} annotation on the repository interface or a query
+	 * method take precedence over the default limits. Defaults to {@link SearchLimits#none()}.
+	 *
+	 * @param searchLimits must not be {@literal null}.
+	 * @since 4.2
+	 * @see org.springframework.data.ldap.repository.query.SearchDeadline
+	 */
+	public void setSearchLimits(SearchLimits searchLimits) {
+
+		Assert.notNull(searchLimits, "SearchLimits must not be null");
+
+		this.searchLimits = searchLimits;
+	}
+
+	/**
+	 * Configure the maximum number of concurrent lookup chunks when resolving
+	 * {@link org.springframework.data.ldap.core.mapping.DnReference DN references} of returned entities. Lookups run on
+	 * the configured {@link #setExecutor(Executor) Executor}. Defaults to {@code 4}.
+	 *
+	 * @param referenceResolutionConcurrency maximum number of concurrent lookup chunks, must be greater than zero.
+	 * @since 4.2
+	 */
+	public void setReferenceResolutionConcurrency(int referenceResolutionConcurrency) {
+
+		Assert.isTrue(referenceResolutionConcurrency > 0, "Reference resolution concurrency must be greater than zero");
+
+		this.referenceResolutionConcurrency = referenceResolutionConcurrency;
+	}
+
+	/**
+	 * Configure the {@link GroupExpansion} of repositories extending {@link NestedGroupExpansion}. Defaults to
+	 * {@link GroupExpansion#defaults()}.
+	 *
+	 * @param groupExpansion must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setGroupExpansion(GroupExpansion groupExpansion) {
+
+		Assert.notNull(groupExpansion, "GroupExpansion must not be null");
+
+		this.groupExpansion = groupExpansion;
+	}
+
+	/**
+	 * Configure the default {@link ConcurrencyLimits} applying a separate concurrency limit (bulkhead) to each
+	 * repository. Repositories and repository methods annotated with
+	 * {@link org.springframework.data.ldap.repository.ConcurrencyLimit} use the annotated limits instead. Defaults to
+	 * {@literal null} limiting only annotated repositories and methods. Must be configured before creating
+	 * repositories.
+	 *
+	 * @param concurrencyLimits the default limits, can be {@literal null}.
+	 * @throws IllegalStateException if repositories have already been created.
+	 * @since 4.2
+	 */
+	public void setConcurrencyLimits(@Nullable ConcurrencyLimits concurrencyLimits) {
+
+		assertConcurrencyLimitingNotInitialized();
+
+		this.concurrencyLimits = concurrencyLimits;
+	}
+
+	/**
+	 * Configure whether to initialize the mapping metadata, object-directory mapping metadata and the query plans of
+	 * query methods when creating repositories instead of on first use. Defaults to {@literal false}.
+	 *
+	 * @param warmUp {@literal true} to initialize metadata and query plans when creating repositories.
+	 * @since 4.2
+	 * @see AbstractLdapRepositoryQuery#warmUp()
+	 */
+	public void setWarmUp(boolean warmUp) {
+		this.warmUp = warmUp;
+	}
+
+	/**
+	 * Register a {@link ConcurrencyLimiterListener} to be notified about {@link ConcurrencyLimiter} instances created for
+	 * repositories. Must be registered before creating repositories.
+	 *
+	 * @param listener must not be {@literal null}.
+	 * @throws IllegalStateException if repositories have already been created.
+	 * @since 4.2
+	 */
+	public void addConcurrencyLimiterListener(ConcurrencyLimiterListener listener) {
+
+		Assert.notNull(listener, "ConcurrencyLimiterListener must not be null");
+		assertConcurrencyLimitingNotInitialized();
+
+		this.concurrencyLimiterListeners.add(listener);
+	}
+
+	private void registerRepositoryProxyPostProcessors() {
+
+		addRepositoryProxyPostProcessor(this::applyReadReplicaRouting);
+		addRepositoryProxyPostProcessor(this::applyOperationInterceptors);
+		addRepositoryProxyPostProcessor(this::applyLazyAttributes);
+		addRepositoryProxyPostProcessor(this::applyDnReferences);
+		addRepositoryProxyPostProcessor(this::applyPrecompiledQueries);
+	}
+
+	private void assertConcurrencyLimitingNotInitialized() {
+		Assert.state(this.concurrencyLimiting == null,
+				"Concurrency limits must be configured before creating repositories");
+	}
+
+	private ConcurrencyLimitingInterceptor getConcurrencyLimiting() {
+
+		ConcurrencyLimitingInterceptor concurrencyLimiting = this.concurrencyLimiting;
+
+		if (concurrencyLimiting == null) {
+
+			concurrencyLimiting = new ConcurrencyLimitingInterceptor(concurrencyLimits, concurrencyLimiterListeners);
+			this.concurrencyLimiting = concurrencyLimiting;
+		}
+
+		return concurrencyLimiting;
+	}
+
+	private SearchLimits getSearchLimits(Class<?> repositoryInterface) {
+		return getSearchLimits(repositoryInterface, searchLimits);
+	}
+
+	private static SearchLimits getSearchLimits(Class<?> repositoryInterface, SearchLimits defaults) {
+		return SearchLimits.from(AnnotatedElementUtils.findMergedAnnotation(repositoryInterface, SearchLimit.class))
+				.orElse(defaults);
+	}
+
+	/**
+	 * Return the {@link Executor} for searches of repositories using {@code operations}. Tasks run with the read target
+	 * of the submitting thread if {@code operations} are routed through {@link ReadReplicaRouting}.
+	 */
+	private Executor getExecutor(LdapOperations operations) {
+
+		ReadReplicaRouting routing = ReadReplicaRouting.from(operations);
+
+		return routing != null ? routing.propagating(executor) : executor;
+	}
+
+	/**
+	 * Return the {@link ObjectDirectoryMapper} for repositories of {@code domainType}. Uses the generated
+	 * {@link LdapEntityMapper} of {@code domainType} if present and completes
+	 * {@link org.springframework.data.ldap.core.mapping.RangeRetrieval} properties. The {@link ObjectDirectoryMapper} of
+	 * {@code operations} remains unchanged.
+	 */
+	private static ObjectDirectoryMapper getObjectDirectoryMapper(LdapOperations operations, Class<?> domainType) {
+
+		ObjectDirectoryMapper odm = EntityMapperObjectDirectoryMapper.of(operations.getObjectDirectoryMapper(),
+				domainType);
+		RangeRetrievalSupport rangeRetrieval = RangeRetrievalSupport.create(domainType, operations, odm);
+
+		return rangeRetrieval != null ? rangeRetrieval : odm;
+	}
+
+	/**
+	 * Apply the repository-local {@link ObjectDirectoryMapper} if it differs from the {@link ObjectDirectoryMapper} of
+	 * {@code operations}.
+	 */
+	private static void applyObjectDirectoryMapper(LdapOperations operations, Class<?> domainType,
+			Consumer<ObjectDirectoryMapper> consumer) {
+
+		ObjectDirectoryMapper repositoryOdm = getObjectDirectoryMapper(operations, domainType);
+
+		if (repositoryOdm != operations.getObjectDirectoryMapper()) {
+			consumer.accept(repositoryOdm);
+		}
+	}
+
+	private void applyReadReplicaRouting(ProxyFactory factory, RepositoryInformation information) {
+
+		ReadReplicaRouting routing = ReadReplicaRouting.from(ldapOperations);
+
+		if (routing != null) {
+			factory.addAdvice(new ReadReplicaRoutingMethodInterceptor(information, routing));
+		}
+	}
+
+	private void applyOperationInterceptors(ProxyFactory factory, RepositoryInformation information) {
+
+		List<LdapRepositoryOperationInterceptor> interceptors = new ArrayList<>(operationInterceptors);
+		ConcurrencyLimitingInterceptor concurrencyLimiting = getConcurrencyLimiting();
+
+		if (concurrencyLimiting.register(information.getRepositoryInterface())) {
+			interceptors.add(concurrencyLimiting);
+		}
+
+		if (!interceptors.isEmpty()) {
+			factory.addAdvice(new RepositoryOperationMethodInterceptor(information,
+					LdapRepositoryOperationInterceptor.composite(interceptors)));
+		}
+	}
+
+	private void applyLazyAttributes(ProxyFactory factory, RepositoryInformation information) {
+
+		LazyAttributeSupport lazyAttributes = LazyAttributeSupport.create(information.getDomainType(), ldapOperations);
+
+		if (lazyAttributes != null) {
+			factory.addAdvice(new EntityPostProcessingMethodInterceptor(information,
+					entities -> entities.forEach(lazyAttributes::process)));
+		}
+	}
+
+	private void applyDnReferences(ProxyFactory factory, RepositoryInformation information) {
+
+		DnReferenceSupport references = DnReferenceSupport.create(information.getDomainType(), ldapOperations,
+				getExecutor(ldapOperations), referenceResolutionConcurrency);
+
+		if (references != null) {
+			factory.addAdvice(new EntityPostProcessingMethodInterceptor(information, references::process));
+		}
+	}
+
+	/**
+	 * Configure queries of repository fragments generated ahead of time the same way as query methods resolved through
+	 * the {@link QueryLookupStrategy}.
+	 */
+	private void applyPrecompiledQueries(ProxyFactory factory, RepositoryInformation information) {
+
+		LdapQueryLookupStrategy strategy = createQueryLookupStrategy(ValueExpressionDelegate.create());
+
+		for (RepositoryFragment<?> fragment : information.getRepositoryComposition().getFragments()) {
+			if (fragment.getImplementation().orElse(null) instanceof LdapAotRepositoryFragmentSupport support) {
+				support.setQueryCustomizer(query -> strategy.configure(query, information));
+			}
+		}
+	}
+
+	private LdapQueryLookupStrategy createQueryLookupStrategy(ValueExpressionDelegate valueExpressionDelegate) {
+		return new LdapQueryLookupStrategy(ldapOperations, instantiators, mappingContext, valueExpressionDelegate,
+				LdapRepositoryOperationInterceptor.composite(operationInterceptors), getConcurrencyLimiting(),
+				getExecutor(ldapOperations), inClauseChunkSize, unindexedSearchPolicy, resultSizeLimit, resultMapping,
+				subtreeSplitting, searchLimits, warmUp);
 	}
 
 	/**
@@ -185,7 +592,12 @@ public class LdapRepositoryFactory extends RepositoryFactorySupport {
 
 	private record LdapQueryLookupStrategy(LdapOperations ldapOperations, EntityInstantiators instantiators,
 			MappingContext<? extends PersistentEntity<?, ?>, ? extends PersistentProperty<?>> mappingContext,
-			ValueExpressionDelegate valueExpressionDelegate) implements QueryLookupStrategy {
+			ValueExpressionDelegate valueExpressionDelegate,
+			LdapRepositoryOperationInterceptor operationInterceptor, ConcurrencyLimitingInterceptor concurrencyLimiting,
+			Executor executor, int inClauseChunkSize, UnindexedSearchPolicy unindexedSearchPolicy,
+			ResultSizeLimit resultSizeLimit, ResultMapping resultMapping, SubtreeSplitting subtreeSplitting,
+			SearchLimits searchLimits, boolean warmUp)
+			implements QueryLookupStrategy {
 
 		@Override
 		public RepositoryQuery resolveQuery(Method method, RepositoryMetadata metadata, ProjectionFactory factory,
@@ -194,11 +606,44 @@ public class LdapRepositoryFactory extends RepositoryFactorySupport {
 			LdapQueryMethod queryMethod = new LdapQueryMethod(method, metadata, factory);
 			Class<?> domainType = metadata.getDomainType();
 
+			AbstractLdapRepositoryQuery query;
+
 			if (queryMethod.hasQueryAnnotation()) {
-				return new AnnotatedLdapRepositoryQuery(queryMethod, domainType, ldapOperations, mappingContext, instantiators,
+				query = new AnnotatedLdapRepositoryQuery(queryMethod, domainType, ldapOperations, mappingContext, instantiators,
 						valueExpressionDelegate);
 			} else {
-				return new PartTreeLdapRepositoryQuery(queryMethod, domainType, ldapOperations, mappingContext, instantiators);
+				query = new PartTreeLdapRepositoryQuery(queryMethod, domainType, ldapOperations, mappingContext, instantiators);
+			}
+
+			configure(query, metadata);
+
+			return query;
+		}
+
+		/**
+		 * Apply repository-wide settings to the given {@code query}.
+		 */
+		void configure(AbstractLdapRepositoryQuery query, RepositoryMetadata metadata) {
+
+			if (query instanceof PartTreeLdapRepositoryQuery partTreeQuery) {
+				partTreeQuery.setInClauseChunkSize(inClauseChunkSize);
+			} else if (query instanceof PrecompiledLdapRepositoryQuery precompiledQuery) {
+				precompiledQuery.setInClauseChunkSize(inClauseChunkSize);
+			}
+
+			query.setOperationInterceptor(concurrencyLimiting.register(metadata.getRepositoryInterface())
+					? LdapRepositoryOperationInterceptor.composite(List.of(operationInterceptor, concurrencyLimiting))
+					: operationInterceptor);
+			query.setExecutor(executor);
+			query.setUnindexedSearchPolicy(unindexedSearchPolicy);
+			query.setResultSizeLimit(resultSizeLimit);
+			query.setResultMapping(resultMapping);
+			query.setSubtreeSplitting(subtreeSplitting);
+			query.setSearchLimits(getSearchLimits(metadata.getRepositoryInterface(), searchLimits));
+			applyObjectDirectoryMapper(ldapOperations, metadata.getDomainType(), query::setObjectDirectoryMapper);
+
+			if (warmUp) {
+				query.warmUp();
 			}
 		}
 
@@ -15,11 +15,23 @@
  */
 package org.springframework.data.ldap.repository.support;
 
+import java.util.concurrent.Executor;
+
 import javax.naming.Name;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.data.ldap.core.mapping.LdapMappingContext;
+import org.springframework.data.ldap.repository.query.LdapRepositoryOperationInterceptor;
+import org.springframework.data.ldap.repository.query.ResultMapping;
+import org.springframework.data.ldap.repository.query.ResultSizeLimit;
+import org.springframework.data.ldap.repository.query.ResultSizePolicy;
+import org.springframework.data.ldap.repository.query.SearchLimits;
+import org.springframework.data.ldap.repository.query.SubtreeSplitting;
+import org.springframework.data.ldap.repository.query.UnindexedSearchPolicy;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.context.MappingContext;
@@ -43,6 +55,20 @@ public class LdapRepositoryFactoryBean<T extends Repository<S, Name>, S>
 	private @Nullable LdapOperations ldapOperations;
 	private boolean mappingContextConfigured = false;
 	private @Nullable MappingContext<? extends PersistentEntity<?, ?>, ? extends PersistentProperty<?>> mappingContext;
+	private @Nullable ListableBeanFactory beanFactory;
+	private @Nullable Executor executor;
+	private int inClauseChunkSize = 0;
+	private UnindexedSearchPolicy unindexedSearchPolicy = UnindexedSearchPolicy.WARN;
+	private int maxResultSize = 0;
+	private ResultSizePolicy resultSizePolicy = ResultSizePolicy.FAIL;
+	private @Nullable Executor mappingExecutor;
+	private boolean preserveMappingOrder = true;
+	private int referenceResolutionConcurrency = 4;
+	private GroupExpansion groupExpansion = GroupExpansion.defaults();
+	private SubtreeSplitting subtreeSplitting = SubtreeSplitting.none();
+	private @Nullable ConcurrencyLimits concurrencyLimits;
+	private SearchLimits searchLimits = SearchLimits.none();
+	private boolean warmUp = false;
 
 	/**
 	 * Creates a new {@link LdapRepositoryFactoryBean} for the given repository interface.
@@ -60,6 +86,158 @@ public class LdapRepositoryFactoryBean<T extends Repository<S, Name>, S>
 		this.ldapOperations = ldapOperations;
 	}
 
+	/**
+	 * Configure the {@link Executor} to run concurrent searches issued by a single repository operation.
+	 *
+	 * @param executor the executor to use.
+	 * @since 4.2
+	 * @see LdapRepositoryFactory#setExecutor(Executor)
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Configure the maximum number of {@code IN} values per search.
+	 *
+	 * @param inClauseChunkSize maximum number of {@code IN} values per search, zero to disable splitting.
+	 * @since 4.2
+	 * @see LdapRepositoryFactory#setInClauseChunkSize(int)
+	 */
+	public void setInClauseChunkSize(int inClauseChunkSize) {
+		this.inClauseChunkSize = inClauseChunkSize;
+	}
+
+	/**
+	 * Configure the {@link UnindexedSearchPolicy} to apply to substring searches with a leading wildcard on attributes
+	 * that are not indexed.
+	 *
+	 * @param unindexedSearchPolicy the policy to apply.
+	 * @since 4.2
+	 * @see LdapRepositoryFactory#setUnindexedSearchPolicy(UnindexedSearchPolicy)
+	 */
+	public void setUnindexedSearchPolicy(UnindexedSearchPolicy unindexedSearchPolicy) {
+		this.unindexedSearchPolicy = unindexedSearchPolicy;
+	}
+
+	/**
+	 * Configure the maximum number of results materialized by {@code findAll} methods and query methods returning a
+	 * collection.
+	 *
+	 * @param maxResultSize maximum number of results, zero (default) for unlimited results.
+	 * @since 4.2
+	 * @see LdapRepositoryFactory#setResultSizeLimit(ResultSizeLimit)
+	 */
+	public void setMaxResultSize(int maxResultSize) {
+		this.maxResultSize = maxResultSize;
+	}
+
+	/**
+	 * Configure the {@link ResultSizePolicy} to apply to searches exceeding the {@link #setMaxResultSize(int) maximum
+	 * result size}. Defaults to {@link ResultSizePolicy#FAIL}.
+	 *
+	 * @param resultSizePolicy the policy to apply.
+	 * @since 4.2
+	 * @see LdapRepositoryFactory#setResultSizeLimit(ResultSizeLimit)
+	 */
+	public void setResultSizePolicy(ResultSizePolicy resultSizePolicy) {
+		this.resultSizePolicy = resultSizePolicy;
+	}
+
+	/**
+	 * Configure the {@link Executor} to map results of query methods returning a collection in parallel. Results are
+	 * mapped in the thread reading search results if not configured.
+	 *
+	 * @param mappingExecutor the executor to use, typically a {@link java.util.concurrent.ForkJoinPool} with bounded
+	 *          parallelism.
+	 * @since 4.2
+	 * @see ResultMapping#parallel(Executor, boolean)
+	 */
+	public void setMappingExecutor(Executor mappingExecutor) {
+		this.mappingExecutor = mappingExecutor;
+	}
+
+	/**
+	 * Configure whether results mapped in parallel retain the order returned by the directory server. Defaults to
+	 * {@literal true}.
+	 *
+	 * @param preserveMappingOrder whether to preserve the result order.
+	 * @since 4.2
+	 * @see #setMappingExecutor(Executor)
+	 */
+	public void setPreserveMappingOrder(boolean preserveMappingOrder) {
+		this.preserveMappingOrder = preserveMappingOrder;
+	}
+
+	/**
+	 * Configure the maximum number of concurrent lookup chunks when resolving DN references of returned entities.
+	 * Defaults to {@code 4}.
+	 *
+	 * @param referenceResolutionConcurrency maximum number of concurrent lookup chunks.
+	 * @since 4.2
+	 * @see LdapRepositoryFactory#setReferenceResolutionConcurrency(int)
+	 */
+	public void setReferenceResolutionConcurrency(int referenceResolutionConcurrency) {
+		this.referenceResolutionConcurrency = referenceResolutionConcurrency;
+	}
+
+	/**
+	 * Configure the {@link GroupExpansion} of repositories extending
+	 * {@link org.springframework.data.ldap.repository.NestedGroupExpansion}.
+	 *
+	 * @param groupExpansion the group expansion settings.
+	 * @since 4.2
+	 * @see LdapRepositoryFactory#setGroupExpansion(GroupExpansion)
+	 */
+	public void setGroupExpansion(GroupExpansion groupExpansion) {
+		this.groupExpansion = groupExpansion;
+	}
+
+	/**
+	 * Configure the {@link SubtreeSplitting} to split subtree searches into one search per child container.
+	 *
+	 * @param subtreeSplitting the subtree splitting settings.
+	 * @since 4.2
+	 * @see LdapRepositoryFactory#setSubtreeSplitting(SubtreeSplitting)
+	 */
+	public void setSubtreeSplitting(SubtreeSplitting subtreeSplitting) {
+		this.subtreeSplitting = subtreeSplitting;
+	}
+
+	/**
+	 * Configure the default {@link ConcurrencyLimits} applying a separate concurrency limit to each repository.
+	 *
+	 * @param concurrencyLimits the default limits, can be {@literal null} to limit only annotated repositories and
+	 *          methods.
+	 * @since 4.2
+	 * @see LdapRepositoryFactory#setConcurrencyLimits(ConcurrencyLimits)
+	 */
+	public void setConcurrencyLimits(@Nullable ConcurrencyLimits concurrencyLimits) {
+		this.concurrencyLimits = concurrencyLimits;
+	}
+
+	/**
+	 * Configure the default {@link SearchLimits} to apply to repository searches.
+	 *
+	 * @param searchLimits the default search limits.
+	 * @since 4.2
+	 * @see LdapRepositoryFactory#setSearchLimits(SearchLimits)
+	 */
+	public void setSearchLimits(SearchLimits searchLimits) {
+		this.searchLimits = searchLimits;
+	}
+
+	/**
+	 * Configure whether to initialize mapping metadata and query plans when creating the repository.
+	 *
+	 * @param warmUp {@literal true} to initialize metadata and query plans when creating the repository.
+	 * @since 4.2
+	 * @see LdapRepositoryFactory#setWarmUp(boolean)
+	 */
+	public void setWarmUp(boolean warmUp) {
+		this.warmUp = warmUp;
+	}
+
 	@Override
 	public void setMappingContext(MappingContext<?, ?> mappingContext) {
 
@@ -68,13 +246,51 @@ public class LdapRepositoryFactoryBean<T extends Repository<S, Name>, S>
 		this.mappingContextConfigured = true;
 	}
 
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+
+		super.setBeanFactory(beanFactory);
+
+		if (beanFactory instanceof ListableBeanFactory lbf) {
+			this.beanFactory = lbf;
+		}
+	}
+
 	@Override
 	protected RepositoryFactorySupport createRepositoryFactory() {
 
 		Assert.state(ldapOperations != null, "LdapOperations must be set");
 
-		return mappingContext != null ? new LdapRepositoryFactory(ldapOperations, mappingContext)
+		LdapRepositoryFactory factory = mappingContext != null ? new LdapRepositoryFactory(ldapOperations, mappingContext)
 				: new LdapRepositoryFactory(ldapOperations);
+
+		if (executor != null) {
+			factory.setExecutor(executor);
+		}
+
+		factory.setInClauseChunkSize(inClauseChunkSize);
+		factory.setUnindexedSearchPolicy(unindexedSearchPolicy);
+		factory.setResultSizeLimit(ResultSizeLimit.of(maxResultSize, resultSizePolicy));
+
+		if (mappingExecutor != null) {
+			factory.setResultMapping(ResultMapping.parallel(mappingExecutor, preserveMappingOrder));
+		}
+
+		factory.setReferenceResolutionConcurrency(referenceResolutionConcurrency);
+		factory.setGroupExpansion(groupExpansion);
+		factory.setSubtreeSplitting(subtreeSplitting);
+		factory.setConcurrencyLimits(concurrencyLimits);
+		factory.setSearchLimits(searchLimits);
+		factory.setWarmUp(warmUp);
+
+		if (beanFactory != null) {
+			beanFactory.getBeanProvider(LdapRepositoryOperationInterceptor.class).orderedStream()
+					.forEach(factory::addOperationInterceptor);
+			beanFactory.getBeanProvider(ConcurrencyLimiterListener.class).orderedStream()
+					.forEach(factory::addConcurrencyLimiterListener);
+		}
+
+		return factory;
 	}
 
 	@Override
@@ -15,7 +15,20 @@
  */
 package org.springframework.data.ldap.repository.support;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.ldap.repository.query.IndexedAttributes;
 import org.springframework.ldap.filter.AndFilter;
+import org.springframework.ldap.filter.BinaryLogicalFilter;
 import org.springframework.ldap.filter.EqualsFilter;
 import org.springframework.ldap.filter.Filter;
 import org.springframework.ldap.filter.GreaterThanOrEqualsFilter;
@@ -25,19 +38,40 @@ import org.springframework.ldap.filter.NotFilter;
 import org.springframework.ldap.filter.OrFilter;
 import org.springframework.ldap.filter.PresentFilter;
 import org.springframework.ldap.odm.core.ObjectDirectoryMapper;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 import com.querydsl.core.types.*;
+import com.querydsl.core.types.dsl.Expressions;
 
 /**
  * Helper class for generating LDAP filters from QueryDSL Expressions.
+ * <p>
+ * Generated filters are normalized: nested conjunctions and disjunctions are flattened into n-ary filters, duplicate
+ * terms are removed, double negations are eliminated and boolean constants are folded. Constant {@literal true} and
+ * {@literal false} predicates are rendered as {@code (objectclass=*)} and {@code (!(objectclass=*))}.
+ * <p>
+ * Expressions are compiled into a {@link FilterTemplate} that captures the expression structure with resolved
+ * attribute names. Templates are cached by the shape of the expression, that is the expression with its constant
+ * values left out, so that expressions differing only in their values reuse the same template.
+ * <p>
+ * Conjunctions list equality and {@code IN} terms on {@link IndexedAttributes indexed attributes} first. Substring
+ * searches with a leading wildcard are subject to the configured
+ * {@link org.springframework.data.ldap.repository.query.UnindexedSearchPolicy}.
  *
  * @author Mattias Hellborg Arthursson
  * @author Eddu Melendez
  */
-class LdapSerializer implements Visitor<Object, Void> {
+class LdapSerializer {
+
+	static final Filter TRUE = new PresentFilter("objectclass");
+	static final Filter FALSE = new NotFilter(TRUE);
+
+	private static final int[] ROOT = new int[0];
 
 	private final ObjectDirectoryMapper odm;
 	private final Class<?> entityType;
+	private final IndexedAttributes indexedAttributes;
+	private final Map<String, FilterTemplate> templates = new ConcurrentReferenceHashMap<>();
 
 	/**
 	 * Creates a new {@link LdapSerializer}.
@@ -46,85 +80,543 @@ class LdapSerializer implements Visitor<Object, Void> {
 	 * @param entityType
 	 */
 	public LdapSerializer(ObjectDirectoryMapper odm, Class<?> entityType) {
+		this(odm, entityType, IndexedAttributes.none());
+	}
+
+	/**
+	 * Creates a new {@link LdapSerializer}.
+	 *
+	 * @param odm
+	 * @param entityType
+	 * @param indexedAttributes
+	 * @since 4.2
+	 */
+	public LdapSerializer(ObjectDirectoryMapper odm, Class<?> entityType, IndexedAttributes indexedAttributes) {
 
 		this.odm = odm;
 		this.entityType = entityType;
+		this.indexedAttributes = indexedAttributes;
 	}
 
 	public Filter handle(Expression<?> expression) {
-		return (Filter) expression.accept(this, null);
-	}
 
-	@Override
-	public Object visit(Constant<?> expr, Void context) {
-		return expr.getConstant().toString();
-	}
+		String shape = getShape(expression);
 
-	@Override
-	public Object visit(FactoryExpression<?> expr, Void context) {
-		throw new UnsupportedOperationException();
+		if (shape == null) {
+			return compile(expression).apply(expression);
+		}
+
+		FilterTemplate template = templates.get(shape);
+
+		if (template == null) {
+			template = compile(expression);
+			templates.put(shape, template);
+		}
+
+		return template.apply(expression);
 	}
 
-	@Override
-	public Object visit(Operation<?> expr, Void context) {
+	/**
+	 * Compile the given expression into a {@link FilterTemplate}. The template must be applied to expressions of the
+	 * same shape only.
+	 */
+	private FilterTemplate compile(Expression<?> expr) {
+
+		Boolean constant = getBooleanConstant(expr);
+
+		if (constant != null) {
+
+			Filter filter = constant ? TRUE : FALSE;
+			return it -> filter;
+		}
+
+		if (!(expr instanceof Operation<?> operation)) {
+			throw new UnsupportedOperationException("Unsupported expression " + expr);
+		}
 
-		Operator operator = expr.getOperator();
+		Operator operator = operation.getOperator();
 
 		if (operator == Ops.EQ) {
-			return new EqualsFilter(attribute(expr), value(expr));
+
+			String attribute = attribute(operation);
+			return it -> new EqualsFilter(attribute, value(it));
 		} else if (operator == Ops.AND) {
-			return new AndFilter().and(handle(expr.getArg(0))).and(handle(expr.getArg(1)));
+			return junction(operation, AndFilter::new, TRUE, FALSE);
 		} else if (operator == Ops.OR) {
-			return new OrFilter().or(handle(expr.getArg(0))).or(handle(expr.getArg(1)));
+			return junction(operation, OrFilter::new, FALSE, TRUE);
 		} else if (operator == Ops.NOT) {
-			return new NotFilter(handle(expr.getArg(0)));
+			return negate(operation);
+		} else if (operator == Ops.IN) {
+
+			String attribute = attribute(operation);
+			return it -> disjunction(inOperands(it, attribute));
+		} else if (operator == Ops.NOT_IN) {
+
+			String attribute = attribute(operation);
+			return it -> not(disjunction(inOperands(it, attribute)));
 		} else if (operator == Ops.LIKE) {
-			return new LikeFilter(attribute(expr), value(expr));
+
+			String attribute = attribute(operation);
+			return it -> substring(attribute, value(it));
 		} else if (operator == Ops.STARTS_WITH || operator == Ops.STARTS_WITH_IC) {
-			return new LikeFilter(attribute(expr), value(expr) + "*");
+
+			String attribute = attribute(operation);
+			return it -> new LikeFilter(attribute, value(it) + "*");
 		} else if (operator == Ops.ENDS_WITH || operator == Ops.ENDS_WITH_IC) {
-			return new LikeFilter(attribute(expr), "*" + value(expr));
+
+			String attribute = attribute(operation);
+			return it -> substring(attribute, "*" + value(it));
 		} else if (operator == Ops.STRING_CONTAINS || operator == Ops.STRING_CONTAINS_IC) {
-			return new LikeFilter(attribute(expr), "*" + value(expr) + "*");
+
+			String attribute = attribute(operation);
+			return it -> substring(attribute, "*" + value(it) + "*");
 		} else if (operator == Ops.IS_NOT_NULL) {
-			return new PresentFilter(attribute(expr));
+
+			String attribute = attribute(operation);
+			return it -> new PresentFilter(attribute);
 		} else if (operator == Ops.IS_NULL) {
-			return new NotFilter(new PresentFilter(attribute(expr)));
+
+			String attribute = attribute(operation);
+			return it -> new NotFilter(new PresentFilter(attribute));
 		} else if (operator == Ops.GOE) {
-			return new GreaterThanOrEqualsFilter(attribute(expr), value(expr));
+
+			String attribute = attribute(operation);
+			return it -> new GreaterThanOrEqualsFilter(attribute, value(it));
 		} else if (operator == Ops.LOE) {
-			return new LessThanOrEqualsFilter(attribute(expr), value(expr));
+
+			String attribute = attribute(operation);
+			return it -> new LessThanOrEqualsFilter(attribute, value(it));
 		}
 
 		throw new UnsupportedOperationException("Unsupported operator " + operator.toString());
 	}
 
-	private String value(Operation<?> expr) {
-		return (String) expr.getArg(1).accept(this, null);
+	private Filter substring(String attribute, String pattern) {
+
+		if (pattern.startsWith("*")) {
+			indexedAttributes.checkLeadingWildcard(attribute, pattern);
+		}
+
+		return new LikeFilter(attribute, pattern);
+	}
+
+	/**
+	 * Create a n-ary junction from all nested operands using the same operator. Operands equal to {@code identity} are
+	 * dropped, an operand equal to {@code absorbing} short-circuits the entire junction. Leading operands of a
+	 * conjunction precede all other operands.
+	 */
+	private FilterTemplate junction(Operation<?> expr, Supplier<BinaryLogicalFilter> junction, Filter identity,
+			Filter absorbing) {
+
+		OperandTemplate operands = compileOperand(expr, expr.getOperator());
+		boolean reorder = expr.getOperator() == Ops.AND && hasLeadingOperand(expr);
+
+		return it -> {
+
+			Set<Filter> filters = new LinkedHashSet<>();
+
+			if (reorder) {
+
+				Set<Filter> trailing = new LinkedHashSet<>();
+				operands.collect(it, filters, trailing);
+				filters.addAll(trailing);
+			} else {
+				operands.collect(it, filters, filters);
+			}
+
+			if (filters.contains(absorbing)) {
+				return absorbing;
+			}
+
+			filters.remove(identity);
+
+			if (filters.isEmpty()) {
+				return identity;
+			}
+
+			if (filters.size() == 1) {
+				return filters.iterator().next();
+			}
+
+			return junction.get().appendAll(filters);
+		};
+	}
+
+	/**
+	 * Compile a junction operand. Nested operations using the same operator are compiled into a template contributing
+	 * the operands of the nested operation.
+	 */
+	private OperandTemplate compileOperand(Expression<?> expr, Operator operator) {
+
+		int[] path = unwrapDoubleNegation(expr, ROOT);
+		Expression<?> operand = navigate(expr, path);
+
+		if (operand instanceof Operation<?> operation && operation.getOperator() == operator) {
+
+			List<OperandTemplate> operands = new ArrayList<>(operation.getArgs().size());
+
+			for (Expression<?> arg : operation.getArgs()) {
+				operands.add(compileOperand(arg, operator));
+			}
+
+			return (it, leading, filters) -> {
+
+				Operation<?> nested = (Operation<?>) navigate(it, path);
+
+				for (int i = 0; i < operands.size(); i++) {
+					operands.get(i).collect(nested.getArg(i), leading, filters);
+				}
+			};
+		}
+
+		if (operator == Ops.OR && operand instanceof Operation<?> operation && operation.getOperator() == Ops.IN) {
+
+			String attribute = attribute(operation);
+			return (it, leading, filters) -> filters.addAll(inOperands(navigate(it, path), attribute));
+		}
+
+		FilterTemplate template = compile(operand);
+
+		if (operator == Ops.AND && isIndexedEquality(operand)) {
+			return (it, leading, filters) -> leading.add(template.apply(navigate(it, path)));
+		}
+
+		return (it, leading, filters) -> filters.add(template.apply(navigate(it, path)));
+	}
+
+	private boolean hasLeadingOperand(Expression<?> expr) {
+
+		Expression<?> operand = navigate(expr, unwrapDoubleNegation(expr, ROOT));
+
+		if (operand instanceof Operation<?> operation && operation.getOperator() == Ops.AND) {
+
+			for (Expression<?> arg : operation.getArgs()) {
+				if (hasLeadingOperand(arg)) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		return isIndexedEquality(operand);
+	}
+
+	/**
+	 * @return {@literal true} if {@code expr} is an equality or {@code IN} operation on an indexed attribute.
+	 */
+	private boolean isIndexedEquality(Expression<?> expr) {
+
+		if (!indexedAttributes.hasIndexedAttributes() || !(expr instanceof Operation<?> operation)
+				|| (operation.getOperator() != Ops.EQ && operation.getOperator() != Ops.IN)
+				|| !(operation.getArg(0) instanceof Path<?>)) {
+			return false;
+		}
+
+		return indexedAttributes.isIndexed(attribute(operation));
+	}
+
+	/**
+	 * Create an {@link EqualsFilter} for each distinct value of an {@code IN} operation.
+	 */
+	private static Set<Filter> inOperands(Expression<?> expr, String attribute) {
+
+		Expression<?> argument = ((Operation<?>) expr).getArg(1);
+
+		if (!(argument instanceof Constant<?> constant && constant.getConstant() instanceof Collection<?> values)) {
+			throw new UnsupportedOperationException("Unsupported IN argument " + argument);
+		}
+
+		Set<Filter> operands = new LinkedHashSet<>(values.size());
+
+		for (Object value : values) {
+			operands.add(new EqualsFilter(attribute, value.toString()));
+		}
+
+		return operands;
+	}
+
+	private static Filter disjunction(Set<Filter> operands) {
+
+		if (operands.contains(TRUE)) {
+			return TRUE;
+		}
+
+		operands.remove(FALSE);
+
+		if (operands.isEmpty()) {
+			return FALSE;
+		}
+
+		if (operands.size() == 1) {
+			return operands.iterator().next();
+		}
+
+		return new OrFilter().appendAll(operands);
+	}
+
+	private FilterTemplate negate(Operation<?> expr) {
+
+		int[] path = unwrapDoubleNegation(expr.getArg(0), new int[] { 0 });
+		Expression<?> operand = navigate(expr, path);
+
+		if (operand instanceof Operation<?> operation) {
+
+			if (operation.getOperator() == Ops.NOT) {
+
+				int[] innerPath = append(path, 0);
+				FilterTemplate template = compile(operation.getArg(0));
+				return it -> template.apply(navigate(it, innerPath));
+			}
+
+			if (operation.getOperator() == Ops.IS_NULL) {
+
+				String attribute = attribute(operation);
+				return it -> new PresentFilter(attribute);
+			}
+		}
+
+		FilterTemplate template = compile(operand);
+		return it -> not(template.apply(navigate(it, path)));
+	}
+
+	private static Filter not(Filter filter) {
+
+		if (filter.equals(TRUE)) {
+			return FALSE;
+		}
+
+		if (filter.equals(FALSE)) {
+			return TRUE;
+		}
+
+		return new NotFilter(filter);
+	}
+
+	/**
+	 * Skip pairs of {@code NOT} operations starting at {@code expr} located at {@code path}.
+	 *
+	 * @return the path to the first expression that is not a double negation.
+	 */
+	private static int[] unwrapDoubleNegation(Expression<?> expr, int[] path) {
+
+		Expression<?> result = expr;
+		int[] resultPath = path;
+
+		while (result instanceof Operation<?> outer && outer.getOperator() == Ops.NOT
+				&& outer.getArg(0) instanceof Operation<?> inner && inner.getOperator() == Ops.NOT) {
+
+			result = inner.getArg(0);
+			resultPath = append(append(resultPath, 0), 0);
+		}
+
+		return resultPath;
+	}
+
+	/**
+	 * Resolve the expression at {@code path} relative to {@code expr}.
+	 */
+	private static Expression<?> navigate(Expression<?> expr, int[] path) {
+
+		Expression<?> result = expr;
+
+		for (int i = 0; i < path.length; i++) {
+			result = ((Operation<?>) result).getArg(path[i]);
+		}
+
+		return result;
+	}
+
+	private static int[] append(int[] path, int index) {
+
+		int[] result = Arrays.copyOf(path, path.length + 1);
+		result[path.length] = index;
+		return result;
+	}
+
+	private static @Nullable Boolean getBooleanConstant(Expression<?> expr) {
+
+		if (expr instanceof Constant<?> constant && constant.getConstant() instanceof Boolean value) {
+			return value;
+		}
+
+		if (expr instanceof TemplateExpression<?>) {
+
+			if (Expressions.TRUE.equals(expr)) {
+				return true;
+			}
+
+			if (Expressions.FALSE.equals(expr)) {
+				return false;
+			}
+		}
+
+		if (expr instanceof Operation<?> operation && operation.getArgs().size() == 2
+				&& operation.getArg(0) instanceof Constant<?> left && operation.getArg(1) instanceof Constant<?> right) {
+
+			if (operation.getOperator() == Ops.EQ) {
+				return left.getConstant().equals(right.getConstant());
+			}
+
+			if (operation.getOperator() == Ops.NE) {
+				return !left.getConstant().equals(right.getConstant());
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Compute the shape of an expression. Constant values are left out unless they affect the filter structure.
+	 *
+	 * @return the shape or {@literal null} if the expression cannot be cached.
+	 */
+	private static @Nullable String getShape(Expression<?> expr) {
+
+		StringBuilder shape = new StringBuilder(64);
+		return expr.accept(ShapeVisitor.INSTANCE, shape) != ShapeVisitor.UNCACHEABLE ? shape.toString() : null;
+	}
+
+	private static String value(Expression<?> expr) {
+		return valueOf(((Operation<?>) expr).getArg(1));
 	}
 
 	private String attribute(Operation<?> expr) {
-		return odm.attributeFor(entityType, (String) expr.getArg(0).accept(this, null));
+		return odm.attributeFor(entityType, valueOf(expr.getArg(0)));
 	}
 
-	@Override
-	public Object visit(ParamExpression<?> expr, Void context) {
-		throw new UnsupportedOperationException();
+	private static String valueOf(Expression<?> expr) {
+
+		if (expr instanceof Constant<?> constant) {
+			return constant.getConstant().toString();
+		}
+
+		if (expr instanceof Path<?> path) {
+			return path.getMetadata().getName();
+		}
+
+		throw new UnsupportedOperationException("Unsupported expression " + expr);
 	}
 
-	@Override
-	public Object visit(Path<?> expr, Void context) {
-		return expr.getMetadata().getName();
+	/**
+	 * {@link Visitor} rendering the shape of an expression. Uses visitor dispatch rather than type checks to keep shape
+	 * computation cheap compared to compiling an expression.
+	 */
+	private static class ShapeVisitor implements Visitor<Integer, StringBuilder> {
+
+		static final ShapeVisitor INSTANCE = new ShapeVisitor();
+
+		static final Integer UNCACHEABLE = 0;
+		static final Integer STRUCTURAL = 1;
+		static final Integer PARAMETER = 2;
+
+		@Override
+		public Integer visit(Constant<?> expr, StringBuilder shape) {
+
+			if (expr.getConstant() instanceof Boolean value) {
+				shape.append(value ? "TRUE" : "FALSE");
+				return STRUCTURAL;
+			}
+
+			shape.append('?');
+			return PARAMETER;
+		}
+
+		@Override
+		public Integer visit(Operation<?> expr, StringBuilder shape) {
+
+			Operator operator = expr.getOperator();
+
+			if ((operator == Ops.EQ || operator == Ops.NE) && expr.getArgs().size() == 2
+					&& expr.getArg(0) instanceof Constant<?> && expr.getArg(1) instanceof Constant<?>) {
+				shape.append(getBooleanConstant(expr) ? "TRUE" : "FALSE");
+				return STRUCTURAL;
+			}
+
+			shape.append(operator.name()).append('(');
+
+			for (int i = 0; i < expr.getArgs().size(); i++) {
+
+				Integer result = expr.getArg(i).accept(this, shape);
+
+				// constants in attribute position are resolved while compiling the template
+				if (result == UNCACHEABLE || (i == 0 && result == PARAMETER)) {
+					return UNCACHEABLE;
+				}
+			}
+
+			shape.append(')');
+			return STRUCTURAL;
+		}
+
+		@Override
+		public Integer visit(Path<?> expr, StringBuilder shape) {
+
+			shape.append('[').append(expr.getMetadata().getName()).append(']');
+			return STRUCTURAL;
+		}
+
+		@Override
+		public Integer visit(TemplateExpression<?> expr, StringBuilder shape) {
+
+			Boolean constant = getBooleanConstant(expr);
+
+			if (constant == null) {
+				return UNCACHEABLE;
+			}
+
+			shape.append(constant ? "TRUE" : "FALSE");
+			return STRUCTURAL;
+		}
+
+		@Override
+		public Integer visit(FactoryExpression<?> expr, StringBuilder shape) {
+			return UNCACHEABLE;
+		}
+
+		@Override
+		public Integer visit(ParamExpression<?> expr, StringBuilder shape) {
+			return UNCACHEABLE;
+		}
+
+		@Override
+		public Integer visit(SubQueryExpression<?> expr, StringBuilder shape) {
+			return UNCACHEABLE;
+		}
+
 	}
 
-	@Override
-	public Object visit(SubQueryExpression<?> expr, Void context) {
-		throw new UnsupportedOperationException();
+	/**
+	 * Compiled translation of an expression shape into a {@link Filter}.
+	 */
+	@FunctionalInterface
+	private interface FilterTemplate {
+
+		/**
+		 * Create the {@link Filter} for the given expression using the values of its constants.
+		 *
+		 * @param expression expression of the same shape as the compiled expression.
+		 * @return the filter.
+		 */
+		Filter apply(Expression<?> expression);
+
 	}
 
-	@Override
-	public Object visit(TemplateExpression<?> expr, Void context) {
-		throw new UnsupportedOperationException();
+	/**
+	 * Compiled junction operand contributing filters to a junction.
+	 */
+	@FunctionalInterface
+	private interface OperandTemplate {
+
+		/**
+		 * Contribute the filters for the given operand.
+		 *
+		 * @param operand operand expression of the same shape as the compiled operand.
+		 * @param leading the junction filters to add leading filters to.
+		 * @param filters the junction filters to add all other filters to.
+		 */
+		void collect(Expression<?> operand, Set<Filter> leading, Set<Filter> filters);
+
 	}
 
 }
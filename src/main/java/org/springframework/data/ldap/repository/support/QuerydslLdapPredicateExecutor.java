@@ -19,21 +19,34 @@ import java.beans.FeatureDescriptor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.naming.Name;
+
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.convert.DtoInstantiatingConverter;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.ldap.repository.query.FanOutFutures;
+import org.springframework.data.ldap.repository.query.IndexedAttributes;
+import org.springframework.data.ldap.repository.query.SearchAttributes;
+import org.springframework.data.ldap.repository.query.SearchLimits;
+import org.springframework.data.ldap.repository.query.SubtreeSplitting;
+import org.springframework.data.ldap.repository.query.UnindexedSearchPolicy;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.context.MappingContext;
@@ -45,7 +58,10 @@ import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.repository.core.EntityInformation;
 import org.springframework.data.repository.query.FluentQuery;
 import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.ldap.core.ContextMapper;
+import org.springframework.ldap.core.DirContextOperations;
 import org.springframework.ldap.core.LdapOperations;
+import org.springframework.ldap.odm.core.ObjectDirectoryMapper;
 import org.springframework.ldap.query.LdapQueryBuilder;
 import org.springframework.util.Assert;
 
@@ -60,11 +76,20 @@ import com.querydsl.core.types.Predicate;
  */
 public class QuerydslLdapPredicateExecutor<T> implements ListQuerydslPredicateExecutor<T> {
 
+	private static final ContextMapper<Name> DN_MAPPER = ctx -> ((DirContextOperations) ctx).getDn();
+
 	private final EntityInformation<T, ?> entityInformation;
 	private final ProjectionFactory projectionFactory;
 	private final LdapOperations ldapOperations;
 	private final MappingContext<? extends PersistentEntity<?, ?>, ? extends PersistentProperty<?>> mappingContext;
 	private final EntityInstantiators entityInstantiators = new EntityInstantiators();
+	private final SearchAttributes searchAttributes;
+	private ObjectDirectoryMapper objectDirectoryMapper;
+	private LdapSerializer filterGenerator;
+	private Executor executor = new SyncTaskExecutor();
+	private SubtreeSplitting subtreeSplitting = SubtreeSplitting.none();
+	private SearchLimits searchLimits = SearchLimits.none();
+	private int inClauseChunkSize = 0;
 
 	/**
 	 * Creates a new {@link QuerydslLdapPredicateExecutor}.
@@ -87,6 +112,10 @@ public class QuerydslLdapPredicateExecutor<T> implements ListQuerydslPredicateEx
 		this.ldapOperations = ldapOperations;
 		this.projectionFactory = projectionFactory;
 		this.mappingContext = mappingContext;
+		this.objectDirectoryMapper = ldapOperations.getObjectDirectoryMapper();
+		this.filterGenerator = createFilterGenerator(UnindexedSearchPolicy.WARN);
+		this.searchAttributes = SearchAttributes.of(entityInformation.getJavaType(),
+				ldapOperations.getObjectDirectoryMapper());
 	}
 
 	/**
@@ -110,6 +139,105 @@ public class QuerydslLdapPredicateExecutor<T> implements ListQuerydslPredicateEx
 		this.ldapOperations = ldapOperations;
 		this.projectionFactory = projectionFactory;
 		this.mappingContext = mappingContext;
+		this.objectDirectoryMapper = ldapOperations.getObjectDirectoryMapper();
+		this.filterGenerator = createFilterGenerator(UnindexedSearchPolicy.WARN);
+		this.searchAttributes = SearchAttributes.of(entityInformation.getJavaType(),
+				ldapOperations.getObjectDirectoryMapper());
+	}
+
+	private LdapSerializer createFilterGenerator(UnindexedSearchPolicy policy) {
+
+		Class<T> entityType = entityInformation.getJavaType();
+		ObjectDirectoryMapper odm = ldapOperations.getObjectDirectoryMapper();
+
+		return new LdapSerializer(odm, entityType, IndexedAttributes.of(entityType, mappingContext, odm, policy));
+	}
+
+	/**
+	 * Configure the maximum number of {@code IN} values per search. Predicates containing an {@code IN} operation with
+	 * more values are split into multiple searches that are run using the configured {@link #setExecutor(Executor)
+	 * Executor}. Results are merged and de-duplicated by their distinguished name. Zero (default) disables splitting.
+	 *
+	 * @param inClauseChunkSize maximum number of {@code IN} values per search, must not be negative.
+	 * @since 4.2
+	 */
+	public void setInClauseChunkSize(int inClauseChunkSize) {
+
+		Assert.isTrue(inClauseChunkSize >= 0, "IN clause chunk size must not be negative");
+
+		this.inClauseChunkSize = inClauseChunkSize;
+	}
+
+	/**
+	 * Configure the {@link Executor} to run split searches. Defaults to {@link SyncTaskExecutor} running searches
+	 * sequentially in the calling thread.
+	 *
+	 * @param executor must not be {@literal null}.
+	 * @since 4.2
+	 * @see #setInClauseChunkSize(int)
+	 */
+	public void setExecutor(Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null");
+
+		this.executor = executor;
+	}
+
+	/**
+	 * Configure the {@link SubtreeSplitting} to apply to {@link #findAll(Predicate)}. Split searches are run using the
+	 * configured {@link #setExecutor(Executor) Executor}. Defaults to {@link SubtreeSplitting#none()}.
+	 *
+	 * @param subtreeSplitting must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setSubtreeSplitting(SubtreeSplitting subtreeSplitting) {
+
+		Assert.notNull(subtreeSplitting, "SubtreeSplitting must not be null");
+
+		this.subtreeSplitting = subtreeSplitting;
+	}
+
+	/**
+	 * Configure the {@link ObjectDirectoryMapper} to map search results. Defaults to the
+	 * {@link LdapOperations#getObjectDirectoryMapper() ObjectDirectoryMapper} of {@link LdapOperations}.
+	 *
+	 * @param objectDirectoryMapper must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setObjectDirectoryMapper(ObjectDirectoryMapper objectDirectoryMapper) {
+
+		Assert.notNull(objectDirectoryMapper, "ObjectDirectoryMapper must not be null");
+
+		this.objectDirectoryMapper = objectDirectoryMapper;
+	}
+
+	/**
+	 * Configure the {@link SearchLimits} to apply to searches. Count limits do not apply to {@link #count(Predicate)}.
+	 * Defaults to {@link SearchLimits#none()}.
+	 *
+	 * @param searchLimits must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setSearchLimits(SearchLimits searchLimits) {
+
+		Assert.notNull(searchLimits, "SearchLimits must not be null");
+
+		this.searchLimits = searchLimits;
+	}
+
+	/**
+	 * Configure the {@link UnindexedSearchPolicy} to apply to substring searches with a leading wildcard on attributes
+	 * that are not {@link org.springframework.data.ldap.core.mapping.Indexed indexed}. Defaults to
+	 * {@link UnindexedSearchPolicy#WARN}.
+	 *
+	 * @param unindexedSearchPolicy must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setUnindexedSearchPolicy(UnindexedSearchPolicy unindexedSearchPolicy) {
+
+		Assert.notNull(unindexedSearchPolicy, "UnindexedSearchPolicy must not be null");
+
+		this.filterGenerator = createFilterGenerator(unindexedSearchPolicy);
 	}
 
 	@Override
@@ -119,7 +247,7 @@ public class QuerydslLdapPredicateExecutor<T> implements ListQuerydslPredicateEx
 
 	@Override
 	public List<T> findAll(Predicate predicate) {
-		return queryFor(predicate).list();
+		return search(predicate, it -> {}, null, searchLimits, QuerydslLdapQuery::list, this::getId);
 	}
 
 	@Override
@@ -172,8 +300,9 @@ public class QuerydslLdapPredicateExecutor<T> implements ListQuerydslPredicateEx
 
 		if (pageable.getSort().isUnsorted() && pageable.getPageNumber() == 0) {
 
-			return PageableExecutionUtils.getPage(queryFor(predicate, q -> q.countLimit(pageable.getPageSize())).list(),
-					pageable, () -> count(predicate));
+			return PageableExecutionUtils.getPage(search(predicate, q -> q.countLimit(pageable.getPageSize()),
+					pageable.getPageSize(), searchLimits, QuerydslLdapQuery::list, this::getId), pageable,
+					() -> count(predicate));
 		}
 
 		throw new UnsupportedOperationException("Pagination and Sorting is not supported");
@@ -189,17 +318,54 @@ public class QuerydslLdapPredicateExecutor<T> implements ListQuerydslPredicateEx
 		return queryFunction.apply(new FluentQuerydsl<>(predicate, (Class<S>) entityInformation.getJavaType()));
 	}
 
-	private QuerydslLdapQuery<T> queryFor(Predicate predicate) {
-		return queryFor(predicate, it -> {
+	/**
+	 * Run a search for the given {@link Predicate}. Splits the predicate into multiple searches if it contains an
+	 * {@code IN} operation exceeding {@link #setInClauseChunkSize(int) the chunk size} and merges their results.
+	 * {@link SearchLimits} are applied after {@code queryBuilderConsumer} and bounded by the deadline of the calling
+	 * thread.
+	 */
+	private <S> List<S> search(Predicate predicate, Consumer<LdapQueryBuilder> queryBuilderConsumer,
+			@Nullable Integer limit, SearchLimits searchLimits, Function<QuerydslLdapQuery<T>, List<S>> searchFunction,
+			Function<S, Name> idFunction) {
+
+		Consumer<LdapQueryBuilder> customizer = queryBuilderConsumer.andThen(searchLimits.withinDeadline()::applyTo);
+		List<Predicate> predicates = InClauseSplitter.split(predicate, inClauseChunkSize);
+
+		if (predicates.size() == 1) {
+			return searchFunction.apply(queryFor(predicate, customizer));
+		}
+
+		List<CompletableFuture<List<S>>> futures = new ArrayList<>(predicates.size());
+
+		for (Predicate chunk : predicates) {
+			futures.add(CompletableFuture.supplyAsync(() -> searchFunction.apply(
+					queryFor(chunk, customizer).subtreeSplitting(subtreeSplitting, new SyncTaskExecutor())),
+					executor));
+		}
 
-		});
+		Map<Name, S> results = new LinkedHashMap<>();
+
+		for (CompletableFuture<List<S>> future : futures) {
+			for (S result : FanOutFutures.join(future, futures)) {
+				results.putIfAbsent(idFunction.apply(result), result);
+			}
+		}
+
+		List<S> merged = new ArrayList<>(results.values());
+
+		return limit != null && merged.size() > limit ? merged.subList(0, limit) : merged;
+	}
+
+	private Name getId(T entity) {
+		return objectDirectoryMapper.getId(entity);
 	}
 
 	private QuerydslLdapQuery<T> queryFor(Predicate predicate, Consumer<LdapQueryBuilder> queryBuilderConsumer) {
 
 		Assert.notNull(predicate, "Predicate must not be null");
 
-		return new QuerydslLdapQuery<>(ldapOperations, entityInformation.getJavaType(), queryBuilderConsumer)
+		return new QuerydslLdapQuery<>(ldapOperations, objectDirectoryMapper, entityInformation.getJavaType(),
+				queryBuilderConsumer, filterGenerator, searchAttributes).subtreeSplitting(subtreeSplitting, executor)
 				.where(predicate);
 	}
 
@@ -309,26 +475,28 @@ public class QuerydslLdapPredicateExecutor<T> implements ListQuerydslPredicateEx
 
 			Function<Object, R> conversionFunction = getConversionFunction();
 
-			return search(null, QuerydslLdapQuery::list).stream().map(conversionFunction);
+			return search(null, searchLimits, QuerydslLdapQuery::list, QuerydslLdapPredicateExecutor.this::getId)
+					.stream().map(conversionFunction);
 		}
 
 		@Override
 		public long count() {
-			return search(null, q -> q.search(it -> true)).size();
+			return search(null, searchLimits.withoutCountLimit(), q -> q.search(DN_MAPPER), Function.identity()).size();
 		}
 
 		@Override
 		public boolean exists() {
-			return !search(1, q -> q.search(it -> true)).isEmpty();
+			return !search(1, searchLimits, q -> q.search(DN_MAPPER), Function.identity()).isEmpty();
 		}
 
 		private List<T> findTop(int limit) {
-			return search(limit, QuerydslLdapQuery::list);
+			return search(limit, searchLimits, QuerydslLdapQuery::list, QuerydslLdapPredicateExecutor.this::getId);
 		}
 
-		private <S> S search(@Nullable Integer limit, Function<QuerydslLdapQuery<T>, S> searchFunction) {
+		private <S> List<S> search(@Nullable Integer limit, SearchLimits searchLimits,
+				Function<QuerydslLdapQuery<T>, List<S>> searchFunction, Function<S, Name> idFunction) {
 
-			QuerydslLdapQuery<T> q = queryFor(predicate, query -> {
+			return QuerydslLdapPredicateExecutor.this.search(predicate, query -> {
 
 				List<String> projection = getProjection();
 
@@ -339,9 +507,7 @@ public class QuerydslLdapPredicateExecutor<T> implements ListQuerydslPredicateEx
 				if (limit != null) {
 					query.countLimit(limit);
 				}
-			});
-
-			return searchFunction.apply(q);
+			}, limit, searchLimits, searchFunction, idFunction);
 		}
 
 		@SuppressWarnings("unchecked")
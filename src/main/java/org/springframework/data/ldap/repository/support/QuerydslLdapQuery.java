@@ -18,11 +18,19 @@ package org.springframework.data.ldap.repository.support;
 import static org.springframework.ldap.query.LdapQueryBuilder.*;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.data.ldap.repository.query.ResultMapping;
+import org.springframework.data.ldap.repository.query.ResultSizeLimit;
+import org.springframework.data.ldap.repository.query.SearchAttributes;
+import org.springframework.data.ldap.repository.query.SubtreeSplitting;
 import org.springframework.ldap.core.ContextMapper;
 import org.springframework.ldap.core.LdapOperations;
 import org.springframework.ldap.filter.AbsoluteTrueFilter;
+import org.springframework.ldap.odm.core.ObjectDirectoryMapper;
 import org.springframework.ldap.query.LdapQuery;
 import org.springframework.ldap.query.LdapQueryBuilder;
 import org.springframework.util.Assert;
@@ -43,9 +51,13 @@ import com.querydsl.core.types.Predicate;
 public class QuerydslLdapQuery<K> implements FilteredClause<QuerydslLdapQuery<K>> {
 
 	private final LdapOperations ldapOperations;
+	private final ObjectDirectoryMapper objectDirectoryMapper;
 	private final Class<K> entityType;
 	private final LdapSerializer filterGenerator;
+	private final SearchAttributes searchAttributes;
 	private final Consumer<LdapQueryBuilder> queryCustomizer;
+	private SubtreeSplitting subtreeSplitting = SubtreeSplitting.none();
+	private Executor executor = new SyncTaskExecutor();
 
 	private QueryMixin<QuerydslLdapQuery<K>> queryMixin = new QueryMixin<>(this, new DefaultQueryMetadata().noValidate());
 
@@ -81,15 +93,36 @@ public class QuerydslLdapQuery<K> implements FilteredClause<QuerydslLdapQuery<K>
 	 */
 	public QuerydslLdapQuery(LdapOperations ldapOperations, Class<K> entityType,
 			Consumer<LdapQueryBuilder> queryCustomizer) {
+		this(ldapOperations, ldapOperations.getObjectDirectoryMapper(), entityType, queryCustomizer,
+				new LdapSerializer(ldapOperations.getObjectDirectoryMapper(), entityType),
+				SearchAttributes.of(entityType, ldapOperations.getObjectDirectoryMapper()));
+	}
+
+	/**
+	 * Creates a new {@link QuerydslLdapQuery} using a shared {@link LdapSerializer} to reuse cached filter
+	 * translations and the given {@link ObjectDirectoryMapper} to map results.
+	 *
+	 * @param ldapOperations must not be {@literal null}.
+	 * @param objectDirectoryMapper must not be {@literal null}.
+	 * @param entityType must not be {@literal null}.
+	 * @param queryCustomizer must not be {@literal null}.
+	 * @param filterGenerator must not be {@literal null}.
+	 * @param searchAttributes must not be {@literal null}.
+	 * @since 4.2
+	 */
+	QuerydslLdapQuery(LdapOperations ldapOperations, ObjectDirectoryMapper objectDirectoryMapper, Class<K> entityType,
+			Consumer<LdapQueryBuilder> queryCustomizer, LdapSerializer filterGenerator, SearchAttributes searchAttributes) {
 
 		Assert.notNull(ldapOperations, "LdapOperations must not be null");
 		Assert.notNull(entityType, "Type must not be null");
 		Assert.notNull(queryCustomizer, "Query customizer must not be null");
 
 		this.ldapOperations = ldapOperations;
+		this.objectDirectoryMapper = objectDirectoryMapper;
 		this.entityType = entityType;
 		this.queryCustomizer = queryCustomizer;
-		this.filterGenerator = new LdapSerializer(ldapOperations.getObjectDirectoryMapper(), this.entityType);
+		this.filterGenerator = filterGenerator;
+		this.searchAttributes = searchAttributes;
 	}
 
 	@Override
@@ -102,15 +135,42 @@ public class QuerydslLdapQuery<K> implements FilteredClause<QuerydslLdapQuery<K>
 		return queryMixin.where(o);
 	}
 
+	/**
+	 * Split subtree searches of {@link #list()} using the given {@link SubtreeSplitting} and run split searches on the
+	 * given {@link Executor}.
+	 *
+	 * @since 4.2
+	 */
+	QuerydslLdapQuery<K> subtreeSplitting(SubtreeSplitting subtreeSplitting, Executor executor) {
+
+		this.subtreeSplitting = subtreeSplitting;
+		this.executor = executor;
+
+		return this;
+	}
+
 	@SuppressWarnings("unchecked")
 	public List<K> list() {
 
 		LdapQuery ldapQuery = buildQuery();
+
 		if (ldapQuery.filter() instanceof AbsoluteTrueFilter) {
-			return ldapOperations.findAll(entityType);
+
+			if (!subtreeSplitting.isEnabled() && ldapQuery.timeLimit() == null && ldapQuery.countLimit() == null) {
+				return ResultSizeLimit.unlimited().findAll(ldapOperations, objectDirectoryMapper, entityType,
+						ldapQuery.attributes());
+			}
+
+			ldapQuery = createQueryBuilder().where("objectclass").isPresent();
+		}
+
+		if (subtreeSplitting.isEnabled()) {
+			return subtreeSplitting.find(ldapOperations, objectDirectoryMapper, ldapQuery, entityType, executor,
+					ResultSizeLimit.unlimited(), ResultMapping.sequential());
 		}
 
-		return ldapOperations.find(ldapQuery, entityType);
+		return ResultSizeLimit.unlimited().find(ldapOperations, objectDirectoryMapper, ldapQuery, entityType,
+				ResultMapping.sequential());
 	}
 
 	<T> List<T> search(ContextMapper<T> mapper) {
@@ -121,17 +181,33 @@ public class QuerydslLdapQuery<K> implements FilteredClause<QuerydslLdapQuery<K>
 	}
 
 	public K uniqueResult() {
+
+		if (objectDirectoryMapper != ldapOperations.getObjectDirectoryMapper()) {
+			return DataAccessUtils.requiredSingleResult(ResultSizeLimit.unlimited().find(ldapOperations,
+					objectDirectoryMapper, buildQuery(), entityType, ResultMapping.sequential()));
+		}
+
 		return ldapOperations.findOne(buildQuery(), entityType);
 	}
 
 	LdapQuery buildQuery() {
 
 		Predicate where = queryMixin.getMetadata().getWhere();
+		LdapQueryBuilder builder = createQueryBuilder();
+
+		return where != null ? builder.filter(filterGenerator.handle(where)) : builder.filter(new AbsoluteTrueFilter());
+	}
+
+	private LdapQueryBuilder createQueryBuilder() {
 
 		LdapQueryBuilder builder = query();
 		queryCustomizer.accept(builder);
 
-		return where != null ? builder.filter(filterGenerator.handle(where)) : builder.filter(new AbsoluteTrueFilter());
+		if (builder.attributes() == null && searchAttributes.isRestricted()) {
+			builder.attributes(searchAttributes.getAttributes());
+		}
+
+		return builder;
 	}
 
 }
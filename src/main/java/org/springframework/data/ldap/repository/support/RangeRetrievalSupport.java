@@ -0,0 +1,212 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import javax.naming.Name;
+import javax.naming.directory.Attributes;
+import javax.naming.ldap.LdapName;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.LdapDataEntry;
+import org.springframework.core.CollectionFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.ldap.core.mapping.RangeRetrieval;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.ldap.core.LdapOperations;
+import org.springframework.ldap.odm.core.ObjectDirectoryMapper;
+import org.springframework.ldap.support.LdapUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link ObjectDirectoryMapper} completing {@link RangeRetrieval} properties of entities mapped by a repository.
+ * {@link Collection} properties are populated with all values if the mapped entry contained the attribute with a
+ * {@code range} option ({@code member;range=0-1499}), fetching further ranges only if the directory returned a partial
+ * range. {@link Iterable} properties are assigned a lazy {@link RangedAttributeValues} instance.
+ *
+ * @since 4.2
+ * @see RangedAttributeValues
+ */
+final class RangeRetrievalSupport extends DelegatingObjectDirectoryMapper {
+
+	private final LdapOperations operations;
+	private final Class<?> entityType;
+	private final List<RangedProperty> properties;
+
+	private RangeRetrievalSupport(ObjectDirectoryMapper delegate, LdapOperations operations, Class<?> entityType,
+			List<RangedProperty> properties) {
+
+		super(delegate);
+
+		this.operations = operations;
+		this.entityType = entityType;
+		this.properties = properties;
+	}
+
+	/**
+	 * Create {@link RangeRetrievalSupport} for the given {@code entityType}.
+	 *
+	 * @param entityType the entity type.
+	 * @param operations the LDAP operations.
+	 * @param odm the {@link ObjectDirectoryMapper} to delegate to.
+	 * @return the {@link RangeRetrievalSupport} or {@literal null} if the entity type does not declare
+	 *         {@link RangeRetrieval} properties.
+	 */
+	static @Nullable RangeRetrievalSupport create(Class<?> entityType, LdapOperations operations,
+			ObjectDirectoryMapper odm) {
+
+		List<Field> fields = new ArrayList<>();
+		ReflectionUtils.doWithFields(entityType, fields::add, field -> field.isAnnotationPresent(RangeRetrieval.class));
+
+		if (fields.isEmpty()) {
+			return null;
+		}
+
+		List<RangedProperty> properties = new ArrayList<>(fields.size());
+
+		for (Field field : fields) {
+			properties.add(RangedProperty.of(entityType, field, odm));
+		}
+
+		return new RangeRetrievalSupport(odm, operations, entityType, properties);
+	}
+
+	@Override
+	public <T> T mapFromLdapDataEntry(LdapDataEntry ctx, Class<T> clazz) {
+
+		T entity = super.mapFromLdapDataEntry(ctx, clazz);
+
+		if (entity != null && entityType.isInstance(entity)) {
+			complete(entity, ctx.getAttributes());
+		}
+
+		return entity;
+	}
+
+	/**
+	 * Complete {@link RangeRetrieval} properties of the given {@code entity}.
+	 *
+	 * @param entity the mapped entity.
+	 * @param attributes the attributes of the entry {@code entity} was mapped from.
+	 */
+	private void complete(Object entity, Attributes attributes) {
+
+		Name dn = getId(entity);
+
+		if (dn == null) {
+			return;
+		}
+
+		for (RangedProperty property : properties) {
+			property.complete(entity, attributes,
+					new RangedAttributeValues<>(operations, dn, property.attribute(), property.converter()));
+		}
+	}
+
+	/**
+	 * Return a converter for attribute values to the given {@code type}.
+	 *
+	 * @param type the target type.
+	 * @return the converter or {@literal null} if {@code type} is not supported.
+	 */
+	static @Nullable Function<Object, Object> getConverter(Class<?> type) {
+
+		if (type == String.class) {
+			return it -> it instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : it.toString();
+		}
+
+		if (Name.class.isAssignableFrom(type) && type.isAssignableFrom(LdapName.class)) {
+			return it -> it instanceof Name name ? name : LdapUtils.newLdapName(it.toString());
+		}
+
+		if (type == byte[].class) {
+			return it -> it instanceof byte[] ? it : it.toString().getBytes(StandardCharsets.UTF_8);
+		}
+
+		if (type == Object.class) {
+			return Function.identity();
+		}
+
+		return null;
+	}
+
+	private record RangedProperty(Field field, String attribute, Function<Object, Object> converter, boolean lazy) {
+
+		static RangedProperty of(Class<?> entityType, Field field, ObjectDirectoryMapper odm) {
+
+			RangeRetrieval annotation = field.getAnnotation(RangeRetrieval.class);
+			String attribute = StringUtils.hasText(annotation.value()) ? annotation.value()
+					: odm.attributeFor(entityType, field.getName());
+
+			if (!StringUtils.hasText(attribute)) {
+				throw new MappingException("Cannot determine attribute name for @RangeRetrieval property %s.%s"
+						.formatted(entityType.getName(), field.getName()));
+			}
+
+			ResolvableType type = ResolvableType.forField(field);
+			boolean lazy = field.getType() == Iterable.class;
+
+			if (!lazy && !Collection.class.isAssignableFrom(field.getType())) {
+				throw new MappingException("@RangeRetrieval property %s.%s must be a Collection or Iterable"
+						.formatted(entityType.getName(), field.getName()));
+			}
+
+			Class<?> elementType = type.as(Iterable.class).getGeneric(0).resolve(Object.class);
+			ReflectionUtils.makeAccessible(field);
+
+			Function<Object, Object> converter = getConverter(elementType);
+
+			if (converter == null) {
+				throw new MappingException("Unsupported element type %s of @RangeRetrieval property %s.%s"
+						.formatted(elementType.getName(), entityType.getName(), field.getName()));
+			}
+
+			return new RangedProperty(field, attribute, converter, lazy);
+		}
+
+		void complete(Object entity, Attributes attributes, RangedAttributeValues<Object> values) {
+
+			if (lazy) {
+				ReflectionUtils.setField(field, entity, values);
+				return;
+			}
+
+			RangedAttributeValues.Range range = RangedAttributeValues.findRange(attributes, attribute);
+
+			if (range == null) {
+				return;
+			}
+
+			Collection<Object> collection = CollectionFactory.createCollection(field.getType(), range.values().size());
+			range.values().forEach(it -> collection.add(converter.apply(it)));
+
+			if (range.next() != -1) {
+				values.iterator(range.next()).forEachRemaining(collection::add);
+			}
+
+			ReflectionUtils.setField(field, entity, collection);
+		}
+	}
+
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.naming.Name;
+import javax.naming.NamingEnumeration;
+import javax.naming.NamingException;
+import javax.naming.directory.Attribute;
+import javax.naming.directory.Attributes;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.ldap.core.AttributesMapper;
+import org.springframework.ldap.core.LdapOperations;
+import org.springframework.ldap.support.LdapUtils;
+
+/**
+ * {@link Iterable} over the values of a multi-valued attribute using range retrieval
+ * ({@code member;range=0-1499}). Each {@link Iterator} fetches one range at a time using base-object lookups and holds
+ * only the values of the current range. Servers that do not support range retrieval return the plain attribute with
+ * all values for the first lookup.
+ *
+ * @param <T> the value type.
+ * @since 4.2
+ */
+final class RangedAttributeValues<T> implements Iterable<T> {
+
+	private static final Pattern RANGE = Pattern.compile(";range=(\\d+)-(\\d+|\\*)$", Pattern.CASE_INSENSITIVE);
+
+	private final LdapOperations operations;
+	private final Name dn;
+	private final String attribute;
+	private final Function<Object, T> converter;
+
+	RangedAttributeValues(LdapOperations operations, Name dn, String attribute, Function<Object, T> converter) {
+
+		this.operations = operations;
+		this.dn = dn;
+		this.attribute = attribute;
+		this.converter = converter;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return iterator(0);
+	}
+
+	/**
+	 * Return an {@link Iterator} over the values starting at {@code start}.
+	 *
+	 * @param start index of the first value to fetch.
+	 * @return the {@link Iterator}.
+	 */
+	Iterator<T> iterator(int start) {
+		return new RangeIterator(start);
+	}
+
+	/**
+	 * Return the {@link Range} of {@code attribute} contained in the given {@link Attributes}, for example returned by a
+	 * search.
+	 *
+	 * @param attributes the attributes to inspect.
+	 * @param attribute the name of the attribute.
+	 * @return the {@link Range} or {@literal null} if {@code attributes} do not contain {@code attribute} with a
+	 *         {@code range} option.
+	 */
+	static @Nullable Range findRange(Attributes attributes, String attribute) {
+
+		String prefix = attribute.toLowerCase(Locale.ROOT) + ";range=";
+
+		try {
+
+			for (NamingEnumeration<? extends Attribute> all = attributes.getAll(); all.hasMore();) {
+
+				Attribute candidate = all.next();
+				String id = candidate.getID().toLowerCase(Locale.ROOT);
+
+				if (!id.startsWith(prefix)) {
+					continue;
+				}
+
+				Matcher matcher = RANGE.matcher(id);
+
+				if (!matcher.find() || "*".equals(matcher.group(2))) {
+					return new Range(values(candidate), -1);
+				}
+
+				return new Range(values(candidate), Integer.parseInt(matcher.group(2)) + 1);
+			}
+		} catch (NamingException e) {
+			throw LdapUtils.convertLdapException(e);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Fetch the range starting at {@code start}.
+	 *
+	 * @param start index of the first value to fetch.
+	 * @return the fetched {@link Range}.
+	 */
+	Range fetch(int start) {
+
+		String ranged = attribute + ";range=" + start + "-*";
+		String[] attributeNames = start == 0 ? new String[] { attribute, ranged } : new String[] { ranged };
+
+		Attributes attributes = operations.lookup(dn, attributeNames, (AttributesMapper<Attributes>) it -> it);
+
+		Range range = findRange(attributes, attribute);
+
+		if (range != null) {
+			return range.next() > start ? range : new Range(range.values(), -1);
+		}
+
+		try {
+			return new Range(getPlainValues(attributes), -1);
+		} catch (NamingException e) {
+			throw LdapUtils.convertLdapException(e);
+		}
+	}
+
+	private List<Object> getPlainValues(Attributes attributes) throws NamingException {
+
+		for (NamingEnumeration<? extends Attribute> all = attributes.getAll(); all.hasMore();) {
+
+			Attribute candidate = all.next();
+
+			if (candidate.getID().equalsIgnoreCase(attribute)) {
+				return values(candidate);
+			}
+		}
+
+		return Collections.emptyList();
+	}
+
+	private static List<Object> values(Attribute attribute) throws NamingException {
+
+		List<Object> values = new ArrayList<>(attribute.size());
+
+		for (NamingEnumeration<?> all = attribute.getAll(); all.hasMore();) {
+			values.add(all.next());
+		}
+
+		return values;
+	}
+
+	@Override
+	public String toString() {
+		return "RangedAttributeValues[" + attribute + " of " + dn + "]";
+	}
+
+	/**
+	 * Values of a single range.
+	 *
+	 * @param values the values of the range.
+	 * @param next index of the first value of the next range or {@code -1} if this was the last range.
+	 */
+	record Range(List<Object> values, int next) {
+
+	}
+
+	private class RangeIterator implements Iterator<T> {
+
+		private int next;
+		private Iterator<Object> values = Collections.emptyIterator();
+
+		RangeIterator(int start) {
+			this.next = start;
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			while (!values.hasNext() && next != -1) {
+
+				Range range = fetch(next);
+				values = range.values().iterator();
+				next = range.next();
+			}
+
+			return values.hasNext();
+		}
+
+		@Override
+		public T next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			return converter.apply(values.next());
+		}
+	}
+
+}
@@ -0,0 +1,553 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.ldap.core.LdapOperations;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Routes read operations to a pool of replica {@link LdapOperations} and write operations to a primary
+ * {@link LdapOperations}. Use {@link #getOperations()} as the {@link LdapOperations} of repositories, for example
+ * through {@code @EnableLdapRepositories(ldapTemplateRef = …)}.
+ * <p>
+ * Repositories using the routing operations route whole repository method invocations: {@code save…} and
+ * {@code delete…} methods use the primary, all other methods including query methods and Querydsl methods use a single
+ * replica for all their operations. Operations invoked outside of repositories are routed by the invoked
+ * {@link LdapOperations} method: {@code bind}, {@code unbind}, {@code rebind}, {@code rename},
+ * {@code modifyAttributes}, {@code create}, {@code update}, {@code delete} and {@code executeReadWrite} use the
+ * primary. {@code getObjectDirectoryMapper} returns the mapper of the primary.
+ * <p>
+ * After a write, reads of the writing thread use the primary for the configured read-your-writes window to not observe
+ * stale data while replicas catch up. Reads of other threads are not affected.
+ * <p>
+ * Repository reads can be {@link #withHedging(Hedging) hedged} across replicas to cut tail latencies caused by a
+ * single slow replica.
+ *
+ * @since 4.2
+ */
+public final class ReadReplicaRouting implements InvocationHandler {
+
+	private static final Set<String> WRITE_METHODS = Set.of("bind", "unbind", "rebind", "rename", "modifyAttributes",
+			"create", "update", "delete", "executeReadWrite");
+
+	private final LdapOperations primary;
+	private final List<LdapOperations> replicas;
+	private final AtomicInteger[] outstanding;
+	private final ReplicaSelection selection;
+	private final long readYourWritesWindow;
+	private final AtomicInteger next = new AtomicInteger();
+	private final ThreadLocal<@Nullable Long> lastWrite = new ThreadLocal<>();
+	private final ThreadLocal<@Nullable LdapOperations> pinned = new ThreadLocal<>();
+	private final @Nullable Hedging hedging;
+	private final @Nullable HedgingDelay hedgingDelay;
+	private final LongAdder hedgeableReads = new LongAdder();
+	private final LongAdder hedgedReads = new LongAdder();
+	private final LongAdder hedgeWins = new LongAdder();
+	private final LdapOperations operations;
+
+	private ReadReplicaRouting(LdapOperations primary, List<LdapOperations> replicas, ReplicaSelection selection,
+			Duration readYourWritesWindow, @Nullable Hedging hedging) {
+
+		this.primary = primary;
+		this.replicas = replicas;
+		this.outstanding = new AtomicInteger[replicas.size()];
+		this.selection = selection;
+		this.readYourWritesWindow = readYourWritesWindow.toNanos();
+		this.hedging = hedging;
+		this.hedgingDelay = hedging != null && replicas.size() > 1 ? new HedgingDelay(hedging) : null;
+		this.operations = (LdapOperations) Proxy.newProxyInstance(ClassUtils.getDefaultClassLoader(),
+				new Class<?>[] { LdapOperations.class }, this);
+
+		for (int i = 0; i < outstanding.length; i++) {
+			outstanding[i] = new AtomicInteger();
+		}
+	}
+
+	/**
+	 * Create a new {@link ReadReplicaRouting}.
+	 *
+	 * @param primary operations to use for writes, must not be {@literal null}.
+	 * @param replicas operations to use for reads, must not be empty.
+	 * @param selection strategy to select a replica, must not be {@literal null}.
+	 * @param readYourWritesWindow duration after a write during which reads of the writing thread use the primary, must
+	 *          not be negative.
+	 * @return a new {@link ReadReplicaRouting}.
+	 */
+	public static ReadReplicaRouting create(LdapOperations primary, List<? extends LdapOperations> replicas,
+			ReplicaSelection selection, Duration readYourWritesWindow) {
+
+		Assert.notNull(primary, "Primary LdapOperations must not be null");
+		Assert.notEmpty(replicas, "Replica LdapOperations must not be empty");
+		Assert.noNullElements(replicas, "Replica LdapOperations must not contain null elements");
+		Assert.notNull(selection, "ReplicaSelection must not be null");
+		Assert.isTrue(readYourWritesWindow != null && !readYourWritesWindow.isNegative(),
+				"Read-your-writes window must not be negative");
+
+		return new ReadReplicaRouting(primary, List.copyOf(replicas), selection, readYourWritesWindow, null);
+	}
+
+	/**
+	 * Return a new {@link ReadReplicaRouting} hedging repository reads according to the given {@link Hedging}. Reads of
+	 * repository methods returning a {@link java.util.stream.Stream} are not hedged. Hedging requires at least two
+	 * replicas.
+	 *
+	 * @param hedging must not be {@literal null}.
+	 * @return a new {@link ReadReplicaRouting}.
+	 */
+	public ReadReplicaRouting withHedging(Hedging hedging) {
+
+		Assert.notNull(hedging, "Hedging must not be null");
+
+		return new ReadReplicaRouting(primary, replicas, selection, Duration.ofNanos(readYourWritesWindow), hedging);
+	}
+
+	/**
+	 * Return the {@link ReadReplicaRouting} backing the given {@link LdapOperations}.
+	 *
+	 * @param operations the operations to inspect.
+	 * @return the {@link ReadReplicaRouting} or {@literal null} if {@code operations} were not created by a
+	 *         {@link ReadReplicaRouting}.
+	 */
+	static @Nullable ReadReplicaRouting from(LdapOperations operations) {
+		return Proxy.isProxyClass(operations.getClass())
+				&& Proxy.getInvocationHandler(operations) instanceof ReadReplicaRouting routing ? routing : null;
+	}
+
+	/**
+	 * Return the {@link LdapOperations} backing the given {@link LdapOperations}.
+	 *
+	 * @param operations the operations to inspect.
+	 * @return the primary followed by all replica {@link LdapOperations} if {@code operations} were created by a
+	 *         {@link ReadReplicaRouting}, otherwise {@code operations}.
+	 */
+	static List<LdapOperations> targetsOf(LdapOperations operations) {
+
+		ReadReplicaRouting routing = from(operations);
+
+		return routing != null ? routing.getTargets() : List.of(operations);
+	}
+
+	/**
+	 * @return the routing {@link LdapOperations}.
+	 */
+	public LdapOperations getOperations() {
+		return operations;
+	}
+
+	/**
+	 * @return the primary followed by all replica {@link LdapOperations}.
+	 */
+	List<LdapOperations> getTargets() {
+
+		List<LdapOperations> targets = new ArrayList<>(replicas.size() + 1);
+		targets.add(primary);
+		targets.addAll(replicas);
+
+		return targets;
+	}
+
+	/**
+	 * @return the number of repository reads that were eligible for hedging.
+	 */
+	public long getHedgeableReads() {
+		return hedgeableReads.sum();
+	}
+
+	/**
+	 * @return the number of repository reads that were sent to a second replica.
+	 */
+	public long getHedgedReads() {
+		return hedgedReads.sum();
+	}
+
+	/**
+	 * @return the number of hedged reads answered by the second replica first.
+	 */
+	public long getHedgeWins() {
+		return hedgeWins.sum();
+	}
+
+	/**
+	 * @return the current hedging delay or {@literal null} if reads are not hedged (yet).
+	 */
+	public @Nullable Duration getHedgingDelay() {
+
+		long delay = hedgingDelay != null ? hedgingDelay.getDelay() : -1;
+
+		return delay != -1 ? Duration.ofNanos(delay) : null;
+	}
+
+	/**
+	 * Return an {@link Executor} running tasks using the read target pinned to the submitting thread, if any, so that
+	 * searches split across multiple tasks of a single repository operation use the same target.
+	 *
+	 * @param executor the executor to run tasks.
+	 * @return the decorated {@link Executor}.
+	 */
+	Executor propagating(Executor executor) {
+
+		return task -> {
+
+			LdapOperations target = pinned.get();
+
+			executor.execute(target != null ? () -> runPinned(target, task) : task);
+		};
+	}
+
+	/**
+	 * Run {@code action} using the primary for all operations of the current thread.
+	 */
+	<T> T doWithPrimary(RoutedCall<T> action) throws Throwable {
+
+		try {
+			return doWithPinned(primary, action);
+		} finally {
+			recordWrite();
+		}
+	}
+
+	/**
+	 * Run {@code action} using a single read target for all operations of the current thread.
+	 */
+	<T> T doWithReadTarget(RoutedCall<T> action) throws Throwable {
+
+		if (pinned.get() != null) {
+			return action.call();
+		}
+
+		int replica = selectReplica(-1);
+
+		return replica != -1 ? doWithReplica(replica, action) : doWithPinned(primary, action);
+	}
+
+	/**
+	 * Run {@code action} using a single read target for all operations of the current thread, hedging the read on a
+	 * second replica if the first one did not answer within the hedging delay. The first read runs on the current
+	 * thread, the second read runs on the hedging executor. {@code action} may be called twice concurrently and must
+	 * not have side effects.
+	 */
+	<T> T doWithHedgedReadTarget(RoutedCall<T> action) throws Throwable {
+
+		Hedging hedging = this.hedging;
+		HedgingDelay hedgingDelay = this.hedgingDelay;
+
+		if (hedging == null || hedgingDelay == null || pinned.get() != null) {
+			return doWithReadTarget(action);
+		}
+
+		int first = selectReplica(-1);
+
+		if (first == -1) {
+			return doWithPinned(primary, action);
+		}
+
+		hedgeableReads.increment();
+		long delay = hedgingDelay.getDelay();
+
+		if (delay == -1) {
+			return doWithReplica(first, action);
+		}
+
+		HedgedRead<T> read = new HedgedRead<>(Thread.currentThread());
+		Runnable hedge = hedging.capture(() -> hedge(read, first, action));
+
+		CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS, Runnable::run).execute(() -> {
+			try {
+				hedging.getExecutor().execute(hedge);
+			} catch (RejectedExecutionException e) {
+				// executor saturated, continue with the first read only
+			}
+		});
+
+		T value = null;
+		Throwable failure = null;
+
+		try {
+			value = doWithReplica(first, action);
+		} catch (Throwable e) {
+			failure = e;
+		}
+
+		synchronized (read) {
+
+			read.firstRunning = false;
+
+			if (read.interrupted) {
+				Thread.interrupted();
+			}
+
+			if (!read.result.isDone()) {
+
+				if (failure == null) {
+					read.result.complete(value);
+					return value;
+				}
+
+				if (!read.hedged || read.hedgeFailed) {
+					throw failure;
+				}
+			}
+		}
+
+		try {
+			return read.result.get();
+		} catch (ExecutionException e) {
+			throw e.getCause();
+		}
+	}
+
+	private <T> void hedge(HedgedRead<T> read, int first, RoutedCall<T> action) {
+
+		synchronized (read) {
+
+			if (!read.firstRunning) {
+				return;
+			}
+
+			read.hedged = true;
+		}
+
+		hedgedReads.increment();
+
+		try {
+
+			T value = doWithReplica(selectReplica(first), action);
+
+			// count the win before completing so that callers observe it once the read returns
+			synchronized (read) {
+				if (!read.result.isDone()) {
+
+					hedgeWins.increment();
+					read.result.complete(value);
+
+					if (read.firstRunning) {
+						read.interrupted = true;
+						read.caller.interrupt();
+					}
+				}
+			}
+		} catch (Throwable e) {
+			synchronized (read) {
+
+				read.hedgeFailed = true;
+
+				if (!read.firstRunning) {
+					read.result.completeExceptionally(e);
+				}
+			}
+		}
+	}
+
+	private <T> T doWithReplica(int replica, RoutedCall<T> action) throws Throwable {
+
+		long start = System.nanoTime();
+		outstanding[replica].incrementAndGet();
+
+		try {
+
+			T result = doWithPinned(replicas.get(replica), action);
+
+			if (hedgingDelay != null) {
+				hedgingDelay.record(System.nanoTime() - start);
+			}
+
+			return result;
+		} finally {
+			outstanding[replica].decrementAndGet();
+		}
+	}
+
+	private <T> T doWithPinned(LdapOperations target, RoutedCall<T> action) throws Throwable {
+
+		if (pinned.get() != null) {
+			return action.call();
+		}
+
+		pinned.set(target);
+
+		try {
+			return action.call();
+		} finally {
+			pinned.remove();
+		}
+	}
+
+	private void runPinned(LdapOperations target, Runnable task) {
+
+		if (pinned.get() != null) {
+			task.run();
+			return;
+		}
+
+		pinned.set(target);
+
+		try {
+			task.run();
+		} finally {
+			pinned.remove();
+		}
+	}
+
+	@Override
+	public @Nullable Object invoke(Object proxy, Method method, @Nullable Object[] args) throws Throwable {
+
+		if (method.getDeclaringClass() == Object.class) {
+			return switch (method.getName()) {
+				case "equals" -> proxy == args[0];
+				case "hashCode" -> System.identityHashCode(proxy);
+				default -> toString();
+			};
+		}
+
+		if (method.getName().equals("getObjectDirectoryMapper")) {
+			return primary.getObjectDirectoryMapper();
+		}
+
+		if (WRITE_METHODS.contains(method.getName())) {
+
+			try {
+				return invoke(primary, method, args);
+			} finally {
+				recordWrite();
+			}
+		}
+
+		LdapOperations target = pinned.get();
+
+		if (target != null) {
+			return invoke(target, method, args);
+		}
+
+		return doWithReadTarget(() -> invoke(pinned.get(), method, args));
+	}
+
+	private static @Nullable Object invoke(LdapOperations target, Method method, @Nullable Object[] args)
+			throws Throwable {
+
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+
+	private int selectReplica(int excluded) {
+
+		if (excluded == -1 && withinReadYourWritesWindow()) {
+			return -1;
+		}
+
+		int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+
+		if (start == excluded) {
+			start = (start + 1) % replicas.size();
+		}
+
+		if (selection == ReplicaSelection.ROUND_ROBIN) {
+			return start;
+		}
+
+		int selected = start;
+
+		for (int i = 1; i < replicas.size(); i++) {
+
+			int candidate = (start + i) % replicas.size();
+
+			if (candidate != excluded && outstanding[candidate].get() < outstanding[selected].get()) {
+				selected = candidate;
+			}
+		}
+
+		return selected;
+	}
+
+	private boolean withinReadYourWritesWindow() {
+
+		Long lastWrite = this.lastWrite.get();
+
+		if (lastWrite == null) {
+			return false;
+		}
+
+		if (System.nanoTime() - lastWrite <= readYourWritesWindow) {
+			return true;
+		}
+
+		this.lastWrite.remove();
+		return false;
+	}
+
+	private void recordWrite() {
+
+		if (readYourWritesWindow > 0) {
+			lastWrite.set(System.nanoTime());
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ReadReplicaRouting[primary=%s, replicas=%d, selection=%s, hedging=%s]".formatted(primary, replicas.size(),
+				selection, hedging);
+	}
+
+	/**
+	 * State of a read hedged across two replicas. Guarded by its own monitor.
+	 */
+	private static class HedgedRead<T> {
+
+		final Thread caller;
+		final CompletableFuture<T> result = new CompletableFuture<>();
+		boolean firstRunning = true;
+		boolean hedged;
+		boolean hedgeFailed;
+		boolean interrupted;
+
+		HedgedRead(Thread caller) {
+			this.caller = caller;
+		}
+
+	}
+
+	/**
+	 * Call routed through a pinned {@link LdapOperations} target.
+	 */
+	@FunctionalInterface
+	interface RoutedCall<T> {
+
+		T call() throws Throwable;
+
+	}
+
+}
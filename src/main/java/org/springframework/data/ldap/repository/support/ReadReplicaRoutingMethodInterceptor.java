@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import java.lang.reflect.Method;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.data.ldap.repository.aot.LdapAotRepositoryFragmentSupport;
+import org.springframework.data.ldap.repository.query.LdapRepositoryOperation.ExecutionType;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.RepositoryFragment;
+
+/**
+ * {@link MethodInterceptor} pinning all operations of a repository method invocation to a single target of a
+ * {@link ReadReplicaRouting}. Save and delete methods are pinned to the primary, all other methods to a replica so
+ * that subsequent operations of a single invocation (for example, paged searches) observe the same directory state.
+ * Query methods (including query methods generated ahead of time) and CRUD methods that do not return a
+ * {@link java.util.stream.Stream} are hedged if the routing is configured for {@link Hedging}.
+ *
+ * @since 4.2
+ */
+class ReadReplicaRoutingMethodInterceptor implements MethodInterceptor {
+
+	private final RepositoryInformation information;
+	private final ReadReplicaRouting routing;
+
+	ReadReplicaRoutingMethodInterceptor(RepositoryInformation information, ReadReplicaRouting routing) {
+
+		this.information = information;
+		this.routing = routing;
+	}
+
+	@Override
+	public @Nullable Object invoke(MethodInvocation invocation) throws Throwable {
+
+		Method method = invocation.getMethod();
+
+		if (method.getDeclaringClass() == Object.class) {
+			return invocation.proceed();
+		}
+
+		ExecutionType executionType = RepositoryOperationMethodInterceptor.getExecutionType(method);
+
+		if (executionType == ExecutionType.SAVE || executionType == ExecutionType.DELETE) {
+			return routing.doWithPrimary(invocation::proceed);
+		}
+
+		if (executionType != ExecutionType.STREAM && invocation instanceof ProxyMethodInvocation proxyInvocation
+				&& (information.isQueryMethod(method) || information.isBaseClassMethod(method)
+						|| isGeneratedQueryMethod(method))) {
+			return routing.doWithHedgedReadTarget(() -> proxyInvocation.invocableClone().proceed());
+		}
+
+		return routing.doWithReadTarget(invocation::proceed);
+	}
+
+	private boolean isGeneratedQueryMethod(Method method) {
+
+		RepositoryFragment<?> fragment = information.getRepositoryComposition().findFragment(method);
+		return fragment != null && fragment.getImplementation().orElse(null) instanceof LdapAotRepositoryFragmentSupport;
+	}
+
+}
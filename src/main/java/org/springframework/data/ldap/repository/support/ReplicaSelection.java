@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+/**
+ * Strategy to select the replica serving a read operation.
+ *
+ * @since 4.2
+ * @see ReadReplicaRouting
+ */
+public enum ReplicaSelection {
+
+	/**
+	 * Select replicas in turn.
+	 */
+	ROUND_ROBIN,
+
+	/**
+	 * Select the replica with the least number of outstanding operations. Ties are broken in turn.
+	 */
+	LEAST_OUTSTANDING
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import static org.springframework.data.querydsl.QuerydslUtils.*;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.stream.Stream;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.ldap.repository.query.LdapRepositoryOperation;
+import org.springframework.data.ldap.repository.query.LdapRepositoryOperation.ExecutionType;
+import org.springframework.data.ldap.repository.query.LdapRepositoryOperationInterceptor;
+import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.ldap.query.LdapQuery;
+
+/**
+ * {@link MethodInterceptor} applying a {@link LdapRepositoryOperationInterceptor} to repository base methods and
+ * Querydsl methods. Query methods are intercepted by
+ * {@link org.springframework.data.ldap.repository.query.AbstractLdapRepositoryQuery} itself.
+ *
+ * @since 4.2
+ */
+class RepositoryOperationMethodInterceptor implements MethodInterceptor {
+
+	private final RepositoryInformation information;
+	private final LdapRepositoryOperationInterceptor interceptor;
+
+	RepositoryOperationMethodInterceptor(RepositoryInformation information,
+			LdapRepositoryOperationInterceptor interceptor) {
+
+		this.information = information;
+		this.interceptor = interceptor;
+	}
+
+	@Override
+	public @Nullable Object invoke(MethodInvocation invocation) throws Throwable {
+
+		Method method = invocation.getMethod();
+
+		if (!isRepositoryOperation(method)) {
+			return invocation.proceed();
+		}
+
+		LdapRepositoryOperation operation = new LdapRepositoryOperation(information.getRepositoryInterface(),
+				information.getDomainType(), method.getName(), getExecutionType(method), getQuery(invocation.getArguments()));
+
+		try {
+			return interceptor.intercept(operation, () -> {
+
+				try {
+					return invocation.proceed();
+				} catch (RuntimeException | Error e) {
+					throw e;
+				} catch (Throwable e) {
+					throw new UndeclaredThrowableException(e);
+				}
+			});
+		} catch (UndeclaredThrowableException e) {
+			throw e.getUndeclaredThrowable();
+		}
+	}
+
+	private boolean isRepositoryOperation(Method method) {
+
+		if (method.isDefault() || method.getDeclaringClass() == Object.class || information.isQueryMethod(method)) {
+			return false;
+		}
+
+		return information.isBaseClassMethod(method)
+				|| (QUERY_DSL_PRESENT && QuerydslPredicateExecutor.class.isAssignableFrom(method.getDeclaringClass()));
+	}
+
+	static ExecutionType getExecutionType(Method method) {
+
+		String name = method.getName();
+
+		if (name.startsWith("count")) {
+			return ExecutionType.COUNT;
+		}
+
+		if (name.startsWith("exists")) {
+			return ExecutionType.EXISTS;
+		}
+
+		if (name.startsWith("save")) {
+			return ExecutionType.SAVE;
+		}
+
+		if (name.startsWith("delete")) {
+			return ExecutionType.DELETE;
+		}
+
+		Class<?> returnType = method.getReturnType();
+
+		if (Stream.class.isAssignableFrom(returnType)) {
+			return ExecutionType.STREAM;
+		}
+
+		if (Iterable.class.isAssignableFrom(returnType)) {
+			return ExecutionType.COLLECTION;
+		}
+
+		return ExecutionType.ONE;
+	}
+
+	private static @Nullable LdapQuery getQuery(Object[] arguments) {
+
+		for (Object argument : arguments) {
+			if (argument instanceof LdapQuery query) {
+				return query;
+			}
+		}
+
+		return null;
+	}
+
+}
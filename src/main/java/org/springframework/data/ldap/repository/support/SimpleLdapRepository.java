@@ -19,6 +19,7 @@ import static org.springframework.ldap.query.LdapQueryBuilder.*;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -26,14 +27,25 @@ import javax.naming.Name;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.data.domain.Persistable;
+import org.springframework.data.ldap.core.mapping.LdapEntityMapper;
 import org.springframework.data.ldap.repository.LdapRepository;
+import org.springframework.data.ldap.repository.query.ResultMapping;
+import org.springframework.data.ldap.repository.query.ResultSizeLimit;
+import org.springframework.data.ldap.repository.query.SearchAttributes;
+import org.springframework.data.ldap.repository.query.SearchLimits;
+import org.springframework.data.ldap.repository.query.SubtreeSplitting;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.util.Optionals;
 import org.springframework.ldap.NameNotFoundException;
+import org.springframework.ldap.core.ContextMapper;
+import org.springframework.ldap.core.DirContextAdapter;
+import org.springframework.ldap.core.DirContextOperations;
 import org.springframework.ldap.core.LdapOperations;
 import org.springframework.ldap.core.support.CountNameClassPairCallbackHandler;
 import org.springframework.ldap.filter.Filter;
@@ -55,6 +67,11 @@ public class SimpleLdapRepository<T> implements LdapRepository<T> {
 	private final LdapOperations ldapOperations;
 	private final ObjectDirectoryMapper odm;
 	private final Class<T> entityType;
+	private final SearchAttributes searchAttributes;
+	private ResultSizeLimit resultSizeLimit = ResultSizeLimit.unlimited();
+	private SubtreeSplitting subtreeSplitting = SubtreeSplitting.none();
+	private Executor executor = new SyncTaskExecutor();
+	private SearchLimits searchLimits = SearchLimits.none();
 
 	/**
 	 * Creates a new {@link SimpleLdapRepository}.
@@ -72,6 +89,7 @@ public class SimpleLdapRepository<T> implements LdapRepository<T> {
 		this.ldapOperations = ldapOperations;
 		this.odm = odm;
 		this.entityType = entityType;
+		this.searchAttributes = SearchAttributes.of(entityType, odm);
 	}
 
 	/**
@@ -93,6 +111,65 @@ public class SimpleLdapRepository<T> implements LdapRepository<T> {
 		this.ldapOperations = ldapOperations;
 		this.odm = odm;
 		this.entityType = entityType;
+		this.searchAttributes = SearchAttributes.of(entityType, odm);
+	}
+
+	/**
+	 * Configure the {@link ResultSizeLimit} to apply to {@link #findAll()} and {@link #findAll(LdapQuery)}. Defaults to
+	 * {@link ResultSizeLimit#unlimited()}.
+	 *
+	 * @param resultSizeLimit must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setResultSizeLimit(ResultSizeLimit resultSizeLimit) {
+
+		Assert.notNull(resultSizeLimit, "ResultSizeLimit must not be null");
+
+		this.resultSizeLimit = resultSizeLimit;
+	}
+
+	/**
+	 * Configure the {@link SubtreeSplitting} to apply to {@link #findAll()} and {@link #findAll(LdapQuery)}. Defaults to
+	 * {@link SubtreeSplitting#none()}.
+	 *
+	 * @param subtreeSplitting must not be {@literal null}.
+	 * @since 4.2
+	 * @see #setExecutor(Executor)
+	 */
+	public void setSubtreeSplitting(SubtreeSplitting subtreeSplitting) {
+
+		Assert.notNull(subtreeSplitting, "SubtreeSplitting must not be null");
+
+		this.subtreeSplitting = subtreeSplitting;
+	}
+
+	/**
+	 * Configure the {@link Executor} to run split searches. Defaults to {@link SyncTaskExecutor} running searches
+	 * sequentially in the calling thread.
+	 *
+	 * @param executor must not be {@literal null}.
+	 * @since 4.2
+	 * @see #setSubtreeSplitting(SubtreeSplitting)
+	 */
+	public void setExecutor(Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null");
+
+		this.executor = executor;
+	}
+
+	/**
+	 * Configure the {@link SearchLimits} to apply to {@link #findAll()}, {@link #count()}, {@link #findOne(LdapQuery)}
+	 * and {@link #findAll(LdapQuery)}. Defaults to {@link SearchLimits#none()}.
+	 *
+	 * @param searchLimits must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setSearchLimits(SearchLimits searchLimits) {
+
+		Assert.notNull(searchLimits, "SearchLimits must not be null");
+
+		this.searchLimits = searchLimits;
 	}
 
 	// -------------------------------------------------------------------------
@@ -106,10 +183,21 @@ public class SimpleLdapRepository<T> implements LdapRepository<T> {
 
 		Name declaredId = odm.getId(entity);
 
+		if (!usesRepositoryMapper()) {
+
+			if (isNew(entity, declaredId)) {
+				ldapOperations.create(entity);
+			} else {
+				ldapOperations.update(entity);
+			}
+
+			return entity;
+		}
+
 		if (isNew(entity, declaredId)) {
-			ldapOperations.create(entity);
+			create(entity, declaredId);
 		} else {
-			ldapOperations.update(entity);
+			update(entity, declaredId);
 		}
 
 		return entity;
@@ -129,6 +217,17 @@ public class SimpleLdapRepository<T> implements LdapRepository<T> {
 		Assert.notNull(name, "Id must not be null");
 
 		try {
+
+			ContextMapper<T> mapper = ctx -> odm.mapFromLdapDataEntry((DirContextOperations) ctx, entityType);
+
+			if (searchAttributes.isRestricted()) {
+				return Optional.ofNullable(ldapOperations.lookup(name, searchAttributes.getAttributes(), mapper));
+			}
+
+			if (usesRepositoryMapper()) {
+				return Optional.ofNullable(ldapOperations.lookup(name, mapper));
+			}
+
 			return Optional.ofNullable(ldapOperations.findByDn(name, entityType));
 		} catch (NameNotFoundException e) {
 			return Optional.empty();
@@ -145,7 +244,13 @@ public class SimpleLdapRepository<T> implements LdapRepository<T> {
 
 	@Override
 	public List<T> findAll() {
-		return ldapOperations.findAll(entityType);
+
+		if (subtreeSplitting.isEnabled() || searchLimits.withinDeadline().isLimited()) {
+			return findAll(query().where(OBJECTCLASS_ATTRIBUTE).isPresent());
+		}
+
+		return resultSizeLimit.findAll(ldapOperations, getObjectDirectoryMapper(), entityType,
+				searchAttributes.getAttributes());
 	}
 
 	@Override
@@ -163,7 +268,7 @@ public class SimpleLdapRepository<T> implements LdapRepository<T> {
 		Filter filter = odm.filterFor(entityType, null);
 		CountNameClassPairCallbackHandler callback = new CountNameClassPairCallbackHandler();
 		LdapQuery query = query().attributes(OBJECTCLASS_ATTRIBUTE).filter(filter);
-		ldapOperations.search(query, callback);
+		ldapOperations.search(searchLimits.withoutCountLimit().withinDeadline().apply(query), callback);
 
 		return callback.getNoOfRows();
 	}
@@ -214,8 +319,16 @@ public class SimpleLdapRepository<T> implements LdapRepository<T> {
 
 		Assert.notNull(ldapQuery, "LdapQuery must not be null");
 
+		LdapQuery query = searchLimits.withinDeadline().apply(searchAttributes.apply(ldapQuery));
+
 		try {
-			return Optional.ofNullable(ldapOperations.findOne(ldapQuery, entityType));
+
+			if (usesRepositoryMapper()) {
+				return Optional.of(DataAccessUtils.requiredSingleResult(
+						ResultSizeLimit.unlimited().find(ldapOperations, odm, query, entityType, ResultMapping.sequential())));
+			}
+
+			return Optional.ofNullable(ldapOperations.findOne(query, entityType));
 		} catch (EmptyResultDataAccessException e) {
 			return Optional.empty();
 		}
@@ -225,7 +338,84 @@ public class SimpleLdapRepository<T> implements LdapRepository<T> {
 	public List<T> findAll(LdapQuery ldapQuery) {
 
 		Assert.notNull(ldapQuery, "LdapQuery must not be null");
-		return ldapOperations.find(ldapQuery, entityType);
+
+		LdapQuery query = searchLimits.withinDeadline().apply(searchAttributes.apply(ldapQuery));
+
+		if (subtreeSplitting.isEnabled()) {
+			return subtreeSplitting.find(ldapOperations, getObjectDirectoryMapper(), query, entityType, executor,
+					resultSizeLimit, ResultMapping.sequential());
+		}
+
+		return resultSizeLimit.find(ldapOperations, getObjectDirectoryMapper(), query, entityType,
+				ResultMapping.sequential());
+	}
+
+	/**
+	 * Create {@code entity} mapping it through the repository {@link ObjectDirectoryMapper} following
+	 * {@link LdapOperations#create(Object)}.
+	 */
+	private void create(Object entity, @Nullable Name declaredId) {
+
+		Name id = declaredId;
+
+		if (id == null) {
+			id = odm.getCalculatedId(entity);
+			odm.setId(entity, id);
+		}
+
+		Assert.notNull(id, () -> "Unable to determine id for entry %s".formatted(entity));
+
+		DirContextAdapter context = new DirContextAdapter(id);
+		odm.mapToLdapDataEntry(entity, context);
+		ldapOperations.bind(context);
+	}
+
+	/**
+	 * Update {@code entity} mapping it through the repository {@link ObjectDirectoryMapper} following
+	 * {@link LdapOperations#update(Object)}. Entries whose calculated id differs from their declared id are moved.
+	 */
+	private void update(Object entity, @Nullable Name declaredId) {
+
+		Name calculatedId = odm.getCalculatedId(entity);
+
+		if (declaredId != null && calculatedId != null && !declaredId.equals(calculatedId)) {
+
+			ldapOperations.unbind(declaredId);
+
+			DirContextAdapter context = new DirContextAdapter(calculatedId);
+			odm.mapToLdapDataEntry(entity, context);
+			ldapOperations.bind(context);
+			odm.setId(entity, calculatedId);
+
+			return;
+		}
+
+		Name id = declaredId;
+
+		if (id == null) {
+			id = calculatedId;
+			odm.setId(entity, id);
+		}
+
+		Assert.notNull(id, () -> "Unable to determine id for entry %s".formatted(entity));
+
+		DirContextAdapter context = ldapOperations.lookup(id, odm.manageClass(entity.getClass()),
+				(ContextMapper<DirContextAdapter>) ctx -> (DirContextAdapter) ctx);
+		context.setUpdateMode(true);
+		odm.mapToLdapDataEntry(entity, context);
+		ldapOperations.modifyAttributes(context);
+	}
+
+	/**
+	 * @return {@literal true} if entities are mapped using a repository-local {@link ObjectDirectoryMapper}, for example
+	 *         using their generated {@link LdapEntityMapper}.
+	 */
+	private boolean usesRepositoryMapper() {
+		return odm instanceof DelegatingObjectDirectoryMapper;
+	}
+
+	private ObjectDirectoryMapper getObjectDirectoryMapper() {
+		return usesRepositoryMapper() ? odm : ldapOperations.getObjectDirectoryMapper();
 	}
 
 	private <S extends T> boolean isNew(S entity, @Nullable Name id) {
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.ldap.repository.query.LdapRepositoryOperation;
+import org.springframework.data.ldap.repository.query.LdapRepositoryOperationInterceptor;
+import org.springframework.ldap.filter.Filter;
+import org.springframework.ldap.query.LdapQuery;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link LdapRepositoryOperationInterceptor} logging repository operations that exceed a configurable threshold. Log
+ * entries contain the bound filter, base, search scope, requested attributes, count limit, result count and the elapsed
+ * time. Failed operations are logged with their exception type instead of the result count. Filter assertion values
+ * are redacted by default to not leak directory data into logs.
+ * <p>
+ * Additionally, operations can be sampled by logging every {@code n}-th operation regardless of its duration which
+ * allows for cheap traffic profiling under full load.
+ * <p>
+ * Slow operations are logged on {@code WARN} level, sampled operations on {@code INFO} level.
+ *
+ * @since 4.2
+ */
+public class SlowQueryLoggingInterceptor implements LdapRepositoryOperationInterceptor {
+
+	private static final Log LOG = LogFactory.getLog(SlowQueryLoggingInterceptor.class);
+
+	private final Duration threshold;
+	private final AtomicLong operationCount = new AtomicLong();
+	private final Log log;
+
+	private int sampleRate = 0;
+	private boolean redactFilterValues = true;
+
+	/**
+	 * Creates a new {@link SlowQueryLoggingInterceptor} logging operations exceeding the given {@code threshold}.
+	 *
+	 * @param threshold must not be {@literal null} or negative.
+	 */
+	public SlowQueryLoggingInterceptor(Duration threshold) {
+		this(threshold, LOG);
+	}
+
+	SlowQueryLoggingInterceptor(Duration threshold, Log log) {
+
+		Assert.notNull(threshold, "Threshold must not be null");
+		Assert.isTrue(!threshold.isNegative(), "Threshold must not be negative");
+
+		this.threshold = threshold;
+		this.log = log;
+	}
+
+	/**
+	 * Configure the sampling rate to log every {@code sampleRate}-th operation regardless of its duration. A rate of
+	 * {@code 1} logs every operation, {@code 0} (the default) disables sampling.
+	 *
+	 * @param sampleRate must not be negative.
+	 */
+	public void setSampleRate(int sampleRate) {
+
+		Assert.isTrue(sampleRate >= 0, "Sample rate must not be negative");
+
+		this.sampleRate = sampleRate;
+	}
+
+	/**
+	 * Configure whether to redact assertion values in logged filters. Enabled by default.
+	 *
+	 * @param redactFilterValues {@literal false} to log filter values in clear text.
+	 */
+	public void setRedactFilterValues(boolean redactFilterValues) {
+		this.redactFilterValues = redactFilterValues;
+	}
+
+	@Override
+	public @Nullable Object intercept(LdapRepositoryOperation operation, Invocation invocation) {
+
+		boolean sampled = sampleRate > 0 && operationCount.incrementAndGet() % sampleRate == 0;
+		long start = System.nanoTime();
+		Object result = null;
+		Throwable failure = null;
+
+		try {
+			result = invocation.proceed();
+			return result;
+		} catch (RuntimeException | Error e) {
+			failure = e;
+			throw e;
+		} finally {
+
+			long elapsed = System.nanoTime() - start;
+			boolean slow = elapsed >= threshold.toNanos();
+
+			if (slow && log.isWarnEnabled()) {
+				log.warn("Slow LDAP repository operation: " + describe(operation, result, failure, elapsed));
+			} else if (sampled && log.isInfoEnabled()) {
+				log.info("Sampled LDAP repository operation: " + describe(operation, result, failure, elapsed));
+			}
+		}
+	}
+
+	private String describe(LdapRepositoryOperation operation, @Nullable Object result, @Nullable Throwable failure,
+			long elapsedNanos) {
+
+		StringBuilder builder = new StringBuilder();
+
+		builder.append(operation.repositoryInterface().getSimpleName()).append('.').append(operation.methodName());
+		builder.append(" [type=").append(operation.executionType());
+
+		LdapQuery query = operation.query();
+
+		if (query != null) {
+
+			Filter filter = query.filter();
+
+			builder.append(", filter=").append(filter != null ? render(filter.encode()) : "(none)");
+			builder.append(", base=").append(query.base());
+			builder.append(", scope=").append(query.searchScope() != null ? query.searchScope() : "SUBTREE");
+			builder.append(", attributes=")
+					.append(ObjectUtils.isEmpty(query.attributes()) ? "(all)" : Arrays.toString(query.attributes()));
+			builder.append(", countLimit=").append(query.countLimit() != null ? query.countLimit() : 0);
+		}
+
+		if (failure != null) {
+			builder.append(", error=").append(failure.getClass().getName());
+		} else {
+
+			Integer resultSize = operation.getResultSize(result);
+
+			if (resultSize != null) {
+				builder.append(", results=").append(resultSize);
+			}
+		}
+
+		builder.append(", elapsed=").append(TimeUnit.NANOSECONDS.toMillis(elapsedNanos)).append("ms]");
+
+		return builder.toString();
+	}
+
+	private String render(String filter) {
+		return redactFilterValues ? redact(filter) : filter;
+	}
+
+	/**
+	 * Redact assertion values in an encoded LDAP filter. Wildcards are retained to indicate substring and presence
+	 * filters, all other value characters are replaced by a single {@code ?} per value fragment.
+	 *
+	 * @param filter the encoded filter.
+	 * @return the redacted filter.
+	 */
+	static String redact(String filter) {
+
+		StringBuilder builder = new StringBuilder(filter.length());
+		boolean inValue = false;
+		boolean fragment = false;
+
+		for (int i = 0; i < filter.length(); i++) {
+
+			char c = filter.charAt(i);
+
+			if (!inValue) {
+
+				builder.append(c);
+
+				if (c == '=') {
+					inValue = true;
+					fragment = false;
+				}
+
+				continue;
+			}
+
+			if (c == ')') {
+				inValue = false;
+				builder.append(c);
+			} else if (c == '*') {
+				fragment = false;
+				builder.append(c);
+			} else if (!fragment) {
+				fragment = true;
+				builder.append('?');
+			}
+		}
+
+		return builder.toString();
+	}
+
+}
@@ -17,6 +17,8 @@ package org.springframework.data.ldap.core.mapping;
 
 import static org.assertj.core.api.Assertions.*;
 
+import javax.naming.Name;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.ldap.odm.annotations.Id;
 
@@ -37,9 +39,24 @@ class LdapPersistentPropertyUnitTests {
 		assertThat(entity.getRequiredPersistentProperty("dataId").isIdProperty()).isFalse();
 	}
 
+	@Test
+	void shouldConsiderDnReferenceAsAssociation() {
+
+		LdapMappingContext context = new LdapMappingContext();
+		BasicLdapPersistentEntity<?> entity = context.getRequiredPersistentEntity(Person.class);
+
+		LdapPersistentProperty manager = entity.getRequiredPersistentProperty("manager");
+
+		assertThat(manager.isAssociation()).isTrue();
+		assertThat(manager.getRequiredAssociation().getInverse()).isEqualTo(manager);
+		assertThat(entity.getRequiredPersistentProperty("managerDn").isAssociation()).isFalse();
+	}
+
 	static class Person {
 
 		@Id String odmId;
 		@org.springframework.data.annotation.Id String dataId;
+		Name managerDn;
+		@DnReference("managerDn") Person manager;
 	}
 }
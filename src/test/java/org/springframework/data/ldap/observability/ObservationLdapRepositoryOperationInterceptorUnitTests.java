@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.observability;
+
+import static io.micrometer.observation.tck.TestObservationRegistryAssert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.ldap.query.LdapQueryBuilder.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.tck.TestObservationRegistry;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.naming.ldap.LdapName;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.data.ldap.repository.LdapRepository;
+import org.springframework.data.ldap.repository.support.LdapRepositoryFactory;
+import org.springframework.data.ldap.repository.query.LdapRepositoryOperation;
+import org.springframework.data.ldap.repository.query.SchemaEntry;
+import org.springframework.ldap.core.LdapOperations;
+import org.springframework.ldap.filter.EqualsFilter;
+import org.springframework.ldap.filter.Filter;
+import org.springframework.ldap.odm.core.impl.DefaultObjectDirectoryMapper;
+import org.springframework.ldap.query.LdapQuery;
+
+/**
+ * Unit tests for {@link ObservationLdapRepositoryOperationInterceptor}.
+ */
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ObservationLdapRepositoryOperationInterceptorUnitTests {
+
+	@Mock LdapOperations ldapOperations;
+
+	TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+	SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	PersonRepository repository;
+
+	@BeforeEach
+	void setUp() {
+
+		when(ldapOperations.getObjectDirectoryMapper()).thenReturn(new DefaultObjectDirectoryMapper());
+
+		observationRegistry.observationConfig().observationHandler(new LdapRepositoryMeterObservationHandler(meterRegistry));
+
+		LdapRepositoryFactory factory = new LdapRepositoryFactory(ldapOperations);
+		factory.addOperationInterceptor(new ObservationLdapRepositoryOperationInterceptor(observationRegistry));
+
+		repository = factory.getRepository(PersonRepository.class);
+	}
+
+	@Test
+	void shouldObserveQueryMethod() {
+
+		when(ldapOperations.find(any(LdapQuery.class), eq(SchemaEntry.class)))
+				.thenReturn(Arrays.asList(new SchemaEntry(), new SchemaEntry()));
+
+		repository.findByFullName("John");
+
+		assertThat(observationRegistry).hasObservationWithNameEqualTo("spring.data.ldap.repository").that()
+				.hasContextualNameEqualTo("PersonRepository.findByFullName")
+				.hasLowCardinalityKeyValue("spring.data.repository.name", "PersonRepository")
+				.hasLowCardinalityKeyValue("spring.data.repository.method", "findByFullName")
+				.hasLowCardinalityKeyValue("spring.data.ldap.execution.type", "collection")
+				.hasHighCardinalityKeyValue("spring.data.ldap.result.size", "2")
+				.hasHighCardinalityKeyValue("spring.data.ldap.filter.length", "" + "(cn=John)".length());
+
+		Assertions.assertThat(meterRegistry.get("spring.data.ldap.repository.result.size").summary().totalAmount())
+				.isEqualTo(2);
+	}
+
+	@Test
+	void shouldObserveBaseMethod() throws Exception {
+
+		when(ldapOperations.findByDn(any(), eq(SchemaEntry.class))).thenReturn(new SchemaEntry());
+
+		repository.findById(new LdapName("cn=John"));
+
+		assertThat(observationRegistry).hasObservationWithNameEqualTo("spring.data.ldap.repository").that()
+				.hasLowCardinalityKeyValue("spring.data.repository.method", "findById")
+				.hasLowCardinalityKeyValue("spring.data.ldap.execution.type", "one")
+				.hasHighCardinalityKeyValue("spring.data.ldap.result.size", "1");
+	}
+
+	@Test
+	void shouldObserveStreamQueryMethod() {
+
+		when(ldapOperations.find(any(LdapQuery.class), eq(SchemaEntry.class)))
+				.thenReturn(Arrays.asList(new SchemaEntry(), new SchemaEntry()));
+
+		try (Stream<SchemaEntry> stream = repository.streamByFullName("John")) {
+
+			assertThat(observationRegistry).hasObservationWithNameEqualTo("spring.data.ldap.repository").that()
+					.hasLowCardinalityKeyValue("spring.data.ldap.execution.type", "stream")
+					.doesNotHaveHighCardinalityKeyValueWithKey("spring.data.ldap.result.size").hasBeenStopped();
+
+			Assertions.assertThat(stream).hasSize(2);
+		}
+	}
+
+	@Test
+	void shouldObserveFailedOperation() {
+
+		when(ldapOperations.findAll(SchemaEntry.class)).thenThrow(new IllegalStateException("boom"));
+
+		Assertions.assertThatIllegalStateException().isThrownBy(() -> repository.findAll());
+
+		assertThat(observationRegistry).hasObservationWithNameEqualTo("spring.data.ldap.repository").that()
+				.hasLowCardinalityKeyValue("spring.data.ldap.execution.type", "collection").hasError();
+	}
+
+	@Test
+	void shouldEncodeFilterOnlyWhenObserved() {
+
+		Filter filter = spy(new EqualsFilter("cn", "John"));
+		LdapRepositoryOperation operation = new LdapRepositoryOperation(PersonRepository.class, SchemaEntry.class,
+				"findByFullName", LdapRepositoryOperation.ExecutionType.COLLECTION, query().filter(filter));
+		LdapRepositoryObservationContext context = new LdapRepositoryObservationContext(operation);
+
+		verify(filter, never()).encode();
+		Assertions.assertThat(context.getFilterLength()).isEqualTo("(cn=John)".length());
+		Assertions.assertThat(context.getFilterLength()).isEqualTo("(cn=John)".length());
+		verify(filter).encode();
+	}
+
+	interface PersonRepository extends LdapRepository<SchemaEntry> {
+
+		List<SchemaEntry> findByFullName(String fullName);
+
+		Stream<SchemaEntry> streamByFullName(String fullName);
+
+	}
+
+}
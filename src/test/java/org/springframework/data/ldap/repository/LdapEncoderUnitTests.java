@@ -41,4 +41,53 @@ class LdapEncoderUnitTests {
 
 		assertThat(result).isEqualTo("*hugo*ern\\28o\\29*");
 	}
+
+	@Test
+	void shouldEncodeFilter() {
+
+		String result = new LdapEncoder.FilterEncoder().encode("*hugo*ern(o)\\\0*");
+
+		assertThat(result).isEqualTo("\\2ahugo\\2aern\\28o\\29\\5c\\00\\2a");
+	}
+
+	@Test
+	void shouldEncodeLikeFiltersWithoutEscapableCharacters() {
+
+		LdapEncoder encoder = new LdapEncoder.LikeEncoder();
+
+		assertThat(encoder.encode("")).isEmpty();
+		assertThat(encoder.encode("hugo")).isEqualTo("hugo");
+		assertThat(encoder.encode("***")).isEqualTo("***");
+	}
+
+	@Test
+	void filterAndNameEncodersShouldMatchSpringLdapEncoding() {
+
+		String value = " # foo ,+\"\\<>;=*()\0\n\u001F bar ";
+
+		assertThat(new LdapEncoder.FilterEncoder().encode(value))
+				.isEqualTo(org.springframework.ldap.support.LdapEncoder.filterEncode(value));
+		assertThat(new LdapEncoder.NameEncoder().encode(value))
+				.isEqualTo(org.springframework.ldap.support.LdapEncoder.nameEncode(value));
+	}
+
+	@Test
+	void shouldAppendEncodedValueToBuilder() {
+
+		StringBuilder builder = new StringBuilder("(cn=");
+
+		new LdapEncoder.LikeEncoder().encode(new StringBuilder("*Jo(h)n*"), builder);
+
+		assertThat(builder.append(')')).hasToString("(cn=*Jo\\28h\\29n*)");
+	}
+
+	@Test
+	void shouldAppendUsingStringEncoderByDefault() {
+
+		StringBuilder builder = new StringBuilder("(cn=");
+
+		((LdapEncoder) String::toUpperCase).encode("john", builder);
+
+		assertThat(builder).hasToString("(cn=JOHN");
+	}
 }
@@ -21,6 +21,7 @@ import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 
 import javax.naming.Name;
@@ -32,7 +33,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
 
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.domain.Persistable;
+import org.springframework.data.ldap.repository.query.ResultSizeLimit;
+import org.springframework.data.ldap.repository.query.ResultSizePolicy;
 import org.springframework.data.ldap.repository.support.SimpleLdapRepository;
 import org.springframework.ldap.NameNotFoundException;
 import org.springframework.ldap.core.LdapOperations;
@@ -232,4 +236,22 @@ class SimpleLdapRepositoryTests {
 
 		assertThat(iterator.hasNext()).isFalse();
 	}
+
+	@Test
+	void findAllShouldApplyResultSizeLimit() {
+
+		ArgumentCaptor<LdapQuery> query = ArgumentCaptor.forClass(LdapQuery.class);
+		when(ldapOperationsMock.find(query.capture(), eq(Object.class)))
+				.thenReturn(List.of(new Object(), new Object()), List.of(new Object(), new Object(), new Object()));
+
+		tested.setResultSizeLimit(ResultSizeLimit.of(2, ResultSizePolicy.FAIL));
+
+		assertThat(tested.findAll()).hasSize(2);
+		assertThat(query.getValue().countLimit()).isEqualTo(3);
+		assertThat(query.getValue().searchScope()).isNull();
+
+		assertThatExceptionOfType(IncorrectResultSizeDataAccessException.class).isThrownBy(tested::findAll)
+				.withMessageContaining("more than 2 results");
+		verify(ldapOperationsMock, never()).findAll(Object.class);
+	}
 }
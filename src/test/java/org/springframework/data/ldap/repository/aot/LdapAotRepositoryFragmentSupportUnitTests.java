@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.aot;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.ldap.core.mapping.LdapMappingContext;
+import org.springframework.data.ldap.repository.LdapRepository;
+import org.springframework.data.ldap.repository.query.PrecompiledLdapRepositoryQuery;
+import org.springframework.data.ldap.repository.support.IndexedUnitTestPerson;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport.FragmentCreationContext;
+import org.springframework.ldap.core.LdapOperations;
+import org.springframework.ldap.odm.core.impl.DefaultObjectDirectoryMapper;
+import org.springframework.ldap.query.LdapQuery;
+import org.springframework.ldap.query.LdapQueryBuilder;
+
+/**
+ * Unit tests for {@link LdapAotRepositoryFragmentSupport}.
+ */
+class LdapAotRepositoryFragmentSupportUnitTests {
+
+	LdapOperations ldapOperations = mock();
+	FragmentCreationContext context = mock();
+
+	@BeforeEach
+	void setUp() {
+
+		when(ldapOperations.getObjectDirectoryMapper()).thenReturn(new DefaultObjectDirectoryMapper());
+		when(context.getRepositoryMetadata()).thenReturn(new DefaultRepositoryMetadata(PersonRepository.class));
+		when(context.getProjectionFactory()).thenReturn(new SpelAwareProxyProjectionFactory());
+	}
+
+	@Test
+	void shouldResolveImplementedQueryMethodsWhenCreatingFragment() {
+
+		new PersonRepositoryFragment(ldapOperations, new LdapMappingContext(), context);
+
+		verify(context).getProjectionFactory();
+	}
+
+	@Test
+	void shouldExecuteQueryUsingResolvedQueryMethod() {
+
+		IndexedUnitTestPerson person = new IndexedUnitTestPerson();
+		when(ldapOperations.find(any(LdapQuery.class), eq(IndexedUnitTestPerson.class))).thenReturn(List.of(person));
+
+		PersonRepositoryFragment fragment = new PersonRepositoryFragment(ldapOperations, new LdapMappingContext(),
+				context);
+		List<PrecompiledLdapRepositoryQuery> customized = new ArrayList<>();
+		fragment.setQueryCustomizer(customized::add);
+
+		assertThat(fragment.findByLastName("Doe")).containsExactly(person);
+		assertThat(fragment.findByLastName("Doe")).containsExactly(person);
+
+		assertThat(customized).hasSize(1);
+		verify(context).getProjectionFactory();
+		verify(ldapOperations, times(2)).find(argThat(it -> it.filter().encode().equals("(sn=Doe)")),
+				eq(IndexedUnitTestPerson.class));
+	}
+
+	@Test
+	void shouldRejectQueryMethodsNotImplementedByFragment() {
+
+		PersonRepositoryFragment fragment = new PersonRepositoryFragment(ldapOperations, new LdapMappingContext(),
+				context);
+
+		assertThatIllegalStateException().isThrownBy(() -> fragment.findByFullName("John"))
+				.withMessageContaining("findByFullName");
+	}
+
+	interface PersonRepository extends LdapRepository<IndexedUnitTestPerson> {
+
+		List<IndexedUnitTestPerson> findByLastName(String lastName);
+
+		List<IndexedUnitTestPerson> findByFullName(String fullName);
+
+	}
+
+	static class PersonRepositoryFragment extends LdapAotRepositoryFragmentSupport {
+
+		PersonRepositoryFragment(LdapOperations operations, LdapMappingContext mappingContext,
+				FragmentCreationContext context) {
+			super(operations, mappingContext, context);
+		}
+
+		public List<IndexedUnitTestPerson> findByLastName(String lastName) {
+			return execute("findByLastName", new Class<?>[] { String.class }, new Object[] { lastName },
+					(parameters, filters) -> LdapQueryBuilder.query().filter(filters.equalTo("sn", 0, false)));
+		}
+
+		List<IndexedUnitTestPerson> findByFullName(String fullName) {
+			return execute("findByFullName", new Class<?>[] { String.class }, new Object[] { fullName },
+					(parameters, filters) -> LdapQueryBuilder.query().filter(filters.equalTo("cn", 0, false)));
+		}
+
+	}
+
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.aot;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.GeneratedFiles.Kind;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.data.aot.AotContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.ldap.repository.LdapRepository;
+import org.springframework.data.ldap.repository.Query;
+import org.springframework.data.ldap.repository.support.IndexedUnitTestPerson;
+import org.springframework.data.ldap.repository.support.SimpleLdapRepository;
+import org.springframework.data.repository.config.AotRepositoryContextSupport;
+import org.springframework.data.repository.config.AotRepositoryInformation;
+import org.springframework.data.repository.config.RepositoryConfigurationSource;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.AbstractRepositoryMetadata;
+import org.springframework.javapoet.ClassName;
+import org.springframework.ldap.query.SearchScope;
+
+/**
+ * Unit tests for {@link LdapRepositoryContributor}.
+ */
+class LdapRepositoryContributorUnitTests {
+
+	String source;
+
+	@BeforeEach
+	void setUp() throws IOException {
+
+		InMemoryGeneratedFiles generatedFiles = new InMemoryGeneratedFiles();
+		DefaultGenerationContext generationContext = new DefaultGenerationContext(
+				new ClassNameGenerator(ClassName.OBJECT), generatedFiles);
+
+		new LdapRepositoryContributor(new TestAotRepositoryContext(PersonRepository.class)).contribute(generationContext);
+		generationContext.writeGeneratedContent();
+
+		String path = generatedFiles.getGeneratedFiles(Kind.SOURCE).keySet().stream()
+				.filter(it -> it.endsWith("Impl__AotRepository.java")).findFirst().orElseThrow();
+		source = generatedFiles.getGeneratedFileContent(Kind.SOURCE, path);
+	}
+
+	@Test
+	void shouldExtendFragmentSupport() {
+
+		assertThat(source).contains("extends LdapAotRepositoryFragmentSupport")
+				.contains("super(operations, mappingContext, context)");
+	}
+
+	@Test
+	void shouldPrecompileDerivedQueryWithIndexedAttributesFirst() {
+
+		assertThat(source).contains("public List<IndexedUnitTestPerson> findByFullNameAndLastName(String fullName,")
+				.contains(
+						"filters.and(filters.equalTo(\"sn\", 1, false), filters.equalTo(\"cn\", 0, false))");
+	}
+
+	@Test
+	void shouldPrecompileDisjunctionWithLimitAndIgnoreCase() {
+
+		assertThat(source).contains(".countLimit(5).filter(filters.or(filters.and(filters.equalTo(\"sn\", 0, true)), "
+				+ "filters.and(filters.containing(\"description\", 1))))");
+	}
+
+	@Test
+	void shouldWrapOptionalResult() {
+		assertThat(source).contains("return Optional.ofNullable(this.<IndexedUnitTestPerson>execute(\"findByFullName\"");
+	}
+
+	@Test
+	void shouldConsiderLimitParameter() {
+
+		assertThat(source)
+				.contains(".countLimit(parameters.getLimit().isLimited() ? parameters.getLimit().max() : 0)")
+				.contains("filters.in(\"cn\", 0, false)");
+	}
+
+	@Test
+	void shouldPrecompileStringQuery() {
+
+		assertThat(source).contains("\"(&(cn=\" + filters.encode(0) + \")(sn=\" + filters.encode(1) + \"))\"")
+				.contains(".base(\"ou=\" + filters.encode(2))").contains(".searchScope(SearchScope.ONELEVEL)")
+				.contains(".countLimit(10)").contains(".timeLimit(500)").contains("parameters.getBindableParameterValues()");
+	}
+
+	@Test
+	void shouldNotGenerateUnsupportedQueryMethods() {
+
+		assertThat(source).doesNotContain("findByDescription(").doesNotContain("countByLastName(")
+				.doesNotContain("findByLastName(").doesNotContain("findAllByLastName(");
+	}
+
+	interface PersonRepository extends LdapRepository<IndexedUnitTestPerson> {
+
+		List<IndexedUnitTestPerson> findByFullNameAndLastName(String fullName, String lastName);
+
+		List<IndexedUnitTestPerson> findTop5ByLastNameIgnoreCaseOrDescriptionContaining(String lastName,
+				String description);
+
+		Optional<IndexedUnitTestPerson> findByFullName(String fullName);
+
+		Stream<IndexedUnitTestPerson> findByFullNameIn(Collection<String> fullNames, Limit limit);
+
+		@Query(value = "(&(cn=?0)(sn=:lastName))", base = "ou=:ou", searchScope = SearchScope.ONELEVEL,
+				countLimit = 10, timeLimit = 500)
+		List<IndexedUnitTestPerson> findPeople(String fullName, String lastName, String ou);
+
+		@Query("(description=?#{[0]})")
+		List<IndexedUnitTestPerson> findByDescription(String description);
+
+		long countByLastName(String lastName);
+
+		Page<IndexedUnitTestPerson> findByLastName(String lastName, Pageable pageable);
+
+		Set<IndexedUnitTestPerson> findAllByLastName(String lastName);
+
+	}
+
+	static class TestAotRepositoryContext extends AotRepositoryContextSupport {
+
+		private final RepositoryInformation repositoryInformation;
+
+		TestAotRepositoryContext(Class<?> repositoryInterface) {
+
+			super(AotContext.from(new DefaultListableBeanFactory()));
+
+			this.repositoryInformation = new AotRepositoryInformation(
+					AbstractRepositoryMetadata.getMetadata(repositoryInterface), SimpleLdapRepository.class, List.of());
+		}
+
+		@Override
+		public String getModuleName() {
+			return "LDAP";
+		}
+
+		@Override
+		public RepositoryConfigurationSource getConfigurationSource() {
+			return mock(RepositoryConfigurationSource.class, invocation -> Optional.empty());
+		}
+
+		@Override
+		public Collection<Class<? extends Annotation>> getIdentifyingAnnotations() {
+			return List.of();
+		}
+
+		@Override
+		public RepositoryInformation getRepositoryInformation() {
+			return repositoryInformation;
+		}
+
+		@Override
+		public Set<MergedAnnotation<Annotation>> getResolvedAnnotations() {
+			return Set.of();
+		}
+
+		@Override
+		public Set<Class<?>> getResolvedTypes() {
+			return Set.of();
+		}
+
+	}
+
+}
@@ -19,7 +19,10 @@ import static org.junit.Assert.*;
 
 import java.util.Collection;
 
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.core.env.Environment;
@@ -28,6 +31,7 @@ import org.springframework.core.io.ResourceLoader;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.core.type.StandardAnnotationMetadata;
 import org.springframework.data.ldap.repository.LdapRepository;
+import org.springframework.data.ldap.repository.support.EntityMetadataWarmUp;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.config.AnnotationRepositoryConfigurationSource;
 import org.springframework.data.repository.config.RepositoryConfiguration;
@@ -71,6 +75,46 @@ class LdapRepositoryConfigurationExtensionUnitTests {
 				extension.getRepositoryConfigurations(configurationSource, loader, true));
 	}
 
+	@Test
+	void registersEntityMetadataWarmUpIfEnabled() {
+
+		RepositoryConfigurationSource source = new AnnotationRepositoryConfigurationSource(
+				new StandardAnnotationMetadata(WarmUpConfig.class, true), EnableLdapRepositories.class, loader, environment,
+				registry, null);
+
+		new LdapRepositoryConfigurationExtension().registerBeansForRoot(registry, source);
+
+		BeanDefinition definition = getWarmUpDefinition();
+
+		assertNotNull(definition);
+		assertEquals("ldapTemplate", ((RuntimeBeanReference) definition.getConstructorArgumentValues()
+				.getIndexedArgumentValue(0, null).getValue()).getBeanName());
+		assertTrue(((Collection<?>) definition.getConstructorArgumentValues().getIndexedArgumentValue(2, null).getValue())
+				.contains(Sample.class));
+	}
+
+	@Test
+	void doesNotRegisterEntityMetadataWarmUpByDefault() {
+
+		new LdapRepositoryConfigurationExtension().registerBeansForRoot(registry, configurationSource);
+
+		assertNull(getWarmUpDefinition());
+	}
+
+	private @Nullable BeanDefinition getWarmUpDefinition() {
+
+		for (String name : registry.getBeanDefinitionNames()) {
+
+			BeanDefinition definition = registry.getBeanDefinition(name);
+
+			if (EntityMetadataWarmUp.class.getName().equals(definition.getBeanClassName())) {
+				return definition;
+			}
+		}
+
+		return null;
+	}
+
 	private static void assertHasRepo(Class<?> repositoryInterface,
 			Collection<RepositoryConfiguration<RepositoryConfigurationSource>> configs) {
 
@@ -97,6 +141,9 @@ class LdapRepositoryConfigurationExtensionUnitTests {
 	@EnableLdapRepositories(considerNestedRepositories = true)
 	private static class Config {}
 
+	@EnableLdapRepositories(considerNestedRepositories = true, warmUp = true)
+	private static class WarmUpConfig {}
+
 	@Entry(objectClasses = "person")
 	static class Sample {}
 
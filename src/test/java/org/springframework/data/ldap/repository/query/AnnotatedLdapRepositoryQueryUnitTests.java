@@ -22,17 +22,20 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Limit;
 import org.springframework.data.ldap.core.mapping.LdapMappingContext;
 import org.springframework.data.ldap.repository.LdapEncode;
 import org.springframework.data.ldap.repository.LdapEncoder;
 import org.springframework.data.ldap.repository.LdapRepository;
 import org.springframework.data.ldap.repository.Query;
+import org.springframework.data.ldap.repository.support.IndexedUnitTestPerson;
 import org.springframework.data.mapping.model.EntityInstantiators;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
 import org.springframework.data.repository.query.ValueExpressionDelegate;
 import org.springframework.ldap.core.LdapOperations;
+import org.springframework.ldap.odm.core.impl.DefaultObjectDirectoryMapper;
 import org.springframework.ldap.query.LdapQuery;
 
 /**
@@ -122,6 +125,37 @@ class AnnotatedLdapRepositoryQueryUnitTests {
 		assertThat(ldapQuery.countLimit()).isEqualTo(10);
 	}
 
+	@Test
+	void shouldApplyUnindexedSearchPolicy() throws NoSuchMethodException {
+
+		Mockito.when(ldapOperations.getObjectDirectoryMapper()).thenReturn(new DefaultObjectDirectoryMapper());
+		DefaultRepositoryMetadata metadata = new DefaultRepositoryMetadata(IndexedTestPersonRepository.class);
+
+		LdapQueryMethod unindexed = new LdapQueryMethod(
+				IndexedTestPersonRepository.class.getMethod("findByFullNameSuffix", String.class), metadata,
+				new SpelAwareProxyProjectionFactory());
+		AnnotatedLdapRepositoryQuery query = new AnnotatedLdapRepositoryQuery(unindexed,
+				IndexedUnitTestPerson.class, ldapOperations, new LdapMappingContext(), new EntityInstantiators(),
+				valueExpressionDelegate);
+		query.setUnindexedSearchPolicy(UnindexedSearchPolicy.FAIL);
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class).isThrownBy(
+				() -> query.createQuery(new LdapParametersParameterAccessor(unindexed, new Object[] { "Doe" })));
+
+		LdapQueryMethod indexed = new LdapQueryMethod(
+				IndexedTestPersonRepository.class.getMethod("findByLastNameSuffix", String.class, String.class), metadata,
+				new SpelAwareProxyProjectionFactory());
+		AnnotatedLdapRepositoryQuery indexedQuery = new AnnotatedLdapRepositoryQuery(indexed,
+				IndexedUnitTestPerson.class, ldapOperations, new LdapMappingContext(), new EntityInstantiators(),
+				valueExpressionDelegate);
+		indexedQuery.setUnindexedSearchPolicy(UnindexedSearchPolicy.FAIL);
+
+		LdapQuery ldapQuery = indexedQuery
+				.createQuery(new LdapParametersParameterAccessor(indexed, new Object[] { "Doe", "John" }));
+
+		assertThat(ldapQuery.filter().encode()).isEqualTo("(&(sn=*Doe)(cn=John*))");
+	}
+
 	private LdapQueryMethod queryMethod(String methodName, Class<?>... parameterTypes) throws NoSuchMethodException {
 		return new LdapQueryMethod(QueryRepository.class.getMethod(methodName, parameterTypes),
 				new DefaultRepositoryMetadata(QueryRepository.class), new SpelAwareProxyProjectionFactory());
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link FanOutFutures}.
+ */
+class FanOutFuturesUnitTests {
+
+	@Test
+	void shouldReturnResult() {
+
+		CompletableFuture<String> future = CompletableFuture.completedFuture("foo");
+
+		assertThat(FanOutFutures.join(future, List.of(future))).isEqualTo("foo");
+	}
+
+	@Test
+	void shouldCancelPendingFuturesAndUnwrapRuntimeException() {
+
+		CompletableFuture<String> failed = CompletableFuture.failedFuture(new IllegalStateException("boom"));
+		CompletableFuture<String> pending = new CompletableFuture<>();
+
+		assertThatIllegalStateException().isThrownBy(() -> FanOutFutures.join(failed, List.of(failed, pending)))
+				.withMessage("boom");
+		assertThat(pending).isCancelled();
+	}
+
+	@Test
+	void shouldRetainCompletionExceptionForCheckedCause() {
+
+		CompletableFuture<String> failed = CompletableFuture.failedFuture(new IOException("boom"));
+
+		assertThatExceptionOfType(CompletionException.class)
+				.isThrownBy(() -> FanOutFutures.join(failed, List.of(failed))).withCauseInstanceOf(IOException.class);
+	}
+
+}
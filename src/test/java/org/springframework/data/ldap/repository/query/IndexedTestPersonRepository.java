@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.query;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.ldap.repository.LdapRepository;
+import org.springframework.data.ldap.repository.Query;
+import org.springframework.data.ldap.repository.support.IndexedUnitTestPerson;
+
+/**
+ * Repository for {@link IndexedUnitTestPerson}.
+ */
+interface IndexedTestPersonRepository extends LdapRepository<IndexedUnitTestPerson> {
+
+	List<IndexedUnitTestPerson> findByFullNameAndLastName(String fullName, String lastName);
+
+	List<IndexedUnitTestPerson> findByFullNameAndLastNameInOrDescription(String fullName, Collection<String> lastNames,
+			String description);
+
+	List<IndexedUnitTestPerson> findByFullNameEndsWith(String fullName);
+
+	List<IndexedUnitTestPerson> findByLastNameContains(String lastName);
+
+	@Query("(cn=*{0})")
+	List<IndexedUnitTestPerson> findByFullNameSuffix(String suffix);
+
+	@Query("(&(sn=*{0})(cn={1}*))")
+	List<IndexedUnitTestPerson> findByLastNameSuffix(String suffix, String fullName);
+
+}
@@ -18,12 +18,18 @@ package org.springframework.data.ldap.repository.query;
 import static org.assertj.core.api.Assertions.*;
 
 import java.lang.reflect.Method;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.ldap.core.mapping.LdapMappingContext;
 import org.springframework.data.ldap.repository.support.BaseUnitTestPerson;
+import org.springframework.data.ldap.repository.support.IndexedUnitTestPerson;
 import org.springframework.data.ldap.repository.support.UnitTestPerson;
 import org.springframework.data.mapping.model.EntityInstantiators;
 import org.springframework.data.projection.ProjectionFactory;
@@ -129,6 +135,168 @@ class PartTreeLdapRepositoryQueryTests {
 				"(&(cn=John Doe)(!(sn=Doe)))", "John Doe", "Doe");
 	}
 
+	@Test
+	void testFindByFullNameIn() throws NoSuchMethodException {
+
+		Method method = targetClass.getMethod("findByFullNameIn", Collection.class);
+
+		assertFilterForMethod(method, "(|(cn=John Doe)(cn=Jane Doe))", List.of("John Doe", "Jane Doe", "John Doe"));
+		assertFilterForMethod(method, "(cn=John Doe)", List.of("John Doe"));
+		assertFilterForMethod(method, "(!(objectclass=*))", List.of());
+	}
+
+	@Test
+	void testFindByFullNameNotIn() throws NoSuchMethodException {
+
+		Method method = targetClass.getMethod("findByFullNameNotIn", String[].class);
+
+		assertFilterForMethod(method, "(!(|(cn=John Doe)(cn=Jane Doe)))",
+				(Object) new String[] { "John Doe", "Jane Doe" });
+		assertFilterForMethod(method, "(objectclass=*)", (Object) new String[0]);
+	}
+
+	@Test
+	void testFindByFullNameBetween() throws NoSuchMethodException {
+		assertFilterForMethod(targetClass.getMethod("findByFullNameBetween", String.class, String.class),
+				"(&(cn>=A)(cn<=M))", "A", "M");
+	}
+
+	@Test
+	void testFindByFullNameGreaterThan() throws NoSuchMethodException {
+		assertFilterForMethod(targetClass.getMethod("findByFullNameGreaterThan", String.class),
+				"(&(cn>=John)(!(cn=John)))", "John");
+	}
+
+	@Test
+	void testFindByFullNameLessThan() throws NoSuchMethodException {
+		assertFilterForMethod(targetClass.getMethod("findByFullNameLessThan", String.class), "(&(cn<=John)(!(cn=John)))",
+				"John");
+	}
+
+	@Test
+	void testFindByFullNameAfterAndBefore() throws NoSuchMethodException {
+
+		Instant instant = Instant.parse("2026-01-02T03:04:05.678Z");
+
+		assertFilterForMethod(targetClass.getMethod("findByFullNameAfter", Object.class),
+				"(&(cn>=20260102030405.678Z)(!(cn=20260102030405.678Z)))", instant);
+		assertFilterForMethod(targetClass.getMethod("findByFullNameBefore", Object.class),
+				"(&(cn<=20260102030405.678Z)(!(cn=20260102030405.678Z)))", Date.from(instant));
+	}
+
+	@Test
+	void testFindByFullNameEqualityAndInclusiveComparisonWithDate() throws NoSuchMethodException {
+
+		Date date = Date.from(Instant.parse("2026-01-02T03:04:05.678Z"));
+
+		assertFilterForMethod(targetClass.getMethod("findByFullNameIs", Object.class), "(cn=" + date + ")", date);
+		assertFilterForMethod(targetClass.getMethod("findByFullNameGreaterThanEqual", Object.class),
+				"(cn>=" + date + ")", date);
+		assertFilterForMethod(targetClass.getMethod("findByFullNameLessThanEqual", Object.class), "(cn<=" + date + ")",
+				date);
+	}
+
+	@Test
+	void testFindByFullNameInWithInstant() throws NoSuchMethodException {
+
+		Instant instant = Instant.parse("2026-01-02T03:04:05.678Z");
+
+		assertFilterForMethod(targetClass.getMethod("findByFullNameIn", Object.class), "(cn=20260102030405.678Z)",
+				List.of(instant));
+	}
+
+	@Test
+	void testFindByFullNameTrueAndFalse() throws NoSuchMethodException {
+
+		assertFilterForMethod(targetClass.getMethod("findByFullNameTrue"), "(cn=TRUE)");
+		assertFilterForMethod(targetClass.getMethod("findByFullNameFalse"), "(cn=FALSE)");
+	}
+
+	@Test
+	void testFindByFullNameIgnoreCase() throws NoSuchMethodException {
+		assertFilterForMethod(targetClass.getMethod("findByFullNameIgnoreCase", String.class),
+				"(cn:caseIgnoreMatch:=John Doe)", "John Doe");
+	}
+
+	@Test
+	void testFindByFullNameInOrLastName() throws NoSuchMethodException {
+		assertFilterForMethod(targetClass.getMethod("findByFullNameInOrLastName", Collection.class, String.class),
+				"(|(cn=John Doe)(cn=Jane Doe)(sn=Doe))", List.of("John Doe", "Jane Doe"), "Doe");
+	}
+
+	@Test
+	void shouldListIndexedEqualityTermsFirst() throws NoSuchMethodException {
+
+		useIndexedEntity();
+
+		assertFilterForMethod(targetClass.getMethod("findByFullNameAndLastName", String.class, String.class),
+				"(&(sn=Doe)(cn=John Doe))", "John Doe", "Doe");
+		assertFilterForMethod(
+				targetClass.getMethod("findByFullNameAndLastNameInOrDescription", String.class, Collection.class,
+						String.class),
+				"(|(&(|(sn=Doe)(sn=Smith))(cn=John Doe))(description=Admin))", "John Doe", List.of("Doe", "Smith"), "Admin");
+	}
+
+	@Test
+	void shouldRejectLeadingWildcardOnUnindexedAttribute() throws NoSuchMethodException {
+
+		useIndexedEntity();
+
+		PartTreeLdapRepositoryQuery query = createQuery(targetClass.getMethod("findByFullNameEndsWith", String.class));
+		query.setUnindexedSearchPolicy(UnindexedSearchPolicy.FAIL);
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> query.createQuery(new LdapParametersParameterAccessor(query.getQueryMethod(),
+						new Object[] { "Doe" })))
+				.withMessageContaining("(cn=*Doe)");
+
+		query.setUnindexedSearchPolicy(UnindexedSearchPolicy.WARN);
+
+		assertThat(query
+				.createQuery(new LdapParametersParameterAccessor(query.getQueryMethod(), new Object[] { "Doe" })).filter())
+				.hasToString("(cn=*Doe)");
+	}
+
+	@Test
+	void shouldAllowLeadingWildcardOnIndexedAttribute() throws NoSuchMethodException {
+
+		useIndexedEntity();
+
+		PartTreeLdapRepositoryQuery query = createQuery(targetClass.getMethod("findByLastNameContains", String.class));
+		query.setUnindexedSearchPolicy(UnindexedSearchPolicy.FAIL);
+
+		LdapQuery ldapQuery = query
+				.createQuery(new LdapParametersParameterAccessor(query.getQueryMethod(), new Object[] { "Doe" }));
+
+		assertThat(ldapQuery.filter()).hasToString("(sn=*Doe*)");
+	}
+
+	@Test
+	void shouldIgnoreLeadingWildcardForEntityWithoutIndexedAttributes() throws NoSuchMethodException {
+
+		PartTreeLdapRepositoryQuery query = createQuery(targetClass.getMethod("findByFullNameEndsWith", String.class));
+		query.setUnindexedSearchPolicy(UnindexedSearchPolicy.FAIL);
+
+		LdapQuery ldapQuery = query
+				.createQuery(new LdapParametersParameterAccessor(query.getQueryMethod(), new Object[] { "John" }));
+
+		assertThat(ldapQuery.filter()).hasToString("(cn=*John)");
+	}
+
+	private void useIndexedEntity() {
+
+		entityClass = IndexedUnitTestPerson.class;
+		targetClass = IndexedTestPersonRepository.class;
+		repositoryMetadata = new DefaultRepositoryMetadata(targetClass);
+	}
+
+	private PartTreeLdapRepositoryQuery createQuery(Method targetMethod) {
+
+		LdapQueryMethod queryMethod = new LdapQueryMethod(targetMethod, repositoryMetadata, factory);
+		return new PartTreeLdapRepositoryQuery(queryMethod, entityClass, ldapTemplate, new LdapMappingContext(),
+				new EntityInstantiators());
+	}
+
 	private void assertFilterForMethod(Method targetMethod, String expectedFilter, Object... expectedParams) {
 		assertFilterAndBaseForMethod(targetMethod, expectedFilter, "", expectedParams);
 	}
@@ -136,11 +304,10 @@ class PartTreeLdapRepositoryQueryTests {
 	private void assertFilterAndBaseForMethod(Method targetMethod, String expectedFilter, String expectedBase,
 			Object... expectedParams) {
 
-		LdapQueryMethod queryMethod = new LdapQueryMethod(targetMethod, repositoryMetadata, factory);
-		PartTreeLdapRepositoryQuery tested = new PartTreeLdapRepositoryQuery(queryMethod, entityClass, ldapTemplate,
-				new LdapMappingContext(), new EntityInstantiators());
+		PartTreeLdapRepositoryQuery tested = createQuery(targetMethod);
 
-		LdapQuery query = tested.createQuery(new LdapParametersParameterAccessor(queryMethod, expectedParams));
+		LdapQuery query = tested
+				.createQuery(new LdapParametersParameterAccessor(tested.getQueryMethod(), expectedParams));
 		String base = query.base().toString();
 		assertThat(base).isEqualTo(expectedBase);
 		assertThat(query.filter().encode()).isEqualTo(expectedFilter);
@@ -16,8 +16,11 @@
 package org.springframework.data.ldap.repository.query;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +36,7 @@ import org.springframework.data.repository.core.support.DefaultRepositoryMetadat
 import org.springframework.ldap.core.LdapOperations;
 import org.springframework.ldap.odm.core.impl.DefaultObjectDirectoryMapper;
 import org.springframework.ldap.query.LdapQuery;
+import org.springframework.ldap.support.LdapUtils;
 
 /**
  * Unit tests for {@link PartTreeLdapRepositoryQuery}.
@@ -76,6 +80,76 @@ class PartTreeLdapRepositoryQueryUnitTests {
 		assertThat(ldapQuery.countLimit()).isEqualTo(10);
 	}
 
+	@Test
+	void shouldSplitInConditionExceedingChunkSize() throws NoSuchMethodException {
+
+		LdapQueryMethod method = queryMethod("findByFullNameIn", Collection.class);
+		PartTreeLdapRepositoryQuery query = repositoryQuery(method);
+		query.setInClauseChunkSize(2);
+
+		LdapParametersParameterAccessor accessor = new LdapParametersParameterAccessor(method,
+				new Object[] { List.of("a", "b", "c", "b") });
+		List<LdapQuery> queries = query.splitQuery(query.createQuery(accessor), accessor);
+
+		assertThat(queries).extracting(it -> it.filter().encode()).containsExactly("(|(cn=a)(cn=b))", "(cn=c)");
+	}
+
+	@Test
+	void shouldNotSplitInConditionWithinChunkSize() throws NoSuchMethodException {
+
+		LdapQueryMethod method = queryMethod("findByFullNameIn", Collection.class);
+		PartTreeLdapRepositoryQuery query = repositoryQuery(method);
+		query.setInClauseChunkSize(3);
+
+		LdapParametersParameterAccessor accessor = new LdapParametersParameterAccessor(method,
+				new Object[] { List.of("a", "b", "c") });
+		LdapQuery ldapQuery = query.createQuery(accessor);
+
+		assertThat(query.splitQuery(ldapQuery, accessor)).containsExactly(ldapQuery);
+	}
+
+	@Test
+	void shouldMergeResultsOfSplitQueries() throws NoSuchMethodException {
+
+		List<String> filters = new ArrayList<>();
+		when(ldapOperations.find(any(LdapQuery.class), eq(SchemaEntry.class))).thenAnswer(invocation -> {
+
+			LdapQuery ldapQuery = invocation.getArgument(0);
+			filters.add(ldapQuery.filter().encode());
+
+			return List.of(new SchemaEntry(LdapUtils.newLdapName("cn=b"), "b", "B"),
+					new SchemaEntry(LdapUtils.newLdapName("cn=" + filters.size()), "x", "X"));
+		});
+
+		LdapQueryMethod method = queryMethod("findByFullNameInAndLastName", Collection.class, String.class);
+		PartTreeLdapRepositoryQuery query = repositoryQuery(method);
+		query.setInClauseChunkSize(2);
+
+		Object result = query.execute(new Object[] { List.of("a", "b", "c"), "B" });
+
+		assertThat(filters).containsExactly("(&(|(cn=a)(cn=b))(lastName=B))", "(&(cn=c)(lastName=B))");
+		assertThat(result).asInstanceOf(LIST).extracting("dn").containsExactly(LdapUtils.newLdapName("cn=b"),
+				LdapUtils.newLdapName("cn=1"), LdapUtils.newLdapName("cn=2"));
+	}
+
+	@Test
+	void shouldWarmUpMetadata() throws NoSuchMethodException {
+
+		DefaultObjectDirectoryMapper odm = spy(new DefaultObjectDirectoryMapper());
+		when(ldapOperations.getObjectDirectoryMapper()).thenReturn(odm);
+		LdapMappingContext mappingContext = new LdapMappingContext();
+
+		LdapQueryMethod method = queryMethod("findNamesByFullName", String.class);
+		PartTreeLdapRepositoryQuery query = new PartTreeLdapRepositoryQuery(method, SchemaEntry.class, ldapOperations,
+				mappingContext, new EntityInstantiators());
+
+		query.warmUp();
+
+		verify(odm).manageClass(SchemaEntry.class);
+		assertThat(mappingContext.hasPersistentEntityFor(SchemaEntry.class)).isTrue();
+		assertThat(mappingContext.hasPersistentEntityFor(FullName.class)).isTrue();
+	}
+
 	private LdapQueryMethod queryMethod(String methodName, Class<?>... parameterTypes) throws NoSuchMethodException {
 		return new LdapQueryMethod(QueryRepository.class.getMethod(methodName, parameterTypes),
 				new DefaultRepositoryMetadata(QueryRepository.class), new SpelAwareProxyProjectionFactory());
@@ -92,6 +166,15 @@ class PartTreeLdapRepositoryQueryUnitTests {
 
 		List<SchemaEntry> findTop5ByFullName(String fullName, Limit limit);
 
+		List<SchemaEntry> findByFullNameIn(Collection<String> fullNames);
+
+		List<SchemaEntry> findByFullNameInAndLastName(Collection<String> fullNames, String lastName);
+
+		List<FullName> findNamesByFullName(String fullName);
+
+	}
+
+	record FullName(String fullName) {
 	}
 
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import org.springframework.data.ldap.core.mapping.LdapMappingContext;
+import org.springframework.data.ldap.repository.LdapRepository;
+import org.springframework.data.ldap.repository.query.PrecompiledLdapRepositoryQuery.QueryFunction;
+import org.springframework.data.ldap.repository.support.IndexedUnitTestPerson;
+import org.springframework.data.mapping.model.EntityInstantiators;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.ldap.core.LdapOperations;
+import org.springframework.ldap.odm.core.impl.DefaultObjectDirectoryMapper;
+import org.springframework.ldap.query.LdapQuery;
+import org.springframework.ldap.query.LdapQueryBuilder;
+
+/**
+ * Unit tests for {@link PrecompiledLdapRepositoryQuery} using query functions as generated ahead of time.
+ */
+class PrecompiledLdapRepositoryQueryUnitTests {
+
+	LdapOperations ldapOperations = Mockito.mock();
+
+	@BeforeEach
+	void setUp() {
+		when(ldapOperations.getObjectDirectoryMapper()).thenReturn(new DefaultObjectDirectoryMapper());
+	}
+
+	@Test
+	void shouldCreateSameFilterAsDerivedQuery() throws NoSuchMethodException {
+
+		assertSameFilter(
+				(parameters, filters) -> LdapQueryBuilder.query().base("")
+						.filter(filters.and(filters.equalTo("sn", 1, false), filters.equalTo("cn", 0, false))),
+				"findByFullNameAndLastName", new Class<?>[] { String.class, String.class }, "John", "Doe");
+
+		assertSameFilter(
+				(parameters, filters) -> LdapQueryBuilder.query().base("")
+						.filter(filters.or(filters.and(filters.equalTo("sn", 0, true)),
+								filters.and(filters.greaterThan("description", 1), filters.isNotNull("cn")))),
+				"findByLastNameIgnoreCaseOrDescriptionGreaterThanAndFullNameIsNotNull",
+				new Class<?>[] { String.class, String.class }, "Doe", "b");
+
+		assertSameFilter(
+				(parameters, filters) -> LdapQueryBuilder.query().base("")
+						.filter(filters.and(filters.in("sn", 1, false), filters.notIn("cn", 0, false),
+								filters.containing("description", 2))),
+				"findByFullNameNotInAndLastNameInAndDescriptionContaining",
+				new Class<?>[] { Collection.class, Collection.class, String.class }, List.of("a", "b"), List.of(),
+				"(x)");
+
+		assertSameFilter(
+				(parameters, filters) -> LdapQueryBuilder.query().base("")
+						.filter(filters.and(filters.equalTo("sn", 0, false), filters.between("description", 1))),
+				"findByLastNameAndDescriptionBetween", new Class<?>[] { String.class, String.class, String.class }, null,
+				"a", "c");
+	}
+
+	@Test
+	void shouldEncodeParametersOfStringBasedQuery() throws NoSuchMethodException {
+
+		LdapQueryMethod method = queryMethod("findByFullNameAndLastName", String.class, String.class);
+		PrecompiledLdapRepositoryQuery query = repositoryQuery(method,
+				(parameters, filters) -> LdapQueryBuilder.query().filter(
+						filters.checkFilter("(&(cn=" + filters.encode(0) + ")(sn=" + filters.encode(1) + "))"),
+						parameters.getBindableParameterValues()));
+
+		LdapQuery ldapQuery = query
+				.createQuery(new LdapParametersParameterAccessor(method, new Object[] { "J*(hn)", "Doe" }));
+
+		assertThat(ldapQuery.filter().encode()).isEqualTo("(&(cn=J\\2a\\28hn\\29)(sn=Doe))");
+	}
+
+	@Test
+	void shouldSplitInConditionExceedingChunkSize() throws NoSuchMethodException {
+
+		LdapQueryMethod method = queryMethod("findByFullNameNotInAndLastNameInAndDescriptionContaining", Collection.class,
+				Collection.class, String.class);
+		PrecompiledLdapRepositoryQuery query = repositoryQuery(method,
+				(parameters, filters) -> LdapQueryBuilder.query().filter(filters.and(filters.in("sn", 1, false),
+						filters.notIn("cn", 0, false), filters.containing("description", 2))));
+		query.setInClauseChunkSize(2);
+
+		LdapParametersParameterAccessor accessor = new LdapParametersParameterAccessor(method,
+				new Object[] { List.of("a", "b", "c"), List.of("x", "y", "z"), "d" });
+		List<LdapQuery> queries = query.splitQuery(query.createQuery(accessor), accessor);
+
+		assertThat(queries).extracting(it -> it.filter().encode()).containsExactly(
+				"(&(|(sn=x)(sn=y))(!(|(cn=a)(cn=b)(cn=c)))(description=*d*))",
+				"(&(sn=z)(!(|(cn=a)(cn=b)(cn=c)))(description=*d*))");
+	}
+
+	private void assertSameFilter(QueryFunction queryFunction, String methodName, Class<?>[] parameterTypes,
+			Object... arguments) throws NoSuchMethodException {
+
+		LdapQueryMethod method = queryMethod(methodName, parameterTypes);
+		LdapParametersParameterAccessor accessor = new LdapParametersParameterAccessor(method, arguments);
+
+		PartTreeLdapRepositoryQuery derived = new PartTreeLdapRepositoryQuery(method, IndexedUnitTestPerson.class,
+				ldapOperations, new LdapMappingContext(), new EntityInstantiators());
+		LdapQuery expected = derived.createQuery(accessor);
+		LdapQuery actual = repositoryQuery(method, queryFunction).createQuery(accessor);
+
+		assertThat(actual.filter().encode()).isEqualTo(expected.filter().encode());
+		assertThat(actual.base()).isEqualTo(expected.base());
+	}
+
+	private LdapQueryMethod queryMethod(String methodName, Class<?>... parameterTypes) throws NoSuchMethodException {
+		return new LdapQueryMethod(QueryRepository.class.getMethod(methodName, parameterTypes),
+				new DefaultRepositoryMetadata(QueryRepository.class), new SpelAwareProxyProjectionFactory());
+	}
+
+	private PrecompiledLdapRepositoryQuery repositoryQuery(LdapQueryMethod method, QueryFunction queryFunction) {
+		return new PrecompiledLdapRepositoryQuery(method, IndexedUnitTestPerson.class, ldapOperations,
+				new LdapMappingContext(), new EntityInstantiators(), queryFunction);
+	}
+
+	interface QueryRepository extends LdapRepository<IndexedUnitTestPerson> {
+
+		List<IndexedUnitTestPerson> findByFullNameAndLastName(String fullName, String lastName);
+
+		List<IndexedUnitTestPerson> findByLastNameIgnoreCaseOrDescriptionGreaterThanAndFullNameIsNotNull(String lastName,
+				String description);
+
+		List<IndexedUnitTestPerson> findByFullNameNotInAndLastNameInAndDescriptionContaining(
+				Collection<String> fullNames, Collection<String> lastNames, String description);
+
+		List<IndexedUnitTestPerson> findByLastNameAndDescriptionBetween(String lastName, String from, String to);
+
+	}
+
+}
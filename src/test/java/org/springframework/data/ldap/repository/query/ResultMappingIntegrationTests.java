@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.ldap.config.EmbeddedLdapProperties;
+import org.springframework.data.ldap.config.InMemoryLdapConfiguration;
+import org.springframework.data.ldap.repository.LdapRepository;
+import org.springframework.data.ldap.repository.Query;
+import org.springframework.data.ldap.repository.support.LdapRepositoryFactory;
+import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.odm.core.impl.DefaultObjectDirectoryMapper;
+import org.springframework.ldap.query.LdapQueryBuilder;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+/**
+ * Integration tests for {@link ResultMapping}.
+ */
+@SpringJUnitConfig
+class ResultMappingIntegrationTests {
+
+	@Autowired LdapTemplate ldapTemplate;
+
+	ForkJoinPool pool = new ForkJoinPool(2);
+
+	@AfterEach
+	void tearDown() {
+		pool.shutdownNow();
+	}
+
+	@Test
+	void shouldMapResultsInParallelPreservingOrder() {
+
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		PersonRepository repository = repository(ResultMapping.parallel(it -> pool.execute(() -> {
+			threads.add(Thread.currentThread());
+			it.run();
+		}), true), ResultSizeLimit.unlimited());
+
+		List<SchemaEntry> expected = repository(ResultMapping.sequential(), ResultSizeLimit.unlimited()).findPeople();
+
+		assertThat(repository.findPeople()).hasSize(3).extracting(it -> it.dn)
+				.containsExactlyElementsOf(expected.stream().map(it -> it.dn).toList());
+		assertThat(threads).isNotEmpty().doesNotContain(Thread.currentThread());
+	}
+
+	@Test
+	void shouldMapResultsInParallelWithoutOrder() {
+
+		PersonRepository repository = repository(ResultMapping.parallel(pool, false), ResultSizeLimit.unlimited());
+
+		assertThat(repository.findPeople()).extracting(it -> it.fullName).containsExactlyInAnyOrder("John Doe",
+				"Jihn Die", "Jahn Dae");
+	}
+
+	@Test
+	void shouldMapLimitedResultsInParallel() {
+
+		PersonRepository repository = repository(ResultMapping.parallel(pool, true),
+				ResultSizeLimit.of(3, ResultSizePolicy.FAIL));
+
+		assertThat(repository.findPeople()).hasSize(3);
+	}
+
+	@Test
+	void shouldMapResultsWithObjectDirectoryMapper() {
+
+		List<SchemaEntry> people = ResultSizeLimit.unlimited().find(ldapTemplate, new DefaultObjectDirectoryMapper(),
+				LdapQueryBuilder.query().where("objectclass").is("person"), SchemaEntry.class, ResultMapping.sequential());
+
+		assertThat(people).extracting(it -> it.fullName).containsExactlyInAnyOrder("John Doe", "Jihn Die", "Jahn Dae");
+	}
+
+	private PersonRepository repository(ResultMapping mapping, ResultSizeLimit limit) {
+
+		LdapRepositoryFactory factory = new LdapRepositoryFactory(ldapTemplate);
+		factory.setResultMapping(mapping);
+		factory.setResultSizeLimit(limit);
+
+		return factory.getRepository(PersonRepository.class);
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@Import(InMemoryLdapConfiguration.class)
+	static class TestConfig {
+
+		@Bean
+		EmbeddedLdapProperties embeddedLdapProperties() {
+			EmbeddedLdapProperties embeddedLdapProperties = new EmbeddedLdapProperties();
+			embeddedLdapProperties.setBaseDn(Arrays.asList("dc=com", "dc=memorynotfound"));
+			return embeddedLdapProperties;
+		}
+	}
+
+	interface PersonRepository extends LdapRepository<SchemaEntry> {
+
+		@Query("(objectclass=person)")
+		List<SchemaEntry> findPeople();
+	}
+
+}
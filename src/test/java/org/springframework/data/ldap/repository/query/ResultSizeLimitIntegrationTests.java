@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.ldap.config.EmbeddedLdapProperties;
+import org.springframework.data.ldap.config.InMemoryLdapConfiguration;
+import org.springframework.data.ldap.repository.LdapRepository;
+import org.springframework.data.ldap.repository.Query;
+import org.springframework.data.ldap.repository.support.LdapRepositoryFactory;
+import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.query.SearchScope;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+/**
+ * Integration tests for {@link ResultSizeLimit}.
+ */
+@SpringJUnitConfig
+class ResultSizeLimitIntegrationTests {
+
+	@Autowired LdapTemplate ldapTemplate;
+
+	@Test
+	void shouldRejectResultsExceedingMaxResultSize() {
+
+		PersonRepository repository = repository(ResultSizeLimit.of(2, ResultSizePolicy.FAIL));
+
+		assertThatExceptionOfType(IncorrectResultSizeDataAccessException.class).isThrownBy(repository::findAll)
+				.satisfies(it -> assertThat(it.getExpectedSize()).isEqualTo(2));
+		assertThatExceptionOfType(IncorrectResultSizeDataAccessException.class).isThrownBy(repository::findPeople);
+		assertThat(repository.findFirstPeople()).hasSize(2);
+	}
+
+	@Test
+	void shouldReturnResultsWithinMaxResultSize() {
+
+		PersonRepository repository = repository(ResultSizeLimit.of(3, ResultSizePolicy.FAIL));
+
+		assertThat(repository.findAll()).hasSize(3);
+		assertThat(repository.findPeople()).hasSize(3);
+	}
+
+	@Test
+	void shouldApplyTemplateDefaults() {
+
+		LdapTemplate template = new LdapTemplate(ldapTemplate.getContextSource());
+		template.setDefaultSearchScope(SearchScope.ONELEVEL.getId());
+
+		PersonRepository repository = repository(template, ResultSizeLimit.of(3, ResultSizePolicy.FAIL));
+
+		assertThat(repository.findAll()).isEmpty();
+	}
+
+	@Test
+	void shouldApplyLowerCountLimitOfFactory() {
+
+		LdapRepositoryFactory factory = new LdapRepositoryFactory(ldapTemplate);
+		factory.setResultSizeLimit(ResultSizeLimit.of(3, ResultSizePolicy.FAIL));
+		factory.setSearchLimits(SearchLimits.none().countLimit(2));
+		PersonRepository repository = factory.getRepository(PersonRepository.class);
+
+		assertThat(repository.findAll()).hasSize(2);
+		assertThat(repository.findPeople()).hasSize(2);
+	}
+
+	private PersonRepository repository(ResultSizeLimit limit) {
+		return repository(ldapTemplate, limit);
+	}
+
+	private PersonRepository repository(LdapTemplate ldapTemplate, ResultSizeLimit limit) {
+
+		LdapRepositoryFactory factory = new LdapRepositoryFactory(ldapTemplate);
+		factory.setResultSizeLimit(limit);
+
+		return factory.getRepository(PersonRepository.class);
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@Import(InMemoryLdapConfiguration.class)
+	static class TestConfig {
+
+		@Bean
+		EmbeddedLdapProperties embeddedLdapProperties() {
+			EmbeddedLdapProperties embeddedLdapProperties = new EmbeddedLdapProperties();
+			embeddedLdapProperties.setBaseDn(Arrays.asList("dc=com", "dc=memorynotfound"));
+			return embeddedLdapProperties;
+		}
+	}
+
+	interface PersonRepository extends LdapRepository<SchemaEntry> {
+
+		@Query("(objectclass=person)")
+		List<SchemaEntry> findPeople();
+
+		@Query(value = "(objectclass=person)", countLimit = 2)
+		List<SchemaEntry> findFirstPeople();
+	}
+
+}
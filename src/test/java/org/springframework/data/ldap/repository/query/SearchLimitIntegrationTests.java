@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.ldap.config.EmbeddedLdapProperties;
+import org.springframework.data.ldap.config.InMemoryLdapConfiguration;
+import org.springframework.data.ldap.repository.LdapRepository;
+import org.springframework.data.ldap.repository.Query;
+import org.springframework.data.ldap.repository.SearchLimit;
+import org.springframework.data.ldap.repository.support.LdapRepositoryFactory;
+import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.query.LdapQuery;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+/**
+ * Integration tests for {@link SearchLimits} applied to repositories.
+ */
+@SpringJUnitConfig
+class SearchLimitIntegrationTests {
+
+	@Autowired LdapTemplate ldapTemplate;
+
+	LdapTemplate template;
+
+	@BeforeEach
+	void setUp() {
+		template = spy(ldapTemplate);
+	}
+
+	@Test
+	void shouldApplyDefaultLimitsToDerivedQueries() {
+
+		PersonRepository repository = repository(SearchLimits.none().timeLimit(Duration.ofSeconds(5)).countLimit(2));
+
+		assertThat(repository.findByFullNameLike("J*")).hasSize(2);
+		assertThat(lastQuery().timeLimit()).isEqualTo(5000);
+		assertThat(repository.findAll()).hasSize(2);
+		assertThat(repository.count()).isEqualTo(3);
+	}
+
+	@Test
+	void shouldApplyMethodLimitsOverDefaults() {
+
+		PersonRepository repository = repository(SearchLimits.none().timeLimit(Duration.ofSeconds(5)).countLimit(2));
+
+		assertThat(repository.findByLastNameLike("D*")).hasSize(1);
+		assertThat(lastQuery().timeLimit()).isEqualTo(1000);
+		assertThat(repository.findPeople()).hasSize(2);
+		assertThat(lastQuery().timeLimit()).isEqualTo(2000);
+	}
+
+	@Test
+	void shouldApplyTypeLevelLimitsToDerivedQueries() {
+
+		LdapRepositoryFactory factory = new LdapRepositoryFactory(template);
+		factory.setSearchLimits(SearchLimits.none().timeLimit(Duration.ofSeconds(5)));
+
+		LimitedPersonRepository repository = factory.getRepository(LimitedPersonRepository.class);
+
+		assertThat(repository.findByFullNameLike("J*")).hasSize(1);
+		assertThat(lastQuery().timeLimit()).isEqualTo(3000);
+		assertThat(lastQuery().countLimit()).isEqualTo(1);
+		assertThat(repository.findAll()).hasSize(1);
+	}
+
+	@Test
+	void shouldBoundTimeLimitsByDeadline() {
+
+		PersonRepository repository = repository(SearchLimits.none());
+
+		List<SchemaEntry> people = SearchDeadline.callWithin(Duration.ofMillis(500),
+				() -> repository.findByFullNameLike("J*"));
+
+		assertThat(people).hasSize(3);
+		assertThat(lastQuery().timeLimit()).isBetween(1, 500);
+
+		SearchDeadline.runWithin(Duration.ZERO, () -> assertThatExceptionOfType(QueryTimeoutException.class)
+				.isThrownBy(() -> repository.findByFullNameLike("J*")));
+	}
+
+	private LdapQuery lastQuery() {
+
+		ArgumentCaptor<LdapQuery> captor = ArgumentCaptor.forClass(LdapQuery.class);
+		verify(template, atLeastOnce()).find(captor.capture(), any());
+
+		return captor.getValue();
+	}
+
+	private PersonRepository repository(SearchLimits searchLimits) {
+
+		LdapRepositoryFactory factory = new LdapRepositoryFactory(template);
+		factory.setSearchLimits(searchLimits);
+
+		return factory.getRepository(PersonRepository.class);
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@Import(InMemoryLdapConfiguration.class)
+	static class TestConfig {
+
+		@Bean
+		EmbeddedLdapProperties embeddedLdapProperties() {
+			EmbeddedLdapProperties embeddedLdapProperties = new EmbeddedLdapProperties();
+			embeddedLdapProperties.setBaseDn(Arrays.asList("dc=com", "dc=memorynotfound"));
+			return embeddedLdapProperties;
+		}
+	}
+
+	interface PersonRepository extends LdapRepository<SchemaEntry> {
+
+		List<SchemaEntry> findByFullNameLike(String fullName);
+
+		@SearchLimit(timeLimit = 1000, countLimit = 1)
+		List<SchemaEntry> findByLastNameLike(String lastName);
+
+		@Query(value = "(objectclass=person)", timeLimit = 2000)
+		List<SchemaEntry> findPeople();
+	}
+
+	@SearchLimit(timeLimit = 3000, countLimit = 1)
+	interface LimitedPersonRepository extends LdapRepository<SchemaEntry> {
+
+		List<SchemaEntry> findByFullNameLike(String fullName);
+	}
+
+}
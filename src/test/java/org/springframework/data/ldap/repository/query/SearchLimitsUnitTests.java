@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.ldap.query.LdapQuery;
+import org.springframework.ldap.query.LdapQueryBuilder;
+
+/**
+ * Unit tests for {@link SearchLimits} and {@link SearchDeadline}.
+ */
+class SearchLimitsUnitTests {
+
+	@Test
+	void shouldApplyLimitsToUnlimitedQuery() {
+
+		LdapQuery query = SearchLimits.none().timeLimit(Duration.ofSeconds(2)).countLimit(10)
+				.apply(LdapQueryBuilder.query().where("cn").is("John"));
+
+		assertThat(query.timeLimit()).isEqualTo(2000);
+		assertThat(query.countLimit()).isEqualTo(10);
+		assertThat(query.filter().encode()).isEqualTo("(cn=John)");
+	}
+
+	@Test
+	void shouldRetainLimitsDeclaredByQuery() {
+
+		LdapQuery query = LdapQueryBuilder.query().timeLimit(500).countLimit(2).where("cn").is("John");
+
+		assertThat(SearchLimits.none().timeLimit(Duration.ofSeconds(2)).countLimit(10).apply(query)).isSameAs(query);
+	}
+
+	@Test
+	void shouldCombineLimitsWithDefaults() {
+
+		SearchLimits limits = SearchLimits.none().countLimit(5)
+				.orElse(SearchLimits.none().timeLimit(Duration.ofSeconds(1)).countLimit(100));
+
+		assertThat(limits.getTimeLimit()).isEqualTo(Duration.ofSeconds(1));
+		assertThat(limits.getCountLimit()).isEqualTo(5);
+		assertThat(limits.withoutCountLimit().getCountLimit()).isZero();
+	}
+
+	@Test
+	void shouldCapTimeLimitsByDeadline() {
+
+		LdapQuery query = LdapQueryBuilder.query().timeLimit(60_000).where("cn").is("John");
+
+		SearchDeadline.runWithin(Duration.ofSeconds(10), () -> {
+
+			SearchLimits limits = SearchLimits.none().withinDeadline();
+
+			assertThat(limits.isLimited()).isTrue();
+			assertThat(limits.apply(query).timeLimit()).isBetween(1, 10_000);
+			assertThat(limits.apply(LdapQueryBuilder.query().where("cn").is("John")).timeLimit()).isBetween(1, 10_000);
+			assertThat(limits.apply(LdapQueryBuilder.query().timeLimit(100).where("cn").is("John")).timeLimit())
+					.isEqualTo(100);
+		});
+
+		assertThat(SearchDeadline.current()).isNull();
+		assertThat(SearchLimits.none().withinDeadline().isLimited()).isFalse();
+	}
+
+	@Test
+	void nestedDeadlineShouldNotExtendEnclosingDeadline() {
+
+		SearchDeadline.runWithin(Duration.ofMillis(500), () -> {
+
+			SearchDeadline outer = SearchDeadline.current();
+
+			SearchDeadline.runWithin(Duration.ofMinutes(1), () -> {
+				assertThat(SearchDeadline.current().getRemaining()).isLessThanOrEqualTo(Duration.ofMillis(500));
+			});
+
+			SearchDeadline.runWithin(Duration.ofMillis(100), () -> {
+				assertThat(SearchDeadline.current().getRemaining()).isLessThanOrEqualTo(Duration.ofMillis(100));
+			});
+
+			assertThat(SearchDeadline.current()).isSameAs(outer);
+		});
+	}
+
+	@Test
+	void shouldRejectSearchesAfterDeadline() {
+
+		SearchDeadline.runWithin(Duration.ZERO, () -> {
+
+			assertThat(SearchDeadline.current().isExpired()).isTrue();
+			assertThatExceptionOfType(QueryTimeoutException.class)
+					.isThrownBy(() -> SearchLimits.none().withinDeadline());
+		});
+	}
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.ldap.query.LdapQueryBuilder.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.ldap.config.EmbeddedLdapProperties;
+import org.springframework.data.ldap.config.InMemoryLdapConfiguration;
+import org.springframework.data.ldap.repository.LdapRepository;
+import org.springframework.data.ldap.repository.Query;
+import org.springframework.data.ldap.repository.support.LdapRepositoryFactory;
+import org.springframework.ldap.core.ContextMapper;
+import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.query.LdapQuery;
+import org.springframework.ldap.query.SearchScope;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+/**
+ * Integration tests for {@link SubtreeSplitting}.
+ */
+@SpringJUnitConfig
+class SubtreeSplittingIntegrationTests {
+
+	@Autowired LdapTemplate ldapTemplate;
+
+	ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	void shouldSplitByChildContainers() {
+
+		List<LdapQuery> queries = SubtreeSplitting.byContainers().split(ldapTemplate,
+				query().base("dc=memorynotfound").where("objectclass").is("person"));
+
+		assertThat(queries).extracting(it -> it.base().toString() + "/" + it.searchScope()).containsExactly(
+				"dc=memorynotfound/OBJECT", "dc=memorynotfound/ONELEVEL", "ou=groups,dc=memorynotfound/SUBTREE",
+				"ou=people,dc=memorynotfound/SUBTREE");
+		assertThat(queries).allSatisfy(it -> assertThat(it.filter().encode()).isEqualTo("(objectclass=person)"));
+	}
+
+	@Test
+	void shouldDescendIntoSingleChildContainer() {
+
+		List<LdapQuery> queries = SubtreeSplitting.byContainers().split(ldapTemplate,
+				query().where("objectclass").is("person"));
+
+		assertThat(queries).extracting(it -> it.base().toString() + "/" + it.searchScope()).containsExactly("/OBJECT",
+				"/ONELEVEL", "dc=memorynotfound/OBJECT", "dc=memorynotfound/ONELEVEL",
+				"ou=groups,dc=memorynotfound/SUBTREE", "ou=people,dc=memorynotfound/SUBTREE");
+	}
+
+	@Test
+	void shouldNotSplitWithoutChildContainersOrSubtreeScope() {
+
+		LdapQuery leaf = query().base("ou=people,dc=memorynotfound").where("objectclass").is("person");
+		LdapQuery oneLevel = query().base("dc=memorynotfound").searchScope(SearchScope.ONELEVEL).where("objectclass")
+				.is("person");
+
+		assertThat(SubtreeSplitting.byContainers().split(ldapTemplate, leaf)).containsExactly(leaf);
+		assertThat(SubtreeSplitting.byContainers().split(ldapTemplate, oneLevel)).containsExactly(oneLevel);
+		assertThat(SubtreeSplitting.none().split(ldapTemplate, leaf)).containsExactly(leaf);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldMergeResultsOfSplitSearches() {
+
+		LdapTemplate spy = spy(ldapTemplate);
+		PersonRepository repository = repository(spy);
+
+		assertThat(repository.findAll()).hasSize(3).extracting(it -> it.fullName).contains("John Doe", "Jihn Die",
+				"Jahn Dae");
+		assertThat(repository.findPeople()).hasSize(3);
+		assertThat(repository.streamPeople()).hasSize(3);
+		assertThat(repository.findFirstPeople()).hasSize(2);
+
+		verify(spy, atLeast(24)).find(any(LdapQuery.class), eq(SchemaEntry.class));
+	}
+
+	@Test
+	void shouldSplitWithinOperationInterceptor() {
+
+		LdapTemplate spy = spy(ldapTemplate);
+		LdapRepositoryFactory factory = new LdapRepositoryFactory(spy);
+		factory.setSubtreeSplitting(SubtreeSplitting.byContainers());
+		factory.addOperationInterceptor((operation, invocation) -> List.of());
+		PersonRepository repository = factory.getRepository(PersonRepository.class);
+		clearInvocations(spy);
+
+		assertThat(repository.findPeople()).isEmpty();
+
+		verify(spy, never()).search(any(LdapQuery.class), any(ContextMapper.class));
+	}
+
+	private PersonRepository repository(LdapTemplate template) {
+
+		LdapRepositoryFactory factory = new LdapRepositoryFactory(template);
+		factory.setExecutor(executor);
+		factory.setSubtreeSplitting(SubtreeSplitting.byContainers());
+
+		return factory.getRepository(PersonRepository.class);
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@Import(InMemoryLdapConfiguration.class)
+	static class TestConfig {
+
+		@Bean
+		EmbeddedLdapProperties embeddedLdapProperties() {
+			EmbeddedLdapProperties embeddedLdapProperties = new EmbeddedLdapProperties();
+			embeddedLdapProperties.setBaseDn(Arrays.asList("dc=com", "dc=memorynotfound"));
+			return embeddedLdapProperties;
+		}
+	}
+
+	interface PersonRepository extends LdapRepository<SchemaEntry> {
+
+		@Query("(objectclass=person)")
+		List<SchemaEntry> findPeople();
+
+		@Query("(objectclass=person)")
+		Stream<SchemaEntry> streamPeople();
+
+		@Query(value = "(objectclass=person)", countLimit = 2)
+		List<SchemaEntry> findFirstPeople();
+	}
+
+}
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.ldap.repository.query;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.ldap.repository.LdapRepository;
@@ -51,4 +52,34 @@ public interface UnitTestPersonRepository extends LdapRepository<UnitTestPerson>
 
 	List<UnitTestPerson> findByFullNameAndLastNameNot(String fullName, String lastName);
 
+	List<UnitTestPerson> findByFullNameIn(Collection<String> names);
+
+	List<UnitTestPerson> findByFullNameNotIn(String... names);
+
+	List<UnitTestPerson> findByFullNameBetween(String from, String to);
+
+	List<UnitTestPerson> findByFullNameGreaterThan(String name);
+
+	List<UnitTestPerson> findByFullNameLessThan(String name);
+
+	List<UnitTestPerson> findByFullNameAfter(Object date);
+
+	List<UnitTestPerson> findByFullNameBefore(Object date);
+
+	List<UnitTestPerson> findByFullNameIs(Object value);
+
+	List<UnitTestPerson> findByFullNameGreaterThanEqual(Object value);
+
+	List<UnitTestPerson> findByFullNameLessThanEqual(Object value);
+
+	List<UnitTestPerson> findByFullNameIn(Object values);
+
+	List<UnitTestPerson> findByFullNameTrue();
+
+	List<UnitTestPerson> findByFullNameFalse();
+
+	List<UnitTestPerson> findByFullNameIgnoreCase(String name);
+
+	List<UnitTestPerson> findByFullNameInOrLastName(Collection<String> names, String lastName);
+
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.naming.Name;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.data.ldap.config.EmbeddedLdapProperties;
+import org.springframework.data.ldap.config.InMemoryLdapConfiguration;
+import org.springframework.data.ldap.observability.ConcurrencyLimiterMeterBinder;
+import org.springframework.data.ldap.repository.ConcurrencyLimit;
+import org.springframework.data.ldap.repository.LdapRepository;
+import org.springframework.data.ldap.repository.config.EnableLdapRepositories;
+import org.springframework.data.ldap.repository.query.SchemaEntry;
+import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.core.support.LdapContextSource;
+import org.springframework.ldap.support.LdapUtils;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+/**
+ * Integration tests for concurrency limits of repositories.
+ */
+@SpringJUnitConfig
+class ConcurrencyLimitIntegrationTests {
+
+	static final Name JOHN = LdapUtils.newLdapName("uid=john,ou=people,dc=memorynotfound");
+
+	@Autowired PersonRepository repository;
+	@Autowired BlockingLdapTemplate blockingLdapTemplate;
+	@Autowired MeterRegistry meterRegistry;
+
+	@Test
+	void shouldRejectOperationsExceedingRepositoryLimit() throws Exception {
+
+		CompletableFuture<?> blocked = blockingLdapTemplate.block(() -> repository.findById(JOHN));
+
+		try {
+
+			assertThatExceptionOfType(TransientDataAccessResourceException.class).isThrownBy(repository::count)
+					.withMessageContaining("PersonRepository");
+			assertThatExceptionOfType(TransientDataAccessResourceException.class)
+					.isThrownBy(() -> repository.findByLastName("Doe"));
+			assertThat(repository.findByFullName("John Doe")).hasSize(1);
+		} finally {
+			blockingLdapTemplate.release();
+		}
+
+		blocked.get(10, TimeUnit.SECONDS);
+
+		assertThat(repository.count()).isEqualTo(3);
+		assertThat(meterRegistry.get("ldap.repository.concurrency.rejected").tag("limiter", "PersonRepository")
+				.functionCounter().count()).isEqualTo(2);
+		assertThat(meterRegistry.get("ldap.repository.concurrency.accepted")
+				.tag("limiter", "PersonRepository.findByFullName").functionCounter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldRejectConcurrencyConfigurationAfterCreatingRepositories() {
+
+		LdapRepositoryFactory factory = new LdapRepositoryFactory(blockingLdapTemplate);
+		factory.setConcurrencyLimits(ConcurrencyLimits.fixed(1));
+		factory.getRepository(PersonRepository.class);
+
+		assertThatIllegalStateException().isThrownBy(() -> factory.setConcurrencyLimits(ConcurrencyLimits.fixed(2)));
+		assertThatIllegalStateException().isThrownBy(() -> factory.addConcurrencyLimiterListener(limiter -> {}));
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@Import(InMemoryLdapConfiguration.class)
+	@EnableLdapRepositories(considerNestedRepositories = true, ldapTemplateRef = "blockingLdapTemplate",
+			includeFilters = @Filter(type = FilterType.ASSIGNABLE_TYPE, classes = PersonRepository.class),
+			concurrencyLimit = @ConcurrencyLimit(1))
+	static class TestConfig {
+
+		@Bean
+		EmbeddedLdapProperties embeddedLdapProperties() {
+			EmbeddedLdapProperties embeddedLdapProperties = new EmbeddedLdapProperties();
+			embeddedLdapProperties.setBaseDn(Arrays.asList("dc=com", "dc=memorynotfound"));
+			return embeddedLdapProperties;
+		}
+
+		@Bean
+		BlockingLdapTemplate blockingLdapTemplate(LdapContextSource ldapContextSource) {
+			return new BlockingLdapTemplate(ldapContextSource);
+		}
+
+		@Bean
+		ConcurrencyLimiterMeterBinder concurrencyLimiterMeterBinder() {
+			return new ConcurrencyLimiterMeterBinder();
+		}
+
+		@Bean
+		MeterRegistry meterRegistry(ConcurrencyLimiterMeterBinder binder) {
+
+			SimpleMeterRegistry registry = new SimpleMeterRegistry();
+			binder.bindTo(registry);
+			return registry;
+		}
+	}
+
+	static class BlockingLdapTemplate extends LdapTemplate {
+
+		private volatile CountDownLatch entered = new CountDownLatch(0);
+		private volatile CountDownLatch release = new CountDownLatch(0);
+
+		BlockingLdapTemplate(LdapContextSource contextSource) {
+			super(contextSource);
+		}
+
+		CompletableFuture<?> block(Runnable action) throws InterruptedException {
+
+			entered = new CountDownLatch(1);
+			release = new CountDownLatch(1);
+
+			CompletableFuture<?> future = CompletableFuture.runAsync(action);
+
+			assertThat(entered.await(10, TimeUnit.SECONDS)).isTrue();
+
+			return future;
+		}
+
+		void release() {
+			release.countDown();
+		}
+
+		@Override
+		public <T> T findByDn(Name dn, Class<T> clazz) {
+
+			entered.countDown();
+
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+
+			return super.findByDn(dn, clazz);
+		}
+	}
+
+	interface PersonRepository extends LdapRepository<SchemaEntry> {
+
+		@ConcurrencyLimit(5)
+		List<SchemaEntry> findByFullName(String fullName);
+
+		List<SchemaEntry> findByLastName(String lastName);
+	}
+
+}
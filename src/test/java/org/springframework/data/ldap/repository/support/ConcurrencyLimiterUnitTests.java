@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.data.ldap.repository.ConcurrencyLimit.Algorithm;
+import org.springframework.data.ldap.repository.query.SearchDeadline;
+import org.springframework.data.ldap.repository.query.SearchLimits;
+
+/**
+ * Unit tests for {@link ConcurrencyLimiter}.
+ */
+class ConcurrencyLimiterUnitTests {
+
+	@Test
+	void shouldRejectOperationsExceedingFixedLimit() {
+
+		ConcurrencyLimiter limiter = ConcurrencyLimits.fixed(2).createLimiter("test");
+
+		limiter.acquire();
+		limiter.acquire();
+
+		assertThatExceptionOfType(TransientDataAccessResourceException.class).isThrownBy(limiter::acquire)
+				.withMessageContaining("Concurrency limit of 2 exceeded for test");
+		assertThat(limiter.getAcceptedCount()).isEqualTo(2);
+		assertThat(limiter.getRejectedCount()).isOne();
+
+		limiter.release(1000, 2, false);
+
+		assertThat(limiter.acquire()).isEqualTo(2);
+		assertThat(limiter.getLimit()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldWaitForCapacityWithinQueueTimeout() throws Exception {
+
+		ConcurrencyLimiter limiter = ConcurrencyLimits.fixed(1).queueTimeout(Duration.ofSeconds(10)).createLimiter("test");
+		limiter.acquire();
+
+		Thread thread = new Thread(() -> {
+			sleep(100);
+			limiter.release(1000, 1, false);
+		});
+		thread.start();
+
+		assertThat(limiter.execute(() -> "result")).isEqualTo("result");
+		assertThat(limiter.getInFlight()).isZero();
+		assertThat(limiter.getRejectedCount()).isZero();
+
+		thread.join();
+	}
+
+	@Test
+	void shouldRunNestedOperationsWithoutAcquiringCapacity() {
+
+		ConcurrencyLimiter limiter = ConcurrencyLimits.fixed(1).queueTimeout(Duration.ZERO).createLimiter("test");
+
+		Object result = limiter.execute(() -> limiter.execute(() -> limiter.getInFlight()));
+
+		assertThat(result).isEqualTo(1);
+		assertThat(limiter.getInFlight()).isZero();
+		assertThat(limiter.getAcceptedCount()).isOne();
+		assertThat(limiter.getRejectedCount()).isZero();
+		assertThat(limiter.execute(() -> "next")).isEqualTo("next");
+	}
+
+	@Test
+	void shouldRejectAfterQueueTimeout() {
+
+		ConcurrencyLimiter limiter = ConcurrencyLimits.fixed(1).queueTimeout(Duration.ofMillis(50)).createLimiter("test");
+		limiter.acquire();
+
+		long start = System.nanoTime();
+
+		assertThatExceptionOfType(TransientDataAccessResourceException.class).isThrownBy(limiter::acquire);
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+	}
+
+	@Test
+	void shouldAdjustAimdLimit() {
+
+		ConcurrencyLimiter limiter = ConcurrencyLimits.aimd(10, 2, 12).createLimiter("test");
+
+		limiter.acquire();
+		limiter.release(1000, 1, false);
+
+		assertThat(limiter.getLimit()).isEqualTo(10);
+
+		for (int i = 0; i < 5; i++) {
+			limiter.acquire();
+			limiter.release(1000, 10, false);
+		}
+
+		assertThat(limiter.getLimit()).isEqualTo(12);
+
+		limiter.acquire();
+		limiter.release(1000, 5, true);
+
+		assertThat(limiter.getLimit()).isEqualTo(10);
+
+		for (int i = 0; i < 20; i++) {
+			limiter.acquire();
+			limiter.release(1000, 1, true);
+		}
+
+		assertThat(limiter.getLimit()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldDecreaseGradientLimitWithIncreasingLatency() {
+
+		ConcurrencyLimiter limiter = ConcurrencyLimits.gradient(20, 1, 100).createLimiter("test");
+
+		for (int i = 0; i < 50; i++) {
+			limiter.acquire();
+			limiter.release(1_000_000, 50, false);
+		}
+
+		int limit = limiter.getLimit();
+
+		assertThat(limit).isGreaterThan(20);
+
+		for (int i = 0; i < 10; i++) {
+			limiter.acquire();
+			limiter.release(10_000_000, 50, false);
+		}
+
+		assertThat(limiter.getLimit()).isLessThan(limit);
+	}
+
+	@Test
+	void shouldTreatOnlyOverloadFailuresAsDrops() {
+
+		ConcurrencyLimiter limiter = ConcurrencyLimits.aimd(4, 1, 4).createLimiter("test");
+
+		assertThatExceptionOfType(EmptyResultDataAccessException.class).isThrownBy(() -> limiter.execute(() -> {
+			throw new EmptyResultDataAccessException(1);
+		}));
+
+		assertThat(limiter.getLimit()).isEqualTo(4);
+
+		assertThatExceptionOfType(DataAccessResourceFailureException.class).isThrownBy(() -> limiter.execute(() -> {
+			throw new DataAccessResourceFailureException("unavailable");
+		}));
+
+		assertThat(limiter.getLimit()).isEqualTo(3);
+		assertThat(limiter.getInFlight()).isZero();
+	}
+
+	@Test
+	void shouldNotTreatDeadlineExpiryAndRejectionsAsDrops() {
+
+		ConcurrencyLimiter limiter = ConcurrencyLimits.aimd(4, 1, 4).createLimiter("test");
+		ConcurrencyLimiter exhausted = ConcurrencyLimits.fixed(1).createLimiter("exhausted");
+		exhausted.acquire();
+
+		assertThatExceptionOfType(QueryTimeoutException.class)
+				.isThrownBy(() -> limiter.execute(() -> SearchDeadline.callWithin(Duration.ofNanos(1), () -> {
+					sleep(1);
+					return SearchLimits.none().withinDeadline();
+				})));
+
+		assertThatExceptionOfType(TransientDataAccessResourceException.class)
+				.isThrownBy(() -> limiter.execute(() -> exhausted.execute(() -> null)));
+
+		assertThat(limiter.getLimit()).isEqualTo(4);
+		assertThat(limiter.getInFlight()).isZero();
+		assertThat(exhausted.getRejectedCount()).isOne();
+	}
+
+	@Test
+	void shouldValidateLimits() {
+
+		ConcurrencyLimits limits = ConcurrencyLimits.aimd(5, 1, 5);
+
+		assertThat(limits.getAlgorithm()).isEqualTo(Algorithm.AIMD);
+		assertThat(limits.getQueueTimeout()).isEqualTo(Duration.ZERO);
+		assertThatIllegalArgumentException().isThrownBy(() -> ConcurrencyLimits.aimd(5, 6, 10));
+		assertThatIllegalArgumentException().isThrownBy(() -> ConcurrencyLimits.fixed(0));
+	}
+
+	private static void sleep(long millis) {
+
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.ldap.query.LdapQueryBuilder.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.naming.Name;
+import javax.naming.directory.BasicAttribute;
+import javax.naming.directory.BasicAttributes;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.ldap.config.EmbeddedLdapProperties;
+import org.springframework.data.ldap.config.InMemoryLdapConfiguration;
+import org.springframework.data.ldap.repository.LdapRepository;
+import org.springframework.ldap.control.SortControlDirContextProcessor;
+import org.springframework.ldap.core.ContextMapper;
+import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.odm.annotations.Attribute;
+import org.springframework.ldap.odm.annotations.Entry;
+import org.springframework.ldap.odm.annotations.Id;
+import org.springframework.ldap.query.LdapQuery;
+import org.springframework.ldap.support.LdapUtils;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+/**
+ * Integration tests for {@link DirectoryPartitions}.
+ */
+@SpringJUnitConfig
+class DirectoryPartitionsIntegrationTests {
+
+	static final String ABBY = "uid=abby,ou=groups,dc=memorynotfound";
+
+	@Autowired LdapTemplate ldapTemplate;
+
+	LdapTemplate people;
+	LdapTemplate groups;
+	DirectoryPartitions partitions;
+
+	@BeforeEach
+	void setUp() {
+
+		BasicAttributes attributes = new BasicAttributes(true);
+		BasicAttribute objectClass = new BasicAttribute("objectclass");
+		objectClass.add("top");
+		objectClass.add("person");
+		objectClass.add("organizationalPerson");
+		objectClass.add("inetOrgPerson");
+		attributes.put(objectClass);
+		attributes.put("cn", "Abby Smith");
+		attributes.put("sn", "Smith");
+		ldapTemplate.bind(ABBY, null, attributes);
+
+		people = spy(ldapTemplate);
+		groups = spy(ldapTemplate);
+		partitions = DirectoryPartitions.create(List.of(DirectoryPartition.of("ou=people,dc=memorynotfound", people),
+				DirectoryPartition.of("ou=groups,dc=memorynotfound", groups)));
+	}
+
+	@AfterEach
+	void tearDown() {
+		ldapTemplate.unbind(ABBY);
+	}
+
+	@Test
+	void shouldMergeResultsOfAllPartitions() {
+
+		PersonRepository repository = new LdapRepositoryFactory(partitions.getOperations())
+				.getRepository(PersonRepository.class);
+
+		assertThat(repository.findAll()).extracting(Person::getFullName).containsExactlyInAnyOrder("John Doe",
+				"Jihn Die", "Jahn Dae", "Abby Smith");
+		verify(people).find(any(LdapQuery.class), eq(Person.class));
+		verify(groups).find(any(LdapQuery.class), eq(Person.class));
+	}
+
+	@Test
+	void shouldPruneByEntryBase() {
+
+		EmployeeRepository repository = new LdapRepositoryFactory(partitions.getOperations())
+				.getRepository(EmployeeRepository.class);
+
+		assertThat(repository.findAll()).hasSize(3);
+		assertThat(repository.findByFullName("Abby Smith")).isEmpty();
+		verifyNoInteractions(groups);
+	}
+
+	@Test
+	void shouldApplyGlobalSortOrderAndCountLimit() {
+
+		DirectoryPartitions sorted = partitions.sortedBy(Comparator.comparing(Person::getFullName));
+		PersonRepository repository = new LdapRepositoryFactory(sorted.getOperations())
+				.getRepository(PersonRepository.class);
+
+		LdapQuery query = query().countLimit(2).where("objectclass").is("inetOrgPerson");
+
+		assertThat(repository.findAll(query)).extracting(Person::getFullName).containsExactly("Abby Smith", "Jahn Dae");
+	}
+
+	@Test
+	void shouldApplyCountLimitToEachPartition() {
+
+		LdapQuery query = query().countLimit(2).where("objectclass").is("inetOrgPerson");
+
+		assertThat(partitions.getOperations().find(query, Person.class)).hasSize(2);
+		verify(people).find(argThat(it -> it.countLimit() == 2), eq(Person.class));
+		verify(groups).find(argThat(it -> it.countLimit() == 2), eq(Person.class));
+	}
+
+	@Test
+	void shouldSearchSortedPartitionsWithoutCountLimit() {
+
+		DirectoryPartitions sorted = partitions.sortedBy(Comparator.comparing(Person::getFullName));
+		LdapQuery query = query().countLimit(2).where("objectclass").is("inetOrgPerson");
+
+		assertThat(sorted.getOperations().find(query, Person.class)).extracting(Person::getFullName)
+				.containsExactly("Abby Smith", "Jahn Dae");
+		verify(people).find(argThat(it -> it.countLimit() == 0), eq(Person.class));
+	}
+
+	@Test
+	void shouldLimitPartitionsUsingServerSideSort() {
+
+		DirectoryPartitions sorted = partitions.sortedBy(Comparator.comparing(Person::getFullName), "cn");
+		PersonRepository repository = new LdapRepositoryFactory(sorted.getOperations())
+				.getRepository(PersonRepository.class);
+
+		LdapQuery query = query().countLimit(2).where("objectclass").is("inetOrgPerson");
+
+		assertThat(repository.findAll(query)).extracting(Person::getFullName).containsExactly("Abby Smith", "Jahn Dae");
+		verify(people).search(any(Name.class), anyString(), argThat(it -> it.getCountLimit() == 2),
+				any(ContextMapper.class), any(SortControlDirContextProcessor.class));
+		verify(people, never()).find(any(LdapQuery.class), any());
+	}
+
+	@Test
+	void shouldFindSingleResultAcrossPartitions() {
+
+		PersonRepository repository = new LdapRepositoryFactory(partitions.getOperations())
+				.getRepository(PersonRepository.class);
+
+		assertThat(repository.findOne(query().where("cn").is("Abby Smith"))).isPresent();
+		assertThat(repository.findOne(query().where("cn").is("Nobody"))).isEmpty();
+	}
+
+	@Test
+	void shouldRouteEntryOperationsToOwningPartition() {
+
+		PersonRepository repository = new LdapRepositoryFactory(partitions.getOperations())
+				.getRepository(PersonRepository.class);
+		Name abby = LdapUtils.newLdapName(ABBY);
+
+		Person person = repository.findById(abby).get();
+		repository.save(person);
+
+		verify(groups).findByDn(abby, Person.class);
+		verify(groups).update(person);
+		verify(people, never()).findByDn(any(), any());
+		verify(people, never()).update(any());
+		assertThat(repository.findById(LdapUtils.newLdapName("uid=nobody,ou=unknown,dc=memorynotfound"))).isEmpty();
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@Import(InMemoryLdapConfiguration.class)
+	static class TestConfig {
+
+		@Bean
+		EmbeddedLdapProperties embeddedLdapProperties() {
+			EmbeddedLdapProperties embeddedLdapProperties = new EmbeddedLdapProperties();
+			embeddedLdapProperties.setBaseDn(Arrays.asList("dc=com", "dc=memorynotfound"));
+			return embeddedLdapProperties;
+		}
+	}
+
+	@Entry(objectClasses = { "inetOrgPerson", "organizationalPerson", "person", "top" })
+	public static class Person {
+
+		@Id Name dn;
+
+		@Attribute(name = "cn") String fullName;
+
+		public Person() {}
+
+		public String getFullName() {
+			return fullName;
+		}
+	}
+
+	@Entry(objectClasses = { "inetOrgPerson", "organizationalPerson", "person", "top" },
+			base = "ou=people,dc=memorynotfound")
+	public static class Employee {
+
+		@Id Name dn;
+
+		@Attribute(name = "cn") String fullName;
+
+		public Employee() {}
+	}
+
+	interface PersonRepository extends LdapRepository<Person> {}
+
+	interface EmployeeRepository extends LdapRepository<Employee> {
+
+		List<Employee> findByFullName(String fullName);
+	}
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import javax.naming.Name;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.ldap.config.EmbeddedLdapProperties;
+import org.springframework.data.ldap.config.InMemoryLdapConfiguration;
+import org.springframework.data.ldap.core.mapping.DnReference;
+import org.springframework.data.ldap.repository.LdapRepository;
+import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.odm.annotations.Attribute;
+import org.springframework.ldap.odm.annotations.Entry;
+import org.springframework.ldap.odm.annotations.Id;
+import org.springframework.ldap.odm.annotations.Transient;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+/**
+ * Integration tests for {@link DnReference} properties.
+ */
+@SpringJUnitConfig
+class DnReferenceIntegrationTests {
+
+	@Autowired LdapTemplate ldapTemplate;
+
+	ExecutorService executor = Executors.newFixedThreadPool(2);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	void shouldResolveReferencesOfResultBatch() {
+
+		LdapTemplate spy = spy(ldapTemplate);
+		GroupRepository repository = repository(spy);
+
+		List<Group> groups = repository.findAll();
+
+		assertThat(groups).hasSize(2);
+		assertThat(groups).filteredOn(it -> it.name.equals("developers")).singleElement()
+				.satisfies(it -> assertThat(it.members).extracting(person -> person.fullName).containsExactly("John Doe",
+						"Jihn Die"));
+		assertThat(groups).filteredOn(it -> it.name.equals("managers")).singleElement()
+				.satisfies(it -> assertThat(it.members).extracting(person -> person.fullName).containsExactly("Jahn Dae"));
+
+		verify(spy, times(3)).findByDn(any(Name.class), eq(Person.class));
+	}
+
+	@Test
+	void shouldResolveLazyReferencesOnFirstAccess() {
+
+		LdapTemplate spy = spy(ldapTemplate);
+		GroupRepository repository = repository(spy);
+
+		Group group = repository.findByName("managers");
+
+		verify(spy, times(1)).findByDn(any(Name.class), eq(Person.class));
+
+		assertThat(group.firstMember.get().fullName).isEqualTo("Jahn Dae");
+		assertThat(group.firstMember.get()).isSameAs(group.firstMember.get());
+		verify(spy, times(2)).findByDn(any(Name.class), eq(Person.class));
+	}
+
+	private GroupRepository repository(LdapTemplate template) {
+
+		LdapRepositoryFactory factory = new LdapRepositoryFactory(template);
+		factory.setExecutor(executor);
+		factory.setReferenceResolutionConcurrency(2);
+
+		return factory.getRepository(GroupRepository.class);
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@Import(InMemoryLdapConfiguration.class)
+	static class TestConfig {
+
+		@Bean
+		EmbeddedLdapProperties embeddedLdapProperties() {
+			EmbeddedLdapProperties embeddedLdapProperties = new EmbeddedLdapProperties();
+			embeddedLdapProperties.setBaseDn(Arrays.asList("dc=com", "dc=memorynotfound"));
+			return embeddedLdapProperties;
+		}
+	}
+
+	interface GroupRepository extends LdapRepository<Group> {
+
+		Group findByName(String name);
+	}
+
+	@Entry(objectClasses = { "groupOfUniqueNames", "top" })
+	public static class Group {
+
+		@Id Name dn;
+
+		@Attribute(name = "cn") String name;
+
+		@Attribute(name = "uniqueMember") List<Name> memberDns;
+
+		@Transient @DnReference("memberDns") List<Person> members;
+
+		@Transient @DnReference("memberDns") Supplier<Person> firstMember;
+
+		public Group() {}
+
+	}
+
+	@Entry(objectClasses = { "inetOrgPerson", "organizationalPerson", "person", "top" })
+	public static class Person {
+
+		@Id Name dn;
+
+		@Attribute(name = "cn") String fullName;
+
+		public Person() {}
+
+	}
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import javax.naming.Name;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.ldap.core.mapping.LdapEntityMapper;
+import org.springframework.data.ldap.repository.LdapRepository;
+import org.springframework.ldap.core.ContextMapper;
+import org.springframework.ldap.core.DirContextAdapter;
+import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.odm.annotations.Attribute;
+import org.springframework.ldap.odm.annotations.DnAttribute;
+import org.springframework.ldap.odm.annotations.Entry;
+import org.springframework.ldap.odm.annotations.Id;
+import org.springframework.ldap.odm.annotations.Transient;
+import org.springframework.ldap.odm.core.ObjectDirectoryMapper;
+import org.springframework.ldap.odm.core.impl.DefaultObjectDirectoryMapper;
+import org.springframework.ldap.odm.core.impl.InvalidEntryException;
+import org.springframework.ldap.support.LdapUtils;
+
+/**
+ * Unit tests for {@link EntityMapperObjectDirectoryMapper}.
+ */
+class EntityMapperObjectDirectoryMapperUnitTests {
+
+	ObjectDirectoryMapper delegate = mock(ObjectDirectoryMapper.class);
+	EntityMapperObjectDirectoryMapper mapper = new EntityMapperObjectDirectoryMapper(delegate);
+
+	@Test
+	void shouldResolveGeneratedMapper() {
+
+		assertThat(EntityMapperObjectDirectoryMapper.getMapper(Account.class))
+				.isInstanceOf(EntityMapperObjectDirectoryMapperUnitTests_Account__LdapMapper.class);
+		assertThat(EntityMapperObjectDirectoryMapper.getMapper(UnitTestPerson.class)).isNull();
+	}
+
+	@Test
+	void shouldReadEntityUsingGeneratedMapper() {
+
+		DirContextAdapter entry = new DirContextAdapter(LdapUtils.newLdapName("uid=jdoe,ou=people,dc=example"));
+		entry.setAttributeValues("objectClass", new String[] { "TOP", "Account" });
+		entry.setAttributeValue("uid", "jdoe");
+		entry.setAttributeValue("uidNumber", "1000");
+		entry.setAttributeValues("mail", new String[] { "jdoe@example.org", "john@example.org" });
+
+		Account account = mapper.mapFromLdapDataEntry(entry, Account.class);
+
+		assertThat(account.dn).isEqualTo(entry.getDn());
+		assertThat(account.uid).isEqualTo("jdoe");
+		assertThat(account.uidNumber).isEqualTo(1000);
+		assertThat(account.mail).containsExactly("jdoe@example.org", "john@example.org");
+		assertThat(account.unit).isEqualTo("people");
+		verifyNoInteractions(delegate);
+	}
+
+	@Test
+	void shouldReadEntityLikeReflectiveMapping() {
+
+		DirContextAdapter entry = new DirContextAdapter(LdapUtils.newLdapName("uid=jdoe,ou=people,dc=example"));
+		entry.setAttributeValues("objectclass", new String[] { "top", "account" });
+		entry.setAttributeValue("uid", "jdoe");
+
+		Account generated = mapper.mapFromLdapDataEntry(entry, Account.class);
+		Account reflective = new DefaultObjectDirectoryMapper().mapFromLdapDataEntry(entry, Account.class);
+
+		assertThat(generated).usingRecursiveComparison().isEqualTo(reflective);
+	}
+
+	@Test
+	void shouldNotReadEntryWithOtherObjectClasses() {
+
+		DirContextAdapter entry = new DirContextAdapter(LdapUtils.newLdapName("uid=jdoe"));
+		entry.setAttributeValue("objectclass", "top");
+
+		assertThat(mapper.mapFromLdapDataEntry(entry, Account.class)).isNull();
+		assertThatExceptionOfType(InvalidEntryException.class).isThrownBy(
+				() -> mapper.mapFromLdapDataEntry(new DirContextAdapter(LdapUtils.newLdapName("uid=jdoe")), Account.class));
+	}
+
+	@Test
+	void shouldWriteEntityUsingGeneratedMapper() {
+
+		Account account = new Account();
+		account.uid = "jdoe";
+		account.mail = List.of("jdoe@example.org");
+
+		DirContextAdapter entry = new DirContextAdapter();
+		mapper.mapToLdapDataEntry(account, entry);
+
+		assertThat(entry.getStringAttributes("objectclass")).containsExactly("account", "top");
+		assertThat(entry.getStringAttribute("uid")).isEqualTo("jdoe");
+		assertThat(entry.attributeExists("uidNumber")).isFalse();
+		assertThat(entry.getStringAttributes("mail")).containsExactly("jdoe@example.org");
+		verifyNoInteractions(delegate);
+	}
+
+	@Test
+	void shouldDelegateEntitiesWithoutGeneratedMapper() {
+
+		DirContextAdapter entry = new DirContextAdapter();
+		UnitTestPerson person = new UnitTestPerson();
+
+		mapper.mapToLdapDataEntry(person, entry);
+		mapper.mapFromLdapDataEntry(entry, UnitTestPerson.class);
+		mapper.manageClass(Account.class);
+
+		verify(delegate).mapToLdapDataEntry(person, entry);
+		verify(delegate).mapFromLdapDataEntry(entry, UnitTestPerson.class);
+		verify(delegate).manageClass(Account.class);
+	}
+
+	@Test
+	void shouldCreateMapperForEntitiesWithGeneratedMapper() {
+
+		assertThat(EntityMapperObjectDirectoryMapper.of(delegate, UnitTestPerson.class)).isSameAs(delegate);
+		assertThat(EntityMapperObjectDirectoryMapper.of(delegate, Account.class))
+				.isInstanceOf(EntityMapperObjectDirectoryMapper.class);
+		assertThat(EntityMapperObjectDirectoryMapper.of(mapper, Account.class)).isSameAs(mapper);
+	}
+
+	@Test
+	void shouldMapRepositoryResultsWithoutChangingTemplate() {
+
+		LdapTemplate template = mock(LdapTemplate.class);
+		ObjectDirectoryMapper odm = new DefaultObjectDirectoryMapper();
+		when(template.getObjectDirectoryMapper()).thenReturn(odm);
+
+		AccountRepository repository = new LdapRepositoryFactory(template).getRepository(AccountRepository.class);
+		Name dn = LdapUtils.newLdapName("uid=jdoe,ou=people,dc=example");
+
+		DirContextAdapter entry = new DirContextAdapter(dn);
+		entry.setAttributeValues("objectclass", new String[] { "top", "account" });
+		entry.setAttributeValue("uid", "jdoe");
+		when(template.lookup(eq(dn), any(ContextMapper.class)))
+				.thenAnswer(invocation -> invocation.<ContextMapper<?>> getArgument(1).mapFromContext(entry));
+
+		assertThat(repository.findById(dn)).hasValueSatisfying(it -> assertThat(it.uid).isEqualTo("jdoe"));
+		verify(template, never()).setObjectDirectoryMapper(any());
+		verify(template, never()).findByDn(any(), any());
+		assertThat(template.getObjectDirectoryMapper()).isSameAs(odm);
+	}
+
+	interface AccountRepository extends LdapRepository<Account> {}
+
+	@Entry(objectClasses = { "account", "top" })
+	public static final class Account {
+
+		@Id Name dn;
+
+		@Attribute(name = "uid") String uid;
+
+		@Attribute(name = "uidNumber") Integer uidNumber;
+
+		@Attribute(name = "mail") List<String> mail;
+
+		@DnAttribute("ou")
+		@Transient String unit;
+
+	}
+
+}
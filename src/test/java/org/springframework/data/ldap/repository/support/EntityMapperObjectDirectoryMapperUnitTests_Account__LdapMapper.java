@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import java.util.ArrayList;
+import java.util.function.Function;
+
+import org.springframework.LdapDataEntry;
+import org.springframework.aot.generate.Generated;
+import org.springframework.data.ldap.core.mapping.LdapEntityMapper;
+import org.springframework.data.ldap.core.mapping.LdapEntityMapperSupport;
+
+/**
+ * {@link LdapEntityMapper} for {@link EntityMapperObjectDirectoryMapperUnitTests.Account}.
+ */
+@Generated
+public final class EntityMapperObjectDirectoryMapperUnitTests_Account__LdapMapper
+		extends LdapEntityMapperSupport<EntityMapperObjectDirectoryMapperUnitTests.Account> {
+
+	public EntityMapperObjectDirectoryMapperUnitTests_Account__LdapMapper() {
+		super(EntityMapperObjectDirectoryMapperUnitTests.Account.class, "account", "top");
+	}
+
+	@Override
+	public EntityMapperObjectDirectoryMapperUnitTests.Account read(LdapDataEntry entry) {
+		if (!hasObjectClasses(entry)) {
+			return null;
+		}
+		EntityMapperObjectDirectoryMapperUnitTests.Account entity = new EntityMapperObjectDirectoryMapperUnitTests.Account();
+		entity.dn = entry.getDn();
+		readValue(entry, "uid", Function.identity(), value -> entity.uid = value);
+		readValue(entry, "uidNumber", Integer::valueOf, value -> entity.uidNumber = value);
+		entity.mail = readValues(entry, "mail", new ArrayList<>(), Function.identity());
+		entity.unit = readDnValue(entry, "ou");
+		return entity;
+	}
+
+	@Override
+	public void write(EntityMapperObjectDirectoryMapperUnitTests.Account entity, LdapDataEntry entry) {
+		writeObjectClasses(entry);
+		writeValue(entry, "uid", entity.uid);
+		writeValue(entry, "uidNumber", entity.uidNumber);
+		writeValues(entry, "mail", entity.mail);
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link HedgingDelay}.
+ */
+class HedgingDelayUnitTests {
+
+	@Test
+	void shouldNotHedgeBeforeMinimumSamples() {
+
+		HedgingDelay delay = new HedgingDelay(Hedging.atPercentile(95).minimumDelay(Duration.ZERO));
+
+		for (int i = 1; i < HedgingDelay.MINIMUM_SAMPLES; i++) {
+			delay.record(i);
+		}
+
+		assertThat(delay.getDelay()).isEqualTo(-1);
+
+		delay.record(HedgingDelay.MINIMUM_SAMPLES);
+
+		assertThat(delay.getDelay()).isEqualTo(31);
+	}
+
+	@Test
+	void shouldComputePercentileOfSlidingWindow() {
+
+		HedgingDelay delay = new HedgingDelay(Hedging.atPercentile(50).minimumDelay(Duration.ZERO));
+
+		for (int i = 1; i <= HedgingDelay.WINDOW_SIZE; i++) {
+			delay.record(i);
+		}
+
+		assertThat(delay.getDelay()).isEqualTo(HedgingDelay.WINDOW_SIZE / 2);
+
+		for (int i = 0; i < HedgingDelay.WINDOW_SIZE; i++) {
+			delay.record(1_000_000);
+		}
+
+		assertThat(delay.getDelay()).isEqualTo(1_000_000);
+	}
+
+	@Test
+	void shouldApplyMinimumDelay() {
+
+		HedgingDelay delay = new HedgingDelay(Hedging.atPercentile(99).minimumDelay(Duration.ofNanos(500)));
+
+		for (int i = 0; i < HedgingDelay.MINIMUM_SAMPLES; i++) {
+			delay.record(10);
+		}
+
+		assertThat(delay.getDelay()).isEqualTo(500);
+	}
+
+}
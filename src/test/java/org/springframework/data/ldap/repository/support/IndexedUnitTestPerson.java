@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import javax.naming.Name;
+
+import org.springframework.data.ldap.core.mapping.Indexed;
+import org.springframework.ldap.odm.annotations.Attribute;
+import org.springframework.ldap.odm.annotations.Entry;
+import org.springframework.ldap.odm.annotations.Id;
+
+/**
+ * Entity declaring an {@link Indexed indexed} attribute.
+ */
+@Entry(objectClasses = { "inetOrgPerson", "organizationalPerson", "person", "top" })
+public class IndexedUnitTestPerson {
+
+	@Id private Name dn;
+
+	@Attribute(name = "cn") private String fullName;
+
+	@Attribute(name = "sn") @Indexed private String lastName;
+
+	@Attribute(name = "description") private String description;
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.naming.Name;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.ldap.config.EmbeddedLdapProperties;
+import org.springframework.data.ldap.config.InMemoryLdapConfiguration;
+import org.springframework.data.ldap.core.mapping.LazyAttribute;
+import org.springframework.data.ldap.repository.LdapRepository;
+import org.springframework.data.ldap.repository.query.SearchAttributes;
+import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.odm.annotations.Attribute;
+import org.springframework.ldap.odm.annotations.Entry;
+import org.springframework.ldap.odm.annotations.Id;
+import org.springframework.ldap.odm.annotations.Transient;
+import org.springframework.ldap.query.LdapQuery;
+import org.springframework.ldap.support.LdapUtils;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+/**
+ * Integration tests for {@link LazyAttribute} properties.
+ */
+@SpringJUnitConfig
+class LazyAttributeIntegrationTests {
+
+	@Autowired LdapTemplate ldapTemplate;
+
+	@Test
+	void shouldExcludeLazyAttributesFromSearches() {
+
+		assertThat(SearchAttributes.of(Person.class, ldapTemplate.getObjectDirectoryMapper()).getAttributes())
+				.containsExactly("objectclass", "cn");
+		assertThat(SearchAttributes.of(BaseUnitTestPerson.class, ldapTemplate.getObjectDirectoryMapper()).isRestricted())
+				.isFalse();
+
+		LdapTemplate spy = spy(ldapTemplate);
+		PersonRepository repository = new LdapRepositoryFactory(spy).getRepository(PersonRepository.class);
+
+		assertThat(repository.findByFullName("John Doe")).hasSize(1);
+		assertThat(repository.findAll()).hasSize(3);
+
+		ArgumentCaptor<LdapQuery> query = ArgumentCaptor.forClass(LdapQuery.class);
+		verify(spy, times(2)).find(query.capture(), eq(Person.class));
+		assertThat(query.getAllValues())
+				.allSatisfy(it -> assertThat(it.attributes()).containsExactly("objectclass", "cn"));
+	}
+
+	@Test
+	void shouldLoadLazyAttributesOnFirstAccess() {
+
+		PersonRepository repository = new LdapRepositoryFactory(ldapTemplate).getRepository(PersonRepository.class);
+
+		Person person = repository.findById(LdapUtils.newLdapName("uid=john,ou=people,dc=memorynotfound"))
+				.orElseThrow();
+
+		assertThat(person.fullName).isEqualTo("John Doe");
+		assertThat(person.surname.get()).isEqualTo("John");
+		assertThat(person.objectClasses.get()).contains("inetOrgPerson", "person");
+		assertThat(person.description.get()).isNull();
+
+		assertThat(repository.findByFullName("Jihn Die")).singleElement()
+				.satisfies(it -> assertThat(it.surname.get()).isEqualTo("Jihn"));
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@Import(InMemoryLdapConfiguration.class)
+	static class TestConfig {
+
+		@Bean
+		EmbeddedLdapProperties embeddedLdapProperties() {
+			EmbeddedLdapProperties embeddedLdapProperties = new EmbeddedLdapProperties();
+			embeddedLdapProperties.setBaseDn(Arrays.asList("dc=com", "dc=memorynotfound"));
+			return embeddedLdapProperties;
+		}
+	}
+
+	interface PersonRepository extends LdapRepository<Person> {
+
+		List<Person> findByFullName(String fullName);
+	}
+
+	@Entry(objectClasses = { "inetOrgPerson", "organizationalPerson", "person", "top" })
+	public static class Person {
+
+		@Id Name dn;
+
+		@Attribute(name = "cn") String fullName;
+
+		@Transient @LazyAttribute("sn") Supplier<String> surname;
+
+		@Transient @LazyAttribute("objectclass") Supplier<List<String>> objectClasses;
+
+		@Transient @LazyAttribute("description") Supplier<String> description;
+
+		public Person() {}
+
+	}
+
+}
@@ -0,0 +1,415 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.aot.generate.Generated;
+import org.springframework.data.ldap.core.mapping.LdapEntityMapper;
+import org.springframework.ldap.core.DirContextAdapter;
+import org.springframework.ldap.odm.annotations.Entry;
+import org.springframework.ldap.support.LdapUtils;
+
+import com.querydsl.core.types.Expression;
+
+/**
+ * Unit tests for {@link LdapAnnotationProcessor} generating entity mappers through {@link LdapEntityMapperGenerator}.
+ */
+class LdapAnnotationProcessorUnitTests {
+
+	private static final Pattern CLASS_NAME = Pattern.compile("public class (\\w+)");
+
+	@TempDir Path directory;
+
+	@Test
+	void shouldGenerateMapperSource() throws IOException {
+
+		Compilation compilation = compile(true, """
+				package example;
+
+				import java.util.List;
+				import javax.naming.Name;
+				import org.springframework.ldap.odm.annotations.*;
+
+				@Entry(objectClasses = { "account", "top" })
+				public class Account {
+
+					@Id Name dn;
+
+					@Attribute(name = "uid") String uid;
+
+					@Attribute(name = "uidNumber") Integer uidNumber;
+
+					@Attribute(name = "mail") List<String> mail;
+
+					@DnAttribute("ou")
+					@Transient String unit;
+
+					@Transient String ignored;
+
+					@Attribute(name = "createTimestamp", readonly = true) String created;
+				}
+				""");
+
+		assertThat(compilation.errors()).isEmpty();
+		assertThat(compilation.source("example/Account__LdapMapper.java")).isEqualTo("""
+				package example;
+
+				import java.util.ArrayList;
+				import java.util.function.Function;
+				import org.springframework.LdapDataEntry;
+				import org.springframework.aot.generate.Generated;
+				import org.springframework.data.ldap.core.mapping.LdapEntityMapper;
+				import org.springframework.data.ldap.core.mapping.LdapEntityMapperSupport;
+
+				/**
+				 * {@link LdapEntityMapper} for {@link Account}.
+				 */
+				@Generated
+				public final class Account__LdapMapper extends LdapEntityMapperSupport<Account> {
+				  public Account__LdapMapper() {
+				    super(Account.class, "account", "top");
+				  }
+
+				  @Override
+				  public Account read(LdapDataEntry entry) {
+				    if (!hasObjectClasses(entry)) {
+				      return null;
+				    }
+				    Account entity = new Account();
+				    entity.dn = entry.getDn();
+				    readValue(entry, "uid", Function.identity(), value -> entity.uid = value);
+				    readValue(entry, "uidNumber", Integer::valueOf, value -> entity.uidNumber = value);
+				    entity.mail = readValues(entry, "mail", new ArrayList<>(), Function.identity());
+				    entity.unit = readDnValue(entry, "ou");
+				    readValue(entry, "createTimestamp", Function.identity(), value -> entity.created = value);
+				    return entity;
+				  }
+
+				  @Override
+				  public void write(Account entity, LdapDataEntry entry) {
+				    writeObjectClasses(entry);
+				    writeValue(entry, "uid", entity.uid);
+				    writeValue(entry, "uidNumber", entity.uidNumber);
+				    writeValues(entry, "mail", entity.mail);
+				  }
+				}
+				""");
+	}
+
+	@Test
+	void shouldMapPrivateFieldsThroughAccessors() throws Exception {
+
+		Compilation compilation = compile(true, """
+				package example;
+
+				import javax.naming.Name;
+				import org.springframework.ldap.odm.annotations.*;
+
+				@Entry(objectClasses = "person")
+				public class Person {
+
+					private @Id Name dn;
+
+					private @Attribute(name = "cn") String commonName;
+
+					private Boolean enabled;
+
+					public Name getDn() { return dn; }
+
+					public void setDn(Name dn) { this.dn = dn; }
+
+					public String getCommonName() { return commonName; }
+
+					public void setCommonName(String commonName) { this.commonName = commonName; }
+
+					public Boolean isEnabled() { return enabled; }
+
+					public void setEnabled(Boolean enabled) { this.enabled = enabled; }
+				}
+				""");
+
+		assertThat(compilation.errors()).isEmpty();
+		assertThat(compilation.source("example/Person__LdapMapper.java")).contains(
+				"entity.setDn(entry.getDn());", "readValue(entry, \"cn\", Function.identity(), entity::setCommonName);",
+				"readValue(entry, \"enabled\", Boolean::valueOf, entity::setEnabled);",
+				"writeValue(entry, \"cn\", entity.getCommonName());",
+				"writeValue(entry, \"enabled\", entity.isEnabled());");
+
+		LdapEntityMapper<Object> mapper = compilation.mapper("example.Person__LdapMapper");
+		DirContextAdapter entry = new DirContextAdapter(LdapUtils.newLdapName("cn=John Doe,dc=example"));
+		entry.setAttributeValue("objectclass", "person");
+		entry.setAttributeValue("cn", "John Doe");
+		entry.setAttributeValue("enabled", "true");
+
+		Object person = mapper.read(entry);
+
+		assertThat(person).extracting("dn", "commonName", "enabled").containsExactly(entry.getDn(), "John Doe", true);
+
+		DirContextAdapter written = new DirContextAdapter();
+		mapper.write(person, written);
+
+		assertThat(written.getStringAttribute("cn")).isEqualTo("John Doe");
+		assertThat(written.getStringAttribute("enabled")).isEqualTo("true");
+		assertThat(written.getStringAttributes("objectclass")).containsExactly("person");
+	}
+
+	@Test
+	void shouldMapDnAttributeBinaryAndCollectionFields() throws Exception {
+
+		Compilation compilation = compile(true, """
+				package example;
+
+				import java.util.Set;
+				import java.util.SortedSet;
+				import javax.naming.Name;
+				import org.springframework.ldap.odm.annotations.*;
+
+				@Entry(objectClasses = "device")
+				public class Device {
+
+					@Id Name dn;
+
+					@DnAttribute(value = "ou", index = 1)
+					@Transient String unit;
+
+					@DnAttribute("cn") String name;
+
+					@Attribute(name = "userCertificate", type = Attribute.Type.BINARY) byte[] certificate;
+
+					@Attribute(name = "description") Set<String> descriptions;
+
+					@Attribute(name = "port") SortedSet<Integer> ports;
+				}
+				""");
+
+		assertThat(compilation.errors()).isEmpty();
+
+		LdapEntityMapper<Object> mapper = compilation.mapper("example.Device__LdapMapper");
+		DirContextAdapter entry = new DirContextAdapter(LdapUtils.newLdapName("cn=printer,ou=devices,dc=example"));
+		entry.setAttributeValue("objectclass", "device");
+		entry.setAttributeValue("userCertificate", new byte[] { 1, 2, 3 });
+		entry.setAttributeValues("description", new String[] { "laser", "color" });
+		entry.setAttributeValues("port", new String[] { "631", "80" });
+
+		Object device = mapper.read(entry);
+
+		assertThat(device).extracting("unit", "name").containsExactly("devices", "printer");
+		assertThat(device).extracting("certificate").isEqualTo(new byte[] { 1, 2, 3 });
+		assertThat(device).extracting("descriptions").asInstanceOf(InstanceOfAssertFactories.ITERABLE)
+				.containsExactly("laser", "color");
+		assertThat(device).extracting("ports").asInstanceOf(InstanceOfAssertFactories.ITERABLE) //
+				.containsExactly(80, 631);
+
+		DirContextAdapter written = new DirContextAdapter();
+		mapper.write(device, written);
+
+		assertThat(written.getObjectAttribute("userCertificate")).isEqualTo(new byte[] { 1, 2, 3 });
+		assertThat(written.getStringAttributes("description")).containsExactlyInAnyOrder("laser", "color");
+		assertThat(written.getStringAttributes("port")).containsExactlyInAnyOrder("80", "631");
+		assertThat(written.getStringAttribute("name")).isEqualTo("printer");
+		assertThat(written.attributeExists("unit")).isFalse();
+	}
+
+	@Test
+	void shouldSkipUnsupportedEntities() throws IOException {
+
+		Compilation compilation = compile(true, """
+				package example;
+
+				import java.util.Date;
+				import org.springframework.ldap.odm.annotations.*;
+
+				@Entry(objectClasses = "event")
+				public class Event {
+
+					@Attribute(name = "created") Date created;
+				}
+				""", """
+				package example;
+
+				import org.springframework.ldap.odm.annotations.*;
+
+				@Entry(objectClasses = "secret")
+				public class Secret {
+
+					private @Attribute(name = "value") String value;
+				}
+				""", """
+				package example;
+
+				import org.springframework.ldap.odm.annotations.*;
+
+				@Entry(objectClasses = "immutable")
+				public class Immutable {
+
+					final String name;
+
+					Immutable(String name) {
+						this.name = name;
+					}
+				}
+				""");
+
+		assertThat(compilation.errors()).isEmpty();
+		assertThat(compilation.notes()).contains(
+				"Not generating entity mapper for example.Event: Type java.util.Date of field created is not supported",
+				"Not generating entity mapper for example.Secret: Private field value requires a setter",
+				"Not generating entity mapper for example.Immutable: "
+						+ "Entity must declare a non-private no-arg constructor");
+		assertThat(compilation.exists("example/Event__LdapMapper.java")).isFalse();
+		assertThat(compilation.exists("example/Secret__LdapMapper.java")).isFalse();
+		assertThat(compilation.exists("example/Immutable__LdapMapper.java")).isFalse();
+		assertThat(compilation.exists("example/QEvent.java")).isTrue();
+	}
+
+	@Test
+	void shouldNotGenerateMappersByDefault() throws IOException {
+
+		Compilation compilation = compile(false, """
+				package example;
+
+				import org.springframework.ldap.odm.annotations.*;
+
+				@Entry(objectClasses = "account")
+				public class Account {
+
+					@Attribute(name = "uid") String uid;
+				}
+				""");
+
+		assertThat(compilation.errors()).isEmpty();
+		assertThat(compilation.exists("example/Account__LdapMapper.java")).isFalse();
+		assertThat(compilation.exists("example/QAccount.java")).isTrue();
+	}
+
+	private Compilation compile(boolean entityMappers, String... sources) throws IOException {
+
+		Path generated = Files.createDirectories(directory.resolve("generated"));
+		Path classes = Files.createDirectories(directory.resolve("classes"));
+		List<JavaFileObject> units = new ArrayList<>();
+
+		for (String source : sources) {
+
+			Matcher matcher = CLASS_NAME.matcher(source);
+			assertThat(matcher.find()).isTrue();
+
+			String name = matcher.group(1);
+			URI uri = URI.create("string:///example/" + name + ".java");
+
+			units.add(new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+
+				@Override
+				public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+					return source;
+				}
+			});
+		}
+
+		List<String> options = new ArrayList<>(List.of("-classpath", classpath(), "-d", classes.toString(), "-s",
+				generated.toString()));
+
+		if (entityMappers) {
+			options.add("-A" + LdapAnnotationProcessor.ENTITY_MAPPERS_OPTION + "=true");
+		}
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT,
+				StandardCharsets.UTF_8)) {
+
+			JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, units);
+			task.setProcessors(List.of(new LdapAnnotationProcessor()));
+			task.call();
+		}
+
+		return new Compilation(generated, classes, diagnostics.getDiagnostics());
+	}
+
+	private static String classpath() {
+
+		return Stream.of(Entry.class, Generated.class, LdapEntityMapper.class, Nullable.class, Expression.class)
+				.map(type -> type.getProtectionDomain().getCodeSource().getLocation()) //
+				.map(location -> Path.of(URI.create(location.toString())).toString()) //
+				.distinct() //
+				.collect(Collectors.joining(File.pathSeparator));
+	}
+
+	private record Compilation(Path generated, Path classes, List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+
+		List<String> errors() {
+			return messages(Diagnostic.Kind.ERROR);
+		}
+
+		List<String> notes() {
+			return messages(Diagnostic.Kind.NOTE);
+		}
+
+		boolean exists(String path) {
+			return Files.exists(generated.resolve(path));
+		}
+
+		String source(String path) throws IOException {
+			return Files.readString(generated.resolve(path));
+		}
+
+		@SuppressWarnings("unchecked")
+		LdapEntityMapper<Object> mapper(String className) throws Exception {
+
+			ClassLoader classLoader = new URLClassLoader(new URL[] { classes.toUri().toURL() },
+					LdapAnnotationProcessorUnitTests.class.getClassLoader());
+
+			return (LdapEntityMapper<Object>) classLoader.loadClass(className).getDeclaredConstructor().newInstance();
+		}
+
+		private List<String> messages(Diagnostic.Kind kind) {
+			return diagnostics.stream().filter(it -> it.getKind() == kind).map(it -> it.getMessage(Locale.ROOT))
+					.toList();
+		}
+
+	}
+
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.naming.Name;
+import javax.naming.directory.BasicAttribute;
+import javax.naming.directory.BasicAttributes;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.ldap.config.EmbeddedLdapProperties;
+import org.springframework.data.ldap.config.InMemoryLdapConfiguration;
+import org.springframework.data.ldap.repository.LdapRepository;
+import org.springframework.data.ldap.repository.NestedGroupExpansion;
+import org.springframework.data.ldap.repository.query.SchemaEntry;
+import org.springframework.ldap.core.ContextMapper;
+import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.query.LdapQuery;
+import org.springframework.ldap.support.LdapUtils;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+/**
+ * Integration tests for {@link NestedGroupExpansion}.
+ */
+@SpringJUnitConfig
+class NestedGroupExpansionIntegrationTests {
+
+	static final String SUFFIX = ",dc=memorynotfound,dc=com";
+
+	static final GroupExpansion GROUPS = GroupExpansion.defaults().base("ou=groups,dc=memorynotfound").concurrency(2);
+
+	@Autowired LdapTemplate ldapTemplate;
+
+	ExecutorService executor = Executors.newFixedThreadPool(2);
+
+	@BeforeEach
+	void setUp() {
+
+		bindGroup("cn=admins,ou=groups,dc=memorynotfound", "cn=developers,ou=groups" + SUFFIX,
+				"cn=everyone,ou=groups" + SUFFIX);
+		bindGroup("cn=everyone,ou=groups,dc=memorynotfound", "cn=admins,ou=groups" + SUFFIX,
+				"uid=jahn,ou=people" + SUFFIX);
+	}
+
+	@AfterEach
+	void tearDown() {
+
+		ldapTemplate.unbind("cn=admins,ou=groups,dc=memorynotfound");
+		ldapTemplate.unbind("cn=everyone,ou=groups,dc=memorynotfound");
+		executor.shutdown();
+	}
+
+	@Test
+	void shouldExpandNestedGroupsLevelByLevel() {
+
+		PersonRepository repository = repository(ldapTemplate);
+
+		assertThat(repository.findTransitiveGroups(LdapUtils.newLdapName("uid=john,ou=people" + SUFFIX)))
+				.containsExactly(name("cn=developers"), name("cn=admins"), name("cn=everyone"));
+		assertThat(repository.findTransitiveGroups(LdapUtils.newLdapName("uid=jahn,ou=people" + SUFFIX)))
+				.containsExactlyInAnyOrder(name("cn=managers"), name("cn=everyone"), name("cn=admins"));
+		assertThat(repository.findTransitiveGroups(name("cn=managers"))).isEmpty();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldMemoizeDirectGroups() {
+
+		LdapTemplate spy = spy(ldapTemplate);
+		PersonRepository repository = repository(spy);
+
+		repository.findTransitiveGroups(LdapUtils.newLdapName("uid=john,ou=people" + SUFFIX));
+		verify(spy, times(4)).search(any(LdapQuery.class), any(ContextMapper.class));
+
+		repository.findTransitiveGroups(LdapUtils.newLdapName("uid=john,ou=people" + SUFFIX));
+		repository.findTransitiveGroups(LdapUtils.newLdapName("uid=jihn,ou=people" + SUFFIX));
+		verify(spy, times(5)).search(any(LdapQuery.class), any(ContextMapper.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldSearchGroupsOfAllMembersOfChunkAtOnce() {
+
+		LdapTemplate spy = spy(ldapTemplate);
+		PersonRepository repository = repository(spy, GROUPS.concurrency(1));
+
+		assertThat(repository.findTransitiveGroups(LdapUtils.newLdapName("uid=jahn,ou=people" + SUFFIX)))
+				.containsExactlyInAnyOrder(name("cn=managers"), name("cn=everyone"), name("cn=admins"));
+		verify(spy, times(3)).search(any(LdapQuery.class), any(ContextMapper.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldExpireMemoizedGroups() throws InterruptedException {
+
+		LdapTemplate spy = spy(ldapTemplate);
+		PersonRepository repository = repository(spy, GROUPS.cacheTimeToLive(Duration.ofMillis(1)));
+
+		repository.findTransitiveGroups(LdapUtils.newLdapName("uid=john,ou=people" + SUFFIX));
+		Thread.sleep(10);
+		repository.findTransitiveGroups(LdapUtils.newLdapName("uid=john,ou=people" + SUFFIX));
+
+		verify(spy, times(8)).search(any(LdapQuery.class), any(ContextMapper.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldEvictMemoizedGroupsOfMember() {
+
+		LdapTemplate spy = spy(ldapTemplate);
+		PersonRepository repository = repository(spy);
+
+		repository.findTransitiveGroups(LdapUtils.newLdapName("uid=john,ou=people" + SUFFIX));
+		repository.evictCachedGroups(LdapUtils.newLdapName("UID=john,ou=people" + SUFFIX));
+
+		assertThat(repository.findTransitiveGroups(LdapUtils.newLdapName("uid=john,ou=people" + SUFFIX)))
+				.containsExactly(name("cn=developers"), name("cn=admins"), name("cn=everyone"));
+		verify(spy, times(5)).search(any(LdapQuery.class), any(ContextMapper.class));
+	}
+
+	private PersonRepository repository(LdapTemplate template) {
+		return repository(template, GROUPS);
+	}
+
+	private PersonRepository repository(LdapTemplate template, GroupExpansion groupExpansion) {
+
+		LdapRepositoryFactory factory = new LdapRepositoryFactory(template);
+		factory.setExecutor(executor);
+		factory.setGroupExpansion(groupExpansion);
+
+		return factory.getRepository(PersonRepository.class);
+	}
+
+	private void bindGroup(String dn, String... members) {
+
+		BasicAttributes attributes = new BasicAttributes(true);
+		BasicAttribute objectClass = new BasicAttribute("objectclass");
+		objectClass.add("top");
+		objectClass.add("groupOfUniqueNames");
+		attributes.put(objectClass);
+
+		BasicAttribute uniqueMember = new BasicAttribute("uniqueMember");
+		Arrays.stream(members).forEach(uniqueMember::add);
+		attributes.put(uniqueMember);
+
+		ldapTemplate.bind(dn, null, attributes);
+	}
+
+	private static Name name(String cn) {
+		return LdapUtils.newLdapName(cn + ",ou=groups" + SUFFIX);
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@Import(InMemoryLdapConfiguration.class)
+	static class TestConfig {
+
+		@Bean
+		EmbeddedLdapProperties embeddedLdapProperties() {
+			EmbeddedLdapProperties embeddedLdapProperties = new EmbeddedLdapProperties();
+			embeddedLdapProperties.setBaseDn(Arrays.asList("dc=com", "dc=memorynotfound"));
+			return embeddedLdapProperties;
+		}
+	}
+
+	interface PersonRepository extends LdapRepository<SchemaEntry>, NestedGroupExpansion {}
+
+}
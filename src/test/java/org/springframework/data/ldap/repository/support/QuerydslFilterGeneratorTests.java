@@ -17,12 +17,21 @@ package org.springframework.data.ldap.repository.support;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.Collections;
+
 import org.junit.jupiter.api.Test;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.ldap.core.mapping.LdapMappingContext;
+import org.springframework.data.ldap.repository.query.IndexedAttributes;
+import org.springframework.data.ldap.repository.query.UnindexedSearchPolicy;
 import org.springframework.ldap.filter.Filter;
 import org.springframework.ldap.odm.core.ObjectDirectoryMapper;
 import org.springframework.ldap.odm.core.impl.DefaultObjectDirectoryMapper;
 
+import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.dsl.Expressions;
 
 /**
  * @author Mattias Hellborg Arthursson
@@ -134,4 +143,175 @@ class QuerydslFilterGeneratorTests {
 
 		assertThat(result).hasToString("(!(cn=*))");
 	}
+
+	@Test
+	void shouldFlattenNestedConjunctions() {
+
+		BooleanBuilder builder = new BooleanBuilder();
+		for (int i = 0; i < 4; i++) {
+			builder.and(person.lastName.eq("Doe" + i));
+		}
+
+		Filter result = tested.handle(builder.getValue());
+
+		assertThat(result).hasToString("(&(sn=Doe0)(sn=Doe1)(sn=Doe2)(sn=Doe3))");
+	}
+
+	@Test
+	void shouldFlattenNestedDisjunctions() {
+
+		Expression<?> expression = person.lastName.eq("Doe").or(person.lastName.eq("Die"))
+				.or(person.lastName.eq("Dae").or(person.fullName.eq("John Doe")));
+
+		Filter result = tested.handle(expression);
+
+		assertThat(result).hasToString("(|(sn=Doe)(sn=Die)(sn=Dae)(cn=John Doe))");
+	}
+
+	@Test
+	void shouldRemoveDuplicateTerms() {
+
+		Expression<?> expression = person.fullName.eq("John Doe").and(person.lastName.eq("Doe"))
+				.and(person.fullName.eq("John Doe"));
+
+		Filter result = tested.handle(expression);
+
+		assertThat(result).hasToString("(&(cn=John Doe)(sn=Doe))");
+	}
+
+	@Test
+	void shouldCollapseJunctionWithSingleDistinctTerm() {
+
+		Expression<?> expression = person.lastName.eq("Doe").or(person.lastName.eq("Doe"));
+
+		Filter result = tested.handle(expression);
+
+		assertThat(result).hasToString("(sn=Doe)");
+	}
+
+	@Test
+	void shouldEliminateDoubleNegation() {
+
+		assertThat(tested.handle(person.fullName.eq("John Doe").not().not())).hasToString("(cn=John Doe)");
+		assertThat(tested.handle(person.fullName.isNull().not())).hasToString("(cn=*)");
+		assertThat(tested.handle(person.fullName.eq("John Doe").not().not().not())).hasToString("(!(cn=John Doe))");
+	}
+
+	@Test
+	void shouldFlattenThroughDoubleNegation() {
+
+		Expression<?> expression = person.fullName.eq("John Doe")
+				.and(person.lastName.eq("Doe").and(person.lastName.eq("Die")).not().not());
+
+		Filter result = tested.handle(expression);
+
+		assertThat(result).hasToString("(&(cn=John Doe)(sn=Doe)(sn=Die))");
+	}
+
+	@Test
+	void shouldFoldConstants() {
+
+		assertThat(tested.handle(Expressions.TRUE.and(person.lastName.eq("Doe")))).hasToString("(sn=Doe)");
+		assertThat(tested.handle(Expressions.FALSE.and(person.lastName.eq("Doe")))).hasToString("(!(objectclass=*))");
+		assertThat(tested.handle(Expressions.FALSE.or(person.lastName.eq("Doe")))).hasToString("(sn=Doe)");
+		assertThat(tested.handle(Expressions.TRUE.or(person.lastName.eq("Doe")))).hasToString("(objectclass=*)");
+		assertThat(tested.handle(Expressions.TRUE.not())).hasToString("(!(objectclass=*))");
+		assertThat(tested.handle(Expressions.asBoolean(true).isTrue().and(person.lastName.eq("Doe"))))
+				.hasToString("(sn=Doe)");
+	}
+
+	@Test
+	void shouldTranslateInToDisjunction() {
+
+		Filter result = tested.handle(person.fullName.in("John Doe", "Jane Doe", "John Doe"));
+
+		assertThat(result).hasToString("(|(cn=John Doe)(cn=Jane Doe))");
+	}
+
+	@Test
+	void shouldTranslateNotInToNegatedDisjunction() {
+
+		Filter result = tested.handle(person.fullName.notIn("John Doe", "Jane Doe"));
+
+		assertThat(result).hasToString("(!(|(cn=John Doe)(cn=Jane Doe)))");
+	}
+
+	@Test
+	void shouldFlattenInWithinDisjunction() {
+
+		Filter result = tested.handle(person.fullName.in("John Doe", "Jane Doe").or(person.lastName.eq("Doe")));
+
+		assertThat(result).hasToString("(|(cn=John Doe)(cn=Jane Doe)(sn=Doe))");
+	}
+
+	@Test
+	void shouldFoldEmptyIn() {
+
+		assertThat(tested.handle(person.fullName.in(Collections.emptyList()))).hasToString("(!(objectclass=*))");
+		assertThat(tested.handle(person.fullName.notIn(Collections.emptyList()))).hasToString("(objectclass=*)");
+	}
+
+	@Test
+	void shouldReuseTranslationForSameShapeWithDifferentValues() {
+
+		assertThat(tested.handle(person.fullName.eq("John Doe").and(person.lastName.in("Doe", "Die"))))
+				.hasToString("(&(cn=John Doe)(|(sn=Doe)(sn=Die)))");
+		assertThat(tested.handle(person.fullName.eq("Jane Doe").and(person.lastName.in("Doe", "Doe"))))
+				.hasToString("(&(cn=Jane Doe)(sn=Doe))");
+		assertThat(tested.handle(person.fullName.eq("Doe").and(person.fullName.eq("Doe")))).hasToString("(cn=Doe)");
+		assertThat(tested.handle(person.fullName.eq("Doe").and(person.fullName.eq("Die"))))
+				.hasToString("(&(cn=Doe)(cn=Die))");
+	}
+
+	@Test
+	void shouldNotReuseTranslationForDifferentlyFoldedConstants() {
+
+		assertThat(tested.handle(Expressions.asBoolean(true).isTrue().and(person.lastName.eq("Doe"))))
+				.hasToString("(sn=Doe)");
+		assertThat(tested.handle(Expressions.asBoolean(false).isTrue().and(person.lastName.eq("Doe"))))
+				.hasToString("(!(objectclass=*))");
+		assertThat(tested.handle(Expressions.asBoolean(true).isTrue().not().or(person.lastName.eq("Die"))))
+				.hasToString("(sn=Die)");
+	}
+
+	@Test
+	void shouldListIndexedEqualityTermsFirst() {
+
+		LdapSerializer serializer = indexedSerializer(UnindexedSearchPolicy.IGNORE);
+
+		assertThat(serializer.handle(person.fullName.eq("John Doe").and(person.lastName.eq("Doe"))))
+				.hasToString("(&(sn=Doe)(cn=John Doe))");
+		assertThat(serializer.handle(person.fullName.eq("John Doe")
+				.and(person.fullName.startsWith("J").and(person.lastName.in("Doe", "Die")))))
+				.hasToString("(&(|(sn=Doe)(sn=Die))(cn=John Doe)(cn=J*))");
+		assertThat(serializer.handle(person.fullName.eq("John Doe").or(person.lastName.eq("Doe"))))
+				.hasToString("(|(cn=John Doe)(sn=Doe))");
+		assertThat(serializer.handle(person.fullName.eq("Jane Doe").and(person.lastName.eq("Doe"))))
+				.hasToString("(&(sn=Doe)(cn=Jane Doe))");
+	}
+
+	@Test
+	void shouldApplyUnindexedSearchPolicyToLeadingWildcards() {
+
+		LdapSerializer serializer = indexedSerializer(UnindexedSearchPolicy.FAIL);
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> serializer.handle(person.fullName.endsWith("Doe")));
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> serializer.handle(person.fullName.contains("Doe")));
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> serializer.handle(person.fullName.like("*Doe")));
+
+		assertThat(serializer.handle(person.fullName.startsWith("Doe"))).hasToString("(cn=Doe*)");
+		assertThat(serializer.handle(person.lastName.contains("Doe"))).hasToString("(sn=*Doe*)");
+		assertThat(indexedSerializer(UnindexedSearchPolicy.WARN).handle(person.fullName.endsWith("Doe")))
+				.hasToString("(cn=*Doe)");
+		assertThat(tested.handle(person.fullName.endsWith("Doe"))).hasToString("(cn=*Doe)");
+	}
+
+	private LdapSerializer indexedSerializer(UnindexedSearchPolicy policy) {
+		return new LdapSerializer(odm, IndexedUnitTestPerson.class,
+				IndexedAttributes.of(IndexedUnitTestPerson.class, new LdapMappingContext(), odm, policy));
+	}
+
 }
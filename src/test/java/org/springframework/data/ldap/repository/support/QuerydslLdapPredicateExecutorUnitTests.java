@@ -250,6 +250,51 @@ class QuerydslLdapPredicateExecutorUnitTests {
 		assertThat(exists).isFalse();
 	}
 
+	@Test
+	void findAllShouldSplitLargeInClauseAndMergeResults() {
+
+		repository.setInClauseChunkSize(2);
+		when(ldapOperations.find(any(LdapQuery.class), eq(UnitTestPerson.class))).thenReturn(Arrays.asList(walter, hank),
+				Collections.singletonList(hank), Collections.emptyList());
+
+		List<UnitTestPerson> result = repository
+				.findAll(QPerson.person.fullName.in("Walter", "Hank", "Jesse", "Skyler", "Walter", "Saul"));
+
+		assertThat(result).containsExactly(walter, hank);
+
+		ArgumentCaptor<LdapQuery> captor = ArgumentCaptor.forClass(LdapQuery.class);
+		verify(ldapOperations, times(3)).find(captor.capture(), any());
+
+		assertThat(captor.getAllValues()).extracting(it -> it.filter().encode()).containsExactly(
+				"(|(cn=Walter)(cn=Hank))", "(|(cn=Jesse)(cn=Skyler))", "(cn=Saul)");
+	}
+
+	@Test
+	void findAllShouldNotSplitInClauseBelowThreshold() {
+
+		repository.setInClauseChunkSize(5);
+		when(ldapOperations.find(any(LdapQuery.class), eq(UnitTestPerson.class))).thenReturn(Arrays.asList(walter, hank));
+
+		List<UnitTestPerson> result = repository.findAll(QPerson.person.fullName.in("Walter", "Hank"));
+
+		assertThat(result).containsExactly(walter, hank);
+		verify(ldapOperations).find(any(LdapQuery.class), any());
+	}
+
+	@Test
+	void countShouldDeduplicateSplitResultsByDn() throws Exception {
+
+		repository.setInClauseChunkSize(1);
+		when(ldapOperations.search(any(LdapQuery.class), any(ContextMapper.class))).thenReturn(
+				Arrays.asList(new LdapName("cn=walter"), new LdapName("cn=hank")), Arrays.asList(new LdapName("CN=Walter")));
+
+		long count = repository.count(QPerson.person.fullName.in("Walter", "Hank").and(QPerson.person.lastName.eq("White"))
+				.or(QPerson.person.fullName.eq("Walter")));
+
+		assertThat(count).isEqualTo(2);
+		verify(ldapOperations, times(2)).search(any(LdapQuery.class), any(ContextMapper.class));
+	}
+
 	interface PersonProjection {
 		String getLastName();
 	}
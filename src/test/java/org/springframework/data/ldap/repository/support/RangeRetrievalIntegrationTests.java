@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.naming.Name;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.ldap.config.EmbeddedLdapProperties;
+import org.springframework.data.ldap.config.InMemoryLdapConfiguration;
+import org.springframework.data.ldap.core.mapping.RangeRetrieval;
+import org.springframework.data.ldap.repository.LdapRepository;
+import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.odm.annotations.Attribute;
+import org.springframework.ldap.odm.annotations.Entry;
+import org.springframework.ldap.odm.annotations.Id;
+import org.springframework.ldap.odm.annotations.Transient;
+import org.springframework.ldap.support.LdapUtils;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+/**
+ * Integration tests for {@link RangeRetrieval} properties.
+ */
+@SpringJUnitConfig
+class RangeRetrievalIntegrationTests {
+
+	@Autowired LdapTemplate ldapTemplate;
+
+	@Test
+	void shouldRetrieveRangedAttributes() {
+
+		GroupRepository repository = new LdapRepositoryFactory(ldapTemplate).getRepository(GroupRepository.class);
+
+		Group group = repository.findByName("developers");
+
+		assertThat(group.members).containsExactly(LdapUtils.newLdapName("uid=john,ou=people,dc=memorynotfound,dc=com"),
+				LdapUtils.newLdapName("uid=jihn,ou=people,dc=memorynotfound,dc=com"));
+		assertThat(group.memberIds).isInstanceOf(RangedAttributeValues.class).containsExactly(
+				"uid=john,ou=people,dc=memorynotfound,dc=com", "uid=jihn,ou=people,dc=memorynotfound,dc=com");
+		assertThat(repository.findAll()).hasSize(2).allSatisfy(it -> assertThat(it.memberIds).isNotEmpty());
+		assertThat(repository.findAllByName("managers")).singleElement()
+				.satisfies(it -> assertThat(it.memberIds).hasSize(1));
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@Import(InMemoryLdapConfiguration.class)
+	static class TestConfig {
+
+		@Bean
+		EmbeddedLdapProperties embeddedLdapProperties() {
+			EmbeddedLdapProperties embeddedLdapProperties = new EmbeddedLdapProperties();
+			embeddedLdapProperties.setBaseDn(Arrays.asList("dc=com", "dc=memorynotfound"));
+			return embeddedLdapProperties;
+		}
+	}
+
+	interface GroupRepository extends LdapRepository<Group> {
+
+		Group findByName(String name);
+
+		List<Group> findAllByName(String name);
+	}
+
+	@Entry(objectClasses = { "groupOfUniqueNames", "top" })
+	public static class Group {
+
+		@Id Name dn;
+
+		@Attribute(name = "cn") String name;
+
+		@Attribute(name = "uniqueMember") @RangeRetrieval List<Name> members;
+
+		@Transient @RangeRetrieval("uniqueMember") Iterable<String> memberIds;
+
+		public Group() {}
+
+	}
+
+}
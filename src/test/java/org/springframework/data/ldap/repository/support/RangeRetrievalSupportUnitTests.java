@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import javax.naming.Name;
+import javax.naming.directory.BasicAttributes;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.ldap.repository.support.RangeRetrievalIntegrationTests.Group;
+import org.springframework.ldap.core.AttributesMapper;
+import org.springframework.ldap.core.DirContextAdapter;
+import org.springframework.ldap.core.LdapOperations;
+import org.springframework.ldap.odm.core.impl.DefaultObjectDirectoryMapper;
+import org.springframework.ldap.support.LdapUtils;
+
+/**
+ * Unit tests for {@link RangeRetrievalSupport}.
+ */
+class RangeRetrievalSupportUnitTests {
+
+	LdapOperations operations = mock(LdapOperations.class);
+	Name dn = LdapUtils.newLdapName("cn=developers,ou=groups");
+	RangeRetrievalSupport mapper = RangeRetrievalSupport.create(Group.class, operations,
+			new DefaultObjectDirectoryMapper());
+
+	@Test
+	void shouldNotFetchValuesWithoutRangeOption() {
+
+		Group group = mapper.mapFromLdapDataEntry(entry(), Group.class);
+
+		assertThat(group.members).isNullOrEmpty();
+		assertThat(group.memberIds).isInstanceOf(RangedAttributeValues.class);
+		verifyNoInteractions(operations);
+	}
+
+	@Test
+	void shouldNotFetchValuesOfLastRange() {
+
+		DirContextAdapter entry = entry();
+		entry.setAttributeValues("uniqueMember;range=0-*", new String[] { "uid=user0", "uid=user1" });
+
+		Group group = mapper.mapFromLdapDataEntry(entry, Group.class);
+
+		assertThat(group.members).containsExactly(LdapUtils.newLdapName("uid=user0"), LdapUtils.newLdapName("uid=user1"));
+		verifyNoInteractions(operations);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldFetchRemainingValuesOfPartialRange() {
+
+		when(operations.lookup(eq(dn), any(String[].class), any(AttributesMapper.class)))
+				.thenAnswer(invocation -> invocation.<AttributesMapper<?>> getArgument(2)
+						.mapFromAttributes(new BasicAttributes("uniqueMember;range=2-*", "uid=user2", true)));
+
+		DirContextAdapter entry = entry();
+		entry.setAttributeValues("uniqueMember;range=0-1", new String[] { "uid=user0", "uid=user1" });
+
+		Group group = mapper.mapFromLdapDataEntry(entry, Group.class);
+
+		assertThat(group.members).containsExactly(LdapUtils.newLdapName("uid=user0"), LdapUtils.newLdapName("uid=user1"),
+				LdapUtils.newLdapName("uid=user2"));
+		verify(operations).lookup(eq(dn), eq(new String[] { "uniqueMember;range=2-*" }), any(AttributesMapper.class));
+	}
+
+	private DirContextAdapter entry() {
+
+		DirContextAdapter entry = new DirContextAdapter(dn);
+		entry.setAttributeValues("objectclass", new String[] { "top", "groupOfUniqueNames" });
+		entry.setAttributeValue("cn", "developers");
+
+		return entry;
+	}
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import javax.naming.Name;
+import javax.naming.directory.BasicAttribute;
+import javax.naming.directory.BasicAttributes;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.ldap.core.AttributesMapper;
+import org.springframework.ldap.core.LdapOperations;
+import org.springframework.ldap.support.LdapUtils;
+
+/**
+ * Unit tests for {@link RangedAttributeValues}.
+ */
+class RangedAttributeValuesUnitTests {
+
+	LdapOperations operations = mock(LdapOperations.class);
+	Name dn = LdapUtils.newLdapName("cn=developers,ou=groups");
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldFetchRangesOnDemand() {
+
+		List<String> members = IntStream.range(0, 5).mapToObj(i -> "uid=user" + i).toList();
+
+		when(operations.lookup(eq(dn), any(String[].class), any(AttributesMapper.class))).thenAnswer(invocation -> {
+
+			String[] attributes = invocation.getArgument(1);
+			String requested = attributes[attributes.length - 1];
+			int start = Integer.parseInt(requested.substring(requested.indexOf('=') + 1, requested.indexOf('-')));
+			int end = Math.min(start + 2, members.size());
+
+			BasicAttribute attribute = new BasicAttribute(
+					"member;range=" + start + "-" + (end == members.size() ? "*" : Integer.toString(end - 1)));
+			members.subList(start, end).forEach(attribute::add);
+
+			BasicAttributes result = new BasicAttributes(true);
+			result.put(attribute);
+
+			return invocation.<AttributesMapper<?>> getArgument(2).mapFromAttributes(result);
+		});
+
+		RangedAttributeValues<String> values = new RangedAttributeValues<>(operations, dn, "member", Object::toString);
+
+		assertThat(values.iterator().next()).isEqualTo("uid=user0");
+		verify(operations).lookup(eq(dn), eq(new String[] { "member", "member;range=0-*" }), any(AttributesMapper.class));
+
+		assertThat(values).containsExactlyElementsOf(members);
+		verify(operations).lookup(eq(dn), eq(new String[] { "member;range=2-*" }), any(AttributesMapper.class));
+		verify(operations).lookup(eq(dn), eq(new String[] { "member;range=4-*" }), any(AttributesMapper.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldUsePlainAttributeIfRangeRetrievalIsNotSupported() {
+
+		when(operations.lookup(eq(dn), any(String[].class), any(AttributesMapper.class))).thenAnswer(invocation -> {
+
+			BasicAttributes result = new BasicAttributes("member", "uid=user0", true);
+			result.get("member").add("uid=user1");
+
+			return invocation.<AttributesMapper<?>> getArgument(2).mapFromAttributes(result);
+		});
+
+		RangedAttributeValues<String> values = new RangedAttributeValues<>(operations, dn, "member", Object::toString);
+
+		assertThat(values).containsExactly("uid=user0", "uid=user1");
+		verify(operations).lookup(eq(dn), any(String[].class), any(AttributesMapper.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldReturnNoValuesForAbsentAttribute() {
+
+		when(operations.lookup(eq(dn), any(String[].class), any(AttributesMapper.class)))
+				.thenAnswer(invocation -> invocation.<AttributesMapper<?>> getArgument(2)
+						.mapFromAttributes(new BasicAttributes(true)));
+
+		assertThat(new RangedAttributeValues<>(operations, dn, "member", Object::toString)).isEmpty();
+	}
+
+}
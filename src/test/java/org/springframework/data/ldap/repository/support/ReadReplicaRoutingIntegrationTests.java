@@ -0,0 +1,307 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.tck.TestObservationRegistry;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.naming.Name;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.Invocation;
+import org.mockito.stubbing.Answer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.ldap.config.EmbeddedLdapProperties;
+import org.springframework.data.ldap.config.InMemoryLdapConfiguration;
+import org.springframework.data.ldap.repository.LdapRepository;
+import org.springframework.data.ldap.repository.query.SchemaEntry;
+import org.springframework.data.ldap.repository.query.SearchDeadline;
+import org.springframework.ldap.core.LdapTemplate;
+import org.springframework.ldap.core.NameClassPairCallbackHandler;
+import org.springframework.ldap.query.LdapQuery;
+import org.springframework.ldap.support.LdapUtils;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+/**
+ * Integration tests for {@link ReadReplicaRouting}.
+ */
+@SpringJUnitConfig
+class ReadReplicaRoutingIntegrationTests {
+
+	@Autowired LdapTemplate ldapTemplate;
+
+	LdapTemplate primary;
+	LdapTemplate replica1;
+	LdapTemplate replica2;
+
+	@BeforeEach
+	void setUp() {
+
+		primary = spy(ldapTemplate);
+		replica1 = spy(ldapTemplate);
+		replica2 = spy(ldapTemplate);
+	}
+
+	@Test
+	void shouldRouteRepositoryReadsToReplicasInTurn() {
+
+		PersonRepository repository = repository(Duration.ZERO);
+
+		assertThat(repository.findAll()).hasSize(3);
+		assertThat(operations(primary)).isEmpty();
+		assertThat(operations(replica1)).isNotEmpty();
+		assertThat(operations(replica2)).isEmpty();
+
+		clearInvocations(replica1);
+
+		assertThat(repository.count()).isEqualTo(3);
+		assertThat(operations(replica1)).isEmpty();
+		assertThat(operations(replica2)).isNotEmpty();
+	}
+
+	@Test
+	void shouldRouteRepositoryWritesToPrimary() {
+
+		PersonRepository repository = repository(Duration.ZERO);
+		SchemaEntry entry = repository.findById(LdapUtils.newLdapName("uid=john,ou=people,dc=memorynotfound")).get();
+		clearInvocations(replica1, replica2);
+
+		repository.save(entry);
+
+		assertThat(operations(primary)).isNotEmpty();
+		assertThat(operations(replica1)).isEmpty();
+		assertThat(operations(replica2)).isEmpty();
+	}
+
+	@Test
+	void shouldReadFromPrimaryWithinReadYourWritesWindow() {
+
+		PersonRepository repository = repository(Duration.ofMinutes(1));
+		SchemaEntry entry = repository.findById(LdapUtils.newLdapName("uid=john,ou=people,dc=memorynotfound")).get();
+
+		repository.save(entry);
+		clearInvocations(primary, replica1, replica2);
+
+		assertThat(repository.findAll()).hasSize(3);
+		assertThat(operations(primary)).isNotEmpty();
+		assertThat(operations(replica1)).isEmpty();
+		assertThat(operations(replica2)).isEmpty();
+	}
+
+	@Test
+	void shouldReadFromReplicasOnOtherThreadsWithinReadYourWritesWindow() throws Exception {
+
+		PersonRepository repository = repository(Duration.ofMinutes(1));
+		SchemaEntry entry = repository.findById(LdapUtils.newLdapName("uid=john,ou=people,dc=memorynotfound")).get();
+
+		repository.save(entry);
+		clearInvocations(primary, replica1, replica2);
+
+		CompletableFuture.runAsync(() -> assertThat(repository.findAll()).hasSize(3)).get();
+
+		assertThat(operations(primary)).isEmpty();
+	}
+
+	@Test
+	void shouldNotConsiderAuthenticationAndMapperAccessAsWrites() {
+
+		ReadReplicaRouting routing = ReadReplicaRouting.create(primary, List.of(replica1, replica2),
+				ReplicaSelection.ROUND_ROBIN, Duration.ofMinutes(1));
+
+		assertThat(routing.getOperations().getObjectDirectoryMapper()).isSameAs(primary.getObjectDirectoryMapper());
+		assertThat(routing.getOperations().authenticate("ou=people,dc=memorynotfound", "(uid=john)", "wrong"))
+				.isFalse();
+		routing.getOperations().lookup("uid=john,ou=people,dc=memorynotfound");
+
+		verify(replica2).lookup("uid=john,ou=people,dc=memorynotfound");
+		verify(primary, never()).authenticate(anyString(), anyString(), anyString());
+	}
+
+	@Test
+	void shouldPropagateReadTargetToExecutorThreads() throws Throwable {
+
+		ReadReplicaRouting routing = ReadReplicaRouting.create(primary, List.of(replica1, replica2),
+				ReplicaSelection.ROUND_ROBIN, Duration.ZERO);
+		Executor executor = routing.propagating(new SimpleAsyncTaskExecutor());
+
+		routing.doWithReadTarget(() -> CompletableFuture
+				.runAsync(() -> routing.getOperations().lookup("uid=john,ou=people,dc=memorynotfound"), executor).get());
+
+		verify(replica1).lookup("uid=john,ou=people,dc=memorynotfound");
+		verifyNoInteractions(primary, replica2);
+	}
+
+	@Test
+	void shouldRouteOperationsInvokedDirectly() {
+
+		ReadReplicaRouting routing = ReadReplicaRouting.create(primary, List.of(replica1, replica2),
+				ReplicaSelection.LEAST_OUTSTANDING, Duration.ZERO);
+
+		routing.getOperations().lookup("uid=john,ou=people,dc=memorynotfound");
+		routing.getOperations().lookup("uid=john,ou=people,dc=memorynotfound");
+
+		verify(replica1).lookup("uid=john,ou=people,dc=memorynotfound");
+		verify(replica2).lookup("uid=john,ou=people,dc=memorynotfound");
+		verifyNoInteractions(primary);
+
+		routing.getOperations().unbind("uid=unknown,ou=people,dc=memorynotfound");
+
+		verify(primary).unbind("uid=unknown,ou=people,dc=memorynotfound");
+	}
+
+	@Test
+	void shouldHedgeReadsOfSlowReplica() {
+
+		Name john = LdapUtils.newLdapName("uid=john,ou=people,dc=memorynotfound");
+		AtomicBoolean slow = new AtomicBoolean();
+		CountDownLatch release = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			if (slow.get()) {
+				release.await();
+			}
+			return invocation.callRealMethod();
+		}).when(replica1).findByDn(any(Name.class), any());
+
+		ReadReplicaRouting routing = ReadReplicaRouting
+				.create(primary, List.of(replica1, replica2), ReplicaSelection.ROUND_ROBIN, Duration.ZERO)
+				.withHedging(Hedging.atPercentile(90).minimumDelay(Duration.ofMillis(50)));
+		PersonRepository repository = new LdapRepositoryFactory(routing.getOperations())
+				.getRepository(PersonRepository.class);
+
+		for (int i = 0; i < HedgingDelay.MINIMUM_SAMPLES; i++) {
+			assertThat(repository.findById(john)).isPresent();
+		}
+
+		assertThat(routing.getHedgedReads()).isZero();
+		assertThat(routing.getHedgingDelay()).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+
+		slow.set(true);
+
+		try {
+
+			// round-robin selection starts each read on the blocked replica as hedging advances to the next replica
+			for (int i = 0; i < 4; i++) {
+				assertThat(repository.findById(john)).isPresent();
+			}
+
+			assertThat(routing.getHedgeableReads()).isEqualTo(HedgingDelay.MINIMUM_SAMPLES + 4);
+			assertThat(routing.getHedgedReads()).isEqualTo(4);
+			assertThat(routing.getHedgeWins()).isEqualTo(4);
+		} finally {
+			release.countDown();
+		}
+	}
+
+	@Test
+	void shouldHedgeReadsWithinSearchDeadlineAndObservationOfCaller() {
+
+		AtomicInteger phase = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+		TestObservationRegistry registry = TestObservationRegistry.create();
+		List<LdapQuery> hedgedQueries = new CopyOnWriteArrayList<>();
+		List<Observation> hedgedObservations = new CopyOnWriteArrayList<>();
+		Answer<?> answer = invocation -> {
+			if (phase.compareAndSet(1, 2)) {
+				release.await();
+			} else if (phase.get() == 2) {
+				hedgedQueries.add(invocation.getArgument(0));
+				hedgedObservations.add(registry.getCurrentObservation());
+			}
+			return invocation.callRealMethod();
+		};
+		doAnswer(answer).when(replica1).search(any(LdapQuery.class), any(NameClassPairCallbackHandler.class));
+		doAnswer(answer).when(replica2).search(any(LdapQuery.class), any(NameClassPairCallbackHandler.class));
+
+		ReadReplicaRouting routing = ReadReplicaRouting
+				.create(primary, List.of(replica1, replica2), ReplicaSelection.ROUND_ROBIN, Duration.ZERO)
+				.withHedging(Hedging.atPercentile(90).minimumDelay(Duration.ofMillis(50)).observationRegistry(registry));
+		PersonRepository repository = new LdapRepositoryFactory(routing.getOperations())
+				.getRepository(PersonRepository.class);
+
+		for (int i = 0; i < HedgingDelay.MINIMUM_SAMPLES; i++) {
+			assertThat(repository.count()).isEqualTo(3);
+		}
+
+		phase.set(1);
+		Observation parent = Observation.start("parent", registry);
+
+		try (Observation.Scope scope = parent.openScope()) {
+			assertThat(SearchDeadline.callWithin(Duration.ofSeconds(30), repository::count)).isEqualTo(3);
+		} finally {
+			release.countDown();
+			parent.stop();
+		}
+
+		assertThat(routing.getHedgeWins()).isOne();
+		assertThat(Thread.currentThread().isInterrupted()).isFalse();
+		assertThat(hedgedQueries).singleElement()
+				.satisfies(query -> assertThat(query.timeLimit()).isPositive().isLessThanOrEqualTo(30_000));
+		assertThat(hedgedObservations).containsExactly(parent);
+	}
+
+	private PersonRepository repository(Duration readYourWritesWindow) {
+
+		ReadReplicaRouting routing = ReadReplicaRouting.create(primary, List.of(replica1, replica2),
+				ReplicaSelection.ROUND_ROBIN, readYourWritesWindow);
+
+		PersonRepository repository = new LdapRepositoryFactory(routing.getOperations())
+				.getRepository(PersonRepository.class);
+		clearInvocations(primary, replica1, replica2);
+
+		return repository;
+	}
+
+	private static List<String> operations(LdapTemplate template) {
+		return mockingDetails(template).getInvocations().stream().map(Invocation::getMethod)
+				.map(Method::getName).filter(name -> !name.equals("getObjectDirectoryMapper")).toList();
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@Import(InMemoryLdapConfiguration.class)
+	static class TestConfig {
+
+		@Bean
+		EmbeddedLdapProperties embeddedLdapProperties() {
+			EmbeddedLdapProperties embeddedLdapProperties = new EmbeddedLdapProperties();
+			embeddedLdapProperties.setBaseDn(Arrays.asList("dc=com", "dc=memorynotfound"));
+			return embeddedLdapProperties;
+		}
+	}
+
+	interface PersonRepository extends LdapRepository<SchemaEntry> {}
+
+}
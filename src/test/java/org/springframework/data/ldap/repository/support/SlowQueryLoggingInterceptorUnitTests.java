@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.ldap.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.data.ldap.repository.LdapRepository;
+import org.springframework.data.ldap.repository.query.LdapRepositoryOperation;
+import org.springframework.data.ldap.repository.query.LdapRepositoryOperation.ExecutionType;
+import org.springframework.ldap.query.LdapQuery;
+import org.springframework.ldap.query.LdapQueryBuilder;
+import org.springframework.ldap.query.SearchScope;
+
+/**
+ * Unit tests for {@link SlowQueryLoggingInterceptor}.
+ */
+class SlowQueryLoggingInterceptorUnitTests {
+
+	Log log = mock(Log.class);
+
+	LdapQuery query = LdapQueryBuilder.query().base("ou=people").searchScope(SearchScope.ONELEVEL).countLimit(10)
+			.attributes("cn", "sn").where("cn").is("John Doe").and("sn").like("Do*");
+
+	LdapRepositoryOperation operation = new LdapRepositoryOperation(LdapRepository.class, UnitTestPerson.class,
+			"findByFullName", ExecutionType.COLLECTION, query);
+
+	@Test
+	void shouldRedactFilterValues() {
+
+		assertThat(SlowQueryLoggingInterceptor.redact("(&(cn=John Doe)(sn=*Do*e)(uid=*))"))
+				.isEqualTo("(&(cn=?)(sn=*?*?)(uid=*))");
+		assertThat(SlowQueryLoggingInterceptor.redact("(!(cn>=a\\29b))")).isEqualTo("(!(cn>=?))");
+	}
+
+	@Test
+	void shouldLogSlowQueryWithRedactedFilter() {
+
+		when(log.isWarnEnabled()).thenReturn(true);
+		SlowQueryLoggingInterceptor interceptor = new SlowQueryLoggingInterceptor(Duration.ZERO, log);
+
+		Object result = interceptor.intercept(operation, () -> List.of("a", "b"));
+
+		assertThat(result).isEqualTo(List.of("a", "b"));
+
+		ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+		verify(log).warn(message.capture());
+
+		assertThat(message.getValue().toString()).contains("LdapRepository.findByFullName")
+				.contains("filter=(&(cn=?)(sn=?*))").contains("base=ou=people").contains("scope=ONELEVEL")
+				.contains("attributes=[cn, sn]").contains("countLimit=10").contains("results=2").contains("elapsed=");
+	}
+
+	@Test
+	void shouldLogClearTextFilterIfRedactionDisabled() {
+
+		when(log.isWarnEnabled()).thenReturn(true);
+		SlowQueryLoggingInterceptor interceptor = new SlowQueryLoggingInterceptor(Duration.ZERO, log);
+		interceptor.setRedactFilterValues(false);
+
+		interceptor.intercept(operation, List::of);
+
+		ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+		verify(log).warn(message.capture());
+
+		assertThat(message.getValue().toString()).contains("filter=(&(cn=John Doe)(sn=Do*))");
+	}
+
+	@Test
+	void shouldLogFailedSlowQuery() {
+
+		when(log.isWarnEnabled()).thenReturn(true);
+		SlowQueryLoggingInterceptor interceptor = new SlowQueryLoggingInterceptor(Duration.ZERO, log);
+
+		assertThatIllegalStateException().isThrownBy(() -> interceptor.intercept(operation, () -> {
+			throw new IllegalStateException("boom");
+		}));
+
+		ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+		verify(log).warn(message.capture());
+
+		assertThat(message.getValue().toString()).contains("LdapRepository.findByFullName")
+				.contains("error=java.lang.IllegalStateException").doesNotContain("results=").contains("elapsed=");
+	}
+
+	@Test
+	void shouldNotLogFastQuery() {
+
+		SlowQueryLoggingInterceptor interceptor = new SlowQueryLoggingInterceptor(Duration.ofHours(1), log);
+
+		interceptor.intercept(operation, List::of);
+
+		verify(log, never()).warn(any());
+		verify(log, never()).info(any());
+	}
+
+	@Test
+	void shouldSampleEveryNthQuery() {
+
+		when(log.isInfoEnabled()).thenReturn(true);
+		SlowQueryLoggingInterceptor interceptor = new SlowQueryLoggingInterceptor(Duration.ofHours(1), log);
+		interceptor.setSampleRate(3);
+
+		for (int i = 0; i < 7; i++) {
+			interceptor.intercept(operation, List::of);
+		}
+
+		verify(log, times(2)).info(any());
+		verify(log, never()).warn(any());
+	}
+
+}